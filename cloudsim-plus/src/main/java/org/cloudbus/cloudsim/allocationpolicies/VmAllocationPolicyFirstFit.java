@@ -23,6 +23,9 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -53,10 +56,20 @@ import java.util.Optional;
  * @see VmAllocationPolicyBestFit
  * @see VmAllocationPolicySimple
  */
-public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract implements VmAllocationPolicy {
+public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract implements VmAllocationPolicy, Checkpointable {
     /** @see #getLastHostIndex() */
     private int lastHostIndex;
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeInt(lastHostIndex);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.lastHostIndex = reader.readInt();
+    }
+
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
         final List<Host> hostList = getHostList();
@@ -23,6 +23,9 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -51,12 +54,22 @@ import java.util.Optional;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.4.2
  */
-public class VmAllocationPolicyRoundRobin extends VmAllocationPolicyAbstract implements VmAllocationPolicy {
+public class VmAllocationPolicyRoundRobin extends VmAllocationPolicyAbstract implements VmAllocationPolicy, Checkpointable {
     /**
      * The index of the last host used to place a VM.
      */
     private int lastHostIndex;
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeInt(lastHostIndex);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.lastHostIndex = reader.readInt();
+    }
+
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
         final var hostList = getHostList();
@@ -9,7 +9,11 @@ package org.cloudbus.cloudsim.allocationpolicies.migration;
 
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyAbstract;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.power.models.PowerModelHost;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
@@ -47,7 +51,7 @@ import static java.util.stream.Collectors.*;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 3.0
  */
-public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPolicyAbstract implements VmAllocationPolicyMigration {
+public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPolicyAbstract implements VmAllocationPolicyMigration, Checkpointable {
     public static final double DEF_UNDERLOAD_THRESHOLD = 0.35;
 
     /** @see #getUnderUtilizationThreshold() */
@@ -97,6 +101,18 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         setVmSelectionPolicy(vmSelectionPolicy);
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeBoolean(hostsUnderloaded);
+        writer.writeBoolean(hostsOverloaded);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.hostsUnderloaded = reader.readBoolean();
+        this.hostsOverloaded = reader.readBoolean();
+    }
+
     @Override
     public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
         //@TODO See https://github.com/manoelcampos/cloudsim-plus/issues/94
@@ -232,6 +248,45 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         return 0;
     }
 
+    /**
+     * Gets the power consumption difference after the supposed placement of a VM into each one of a list of Hosts
+     * and the original power consumption of such Hosts.
+     * The power of all Hosts after the placement is computed at once by
+     * {@link PowerModelHost#getPower(List, double[], double[])}.
+     * If the power of some Host cannot be determined, it's computed for each Host by
+     * {@link #getPowerDifferenceAfterAllocation(Host, Vm)}.
+     * Subclasses overriding {@link #getPowerAfterAllocation(Host, Vm)} should override this method too.
+     *
+     * @param hostList the hosts to check the power consumption
+     * @param vm the candidate vm
+     * @return the power consumption difference of each host after the supposed VM placement (in the same order of the list),
+     * where the difference is 0 for the hosts whose power consumption could not be determined
+     */
+    protected double[] getPowerDifferencesAfterAllocation(final List<Host> hostList, final Vm vm){
+        final double[] utilizations = new double[hostList.size()];
+        for (int i = 0; i < utilizations.length; i++) {
+            utilizations[i] = getMaxUtilizationAfterAllocation(hostList.get(i), vm);
+        }
+
+        final double[] powerDifferences = new double[hostList.size()];
+        try {
+            PowerModelHost.getPower(hostList, utilizations, powerDifferences);
+        } catch (IllegalArgumentException e) {
+            for (int i = 0; i < powerDifferences.length; i++) {
+                powerDifferences[i] = getPowerDifferenceAfterAllocation(hostList.get(i), vm);
+            }
+
+            return powerDifferences;
+        }
+
+        for (int i = 0; i < powerDifferences.length; i++) {
+            final double powerAfterAllocation = powerDifferences[i];
+            powerDifferences[i] = powerAfterAllocation > 0 ? powerAfterAllocation - hostList.get(i).getPowerModel().getPower() : 0;
+        }
+
+        return powerDifferences;
+    }
+
     /**
      * Checks if a host will be over utilized after placing of a candidate VM.
      *
@@ -358,10 +413,18 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @see #findHostForVm(Vm, Set)
      */
     protected Optional<Host> findHostForVmInternal(final Vm vm, final Stream<Host> hostStream){
-        final Comparator<Host> hostPowerConsumptionComparator =
-            comparingDouble(host -> getPowerDifferenceAfterAllocation(host, vm));
+        /* Computes the power difference of all Hosts at once,
+         * instead of recomputing it for both Hosts in every comparison. */
+        final List<Host> hostList = hostStream.toList();
+        final double[] powerDifferences = getPowerDifferencesAfterAllocation(hostList, vm);
+        int selectedIndex = -1;
+        for (int i = 0; i < powerDifferences.length; i++) {
+            if (selectedIndex < 0 || Double.compare(powerDifferences[i], powerDifferences[selectedIndex]) < 0) {
+                selectedIndex = i;
+            }
+        }
 
-        return hostStream.min(hostPowerConsumptionComparator);
+        return selectedIndex < 0 ? Optional.empty() : Optional.of(hostList.get(selectedIndex));
     }
 
     /**
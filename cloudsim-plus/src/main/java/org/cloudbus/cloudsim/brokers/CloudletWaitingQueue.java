@@ -0,0 +1,313 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+
+/**
+ * Stores the Cloudlets waiting to be dispatched by a broker,
+ * so that a dispatch round just visits Cloudlets which may be
+ * sent to some VM, instead of re-scanning all waiting Cloudlets.
+ *
+ * <p>Waiting Cloudlets are either dispatchable or parked.
+ * A Cloudlet bound to a VM that is not created yet is parked by such a VM
+ * and just becomes dispatchable again when the VM is {@link #release(Vm) released}
+ * (after its creation). A Cloudlet that couldn't be mapped to any created VM
+ * is parked by {@link Vm#NULL} and becomes dispatchable again when any VM is released
+ * or when {@link #releaseUnmapped()} is called (such as at the beginning of every dispatch round,
+ * since VMs may have free capacity by then).
+ * Dispatchable Cloudlets are kept in the order they were submitted,
+ * which is preserved when parked Cloudlets are released.</p>
+ *
+ * <p>Each Cloudlet is stored along with the order it was added,
+ * which works as a handle to remove it in logarithmic time,
+ * when it's dispatched or parked by a {@link Dispatcher}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class CloudletWaitingQueue implements Checkpointable {
+    /** All waiting Cloudlets (dispatchable or parked), indexed by the order they were added. */
+    private final TreeMap<Long, Cloudlet> waiting;
+
+    /** Cloudlets that may be dispatched in the next round, indexed by the order they were added. */
+    private final TreeMap<Long, Cloudlet> dispatchable;
+
+    /**
+     * Cloudlets waiting for VMs to be created, indexed by such VMs,
+     * along with the order each Cloudlet was added to the queue.
+     */
+    private final Map<Vm, Map<Cloudlet, Long>> parked;
+
+    /** @see #asList() */
+    private final List<Cloudlet> listView;
+
+    private long nextOrder;
+
+    /**
+     * The number of times the {@link #waiting} Cloudlets were changed,
+     * used to check if the snapshot inside the {@link #listView} is outdated.
+     */
+    private long version;
+
+    CloudletWaitingQueue() {
+        this.waiting = new TreeMap<>();
+        this.dispatchable = new TreeMap<>();
+        this.parked = new HashMap<>();
+        this.listView = new ListView();
+    }
+
+    /**
+     * Adds a Cloudlet to the end of the queue, as a dispatchable one.
+     * @param cloudlet the Cloudlet to add
+     */
+    void add(final Cloudlet cloudlet) {
+        final long order = nextOrder++;
+        waiting.put(order, cloudlet);
+        dispatchable.put(order, cloudlet);
+        version++;
+    }
+
+    /**
+     * Gets a {@link Dispatcher} to visit the dispatchable Cloudlets, in the order they were added.
+     * @return
+     */
+    Dispatcher dispatcher() {
+        return new Dispatcher();
+    }
+
+    /**
+     * Makes all Cloudlets parked for a given VM dispatchable again,
+     * as well as the ones waiting for any VM to be created.
+     * @param vm the VM that was just created
+     * @return true if some Cloudlet was released, false otherwise
+     */
+    boolean release(final Vm vm) {
+        final boolean released = releaseAll(vm);
+        return releaseUnmapped() || released;
+    }
+
+    /**
+     * Makes all Cloudlets that couldn't be mapped to any VM dispatchable again,
+     * so that they are retried in the next dispatch round.
+     * @return true if some Cloudlet was released, false otherwise
+     */
+    boolean releaseUnmapped() {
+        return releaseAll(Vm.NULL);
+    }
+
+    private boolean releaseAll(final Vm vm) {
+        final Map<Cloudlet, Long> cloudlets = parked.remove(vm);
+        if (cloudlets == null) {
+            return false;
+        }
+
+        cloudlets.forEach((cloudlet, order) -> dispatchable.put(order, cloudlet));
+        return true;
+    }
+
+    /**
+     * Makes a parked Cloudlet dispatchable again,
+     * such as when it's bound to a different VM.
+     * @param cloudlet the Cloudlet to release
+     * @param vm the VM the Cloudlet was parked for
+     * @return true if the Cloudlet was parked, false otherwise
+     */
+    boolean release(final Cloudlet cloudlet, final Vm vm) {
+        final Map<Cloudlet, Long> cloudlets = parked.get(vm);
+        final Long order = cloudlets == null ? null : cloudlets.remove(cloudlet);
+        if (order == null) {
+            return false;
+        }
+
+        if (cloudlets.isEmpty()) {
+            parked.remove(vm);
+        }
+
+        dispatchable.put(order, cloudlet);
+        return true;
+    }
+
+    /**
+     * Gets the number of dispatchable Cloudlets.
+     * @return
+     */
+    int dispatchableSize() {
+        return dispatchable.size();
+    }
+
+    /**
+     * Checks if there is no Cloudlet in the queue (dispatchable or parked).
+     * @return
+     */
+    boolean isEmpty() {
+        return waiting.isEmpty();
+    }
+
+    /**
+     * Gets a read-only {@link List} view of all waiting Cloudlets (dispatchable or parked),
+     * in the order they were added.
+     * The view reflects further changes in the queue.
+     * Accessing it by index takes a snapshot of the queue when it has changed,
+     * therefore iterating over the list is cheaper while Cloudlets are added or dispatched.
+     * @return
+     */
+    List<Cloudlet> asList() {
+        return listView;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each waiting Cloudlet is stored along with its order and the VM it is parked for (if any).
+     */
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        final var parkedVms = new HashMap<Long, Vm>();
+        parked.forEach((vm, cloudlets) -> cloudlets.values().forEach(order -> parkedVms.put(order, vm)));
+
+        writer.writeLong(nextOrder);
+        writer.writeInt(waiting.size());
+        for (final Map.Entry<Long, Cloudlet> entry : waiting.entrySet()) {
+            final Vm vm = parkedVms.get(entry.getKey());
+            writer.writeLong(entry.getKey());
+            writer.writeCloudlet(entry.getValue());
+            writer.writeBoolean(vm != null);
+            if (vm != null) {
+                writer.writeVm(vm);
+            }
+        }
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        waiting.clear();
+        dispatchable.clear();
+        parked.clear();
+        version++;
+
+        this.nextOrder = reader.readLong();
+        final int size = reader.readInt();
+        for (int i = 0; i < size; i++) {
+            final long order = reader.readLong();
+            final Cloudlet cloudlet = reader.readCloudlet();
+            waiting.put(order, cloudlet);
+            if (reader.readBoolean()) {
+                final Vm vm = reader.readVm();
+                parked.computeIfAbsent(vm, k -> new IdentityHashMap<>()).put(cloudlet, order);
+            } else {
+                dispatchable.put(order, cloudlet);
+            }
+        }
+    }
+
+    /**
+     * Visits the dispatchable Cloudlets in the order they were added,
+     * enabling the current one to be removed from the queue (after it's dispatched)
+     * or parked until a VM is created.
+     */
+    final class Dispatcher implements Iterator<Cloudlet> {
+        private final Iterator<Map.Entry<Long, Cloudlet>> iterator = dispatchable.entrySet().iterator();
+        private Map.Entry<Long, Cloudlet> current;
+
+        private Dispatcher() {/**/}
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Cloudlet next() {
+            current = iterator.next();
+            return current.getValue();
+        }
+
+        /**
+         * Removes the current Cloudlet from the queue, since it was dispatched.
+         */
+        @Override
+        public void remove() {
+            final long order = current.getKey();
+            iterator.remove();
+            waiting.remove(order);
+            version++;
+        }
+
+        /**
+         * Parks the current Cloudlet until a given VM is released.
+         * If the Cloudlet is already parked for that VM
+         * (since it was added multiple times), it's kept dispatchable.
+         *
+         * @param vm the VM the Cloudlet is waiting to be created,
+         *           or {@link Vm#NULL} to wait for any VM to be created
+         * @return true if the Cloudlet was parked, false otherwise
+         */
+        boolean park(final Vm vm) {
+            final Map<Cloudlet, Long> cloudlets = parked.computeIfAbsent(vm, k -> new IdentityHashMap<>());
+            if (cloudlets.putIfAbsent(current.getValue(), current.getKey()) != null) {
+                return false;
+            }
+
+            iterator.remove();
+            return true;
+        }
+    }
+
+    /**
+     * A read-only {@link List} view of the {@link #waiting} Cloudlets.
+     * Since a tree cannot be accessed by index, such an access uses a snapshot of the waiting Cloudlets,
+     * which is just taken again when they change.
+     */
+    private final class ListView extends AbstractList<Cloudlet> {
+        private Cloudlet[] snapshot = new Cloudlet[0];
+        private long snapshotVersion;
+
+        @Override
+        public Cloudlet get(final int index) {
+            Objects.checkIndex(index, waiting.size());
+            if (snapshotVersion != version) {
+                snapshot = waiting.values().toArray(new Cloudlet[0]);
+                snapshotVersion = version;
+            }
+
+            return snapshot[index];
+        }
+
+        @Override
+        public int size() {
+            return waiting.size();
+        }
+
+        @Override
+        public Iterator<Cloudlet> iterator() {
+            return Collections.unmodifiableCollection(waiting.values()).iterator();
+        }
+    }
+}
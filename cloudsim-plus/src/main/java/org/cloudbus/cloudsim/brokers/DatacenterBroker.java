@@ -7,6 +7,7 @@
 package org.cloudbus.cloudsim.brokers;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletResultStore;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
@@ -19,6 +20,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -73,6 +75,11 @@ public interface DatacenterBroker extends SimEntity {
      * Gets the list of cloudlets submitted to the broker that are waiting to be created inside
      * some Vm yet.
      *
+     * <p>The returned list may be a read-only view that reflects further changes in the waiting Cloudlets
+     * (such as in {@link DatacenterBrokerAbstract}). Cloudlets must be submitted
+     * by methods such as {@link #submitCloudletList(List)}, instead of added to the list directly.
+     * Accessing such a view by index takes linear time, therefore it should be iterated instead.</p>
+     *
      * @param <T> the class of Cloudlets inside the list
      * @return the cloudlet waiting list
      */
@@ -87,6 +94,23 @@ public interface DatacenterBroker extends SimEntity {
      */
     <T extends Cloudlet> List<T> getCloudletFinishedList();
 
+    /**
+     * Gets the store where the results of finished Cloudlets are copied to (if one was set).
+     *
+     * @return an {@link Optional} containing the store or an empty one if no store was set
+     * @see #setCloudletResultStore(CloudletResultStore)
+     */
+    Optional<CloudletResultStore> getCloudletResultStore();
+
+    /**
+     * Sets a store where the results of finished Cloudlets are copied to, as they finish.
+     * Finished Cloudlets are still added to the {@link #getCloudletFinishedList()}.
+     *
+     * @param store the store to set or null to stop copying results
+     * @return
+     */
+    DatacenterBroker setCloudletResultStore(CloudletResultStore store);
+
     /**
      * Gets a VM from the waiting list.
      * @param index the index of the VM to get
@@ -505,4 +529,30 @@ public interface DatacenterBroker extends SimEntity {
      * @return
      */
     DatacenterBroker setShutdownWhenIdle(boolean shutdownWhenIdle);
+
+    /**
+     * Checks if the idleness of a VM is verified just once, when the VM becomes idle.
+     * Otherwise (the default), a verification event is sent every time the processing
+     * of an idle VM is updated, while a {@link #getVmDestructionDelayFunction() VM destruction delay} is set.
+     *
+     * @return true if VM idleness is verified just once, false otherwise
+     * @see #setVmIdlenessVerifiedOnce(boolean)
+     */
+    boolean isVmIdlenessVerifiedOnce();
+
+    /**
+     * Defines if the idleness of a VM must be verified just once, when the VM becomes idle,
+     * instead of sending a verification event every time the processing of an idle VM is updated.
+     * Idle VMs are destroyed at the same time in both cases,
+     * but avoiding such redundant events improves performance of large scale simulations.
+     *
+     * <p><b>WARNING:</b> Since the redundant events don't keep the simulation clock ticking anymore,
+     * enabling this option may make a simulation finish earlier,
+     * changing results such as the finish time and VMs runtime and cost.
+     * That is why it's disabled by default.</p>
+     *
+     * @param verifiedOnce true to verify VM idleness just once, false to verify it at every VM processing update
+     * @return
+     */
+    DatacenterBroker setVmIdlenessVerifiedOnce(boolean verifiedOnce);
 }
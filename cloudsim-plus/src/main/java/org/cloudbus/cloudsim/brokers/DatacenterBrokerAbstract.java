@@ -8,6 +8,7 @@
 package org.cloudbus.cloudsim.brokers;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletResultStore;
 import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
 import org.cloudbus.cloudsim.core.*;
 import org.cloudbus.cloudsim.core.events.CloudSimEvent;
@@ -17,6 +18,7 @@ import org.cloudbus.cloudsim.datacenters.TimeZoned;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.util.InvalidEventDataTypeException;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudbus.cloudsim.vms.VmSimple;
@@ -39,7 +41,7 @@ import static java.util.Objects.requireNonNull;
  * @author Anton Beloglazov
  * @author Manoel Campos da Silva Filho
  */
-public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements DatacenterBroker {
+public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements DatacenterBroker, Checkpointable {
     /**
      * A message tag used for the broker to send a message to itself requesting the shutdown.
      * That ensures a graceful shutdown, after other broker events are processed.
@@ -93,8 +95,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /** @see #getVmCreatedList() */
     private final List<Vm> vmCreatedList;
 
-    /** @see #getCloudletWaitingList() */
-    private final List<Cloudlet> cloudletWaitingList;
+    /**
+     * The Cloudlets waiting to be dispatched,
+     * indexed so that just the ones which may be sent to some VM are visited.
+     * @see #getCloudletWaitingList()
+     */
+    private final CloudletWaitingQueue cloudletWaitingQueue;
 
     /** @see #getCloudletSubmittedList() */
     private final List<Cloudlet> cloudletSubmittedList;
@@ -105,6 +111,22 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /** @see #getCloudletCreatedList() () */
     private final List<Cloudlet> cloudletsCreatedList;
 
+    /** @see #getCloudletResultStore() */
+    private CloudletResultStore cloudletResultStore;
+
+    /**
+     * An index of created VMs by their expected free PEs,
+     * which is just created when a subclass requests it.
+     * @see #getVmExpectedFreePesIndex()
+     */
+    private VmExpectedFreePesIndex vmExpectedFreePesIndex;
+
+    /**
+     * The times when idle VMs are expected to be idle long enough to be destroyed.
+     * @see #getVmDestructionDelayFunction()
+     */
+    private final VmIdleDeadlineQueue vmIdleDeadlines;
+
     /**
      * Checks if the last time checked, there were waiting cloudlets or not.
      */
@@ -141,6 +163,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     /** @see #isShutdownWhenIdle()  */
     private boolean shutdownWhenIdle;
+
+    /** @see #isVmIdlenessVerifiedOnce() */
+    private boolean vmIdlenessVerifiedOnce;
     private boolean vmCreationRetrySent;
 
     /**
@@ -175,10 +200,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.vmWaitingList = new ArrayList<>();
         this.vmExecList = new ArrayList<>();
         this.vmCreatedList = new ArrayList<>();
-        this.cloudletWaitingList = new ArrayList<>();
+        this.cloudletWaitingQueue = new CloudletWaitingQueue();
         this.cloudletsFinishedList = new ArrayList<>();
         this.cloudletsCreatedList = new ArrayList<>();
         this.cloudletSubmittedList = new ArrayList<>();
+        this.vmIdleDeadlines = new VmIdleDeadlineQueue();
         setDatacenterList(new TreeSet<>());
 
         setDatacenterMapper(this::defaultDatacenterMapper);
@@ -186,6 +212,105 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmDestructionDelayFunction = DEF_VM_DESTRUCTION_DELAY_FUNC;
     }
 
+    /**
+     * {@inheritDoc}
+     * The state of every VM and Cloudlet the broker knows is stored too,
+     * since they are not simulation entities.
+     * The {@link #getCloudletResultStore() Cloudlet result store} is kept
+     * from the scenario the checkpoint is restored into.
+     */
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeVm(lastSelectedVm);
+        writer.writeEntity(lastSelectedDc);
+        writer.writeVms(vmFailedList);
+        writer.writeVms(vmWaitingList);
+        writer.writeVms(vmExecList);
+        writer.writeVms(vmCreatedList);
+        writer.writeState(cloudletWaitingQueue);
+        writer.writeCloudlets(cloudletSubmittedList);
+        writer.writeCloudlets(cloudletsFinishedList);
+        writer.writeCloudlets(cloudletsCreatedList);
+        writer.writeState(vmIdleDeadlines);
+        writer.writeBoolean(wereThereWaitingCloudlets);
+        writer.writeInt(vmCreationRequests);
+        writer.writeEntities(datacenterList);
+        writer.writeCloudlet(lastSubmittedCloudlet);
+        writer.writeVm(lastSubmittedVm);
+        writer.writeBoolean(shutdownRequested);
+        writer.writeBoolean(shutdownWhenIdle);
+        writer.writeBoolean(vmIdlenessVerifiedOnce);
+        writer.writeBoolean(vmCreationRetrySent);
+        writer.writeBoolean(newVmsArrived);
+
+        final List<Vm> vms = getKnownVms();
+        writer.writeVms(vms);
+        vms.forEach(writer::writeState);
+
+        final List<Cloudlet> cloudlets = getKnownCloudlets();
+        writer.writeCloudlets(cloudlets);
+        cloudlets.forEach(writer::writeState);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.lastSelectedVm = reader.readVm();
+        this.lastSelectedDc = reader.readEntity(Datacenter.NULL);
+        replace(vmFailedList, reader.readVms());
+        replace(vmWaitingList, reader.readVms());
+        replace(vmExecList, reader.readVms());
+        replace(vmCreatedList, reader.readVms());
+        reader.readState(cloudletWaitingQueue);
+        replace(cloudletSubmittedList, reader.readCloudlets());
+        replace(cloudletsFinishedList, reader.readCloudlets());
+        replace(cloudletsCreatedList, reader.readCloudlets());
+        reader.readState(vmIdleDeadlines);
+        this.wereThereWaitingCloudlets = reader.readBoolean();
+        this.vmCreationRequests = reader.readInt();
+        this.datacenterList = reader.readEntities(Datacenter.NULL);
+        this.lastSubmittedCloudlet = reader.readCloudlet();
+        this.lastSubmittedVm = reader.readVm();
+        this.shutdownRequested = reader.readBoolean();
+        this.shutdownWhenIdle = reader.readBoolean();
+        this.vmIdlenessVerifiedOnce = reader.readBoolean();
+        this.vmCreationRetrySent = reader.readBoolean();
+        this.newVmsArrived = reader.readBoolean();
+
+        //The index is built again from the restored VMs when it's requested
+        this.vmExpectedFreePesIndex = null;
+        reader.<Vm>readVms().forEach(reader::readState);
+        reader.<Cloudlet>readCloudlets().forEach(reader::readState);
+    }
+
+    private static <T> void replace(final List<T> list, final List<T> items) {
+        list.clear();
+        list.addAll(items);
+    }
+
+    /**
+     * Gets all VMs in the broker lists, without duplicates.
+     * @return
+     */
+    private List<Vm> getKnownVms() {
+        final var vms = new LinkedHashSet<Vm>(vmWaitingList);
+        vms.addAll(vmCreatedList);
+        vms.addAll(vmExecList);
+        vms.addAll(vmFailedList);
+        return new ArrayList<>(vms);
+    }
+
+    /**
+     * Gets all Cloudlets in the broker lists, without duplicates.
+     * @return
+     */
+    private List<Cloudlet> getKnownCloudlets() {
+        final var cloudlets = new LinkedHashSet<Cloudlet>(cloudletWaitingQueue.asList());
+        cloudlets.addAll(cloudletSubmittedList);
+        cloudlets.addAll(cloudletsCreatedList);
+        cloudlets.addAll(cloudletsFinishedList);
+        return new ArrayList<>(cloudlets);
+    }
+
     @Override
     public final DatacenterBroker setSelectClosestDatacenter(final boolean select) {
         this.selectClosestDatacenter = select;
@@ -350,7 +475,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         lastSubmittedCloudlet = setIdForEntitiesWithoutOne(list, lastSubmittedCloudlet);
         cloudletSubmittedList.addAll(list);
         setSimulationForCloudletUtilizationModels(list);
-        cloudletWaitingList.addAll(list);
+        list.forEach(cloudletWaitingQueue::add);
         wereThereWaitingCloudlets = true;
 
         if (!isStarted()) {
@@ -416,6 +541,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     }
 
     private void setSimulationForUtilizationModel(final UtilizationModel cloudletUtilizationModel) {
+        //The shared model is immutable and doesn't depend on the simulation
+        if (cloudletUtilizationModel == UtilizationModelFull.SHARED) {
+            return;
+        }
+
         if (cloudletUtilizationModel.getSimulation() == null || cloudletUtilizationModel.getSimulation() == Simulation.NULL) {
             cloudletUtilizationModel.setSimulation(getSimulation());
         }
@@ -448,7 +578,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             return false;
         }
 
+        final Vm previousVm = cloudlet.getVm();
         cloudlet.setVm(vm);
+        //If the Cloudlet was waiting for its previous VM to be created, it may be dispatched now
+        cloudletWaitingQueue.release(cloudlet, previousVm);
         return true;
     }
 
@@ -786,6 +919,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmWaitingList.remove(vm);
         vmExecList.add(vm);
         vmCreatedList.add(vm);
+        cloudletWaitingQueue.release(vm);
     }
 
     /**
@@ -796,7 +930,16 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private boolean processCloudletReturn(final SimEvent evt) {
         final var cloudlet = (Cloudlet) evt.getData();
         cloudletsFinishedList.add(cloudlet);
+        if(cloudletResultStore != null) {
+            cloudletResultStore.add(cloudlet);
+        }
+
         ((VmSimple) cloudlet.getVm()).addExpectedFreePesNumber(cloudlet.getNumberOfPes());
+        updateVmExpectedFreePesIndex(cloudlet.getVm());
+        //The freed PEs may enable Cloudlets that couldn't be mapped before to run
+        if (cloudletWaitingQueue.releaseUnmapped() && allNonDelayedVmsCreated()) {
+            requestDatacentersToCreateWaitingCloudlets();
+        }
         LOGGER.info("{}: {}: {} finished in {} and returned to broker.", getSimulation().clockStr(), getName(), cloudlet, cloudlet.getVm());
 
         if (cloudlet.getVm().getCloudletScheduler().isEmpty()) {
@@ -811,13 +954,19 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     /**
      * Request the destruction of VMs after all running cloudlets have finished and returned to the broker.
      * If there is no waiting Cloudlet, request all VMs to be destroyed.
+     *
+     * <p>While the broker is running, only VMs whose idle deadline has expired are checked,
+     * since the other ones can't be idle long enough to be destroyed yet.
+     * When the broker is shutting down, all VMs are requested to be destroyed.</p>
      */
     private void requestVmDestructionAfterAllCloudletsFinished() {
-        for (int i = vmExecList.size() - 1; i >= 0; i--) {
-            requestIdleVmDestruction(vmExecList.get(i));
-        }
+        if(isFinished()) {
+            for (int i = vmExecList.size() - 1; i >= 0; i--) {
+                requestIdleVmDestruction(vmExecList.get(i));
+            }
+        } else vmIdleDeadlines.pollExpired(getSimulation().clock(), this::requestIdleVmDestruction);
 
-        if (cloudletWaitingList.isEmpty()) {
+        if (cloudletWaitingQueue.isEmpty()) {
             return;
         }
 
@@ -836,16 +985,23 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     @Override
     public DatacenterBroker requestIdleVmDestruction(final Vm vm) {
         if (vm.isCreated()) {
+            final boolean idleDeadlineArmed;
             if(isVmIdleEnough(vm) || isFinished()) {
                 LOGGER.info("{}: {}: Requesting {} destruction.", getSimulation().clockStr(), getName(), vm);
                 sendNow(getDatacenter(vm), CloudSimTags.VM_DESTROY, vm);
-            }
+                vmIdleDeadlines.disarm(vm);
+                idleDeadlineArmed = false;
+            } else idleDeadlineArmed = updateVmIdleDeadline((VmSimple)vm);
 
             if(isVmIdlenessVerificationRequired((VmSimple)vm)) {
-                getSimulation().send(
-                    new CloudSimEvent(vmDestructionDelayFunction.apply(vm),
-                        vm.getHost().getDatacenter(),
-                        CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING));
+                /* If enabled, the verification event is sent just when the VM becomes idle,
+                 * instead of every time the VM processing is updated while it's idle. */
+                if(idleDeadlineArmed || !vmIdlenessVerifiedOnce) {
+                    getSimulation().send(
+                        new CloudSimEvent(vmDestructionDelayFunction.apply(vm),
+                            vm.getHost().getDatacenter(),
+                            CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING));
+                }
                 return this;
             }
         }
@@ -854,9 +1010,49 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return this;
     }
 
+    /**
+     * Arms the idle deadline of a VM if it has become idle
+     * or disarms it if the VM is running some Cloudlet.
+     *
+     * @param vm the VM to update its idle deadline
+     * @return true if a new deadline was armed, false if the deadline
+     *         was already armed or the VM isn't idle
+     */
+    private boolean updateVmIdleDeadline(final VmSimple vm) {
+        final double delay = vmDestructionDelayFunction.apply(vm);
+        if(delay > DEF_VM_DESTRUCTION_DELAY && vm.hasStartedSomeCloudlet() && vm.getCloudletScheduler().getCloudletExecList().isEmpty()) {
+            return vmIdleDeadlines.arm(vm, vmIdleDeadline(vm, delay));
+        }
+
+        vmIdleDeadlines.disarm(vm);
+        return false;
+    }
+
+    /**
+     * Checks if a VM is idle long enough to be destroyed.
+     * It compares the current time with the {@link #vmIdleDeadline(Vm, double) idle deadline}
+     * instead of computing the VM idle interval (as in {@link Vm#isIdleEnough(double)}),
+     * so that a VM whose deadline has expired is always considered idle enough,
+     * despite floating-point rounding errors.
+     *
+     * @param vm the VM to check
+     * @return true if the VM is idle long enough to be destroyed, false otherwise
+     */
     private boolean isVmIdleEnough(final Vm vm) {
         final double delay = vmDestructionDelayFunction.apply(vm);
-        return delay > DEF_VM_DESTRUCTION_DELAY && vm.isIdleEnough(delay);
+        return delay > DEF_VM_DESTRUCTION_DELAY &&
+               vm.getCloudletScheduler().getCloudletExecList().isEmpty() &&
+               vmIdleDeadline(vm, delay) <= getSimulation().clock();
+    }
+
+    /**
+     * Gets the time a VM will be idle long enough to be destroyed.
+     * @param vm the VM to get its idle deadline
+     * @param delay the time the VM must be idle to be destroyed
+     * @return the VM idle deadline
+     */
+    private static double vmIdleDeadline(final Vm vm, final double delay) {
+        return vm.getLastBusyTime() + delay;
     }
 
     @Override
@@ -932,7 +1128,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     }
 
     private boolean isBrokerIdle() {
-        return cloudletWaitingList.isEmpty() && vmWaitingList.isEmpty() && vmExecList.isEmpty();
+        return cloudletWaitingQueue.isEmpty() && vmWaitingList.isEmpty() && vmExecList.isEmpty();
     }
 
     /**
@@ -981,14 +1177,19 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #submitCloudletList(java.util.List)
      */
     protected void requestDatacentersToCreateWaitingCloudlets() {
-        /* Uses Iterator to remove Cloudlets from the waiting list
-         * while iterating over that List. This avoids the collection of successfully
-         * created Cloudlets into a separate list.
-         * Cloudlets in such new list were removed just after the loop,
-         * degrading performance in large scale simulations. */
+        /* Just visits the dispatchable Cloudlets.
+         * Cloudlets bound to VMs not created yet are parked
+         * until the creation of such VMs is acknowledged.
+         * Cloudlets that couldn't be mapped to a created VM are parked
+         * until the next round or until any VM is created,
+         * since VMs may have freed capacity in the meantime.
+         * Submissions are grouped by Datacenter and delay,
+         * so that a single event is sent for each group. */
+        cloudletWaitingQueue.releaseUnmapped();
+        final var submissions = new LinkedHashMap<CloudletSubmission, List<Cloudlet>>();
         int createdCloudlets = 0;
-        for (final var iterator = cloudletWaitingList.iterator(); iterator.hasNext(); ) {
-            final CloudletSimple cloudlet = (CloudletSimple)iterator.next();
+        for (final var dispatcher = cloudletWaitingQueue.dispatcher(); dispatcher.hasNext(); ) {
+            final CloudletSimple cloudlet = (CloudletSimple)dispatcher.next();
             if (!cloudlet.getLastTriedDatacenter().equals(Datacenter.NULL)) {
                 continue;
             }
@@ -997,29 +1198,54 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             lastSelectedVm = vmMapper.apply(cloudlet);
             if (!lastSelectedVm.isCreated()) {
                 logPostponingCloudletExecution(cloudlet);
+                final boolean waitingBoundVm = cloudlet.isBoundToVm() && lastSelectedVm == cloudlet.getVm();
+                dispatcher.park(waitingBoundVm ? lastSelectedVm : Vm.NULL);
                 continue;
             }
 
             ((VmSimple) lastSelectedVm).removeExpectedFreePesNumber(cloudlet.getNumberOfPes());
+            updateVmExpectedFreePesIndex(lastSelectedVm);
 
             logCloudletCreationRequest(cloudlet);
             cloudlet.setVm(lastSelectedVm);
             final Datacenter dc = getDatacenter(lastSelectedVm);
-            send(dc, cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            submissions.computeIfAbsent(new CloudletSubmission(dc, cloudlet.getSubmissionDelay()), k -> new ArrayList<>()).add(cloudlet);
             cloudlet.setLastTriedDatacenter(dc);
             cloudletsCreatedList.add(cloudlet);
-            iterator.remove();
             createdCloudlets++;
+            dispatcher.remove();
         }
 
+        submissions.forEach(this::sendCloudletSubmission);
+
         allWaitingCloudletsSubmittedToVm(createdCloudlets);
     }
 
+    /**
+     * A group of Cloudlets to be submitted to the same Datacenter with the same delay.
+     */
+    private record CloudletSubmission(Datacenter datacenter, double delay) {}
+
+    /**
+     * Sends a {@link CloudSimTags#CLOUDLET_SUBMIT} event to a Datacenter,
+     * carrying a single Cloudlet or a List of Cloudlets to be submitted at the same time.
+     */
+    private void sendCloudletSubmission(final CloudletSubmission submission, final List<Cloudlet> cloudlets) {
+        final Object data = cloudlets.size() == 1 ? cloudlets.get(0) : cloudlets;
+        send(submission.datacenter(), submission.delay(), CloudSimTags.CLOUDLET_SUBMIT, data);
+    }
+
     private void logPostponingCloudletExecution(final Cloudlet cloudlet) {
         if(getSimulation().isAborted() || getSimulation().isAbortRequested())
             return;
 
         final Vm vm = cloudlet.getVm();
+        final boolean delayedVm = vm.getSubmissionDelay() > 0;
+        //Avoids building messages that won't be logged
+        if(delayedVm ? !LOGGER.isInfoEnabled() : !LOGGER.isWarnEnabled()) {
+            return;
+        }
+
         final String vmMsg = Vm.NULL.equals(vm) ?
                                 "it couldn't be mapped to any VM" :
                                 String.format("bind Vm %d is not available", vm.getId());
@@ -1028,7 +1254,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             "%s: %s: Postponing execution of Cloudlet %d because {}.",
             getSimulation().clockStr(), getName(), cloudlet.getId());
 
-        if(vm.getSubmissionDelay() > 0) {
+        if(delayedVm) {
             final String secs = vm.getSubmissionDelay() > 1 ? "seconds" : "second";
             final var reason = String.format("bind Vm %d was requested to be created with %.2f %s delay", vm.getId(), vm.getSubmissionDelay(), secs);
             LOGGER.info(msg, reason);
@@ -1051,7 +1277,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @param createdCloudlets number of Cloudlets previously waiting that have been just created
      */
     private boolean allWaitingCloudletsSubmittedToVm(final int createdCloudlets) {
-        if (!cloudletWaitingList.isEmpty()) {
+        if (!cloudletWaitingQueue.isEmpty()) {
             return false;
         }
 
@@ -1108,9 +1334,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return cloudletsCreatedList;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The returned list is a read-only live view of the waiting Cloudlets,
+     * in the order they were submitted.
+     * It must be iterated instead of accessed by index.</p>
+     * @param <T> {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public <T extends Cloudlet> List<T> getCloudletWaitingList() {
-        return (List<T>) cloudletWaitingList;
+        return (List<T>) cloudletWaitingQueue.asList();
     }
 
     @Override
@@ -1118,6 +1352,40 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return (List<T>) new ArrayList<>(cloudletsFinishedList);
     }
 
+    /**
+     * Gets an index of the {@link #getVmCreatedList() created VMs} ordered by their
+     * {@link Vm#getExpectedFreePesNumber() expected free PEs},
+     * enabling VM mappers to select a VM for a Cloudlet without scanning all created VMs.
+     * The index is created in the first call and then kept up-to-date by the broker.
+     *
+     * @return the index, including all VMs created so far
+     */
+    VmExpectedFreePesIndex getVmExpectedFreePesIndex() {
+        if(vmExpectedFreePesIndex == null) {
+            vmExpectedFreePesIndex = new VmExpectedFreePesIndex();
+        }
+
+        vmExpectedFreePesIndex.sync(vmCreatedList);
+        return vmExpectedFreePesIndex;
+    }
+
+    private void updateVmExpectedFreePesIndex(final Vm vm) {
+        if(vmExpectedFreePesIndex != null) {
+            vmExpectedFreePesIndex.update(vm);
+        }
+    }
+
+    @Override
+    public Optional<CloudletResultStore> getCloudletResultStore() {
+        return Optional.ofNullable(cloudletResultStore);
+    }
+
+    @Override
+    public DatacenterBroker setCloudletResultStore(final CloudletResultStore store) {
+        this.cloudletResultStore = store;
+        return this;
+    }
+
     /**
      * Gets a Vm at a given index from the {@link #getVmExecList() list of created VMs}.
      *
@@ -1242,12 +1510,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * {@inheritDoc}
      *
      * <p>If null is given, the default VM destruction delay function will be used.</p>
+     *
+     * <p>The delay for a VM is computed when it becomes idle and again when such a delay expires.
+     * If the function returns a lower delay in the meantime (for instance, because it depends on the simulation time),
+     * the VM is just destroyed when the previously computed delay expires.</p>
      * @param function {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
     public DatacenterBroker setVmDestructionDelayFunction(final Function<Vm, Double> function) {
         this.vmDestructionDelayFunction = function == null ? DEF_VM_DESTRUCTION_DELAY_FUNC : function;
+        vmIdleDeadlines.rearm(vm -> vmIdleDeadline(vm, vmDestructionDelayFunction.apply(vm)));
         return this;
     }
 
@@ -1331,4 +1604,15 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.shutdownWhenIdle = shutdownWhenIdle;
         return this;
     }
+
+    @Override
+    public boolean isVmIdlenessVerifiedOnce() {
+        return vmIdlenessVerifiedOnce;
+    }
+
+    @Override
+    public DatacenterBroker setVmIdlenessVerifiedOnce(final boolean verifiedOnce) {
+        this.vmIdlenessVerifiedOnce = verifiedOnce;
+        return this;
+    }
 }
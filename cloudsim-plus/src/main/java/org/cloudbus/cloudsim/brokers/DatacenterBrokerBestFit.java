@@ -27,8 +27,6 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
-
 /**
  * A implementation of {@link DatacenterBroker} that uses a Best Fit
  * mapping between submitted cloudlets and Vm's, trying to place a Cloudlet
@@ -64,11 +62,7 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        final Vm mappedVm = getVmCreatedList()
-            .stream()
-            .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getNumberOfPes())
-            .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
-            .orElse(Vm.NULL);
+        final Vm mappedVm = getVmExpectedFreePesIndex().bestFit(cloudlet.getNumberOfPes());
 
         if (Vm.NULL.equals(mappedVm)) {
             LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -0,0 +1,112 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.resources.FileCache;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.List;
+
+/**
+ * A implementation of {@link DatacenterBroker} that uses a data-locality
+ * mapping between submitted cloudlets and Vm's, trying to place a Cloudlet
+ * at a VM whose Host already has the largest amount of the
+ * {@link Cloudlet#getRequiredFiles() Cloudlet required files}
+ * in its {@link Host#getFileCache() file cache}.
+ * That reduces the time to transfer such files from the
+ * {@link org.cloudbus.cloudsim.resources.DatacenterStorage}.
+ *
+ * <p>Only VMs having enough {@link Vm#getExpectedFreePesNumber() expected free PEs} for the Cloudlet
+ * are considered. Between VMs whose Hosts have the same amount of cached files,
+ * the one with more expected free PEs is selected.
+ * If the Cloudlet doesn't require any file or no suitable VM is running in a Host
+ * that has some of these files cached, the default round-robin mapper is used as a fallback.</p>
+ *
+ * <p>Files are inserted into a Host cache only when a Cloudlet requiring them
+ * is received by the Datacenter. Therefore, Cloudlets submitted together
+ * (even if they have different submission delays, since they are mapped to VMs when submitted to the broker)
+ * don't take advantage of the files to be cached by each other.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class DatacenterBrokerFileLocality extends DatacenterBrokerSimple {
+    /**
+     * Creates a DatacenterBroker object.
+     *
+     * @param simulation The CloudSim instance that represents the simulation the Entity is related to
+     */
+    public DatacenterBrokerFileLocality(final CloudSim simulation) {
+        super(simulation);
+    }
+
+    /**
+     * Selects the VM whose Host has the largest amount of the Cloudlet required files cached.
+     * In case the algorithm can't find such a VM, it uses the
+     * default DatacenterBroker VM mapper as a fallback.
+     *
+     * @param cloudlet the Cloudlet to find a VM to run it
+     * @return the VM selected for the Cloudlet or {@link Vm#NULL} if no suitable VM was found
+     */
+    @Override
+    public Vm defaultVmMapper(final Cloudlet cloudlet) {
+        if (cloudlet.isBoundToVm()) {
+            return cloudlet.getVm();
+        }
+
+        final List<String> requiredFiles = cloudlet.getRequiredFiles();
+        if (requiredFiles.isEmpty()) {
+            return super.defaultVmMapper(cloudlet);
+        }
+
+        Vm mappedVm = Vm.NULL;
+        long mappedVmCachedSize = 0;
+        for (final Vm vm : getVmExecList()) {
+            if (vm.getExpectedFreePesNumber() < cloudlet.getNumberOfPes()) {
+                continue;
+            }
+
+            final FileCache cache = vm.getHost().getFileCache();
+            final long cachedSize = cache.getCachedSize(requiredFiles);
+            if (cachedSize > mappedVmCachedSize ||
+                cachedSize > 0 && cachedSize == mappedVmCachedSize &&
+                vm.getExpectedFreePesNumber() > mappedVm.getExpectedFreePesNumber())
+            {
+                mappedVm = vm;
+                mappedVmCachedSize = cachedSize;
+            }
+        }
+
+        if (Vm.NULL.equals(mappedVm)) {
+            return super.defaultVmMapper(cloudlet);
+        }
+
+        LOGGER.trace("{}: {}: {} mapped to {} ({} MB of required files cached in {})",
+            getSimulation().clockStr(), getName(), cloudlet, mappedVm, mappedVmCachedSize, mappedVm.getHost());
+        return mappedVm;
+    }
+}
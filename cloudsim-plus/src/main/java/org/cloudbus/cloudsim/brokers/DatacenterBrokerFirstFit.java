@@ -24,6 +24,8 @@
 package org.cloudbus.cloudsim.brokers;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -52,6 +54,18 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
         super(simulation);
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeInt(lastVmIndex);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        this.lastVmIndex = reader.readInt();
+    }
+
     /**
      * Selects the first VM with the lowest number of PEs that is able to run a given Cloudlet.
      * In case the algorithm can't find such a VM, it uses the
@@ -66,23 +80,18 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = getVmCreatedList().size();
-        for (int i = 0; i < maxTries; i++) {
-            final Vm vm = getVmCreatedList().get(lastVmIndex);
-            if (vm.getExpectedFreePesNumber() >= cloudlet.getNumberOfPes()) {
-                LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
-                    getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes(), vm,
-                    vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
-                return vm;
-            }
-
-            /* If it gets here, the previous Vm doesn't have capacity to place the Cloudlet.
-             * Then, moves to the next Vm.
-             * If the end of the Vm list is reached, starts from the beginning,
-             * until the max number of tries.*/
-            lastVmIndex = ++lastVmIndex % getVmCreatedList().size();
+        /* Searches for the first Vm having capacity to place the Cloudlet,
+         * starting from the last used Vm.
+         * If the end of the Vm list is reached, starts from the beginning. */
+        final var index = getVmExpectedFreePesIndex();
+        final int vmIndex = index.size() == 0 ? -1 : index.firstFit(cloudlet.getNumberOfPes(), lastVmIndex % index.size());
+        if (vmIndex >= 0) {
+            lastVmIndex = vmIndex;
+            final Vm vm = index.get(vmIndex);
+            LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
+                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getNumberOfPes(), vm,
+                vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
+            return vm;
         }
 
         LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
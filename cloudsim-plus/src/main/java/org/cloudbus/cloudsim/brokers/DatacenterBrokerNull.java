@@ -24,6 +24,7 @@
 package org.cloudbus.cloudsim.brokers;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletResultStore;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.core.SimEntityNullBase;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
@@ -35,6 +36,7 @@ import org.cloudsimplus.listeners.EventListener;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -86,7 +88,11 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public double getFailedVmsRetryDelay() { return 0; }
     @Override public void setFailedVmsRetryDelay(double failedVmsRetryDelay) {/**/}
     @Override public boolean isShutdownWhenIdle() { return false; }
+    @Override public Optional<CloudletResultStore> getCloudletResultStore() { return Optional.empty(); }
+    @Override public DatacenterBroker setCloudletResultStore(CloudletResultStore store) { return this; }
     @Override public DatacenterBroker setShutdownWhenIdle(boolean shutdownWhenIdle) { return this; }
+    @Override public boolean isVmIdlenessVerifiedOnce() { return false; }
+    @Override public DatacenterBroker setVmIdlenessVerifiedOnce(boolean verifiedOnce) { return this; }
     @Override public DatacenterBroker setVmComparator(Comparator<Vm> comparator) { return this; }
     @Override public void setCloudletComparator(Comparator<Cloudlet> comparator) {/**/}
     @Override public DatacenterBroker submitCloudlet(Cloudlet cloudlet) { return this; }
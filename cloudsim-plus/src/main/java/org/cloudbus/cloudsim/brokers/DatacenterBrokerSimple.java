@@ -8,6 +8,8 @@
 package org.cloudbus.cloudsim.brokers;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
@@ -69,6 +71,20 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
         this.lastSelectedDcIndex = -1;
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeInt(lastSelectedVmIndex);
+        writer.writeInt(lastSelectedDcIndex);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        this.lastSelectedVmIndex = reader.readInt();
+        this.lastSelectedDcIndex = reader.readInt();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,221 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+
+/**
+ * An index of the {@link DatacenterBroker#getVmCreatedList() VMs created by a broker},
+ * ordered by their {@link Vm#getExpectedFreePesNumber() expected free PEs}.
+ * It enables selecting a VM for a Cloudlet using Best Fit and First Fit policies
+ * in O(log V) time, instead of scanning the entire list of V created VMs for every Cloudlet.
+ *
+ * <p>Each VM is identified by its position in the created list.
+ * The index keeps the expected free PEs of each VM, so that
+ * it has to be {@link #update(Vm) updated} every time such a value changes.
+ * New created VMs are included when {@link #sync(List)} is called.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class VmExpectedFreePesIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The VMs in the order they were created. */
+    private final List<Vm> vmList;
+
+    /** The position of each VM inside the {@link #vmList}. */
+    private final Map<Vm, Integer> positions;
+
+    /**
+     * Maps a number of expected free PEs to the positions of VMs having such a number of free PEs.
+     * Positions are sorted so that, among VMs with the same free PEs, the first created one is selected.
+     */
+    private final TreeMap<Long, TreeSet<Integer>> positionsByFreePes;
+
+    /**
+     * A segment tree where each leaf stores the expected free PEs of the VM at the respective position
+     * and each internal node stores the max value of its children.
+     * Leaves start at index {@link #capacity}.
+     */
+    private long[] maxTree;
+
+    private int capacity;
+
+    VmExpectedFreePesIndex() {
+        this.vmList = new ArrayList<>();
+        this.positions = new IdentityHashMap<>();
+        this.positionsByFreePes = new TreeMap<>();
+        this.capacity = INITIAL_CAPACITY;
+        this.maxTree = newTree(capacity);
+    }
+
+    private static long[] newTree(final int capacity) {
+        final long[] tree = new long[capacity * 2];
+        Arrays.fill(tree, -1);
+        return tree;
+    }
+
+    /**
+     * Includes into the index the VMs from a given list that were not indexed yet.
+     * Since the list of created VMs just grows, only the VMs after the last indexed one are added.
+     *
+     * @param createdVmList the list of VMs created by the broker
+     */
+    void sync(final List<Vm> createdVmList) {
+        for (int i = vmList.size(); i < createdVmList.size(); i++) {
+            add(createdVmList.get(i));
+        }
+    }
+
+    private void add(final Vm vm) {
+        final int pos = vmList.size();
+        if (pos == capacity) {
+            grow();
+        }
+
+        vmList.add(vm);
+        positions.put(vm, pos);
+        final long freePes = vm.getExpectedFreePesNumber();
+        positionsByFreePes.computeIfAbsent(freePes, k -> new TreeSet<>()).add(pos);
+        setLeaf(pos, freePes);
+    }
+
+    private void grow() {
+        capacity *= 2;
+        maxTree = newTree(capacity);
+        for (int pos = 0; pos < vmList.size(); pos++) {
+            maxTree[capacity + pos] = vmList.get(pos).getExpectedFreePesNumber();
+        }
+
+        for (int node = capacity - 1; node > 0; node--) {
+            maxTree[node] = Math.max(maxTree[2 * node], maxTree[2 * node + 1]);
+        }
+    }
+
+    private void setLeaf(final int pos, final long value) {
+        int node = capacity + pos;
+        maxTree[node] = value;
+        for (node /= 2; node > 0; node /= 2) {
+            maxTree[node] = Math.max(maxTree[2 * node], maxTree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Updates the expected free PEs of a VM inside the index,
+     * after such a value was changed in the VM.
+     * Calling the method for a VM that isn't indexed has no effect.
+     *
+     * @param vm the VM to update
+     */
+    void update(final Vm vm) {
+        final Integer pos = positions.get(vm);
+        if (pos == null) {
+            return;
+        }
+
+        final long previousFreePes = maxTree[capacity + pos];
+        final long freePes = vm.getExpectedFreePesNumber();
+        if (previousFreePes == freePes) {
+            return;
+        }
+
+        final TreeSet<Integer> previousSet = positionsByFreePes.get(previousFreePes);
+        previousSet.remove(pos);
+        if (previousSet.isEmpty()) {
+            positionsByFreePes.remove(previousFreePes);
+        }
+
+        positionsByFreePes.computeIfAbsent(freePes, k -> new TreeSet<>()).add(pos);
+        setLeaf(pos, freePes);
+    }
+
+    /**
+     * Gets the number of indexed VMs.
+     * @return
+     */
+    int size() {
+        return vmList.size();
+    }
+
+    /**
+     * Gets the VM at a given position.
+     * @param pos the VM position in the list of created VMs
+     * @return
+     */
+    Vm get(final int pos) {
+        return vmList.get(pos);
+    }
+
+    /**
+     * Selects the VM with the lowest number of expected free PEs
+     * that is able to run a given number of PEs.
+     * If there are multiple VMs with such a number of free PEs, the first created one is selected.
+     *
+     * @param requiredPes the number of PEs required
+     * @return the selected VM or {@link Vm#NULL} if no suitable VM was found
+     */
+    Vm bestFit(final long requiredPes) {
+        final var entry = positionsByFreePes.ceilingEntry(requiredPes);
+        return entry == null ? Vm.NULL : vmList.get(entry.getValue().first());
+    }
+
+    /**
+     * Gets the position of the first VM able to run a given number of PEs,
+     * searching from a given position and moving circularly to the beginning of the list
+     * when its end is reached.
+     *
+     * @param requiredPes the number of PEs required
+     * @param startPos the position to start the search from
+     * @return the position of the selected VM or -1 if no suitable VM was found
+     */
+    int firstFit(final long requiredPes, final int startPos) {
+        if (maxTree[1] < requiredPes) {
+            return -1;
+        }
+
+        final int pos = findFirst(1, 0, capacity - 1, startPos, requiredPes);
+        return pos == -1 ? findFirst(1, 0, capacity - 1, 0, requiredPes) : pos;
+    }
+
+    /**
+     * Searches the segment tree for the first leaf, at or after a given position,
+     * having at least a given value.
+     */
+    private int findFirst(final int node, final int lo, final int hi, final int startPos, final long requiredPes) {
+        if (hi < startPos || maxTree[node] < requiredPes) {
+            return -1;
+        }
+
+        if (lo == hi) {
+            return lo;
+        }
+
+        final int mid = (lo + hi) >>> 1;
+        final int pos = findFirst(2 * node, lo, mid, startPos, requiredPes);
+        return pos == -1 ? findFirst(2 * node + 1, mid + 1, hi, startPos, requiredPes) : pos;
+    }
+}
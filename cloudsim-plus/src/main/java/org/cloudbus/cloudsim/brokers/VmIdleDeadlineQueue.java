@@ -0,0 +1,180 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A priority queue of the times when idle VMs are expected to be
+ * {@link DatacenterBroker#getVmDestructionDelayFunction() idle long enough} to be destroyed.
+ * A deadline is armed when a VM becomes idle and disarmed when it receives work,
+ * enabling the broker to check just the VMs whose deadline has expired,
+ * instead of scanning all VMs every time a Cloudlet finishes.
+ *
+ * <p>Disarming a VM just removes its deadline from an internal map,
+ * so that it costs O(1). The respective entry is lazily discarded from the queue
+ * when its deadline expires.</p>
+ *
+ * <p>A deadline is computed when the VM becomes idle.
+ * If the VM destruction delay function changes, the armed deadlines
+ * must be {@link #rearm(ToDoubleFunction) computed again}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class VmIdleDeadlineQueue implements Checkpointable {
+    private record Entry(double deadline, Vm vm) implements Comparable<Entry> {
+        @Override
+        public int compareTo(final Entry other) {
+            final int res = Double.compare(deadline, other.deadline);
+            return res == 0 ? Long.compare(vm.getId(), other.vm.getId()) : res;
+        }
+    }
+
+    private final PriorityQueue<Entry> queue;
+
+    /** The currently armed deadline for each VM. */
+    private final Map<Vm, Double> deadlines;
+
+    VmIdleDeadlineQueue() {
+        this.queue = new PriorityQueue<>();
+        this.deadlines = new HashMap<>();
+    }
+
+    /**
+     * Arms the idle deadline for a VM.
+     * @param vm the VM that became idle
+     * @param deadline the time the VM is expected to be idle long enough to be destroyed
+     * @return true if the deadline was armed,
+     *         false if the VM was already armed with the same deadline
+     */
+    boolean arm(final Vm vm, final double deadline) {
+        final Double previous = deadlines.put(vm, deadline);
+        if (previous != null && previous == deadline) {
+            return false;
+        }
+
+        queue.add(new Entry(deadline, vm));
+        return true;
+    }
+
+    /**
+     * Disarms the idle deadline for a VM (if one is armed).
+     * @param vm the VM that received some work
+     */
+    void disarm(final Vm vm) {
+        deadlines.remove(vm);
+    }
+
+    /**
+     * Checks if a VM has an armed deadline.
+     * @param vm the VM to check
+     * @return
+     */
+    boolean isArmed(final Vm vm) {
+        return deadlines.containsKey(vm);
+    }
+
+    /**
+     * Removes the VMs whose armed deadline is before or at a given time,
+     * passing each one to a given {@link Consumer}.
+     * Such VMs are disarmed before the consumer is called, so that
+     * it can arm them again if they are still not idle long enough.
+     * All expired deadlines are removed before the consumer is called,
+     * therefore a deadline armed again by the consumer is just checked in the next call,
+     * even if it's not after the given time.
+     *
+     * @param time the time to check if VMs deadlines have expired
+     * @param consumer the consumer to receive each VM with an expired deadline
+     */
+    void pollExpired(final double time, final Consumer<Vm> consumer) {
+        final var expiredVms = new ArrayList<Vm>();
+        while (!queue.isEmpty() && queue.peek().deadline() <= time) {
+            final Entry entry = queue.poll();
+            final Double armedDeadline = deadlines.get(entry.vm());
+            /* If the VM was disarmed or armed again with a different deadline,
+             * the entry is stale and is just discarded. */
+            if (armedDeadline != null && armedDeadline == entry.deadline()) {
+                deadlines.remove(entry.vm());
+                expiredVms.add(entry.vm());
+            }
+        }
+
+        expiredVms.forEach(consumer);
+    }
+
+    /**
+     * Computes the deadline of every armed VM again.
+     * @param deadlineFunction a function that computes the new deadline for a given VM
+     */
+    void rearm(final ToDoubleFunction<Vm> deadlineFunction) {
+        for (final Vm vm : new ArrayList<>(deadlines.keySet())) {
+            arm(vm, deadlineFunction.applyAsDouble(vm));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Just the armed deadlines are stored (in the order they expire),
+     * since stale queue entries are discarded anyway.
+     */
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        final List<Entry> armed = deadlines.entrySet().stream()
+                                           .map(entry -> new Entry(entry.getValue(), entry.getKey()))
+                                           .sorted()
+                                           .toList();
+        writer.writeInt(armed.size());
+        for (final Entry entry : armed) {
+            writer.writeVm(entry.vm());
+            writer.writeDouble(entry.deadline());
+        }
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        queue.clear();
+        deadlines.clear();
+        final int size = reader.readInt();
+        for (int i = 0; i < size; i++) {
+            final Vm vm = reader.readVm();
+            arm(vm, reader.readDouble());
+        }
+    }
+
+    /**
+     * Gets the number of VMs with an armed deadline.
+     * @return
+     */
+    int size() {
+        return deadlines.size();
+    }
+}
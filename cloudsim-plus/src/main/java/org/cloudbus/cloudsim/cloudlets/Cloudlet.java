@@ -790,6 +790,10 @@ public interface Cloudlet extends UniquelyIdentifiable, Comparable<Cloudlet>, Cu
      * Adds a Listener object that will be notified every time
      * the processing of the Cloudlet is updated in its {@link Vm}.
      *
+     * <p>Since such notifications happen very often, the event info object
+     * given to the listener may be reused across notifications,
+     * therefore it must not be kept after the listener returns.</p>
+     *
      * @param listener the listener to add
      * @see #getFinishedLengthSoFar()
      */
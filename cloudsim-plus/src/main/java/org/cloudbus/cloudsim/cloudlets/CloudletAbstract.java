@@ -8,6 +8,8 @@
 package org.cloudbus.cloudsim.cloudlets;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
@@ -17,6 +19,7 @@ import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmGroup;
 import org.cloudsimplus.listeners.CloudletVmEventInfo;
+import org.cloudsimplus.listeners.CloudletVmEventInfoReusable;
 import org.cloudsimplus.listeners.EventListener;
 
 import java.util.*;
@@ -41,7 +44,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * being migrated, this list will have only one item.
      * TODO: Check CloudletDatacenterExecution TODO
      */
-    private final List<CloudletDatacenterExecution> datacenterExecutionList;
+    private List<CloudletDatacenterExecution> datacenterExecutionList;
 
     /** @see #getLength() */
     private long length;
@@ -101,9 +104,22 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     /** @see #getUtilizationModelBw() */
     private UtilizationModel utilizationModelBw;
 
-    private final Set<EventListener<CloudletVmEventInfo>> onStartListeners;
-    private final Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
-    private final Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
+    /*
+     * The listener sets, the list of required files and the execution history
+     * are only instantiated when the first element is added.
+     * Most Cloudlets don't have any listener or required file,
+     * so that creating these collections for every Cloudlet wastes lots of memory
+     * when simulating millions of them.
+     */
+    private Set<EventListener<CloudletVmEventInfo>> onStartListeners;
+    private Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
+    private Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
+
+    /**
+     * The event info reused to notify {@link #onUpdateProcessingListeners},
+     * lazily created when the first notification is sent.
+     */
+    private CloudletVmEventInfoReusable onUpdateProcessingEventInfo;
 
     /** @see #getSubmissionDelay() */
     private double submissionDelay;
@@ -176,13 +192,11 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     public CloudletAbstract(final long id, final long length, final long pesNumber) {
         super();
 
-        /*
-        Normally, a Cloudlet is only executed on a Datacenter without being
-        migrated to others. Hence, to reduce memory consumption, set the
-        size of this ArrayList to be less than the default one.
-        */
-        this.datacenterExecutionList = new ArrayList<>(2);
-        this.requiredFiles = new LinkedList<>();
+        this.datacenterExecutionList = Collections.emptyList();
+        this.requiredFiles = Collections.emptyList();
+        this.onStartListeners = Collections.emptySet();
+        this.onFinishListeners = Collections.emptySet();
+        this.onUpdateProcessingListeners = Collections.emptySet();
         this.setId(id);
         this.setJobId(NOT_ASSIGNED);
         this.setNumberOfPes(pesNumber);
@@ -195,12 +209,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
         this.reset();
 
-        setUtilizationModelCpu(new UtilizationModelFull());
+        setUtilizationModelCpu(UtilizationModelFull.SHARED);
         setUtilizationModelRam(UtilizationModel.NULL);
         setUtilizationModelBw(UtilizationModel.NULL);
-        onStartListeners = new HashSet<>();
-        onFinishListeners = new HashSet<>();
-        onUpdateProcessingListeners = new HashSet<>();
     }
 
     @Override
@@ -218,12 +229,54 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         setArrivedTime(0);
         setCreationTime(0);
 
-        datacenterExecutionList.clear();
+        datacenterExecutionList = Collections.emptyList();
 
         this.setLastTriedDatacenter(Datacenter.NULL);
         return this;
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeInt(datacenterExecutionList.size());
+        datacenterExecutionList.forEach(dcInfo -> dcInfo.writeState(writer));
+        writer.writeInt(lastExecutedDatacenterIdx);
+        writer.writeLong(length);
+        writer.writeLong(numberOfPes);
+        writer.writeEnum(status);
+        writer.writeBoolean(returnedToBroker);
+        writer.writeDouble(execStartTime);
+        writer.writeVm(vm);
+        writer.writeDouble(finishTime);
+        writer.writeDouble(costPerBw);
+        writer.writeDouble(accumulatedBwCost);
+        writer.writeDouble(submissionDelay);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        final int dcExecutions = reader.readInt();
+        datacenterExecutionList = dcExecutions == 0 ? Collections.emptyList() : new ArrayList<>(dcExecutions);
+        for (int i = 0; i < dcExecutions; i++) {
+            final var dcInfo = new CloudletDatacenterExecution();
+            dcInfo.readState(reader);
+            datacenterExecutionList.add(dcInfo);
+        }
+
+        this.lastExecutedDatacenterIdx = reader.readInt();
+        this.length = reader.readLong();
+        this.numberOfPes = reader.readLong();
+        this.status = reader.readEnum(Status.class);
+        this.returnedToBroker = reader.readBoolean();
+        this.execStartTime = reader.readDouble();
+        this.vm = reader.readVm();
+        this.finishTime = reader.readDouble();
+        this.costPerBw = reader.readDouble();
+        this.accumulatedBwCost = reader.readDouble();
+        this.submissionDelay = reader.readDouble();
+    }
+
     protected int getLastExecutedDatacenterIdx() {
         return lastExecutedDatacenterIdx;
     }
@@ -242,7 +295,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public Cloudlet addOnUpdateProcessingListener(final EventListener<CloudletVmEventInfo> listener) {
-        this.onUpdateProcessingListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onUpdateProcessingListeners.isEmpty()){
+            onUpdateProcessingListeners = new HashSet<>();
+        }
+
+        onUpdateProcessingListeners.add(listener);
         return this;
     }
 
@@ -253,7 +311,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public Cloudlet addOnStartListener(final EventListener<CloudletVmEventInfo> listener) {
-        this.onStartListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onStartListeners.isEmpty()){
+            onStartListeners = new HashSet<>();
+        }
+
+        onStartListeners.add(listener);
         return this;
     }
 
@@ -268,7 +331,12 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
             return this;
         }
 
-        this.onFinishListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(onFinishListeners.isEmpty()){
+            onFinishListeners = new HashSet<>();
+        }
+
+        onFinishListeners.add(listener);
         return this;
     }
 
@@ -279,7 +347,22 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public void notifyOnUpdateProcessingListeners(final double time) {
-        onUpdateProcessingListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, time, this)));
+        if(onUpdateProcessingListeners.isEmpty()){
+            return;
+        }
+
+        if(onUpdateProcessingEventInfo == null){
+            onUpdateProcessingEventInfo = new CloudletVmEventInfoReusable(this);
+        }
+
+        final var info = onUpdateProcessingEventInfo.acquire();
+        try {
+            for (final var listener : onUpdateProcessingListeners) {
+                listener.update(info.set(listener, time));
+            }
+        } finally {
+            info.release();
+        }
     }
 
     @Override
@@ -421,9 +504,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * multiple times about a Cloudlet termination.
      */
     private void notifyListenersIfCloudletIsFinished() {
-        if (isFinished()) {
+        if (isFinished() && !onFinishListeners.isEmpty()) {
             onFinishListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
-            onFinishListeners.clear();
+            onFinishListeners = Collections.emptySet();
         }
     }
 
@@ -454,7 +537,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     public void setExecStartTime(final double clockTime) {
         final boolean isStartingInSomeVm = this.execStartTime <= 0 && clockTime > 0 && vm != Vm.NULL && vm != null;
         this.execStartTime = clockTime;
-        if(isStartingInSomeVm){
+        if(isStartingInSomeVm && !onStartListeners.isEmpty()){
             onStartListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, clockTime, this)));
         }
     }
@@ -641,11 +724,29 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
                 .sum();
     }
 
+    /**
+     * {@inheritDoc}
+     * The returned list can be changed.
+     * @return {@inheritDoc}
+     */
     @Override
     public List<String> getRequiredFiles() {
+        if(isRequiredFilesNotAllocated()){
+            requiredFiles = new LinkedList<>();
+        }
+
         return requiredFiles;
     }
 
+    /**
+     * Checks if the {@link #getRequiredFiles() required files} list is still the shared empty one,
+     * which is just replaced when the list is first accessed or a file is added.
+     * @return true if the list is the shared empty instance, false otherwise
+     */
+    private boolean isRequiredFilesNotAllocated() {
+        return requiredFiles == Collections.<String>emptyList();
+    }
+
     /**
      * Sets the list of {@link #getRequiredFiles() required files}.
      *
@@ -657,11 +758,11 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean addRequiredFile(final String fileName) {
-        if (getRequiredFiles().stream().anyMatch(reqFile -> reqFile.equals(fileName))) {
+        if (requiredFiles.stream().anyMatch(reqFile -> reqFile.equals(fileName))) {
             return false;
         }
 
-        requiredFiles.add(fileName);
+        getRequiredFiles().add(fileName);
         return true;
     }
 
@@ -677,7 +778,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean deleteRequiredFile(final String filename) {
-        for (int i = 0; i < getRequiredFiles().size(); i++) {
+        for (int i = 0; i < requiredFiles.size(); i++) {
             final String currentFile = requiredFiles.get(i);
 
             if (currentFile.equals(filename)) {
@@ -691,7 +792,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public boolean hasRequiresFiles() {
-        return !getRequiredFiles().isEmpty();
+        return !requiredFiles.isEmpty();
     }
 
     @Override
@@ -858,6 +959,15 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         final var dcInfo = new CloudletDatacenterExecution();
         dcInfo.setDatacenter(datacenter);
         dcInfo.setCostPerSec(datacenter.getCharacteristics().getCostPerSecond());
+        if(datacenterExecutionList.isEmpty()){
+            /*
+            Normally, a Cloudlet is only executed on a Datacenter without being
+            migrated to others. Hence, to reduce memory consumption, set the
+            size of this ArrayList to be less than the default one.
+            */
+            datacenterExecutionList = new ArrayList<>(2);
+        }
+
         datacenterExecutionList.add(dcInfo);
         setLastExecutedDatacenterIdx(getLastExecutedDatacenterIdx() + 1);
         this.setCostPerBw(datacenter.getCharacteristics().getCostPerBw());
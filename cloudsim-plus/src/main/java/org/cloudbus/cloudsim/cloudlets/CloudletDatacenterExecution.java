@@ -1,5 +1,8 @@
 package org.cloudbus.cloudsim.cloudlets;
 
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
 /**
@@ -9,7 +12,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
  * TODO There isn't Cloudlet migration, so this attribute doesn't make sense.
  *      But since a lot of methods uses it, it's removal has to be carefully assessed.
  */
-final class CloudletDatacenterExecution {
+final class CloudletDatacenterExecution implements Checkpointable {
     static final CloudletDatacenterExecution NULL = new CloudletDatacenterExecution();
 
     private double arrivalTime;
@@ -24,6 +27,26 @@ final class CloudletDatacenterExecution {
         this.arrivalTime = Cloudlet.NOT_ASSIGNED;
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeDouble(arrivalTime);
+        writer.writeDouble(wallClockTime);
+        writer.writeDouble(actualCpuTime);
+        writer.writeDouble(costPerSec);
+        writer.writeLong(finishedSoFar);
+        writer.writeEntity(datacenter);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.arrivalTime = reader.readDouble();
+        this.wallClockTime = reader.readDouble();
+        this.actualCpuTime = reader.readDouble();
+        this.costPerSec = reader.readDouble();
+        this.finishedSoFar = reader.readLong();
+        this.datacenter = reader.readEntity(Datacenter.NULL);
+    }
+
     /**
      * Cloudlet's submission (arrival) time to a Datacenter
      * or {@link Cloudlet#NOT_ASSIGNED} if the Cloudlet was not assigned to a Datacenter yet.
@@ -7,8 +7,12 @@
  */
 package org.cloudbus.cloudsim.cloudlets;
 
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimulationCheckpoint;
 import org.cloudbus.cloudsim.core.events.CloudSimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
@@ -36,7 +40,7 @@ import java.util.Objects;
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
-public class CloudletExecution {
+public class CloudletExecution implements Checkpointable {
     /**
      * A property that implements the Null Object Design Pattern for {@link CloudletExecution}
      * objects.
@@ -50,7 +54,7 @@ public class CloudletExecution {
 	private double fileTransferTime;
 
     /** @see #getCloudletArrivalTime() */
-    private final double arrivalTime;
+    private double arrivalTime;
 
     /** @see #getFinishTime() */
     private double finishedTime;
@@ -121,6 +125,50 @@ public class CloudletExecution {
         this.instructionsFinishedSoFar = cloudlet.getFinishedLengthSoFar() * Conversion.MILLION;
     }
 
+    /**
+     * Instantiates a CloudletExecution for a Cloudlet that was inside a Datacenter
+     * when a {@link SimulationCheckpoint} was taken, reading its state from such a checkpoint.
+     *
+     * @param cloudlet the Cloudlet to store execution information from
+     * @param reader the object used to read the state from the checkpoint
+     */
+    public CloudletExecution(final Cloudlet cloudlet, final CheckpointReader reader) {
+        this.cloudlet = cloudlet;
+        readState(reader);
+    }
+
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeDouble(fileTransferTime);
+        writer.writeDouble(arrivalTime);
+        writer.writeDouble(finishedTime);
+        writer.writeDouble(overSubscriptionDelay);
+        writer.writeDouble(finishRequestTime);
+        writer.writeLong(instructionsFinishedSoFar);
+        writer.writeDouble(startExecTime);
+        writer.writeDouble(lastProcessingTime);
+        writer.writeDouble(totalCompletionTime);
+        writer.writeDouble(virtualRuntime);
+        writer.writeDouble(timeSlice);
+        writer.writeDouble(lastAllocatedMips);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.fileTransferTime = reader.readDouble();
+        this.arrivalTime = reader.readDouble();
+        this.finishedTime = reader.readDouble();
+        this.overSubscriptionDelay = reader.readDouble();
+        this.finishRequestTime = reader.readDouble();
+        this.instructionsFinishedSoFar = reader.readLong();
+        this.startExecTime = reader.readDouble();
+        this.lastProcessingTime = reader.readDouble();
+        this.totalCompletionTime = reader.readDouble();
+        this.virtualRuntime = reader.readDouble();
+        this.timeSlice = reader.readDouble();
+        this.lastAllocatedMips = reader.readDouble();
+    }
+
     /**
      * Gets the {@link Cloudlet#getLength() Cloudlet's length} (in MI).
      * @return
@@ -0,0 +1,355 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.cloudlets;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A compact, columnar store for the results of finished {@link Cloudlet}s.
+ * Each Cloudlet is represented by a row, whose attributes are stored in
+ * primitive arrays (one for each column), taking 85 bytes per Cloudlet
+ * (plus the unused capacity reserved when the arrays grow).
+ *
+ * <p>The store enables exporting or aggregating the results of large simulations
+ * by iterating over primitive columns, instead of navigating through Cloudlet objects.
+ * By setting a store for a broker using {@link DatacenterBroker#setCloudletResultStore(CloudletResultStore)},
+ * the results are copied to the store as the Cloudlets finish.
+ * The store can also be filled directly, by calling {@link #add(Cloudlet)}.
+ * The store doesn't keep references to Cloudlets, but setting one doesn't release them:
+ * the broker still keeps finished Cloudlets in its lists,
+ * such as the {@link DatacenterBroker#getCloudletFinishedList()}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class CloudletResultStore {
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Cloudlet.Status[] STATUSES = Cloudlet.Status.values();
+
+    private int size;
+    private long[] ids;
+    private long[] vmIds;
+    private long[] hostIds;
+    private long[] datacenterIds;
+    private long[] lengths;
+    private int[] pesNumbers;
+    private byte[] statuses;
+    private double[] arrivalTimes;
+    private double[] execStartTimes;
+    private double[] finishTimes;
+    private double[] actualCpuTimes;
+    private double[] totalCosts;
+
+    /**
+     * Creates a store with a default initial capacity,
+     * which grows as new Cloudlets are added.
+     */
+    public CloudletResultStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a store with a given initial capacity,
+     * which grows as new Cloudlets are added.
+     * @param initialCapacity the number of Cloudlets the store is expected to hold
+     */
+    public CloudletResultStore(final int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be greater than zero.");
+        }
+
+        ids = new long[initialCapacity];
+        vmIds = new long[initialCapacity];
+        hostIds = new long[initialCapacity];
+        datacenterIds = new long[initialCapacity];
+        lengths = new long[initialCapacity];
+        pesNumbers = new int[initialCapacity];
+        statuses = new byte[initialCapacity];
+        arrivalTimes = new double[initialCapacity];
+        execStartTimes = new double[initialCapacity];
+        finishTimes = new double[initialCapacity];
+        actualCpuTimes = new double[initialCapacity];
+        totalCosts = new double[initialCapacity];
+    }
+
+    /**
+     * Copies the results of a Cloudlet to a new row in the store.
+     * The Cloudlet object isn't kept by the store.
+     *
+     * @param cloudlet the Cloudlet to add
+     * @return the index of the row where the Cloudlet results were stored
+     */
+    public int add(final Cloudlet cloudlet) {
+        Objects.requireNonNull(cloudlet);
+        if (size == ids.length) {
+            grow();
+        }
+
+        final int row = size++;
+        ids[row] = cloudlet.getId();
+        vmIds[row] = cloudlet.getVm().getId();
+        hostIds[row] = cloudlet.getVm().getHost().getId();
+        datacenterIds[row] = cloudlet.getLastTriedDatacenter().getId();
+        lengths[row] = cloudlet.getLength();
+        pesNumbers[row] = (int) cloudlet.getNumberOfPes();
+        statuses[row] = (byte) cloudlet.getStatus().ordinal();
+        arrivalTimes[row] = cloudlet.getLastDatacenterArrivalTime();
+        execStartTimes[row] = cloudlet.getExecStartTime();
+        finishTimes[row] = cloudlet.getFinishTime();
+        actualCpuTimes[row] = cloudlet.getActualCpuTime();
+        totalCosts[row] = cloudlet.getTotalCost();
+        return row;
+    }
+
+    private void grow() {
+        final int capacity = ids.length + (ids.length >> 1) + 1;
+        ids = Arrays.copyOf(ids, capacity);
+        vmIds = Arrays.copyOf(vmIds, capacity);
+        hostIds = Arrays.copyOf(hostIds, capacity);
+        datacenterIds = Arrays.copyOf(datacenterIds, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        pesNumbers = Arrays.copyOf(pesNumbers, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        execStartTimes = Arrays.copyOf(execStartTimes, capacity);
+        finishTimes = Arrays.copyOf(finishTimes, capacity);
+        actualCpuTimes = Arrays.copyOf(actualCpuTimes, capacity);
+        totalCosts = Arrays.copyOf(totalCosts, capacity);
+    }
+
+    /**
+     * Gets the number of Cloudlets in the store.
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the store has no Cloudlet.
+     * @return true if the store is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the index of the row storing a given Cloudlet.
+     * @param cloudletId the ID of the Cloudlet to search
+     * @return the index of the row or -1 if the Cloudlet was not found
+     */
+    public int indexOf(final long cloudletId) {
+        for (int row = 0; row < size; row++) {
+            if (ids[row] == cloudletId) {
+                return row;
+            }
+        }
+
+        return -1;
+    }
+
+    private int checkRow(final int row) {
+        return Objects.checkIndex(row, size);
+    }
+
+    /**
+     * Gets the ID of the Cloudlet in a given row.
+     * @param row the index of the row
+     * @return
+     */
+    public long getId(final int row) {
+        return ids[checkRow(row)];
+    }
+
+    /**
+     * Gets the ID of the VM where the Cloudlet in a given row has run.
+     * @param row the index of the row
+     * @return
+     */
+    public long getVmId(final int row) {
+        return vmIds[checkRow(row)];
+    }
+
+    /**
+     * Gets the ID of the Host where the Cloudlet in a given row has run.
+     * @param row the index of the row
+     * @return
+     */
+    public long getHostId(final int row) {
+        return hostIds[checkRow(row)];
+    }
+
+    /**
+     * Gets the ID of the last Datacenter where the Cloudlet in a given row has run.
+     * @param row the index of the row
+     * @return
+     */
+    public long getDatacenterId(final int row) {
+        return datacenterIds[checkRow(row)];
+    }
+
+    /**
+     * Gets the length (in MI) of the Cloudlet in a given row.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getLength()
+     */
+    public long getLength(final int row) {
+        return lengths[checkRow(row)];
+    }
+
+    /**
+     * Gets the number of PEs required by the Cloudlet in a given row.
+     * @param row the index of the row
+     * @return
+     */
+    public int getNumberOfPes(final int row) {
+        return pesNumbers[checkRow(row)];
+    }
+
+    /**
+     * Gets the status of the Cloudlet in a given row.
+     * @param row the index of the row
+     * @return
+     */
+    public Cloudlet.Status getStatus(final int row) {
+        return STATUSES[statuses[checkRow(row)]];
+    }
+
+    /**
+     * Gets the time the Cloudlet in a given row arrived at the last Datacenter it was submitted to.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getLastDatacenterArrivalTime()
+     */
+    public double getArrivalTime(final int row) {
+        return arrivalTimes[checkRow(row)];
+    }
+
+    /**
+     * Gets the time the Cloudlet in a given row started executing.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getExecStartTime()
+     */
+    public double getExecStartTime(final int row) {
+        return execStartTimes[checkRow(row)];
+    }
+
+    /**
+     * Gets the time the Cloudlet in a given row finished executing.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getFinishTime()
+     */
+    public double getFinishTime(final int row) {
+        return finishTimes[checkRow(row)];
+    }
+
+    /**
+     * Gets the total execution time of the Cloudlet in a given row.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getActualCpuTime()
+     */
+    public double getActualCpuTime(final int row) {
+        return actualCpuTimes[checkRow(row)];
+    }
+
+    /**
+     * Gets the time the Cloudlet in a given row waited to start executing,
+     * after arriving at the Datacenter.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getWaitingTime()
+     */
+    public double getWaitingTime(final int row) {
+        final double arrivalTime = getArrivalTime(row);
+        return arrivalTime < 0 ? 0 : execStartTimes[row] - arrivalTime;
+    }
+
+    /**
+     * Gets the total cost of executing the Cloudlet in a given row.
+     * @param row the index of the row
+     * @return
+     * @see Cloudlet#getTotalCost()
+     */
+    public double getTotalCost(final int row) {
+        return totalCosts[checkRow(row)];
+    }
+
+    /**
+     * Gets the sum of the costs of all Cloudlets in the store.
+     * @return
+     */
+    public double getTotalCost() {
+        double total = 0;
+        for (int row = 0; row < size; row++) {
+            total += totalCosts[row];
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the mean execution time of all Cloudlets in the store.
+     * @return the mean execution time or 0 if the store is empty
+     */
+    public double getMeanActualCpuTime() {
+        if (size == 0) {
+            return 0;
+        }
+
+        double total = 0;
+        for (int row = 0; row < size; row++) {
+            total += actualCpuTimes[row];
+        }
+
+        return total / size;
+    }
+
+    /**
+     * Gets the latest finish time among all Cloudlets in the store.
+     * @return the latest finish time or 0 if the store is empty
+     */
+    public double getMaxFinishTime() {
+        double max = 0;
+        for (int row = 0; row < size; row++) {
+            max = Math.max(max, finishTimes[row]);
+        }
+
+        return max;
+    }
+
+    /**
+     * Removes all Cloudlets from the store.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
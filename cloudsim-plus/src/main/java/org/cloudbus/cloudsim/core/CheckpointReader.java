@@ -0,0 +1,268 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static org.cloudbus.cloudsim.core.CheckpointWriter.NULL_OBJECT_REF;
+import static org.cloudbus.cloudsim.core.CheckpointWriter.NULL_REF;
+
+/**
+ * Reads the state of {@link Checkpointable} objects from a {@link SimulationCheckpoint},
+ * looking up the entities, {@link Host}s, {@link Vm}s and {@link Cloudlet}s
+ * stored by their IDs into the simulation the checkpoint is being restored into.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see CheckpointWriter
+ */
+public final class CheckpointReader {
+    private final DataInputStream in;
+    private final SimulationObjectResolver resolver;
+
+    /** The class names read by {@link #readState(Object)}, in the order they were written. */
+    private final List<String> classNames;
+
+    CheckpointReader(final DataInputStream in, final SimulationObjectResolver resolver) {
+        this.in = requireNonNull(in);
+        this.resolver = requireNonNull(resolver);
+        this.classNames = new ArrayList<>();
+    }
+
+    public boolean readBoolean() {
+        try {
+            return in.readBoolean();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int readInt() {
+        try {
+            return in.readInt();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long readLong() {
+        try {
+            return in.readLong();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public double readDouble() {
+        try {
+            return in.readDouble();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a String, which may be null.
+     * @return the read String
+     */
+    public String readString() {
+        if (!readBoolean()) {
+            return null;
+        }
+
+        try {
+            return in.readUTF();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an enum value.
+     * @param enumClass the class of the enum
+     * @param <E> the type of the enum
+     * @return the read enum value
+     */
+    public <E extends Enum<E>> E readEnum(final Class<E> enumClass) {
+        return enumClass.getEnumConstants()[readInt()];
+    }
+
+    /**
+     * Reads an object written by {@link CheckpointWriter#writeSerializable(Serializable)}.
+     * @param <T> the type of the object
+     * @return the read object
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> T readSerializable() {
+        final byte[] bytes = new byte[readInt()];
+        try {
+            in.readFully(bytes);
+            try (var objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                return (T) objectIn.readObject();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a reference to an entity.
+     * @param nullObject the Null Object to return when a Null Object was written
+     *                   (such as {@link SimEntity#NULL} or {@link org.cloudbus.cloudsim.datacenters.Datacenter#NULL})
+     * @param <T> the type of the entity
+     * @return the entity found into the simulation, the given Null Object or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends SimEntity> T readEntity(final T nullObject) {
+        return readRef(() -> nullObject, () -> (T) resolver.entity(readLong()));
+    }
+
+    /**
+     * Reads a reference to a Host.
+     * @return the Host found into the simulation, {@link Host#NULL} or null
+     */
+    public Host readHost() {
+        return readRef(() -> Host.NULL, () -> resolver.host(readLong(), readLong()));
+    }
+
+    /**
+     * Reads a reference to a VM.
+     * @param <T> the type of the VM
+     * @return the VM found into the simulation, {@link Vm#NULL} or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Vm> T readVm() {
+        return (T) readRef(() -> Vm.NULL, () -> resolver.vm(readLong(), readLong()));
+    }
+
+    /**
+     * Reads a reference to a Cloudlet.
+     * @param <T> the type of the Cloudlet
+     * @return the Cloudlet found into the simulation, {@link Cloudlet#NULL} or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Cloudlet> T readCloudlet() {
+        return (T) readRef(() -> Cloudlet.NULL, () -> resolver.cloudlet(readLong(), readLong()));
+    }
+
+    /**
+     * Reads references to entities written by {@link CheckpointWriter#writeEntities(java.util.Collection)}.
+     * @param nullObject the Null Object to return for each Null Object written
+     * @param <T> the type of the entities
+     * @return a new list with the entities found into the simulation
+     */
+    public <T extends SimEntity> List<T> readEntities(final T nullObject) {
+        return readList(() -> readEntity(nullObject));
+    }
+
+    /**
+     * Reads references to Hosts written by {@link CheckpointWriter#writeHosts(java.util.Collection)}.
+     * @param <T> the type of the Hosts
+     * @return a new list with the Hosts found into the simulation
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Host> List<T> readHosts() {
+        return readList(() -> (T) readHost());
+    }
+
+    /**
+     * Reads references to VMs written by {@link CheckpointWriter#writeVms(java.util.Collection)}.
+     * @param <T> the type of the VMs
+     * @return a new list with the VMs found into the simulation
+     */
+    public <T extends Vm> List<T> readVms() {
+        return readList(this::readVm);
+    }
+
+    /**
+     * Reads references to Cloudlets written by {@link CheckpointWriter#writeCloudlets(java.util.Collection)}.
+     * @param <T> the type of the Cloudlets
+     * @return a new list with the Cloudlets found into the simulation
+     */
+    public <T extends Cloudlet> List<T> readCloudlets() {
+        return readList(this::readCloudlet);
+    }
+
+    /**
+     * Reads the state written by {@link CheckpointWriter#writeState(Object)} into a given object.
+     * If no state was written, the object is kept unchanged.
+     *
+     * @param obj the object to read the state into
+     * @throws IllegalStateException when the state was written by an object
+     *         of a different class than the given one
+     */
+    public void readState(final Object obj) {
+        final int index = readInt();
+        if (index < 0) {
+            return;
+        }
+
+        if (index == classNames.size()) {
+            classNames.add(readString());
+        }
+
+        final String className = classNames.get(index);
+        if (obj == null || !obj.getClass().getName().equals(className) || !(obj instanceof Checkpointable checkpointable)) {
+            final var msg = "The checkpoint has the state of a %s but it's being restored into a %s. The simulation scenario doesn't match the checkpoint.";
+            throw new IllegalStateException(String.format(msg, className, obj == null ? null : obj.getClass().getName()));
+        }
+
+        checkpointable.readState(this);
+    }
+
+    private <T> List<T> readList(final Supplier<T> itemReader) {
+        final int size = readInt();
+        final var list = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(itemReader.get());
+        }
+
+        return list;
+    }
+
+    private <T> T readRef(final Supplier<T> nullObject, final Supplier<T> objectReader) {
+        final byte kind;
+        try {
+            kind = in.readByte();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return switch (kind) {
+            case NULL_REF -> null;
+            case NULL_OBJECT_REF -> nullObject.get();
+            default -> objectReader.get();
+        };
+    }
+}
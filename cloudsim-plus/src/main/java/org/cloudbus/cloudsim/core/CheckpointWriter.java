@@ -0,0 +1,274 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.*;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes the state of {@link Checkpointable} objects into a {@link SimulationCheckpoint}.
+ * Entities, {@link Host}s, {@link Vm}s and {@link Cloudlet}s are written just by their IDs,
+ * so that they can be looked up into the simulation the checkpoint is restored into.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see CheckpointReader
+ */
+public final class CheckpointWriter {
+    static final byte NULL_REF = 0;
+    static final byte NULL_OBJECT_REF = 1;
+    static final byte OBJECT_REF = 2;
+
+    private final DataOutputStream out;
+
+    /** The index of each class name already written by {@link #writeState(Object)}. */
+    private final Map<String, Integer> classNames;
+
+    CheckpointWriter(final DataOutputStream out) {
+        this.out = requireNonNull(out);
+        this.classNames = new HashMap<>();
+    }
+
+    public void writeBoolean(final boolean value) {
+        try {
+            out.writeBoolean(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeInt(final int value) {
+        try {
+            out.writeInt(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeLong(final long value) {
+        try {
+            out.writeLong(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeDouble(final double value) {
+        try {
+            out.writeDouble(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a String, which may be null.
+     * @param value the String to write
+     */
+    public void writeString(final String value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            try {
+                out.writeUTF(value);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes an enum value, which cannot be null.
+     * @param value the enum value to write
+     */
+    public void writeEnum(final Enum<?> value) {
+        writeInt(value.ordinal());
+    }
+
+    /**
+     * Writes a {@link Serializable} object using the Java serialization.
+     * It must be used just for objects from third-party libraries that cannot store their state otherwise.
+     * @param value the object to write
+     */
+    public void writeSerializable(final Serializable value) {
+        final var bytes = new ByteArrayOutputStream();
+        try (var objectOut = new ObjectOutputStream(bytes)) {
+            objectOut.writeObject(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        writeInt(bytes.size());
+        try {
+            bytes.writeTo(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a reference to an entity, which may be null or a Null Object
+     * (such as {@link SimEntity#NULL} or {@link org.cloudbus.cloudsim.datacenters.Datacenter#NULL}).
+     * @param entity the entity to write
+     */
+    public void writeEntity(final SimEntity entity) {
+        if (writeRefKind(entity, entity instanceof SimEntityNullBase ? entity : SimEntity.NULL)) {
+            writeLong(entity.getId());
+        }
+    }
+
+    /**
+     * Writes a reference to a Host, which may be null or {@link Host#NULL}.
+     * @param host the Host to write
+     */
+    public void writeHost(final Host host) {
+        if (writeRefKind(host, Host.NULL)) {
+            writeLong(host.getDatacenter().getId());
+            writeLong(host.getId());
+        }
+    }
+
+    /**
+     * Writes a reference to a VM, which may be null or {@link Vm#NULL}.
+     * @param vm the VM to write
+     */
+    public void writeVm(final Vm vm) {
+        if (writeRefKind(vm, Vm.NULL)) {
+            writeLong(vm.getBroker().getId());
+            writeLong(vm.getId());
+        }
+    }
+
+    /**
+     * Writes a reference to a Cloudlet, which may be null or {@link Cloudlet#NULL}.
+     * @param cloudlet the Cloudlet to write
+     */
+    public void writeCloudlet(final Cloudlet cloudlet) {
+        if (writeRefKind(cloudlet, Cloudlet.NULL)) {
+            writeLong(cloudlet.getBroker().getId());
+            writeLong(cloudlet.getId());
+        }
+    }
+
+    /**
+     * Writes references to a collection of entities, in the collection iteration order.
+     * @param entities the entities to write
+     */
+    public void writeEntities(final Collection<? extends SimEntity> entities) {
+        writeInt(entities.size());
+        entities.forEach(this::writeEntity);
+    }
+
+    /**
+     * Writes references to a collection of Hosts, in the collection iteration order.
+     * @param hosts the Hosts to write
+     */
+    public void writeHosts(final Collection<? extends Host> hosts) {
+        writeInt(hosts.size());
+        hosts.forEach(this::writeHost);
+    }
+
+    /**
+     * Writes references to a collection of VMs, in the collection iteration order.
+     * @param vms the VMs to write
+     */
+    public void writeVms(final Collection<? extends Vm> vms) {
+        writeInt(vms.size());
+        vms.forEach(this::writeVm);
+    }
+
+    /**
+     * Writes references to a collection of Cloudlets, in the collection iteration order.
+     * @param cloudlets the Cloudlets to write
+     */
+    public void writeCloudlets(final Collection<? extends Cloudlet> cloudlets) {
+        writeInt(cloudlets.size());
+        cloudlets.forEach(this::writeCloudlet);
+    }
+
+    /**
+     * Writes the state of an object owned by the object being written (such as the scheduler of a VM),
+     * if it implements {@link Checkpointable}.
+     * The class of the object is written too, so that the state is just read
+     * into an object of the same class.
+     * Objects which aren't {@link Checkpointable} (or are null) don't have any state written.
+     *
+     * @param obj the object to write the state of
+     * @see CheckpointReader#readState(Object)
+     */
+    public void writeState(final Object obj) {
+        if (!(obj instanceof Checkpointable checkpointable)) {
+            writeInt(-1);
+            return;
+        }
+
+        final String className = obj.getClass().getName();
+        final Integer index = classNames.get(className);
+        if (index == null) {
+            writeInt(classNames.size());
+            classNames.put(className, classNames.size());
+            writeString(className);
+        } else {
+            writeInt(index);
+        }
+
+        checkpointable.writeState(this);
+    }
+
+    /**
+     * Writes the kind of reference to an object.
+     * @param obj the object to write a reference to
+     * @param nullObject the Null Object for the type of object
+     * @return true if the object is an actual one, whose ID must be written next; false otherwise
+     */
+    private boolean writeRefKind(final Object obj, final Object nullObject) {
+        if (obj == null) {
+            writeByte(NULL_REF);
+            return false;
+        }
+
+        if (obj == nullObject) {
+            writeByte(NULL_OBJECT_REF);
+            return false;
+        }
+
+        writeByte(OBJECT_REF);
+        return true;
+    }
+
+    private void writeByte(final byte value) {
+        try {
+            out.writeByte(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+/**
+ * An interface to be implemented by simulation objects whose state
+ * is stored into a {@link SimulationCheckpoint} and restored from it.
+ * Each class writes just the fields it declares, calling the super class methods
+ * to store the inherited ones, in the same order they are read.
+ *
+ * <p>Only the state that changes while the simulation runs is expected to be stored,
+ * such as the placement of a VM or the progress of a Cloudlet.
+ * The configuration of an object (such as its capacity or listeners) is kept as defined
+ * by the scenario code that created the object in the simulation the checkpoint is restored into.
+ * A class that changes the layout of its stored state must increase the
+ * {@link SimulationCheckpoint} format version.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see SimulationCheckpoint
+ */
+public interface Checkpointable {
+    /**
+     * Writes the state of this object into a checkpoint.
+     * @param writer the object used to write the state
+     */
+    void writeState(CheckpointWriter writer);
+
+    /**
+     * Reads the state of this object from a checkpoint,
+     * in the same order it was written by {@link #writeState(CheckpointWriter)}.
+     * @param reader the object used to read the state
+     */
+    void readState(CheckpointReader reader);
+}
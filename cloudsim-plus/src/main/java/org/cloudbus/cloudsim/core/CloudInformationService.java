@@ -32,7 +32,7 @@ import java.util.TreeSet;
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
-public class CloudInformationService extends CloudSimEntity {
+public class CloudInformationService extends CloudSimEntity implements Checkpointable {
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudInformationService.class.getSimpleName());
 
     /**
@@ -63,6 +63,20 @@ public class CloudInformationService extends CloudSimEntity {
     @Override
     protected void startInternal() {/**/}
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeEntities(datacenterList);
+        writer.writeEntities(cisList);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        datacenterList.clear();
+        datacenterList.addAll(reader.readEntities(Datacenter.NULL));
+        cisList.clear();
+        cisList.addAll(reader.<CloudInformationService>readEntities(null));
+    }
+
     @Override
     public void processEvent(final SimEvent evt) {
         switch (evt.getTag()) {
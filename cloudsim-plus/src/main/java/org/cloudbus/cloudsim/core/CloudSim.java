@@ -18,6 +18,8 @@ import org.cloudsimplus.listeners.EventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -81,6 +83,24 @@ public class CloudSim implements Simulation {
     /** @see #getEntityList() */
     private final List<CloudSimEntity> entities;
 
+    /**
+     * The entities in the {@link #entities} list which may have events to process
+     * (events in the {@link #deferred} queue or in their event buffer),
+     * indexed by the order they were added to such a list.
+     * This way, only those entities are visited at each clock tick,
+     * in the same order they appear in the entities list.
+     * An entity is added to this map when an event is sent to it or its holding time finishes,
+     * and removed after it has processed all its events.
+     * @see #addPendingEntity(SimEntity)
+     */
+    private final NavigableMap<Long, CloudSimEntity> pendingEntities;
+
+    /**
+     * The number of entities ever added to the {@link #entities} list,
+     * used to define the order of each entity into the {@link #pendingEntities} map.
+     */
+    private long addedEntitiesNumber;
+
     /**
      * The queue of events that will be sent in a future simulation time.
      */
@@ -134,6 +154,27 @@ public class CloudSim implements Simulation {
 
     private boolean processEventsInParallel;
 
+    /** @see #getProfiler() */
+    private EventLoopProfiler profiler;
+
+    /** @see #getFlightRecorder() */
+    private EventFlightRecorder flightRecorder;
+
+    /** @see #isIdleFastForwardEnabled() */
+    private boolean idleFastForward;
+
+    /**
+     * The interval to increase the clock at each step of the current idle period
+     * (when there is no event to process and a termination time is set),
+     * or -1 if the simulation is not idle.
+     * It's computed just once, when an idle period starts.
+     * @see #fastForwardIdleClock(double)
+     */
+    private double idleClockIncrement = -1;
+
+    /** @see #getPartition() */
+    private SimulationPartition partition;
+
     /**
      * Creates a CloudSim simulation.
      * Internally it creates a CloudInformationService.
@@ -156,6 +197,7 @@ public class CloudSim implements Simulation {
      */
     public CloudSim(final double minTimeBetweenEvents) {
         this.entities = new ArrayList<>();
+        this.pendingEntities = new TreeMap<>();
         this.future = new FutureQueue();
         this.deferred = new DeferredQueue();
         this.waitPredicates = new HashMap<>();
@@ -197,11 +239,12 @@ public class CloudSim implements Simulation {
 
         // Allow all entities to exit their body method
         if (!abortRequested) {
-            entities.forEach(SimEntity::run);
+            entities.stream().filter(this::isLocal).forEach(SimEntity::run);
         }
 
         shutdownEntities();
         running = false;
+        disableFlightRecorder();
 
         printSimulationFinished();
     }
@@ -213,10 +256,23 @@ public class CloudSim implements Simulation {
     private void shutdownEntities() {
         //Uses indexed loop to avoid ConcurrentModificationException
         for (int i = 0; i < entities.size(); i++) {
-            entities.get(i).shutdown();
+            final CloudSimEntity entity = entities.get(i);
+            if (isLocal(entity)) {
+                entity.shutdown();
+            }
         }
     }
 
+    /**
+     * Checks if an entity is run by the current JVM,
+     * which is always true when the simulation is not {@link #enablePartitioning(int, int, InetSocketAddress) partitioned}.
+     * @param entity the entity to check
+     * @return true if the entity is local, false otherwise
+     */
+    private boolean isLocal(final SimEntity entity) {
+        return partition == null || partition.isLocal(entity);
+    }
+
     @Override
     public double runFor(final double interval) {
         final double until = interval == Double.MAX_VALUE ? interval : this.clock + interval;
@@ -239,10 +295,13 @@ public class CloudSim implements Simulation {
     @Override
     public double start() {
         aborted = false;
-        startSync();
-
-        while(processEvents(Double.MAX_VALUE)){
-            //All the processing happens inside the method called above
+        if (partition == null) {
+            startSync();
+            while (processEvents(Double.MAX_VALUE)) {
+                //All the processing happens inside the method called above
+            }
+        } else {
+            partition.run();
         }
 
         finish();
@@ -282,7 +341,7 @@ public class CloudSim implements Simulation {
      *         or a termination time was set and the clock reached that time
      */
     private boolean processEvents(final double until) {
-        if (!runClockTickAndProcessFutureEvents(until) && !isToWaitClockToReachTerminationTime()) {
+        if (!runClockTickAndProcessFutureEvents(until) && !isToWaitClockToReachTerminationTime(until)) {
             return false;
         }
 
@@ -330,6 +389,7 @@ public class CloudSim implements Simulation {
     private void notifyEndOfSimulationToEntities() {
         entities.stream()
             .filter(CloudSimEntity::isAlive)
+            .filter(this::isLocal)
             .forEach(e -> sendNow(e, CloudSimTags.END_OF_SIMULATION));
         LOGGER.info("{}: Processing last events before simulation shutdown.", clockStr());
 
@@ -461,6 +521,19 @@ public class CloudSim implements Simulation {
         if (entity.getId() == -1) { // Only add once!
             entity.setId(entities.size());
             entities.add(entity);
+            entity.setAdditionOrder(addedEntitiesNumber++);
+        }
+    }
+
+    /**
+     * Adds an entity to the {@link #pendingEntities} map,
+     * so that it's executed at the next clock tick to process its events.
+     * @param entity the entity that has got events to process
+     */
+    private void addPendingEntity(final SimEntity entity) {
+        final var cloudSimEntity = (CloudSimEntity) entity;
+        if (cloudSimEntity.getAdditionOrder() >= 0) {
+            pendingEntities.put(cloudSimEntity.getAdditionOrder(), cloudSimEntity);
         }
     }
 
@@ -471,6 +544,8 @@ public class CloudSim implements Simulation {
         }
 
         entities.remove(entity);
+        pendingEntities.remove(entity.getAdditionOrder());
+        entity.setAdditionOrder(-1);
     }
 
     /**
@@ -489,17 +564,31 @@ public class CloudSim implements Simulation {
         final SimEvent first = future.first();
         if(first.getTime() <= until) {
             processFutureEventsHappeningAtSameTimeOfTheFirstOne(first);
+            idleClockIncrement = -1;
             return true;
         }
 
         return false;
     }
 
-    private boolean isToWaitClockToReachTerminationTime() {
+    /**
+     * Checks if the simulation must keep running when there is no event to process
+     * up to a given time, because a termination time is set.
+     * In such a case, the clock is advanced.
+     *
+     * @param until the time up to which events should be processed
+     * @return true if the simulation must keep running, false otherwise
+     */
+    private boolean isToWaitClockToReachTerminationTime(final double until) {
         if (!isTerminationTimeSet()) {
             return false;
         }
 
+        if (idleFastForward) {
+            fastForwardIdleClock(until);
+            return true;
+        }
+
         final double increment = minDatacentersSchedulingInterval();
         final String info = increment == minTimeBetweenEvents
             ? "using getMinTimeBetweenEvents() since a Datacenter schedulingInterval was not set"
@@ -517,6 +606,56 @@ public class CloudSim implements Simulation {
 
     }
 
+    /**
+     * Advances the clock when there is no event to process and a termination time is set,
+     * if the {@link #isIdleFastForwardEnabled() idle fast-forward} is enabled.
+     * If there are Clock Tick Listeners, the clock is increased in the same steps
+     * used when such a feature is disabled, so that listeners are notified at the same granularity
+     * (but the steps are logged just at the beginning of the idle period).
+     * Otherwise, the clock jumps straight to the next time something may happen.
+     *
+     * @param until the time up to which events should be processed
+     * @see #nextIdleWakeUpTime(double)
+     */
+    private void fastForwardIdleClock(final double until) {
+        if (idleClockIncrement < 0) {
+            idleClockIncrement = minDatacentersSchedulingInterval();
+            LOGGER.info(
+                "{}: Simulation: No events to process. Fast-forwarding the clock up to {} (the termination time set){}",
+                clockStr(), terminationTime,
+                onClockTickListeners.isEmpty() ? "" : " in steps of " + idleClockIncrement + " seconds to notify Clock Tick Listeners");
+        }
+
+        if (onClockTickListeners.isEmpty()) {
+            setClock(nextIdleWakeUpTime(until));
+        } else {
+            setClock(clock + idleClockIncrement);
+        }
+    }
+
+    /**
+     * Gets the earliest time something may happen in the simulation while it's idle,
+     * which is the earliest time among the termination time (or the extra time
+     * given to entities to finish after it), the time a pause was requested,
+     * the time of the next future event and the time up to which the simulation must run.
+     *
+     * @param until the time up to which events should be processed
+     * @return the next time to set the clock to
+     */
+    private double nextIdleWakeUpTime(final double until) {
+        double time = clock < terminationTime ? terminationTime : newTerminationTime;
+        if (pauseAt > clock) {
+            time = Math.min(time, pauseAt);
+        }
+
+        if (!future.isEmpty()) {
+            time = Math.min(time, future.first().getTime());
+        }
+
+        time = Math.min(time, until);
+        return time > clock ? time : clock + idleClockIncrement;
+    }
+
     /**
      * Gets the minimum {@link Datacenter#getSchedulingInterval()} defined
      * among all existing Datacenters.
@@ -548,21 +687,61 @@ public class CloudSim implements Simulation {
     }
 
     /**
-     * Gets the list of entities that are in {@link SimEntity.State#RUNNABLE}
-     * and execute them.
+     * Executes the entities that have events to process and are in {@link SimEntity.State#RUNNABLE},
+     * in the order they appear in the entity list.
+     * Instead of checking the state of every entity,
+     * it just visits the ones in the {@link #pendingEntities} map.
      */
-    @SuppressWarnings("ForLoopReplaceableByForEach")
     private void executeRunnableEntities(final double until) {
-        /* Uses an indexed loop instead of anything else to avoid
-        ConcurrencyModificationException when a HostFaultInjection is created inside a DC. */
-        for (int i = 0; i < entities.size(); i++) {
-            final CloudSimEntity ent = entities.get(i);
-            if (ent.getState() == SimEntity.State.RUNNABLE) {
-                ent.run(until);
+        /* Walks the map by key instead of using an iterator to avoid ConcurrentModificationException,
+         * since an entity is removed from the map when it finishes.
+         * It also keeps the order entities were executed when every entity in the list was checked:
+         * if an entity is removed from the list while it's running, the entity that takes its place is skipped
+         * until the next clock tick. */
+        var entry = pendingEntities.firstEntry();
+        while (entry != null) {
+            final long order = entry.getKey();
+            final CloudSimEntity entity = entry.getValue();
+            long lastVisitedOrder = order;
+            if (entity.getState() == SimEntity.State.RUNNABLE) {
+                entity.run(until);
+                if (entity.getAdditionOrder() < 0) {
+                    lastVisitedOrder = skippedEntityOrder(order);
+                } else if (entity.getState() == SimEntity.State.RUNNABLE) {
+                    //The entity only stops running while RUNNABLE when it has no more events to process
+                    pendingEntities.remove(order);
+                }
+            } else if (entity.getState() == SimEntity.State.FINISHED) {
+                pendingEntities.remove(order);
             }
+
+            entry = pendingEntities.higherEntry(lastVisitedOrder);
         }
     }
 
+    /**
+     * Gets the {@link CloudSimEntity#getAdditionOrder() addition order} of the entity that took
+     * the place of a removed one in the {@link #entities} list,
+     * which is sorted by the order entities were added to it.
+     * @param removedEntityOrder the addition order of the entity removed from the list
+     * @return the addition order of the entity that took the place of the removed one,
+     *         or {@link Long#MAX_VALUE} if the removed entity was the last one
+     */
+    private long skippedEntityOrder(final long removedEntityOrder) {
+        int low = 0;
+        int high = entities.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (entities.get(mid).getAdditionOrder() < removedEntityOrder) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low < entities.size() ? entities.get(low).getAdditionOrder() : Long.MAX_VALUE;
+    }
+
     private void sendNow(final SimEntity dest, final int tag) {
         sendNow(cis, dest, tag, null);
     }
@@ -580,6 +759,16 @@ public class CloudSim implements Simulation {
     @Override
     public void send(final SimEvent evt) {
         requireNonNull(evt);
+        if (partition == null || partition.accept(evt)) {
+            enqueue(evt);
+        }
+    }
+
+    /**
+     * Adds an event to the future event queue.
+     * @param evt the event to add
+     */
+    void enqueue(final SimEvent evt) {
         //Events with a negative tag have higher priority (except the "end of the simulation" event)
         if(evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION)
             future.addEventFirst(evt);
@@ -593,7 +782,9 @@ public class CloudSim implements Simulation {
 
     @Override
     public void sendFirst(SimEvent evt) {
-        future.addEventFirst(evt);
+        if (partition == null || partition.accept(evt)) {
+            future.addEventFirst(evt);
+        }
     }
 
     @Override
@@ -644,6 +835,11 @@ public class CloudSim implements Simulation {
         return canceled;
     }
 
+    @Override
+    public boolean cancel(final SimEvent evt) {
+        return future.remove(evt);
+    }
+
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
         final int previousSize = future.size();
@@ -678,6 +874,23 @@ public class CloudSim implements Simulation {
         }
 
         setClock(evt.getTime());
+        if (flightRecorder != null) {
+            flightRecorder.record(evt);
+        }
+
+        if (profiler == null) {
+            processEventAndNotifyListeners(evt);
+            return;
+        }
+
+        profiler.clockChanged(clock);
+        final long scheduledEvents = profiler.scheduledEvents();
+        final long startTime = System.nanoTime();
+        processEventAndNotifyListeners(evt);
+        profiler.record(CloudSim.class, evt.getTag(), System.nanoTime() - startTime, scheduledEvents);
+    }
+
+    private void processEventAndNotifyListeners(final SimEvent evt) {
         processEventByType(evt);
         for (final var listener : onEventProcessingListeners) {
             listener.update(evt);
@@ -737,6 +950,7 @@ public class CloudSim implements Simulation {
         }
 
         evt.getSource().setState(SimEntity.State.RUNNABLE);
+        addPendingEntity(evt.getSource());
     }
 
     private void processSendEvent(final SimEvent evt) {
@@ -745,6 +959,7 @@ public class CloudSim implements Simulation {
         }
 
         final var destEnt = (CloudSimEntity)evt.getDestination();
+        addPendingEntity(destEnt);
         if (destEnt.getState() != SimEntity.State.WAITING) {
             deferred.addEvent(evt);
             return;
@@ -870,6 +1085,11 @@ public class CloudSim implements Simulation {
         return future.stream().filter(predicate).count();
     }
 
+    @Override
+    public long getNumberOfFutureEvents(){
+        return future.size();
+    }
+
     @Override
     public boolean isThereAnyFutureEvt(final Predicate<SimEvent> predicate){
         return future.stream().anyMatch(predicate);
@@ -988,4 +1208,272 @@ public class CloudSim implements Simulation {
     public boolean isAbortRequested() {
         return abortRequested;
     }
+
+    /**
+     * Enables the {@link EventLoopProfiler} to collect the number of processed events
+     * and the time spent to process them, per entity class and per event tag.
+     * If the profiler is already enabled, the existing one is returned.
+     *
+     * @return the enabled profiler
+     * @see #getProfiler()
+     * @since CloudSim Plus 7.1.0
+     */
+    public EventLoopProfiler enableProfiler() {
+        if (profiler == null) {
+            profiler = new EventLoopProfiler(future, deferred);
+        }
+
+        return profiler;
+    }
+
+    /**
+     * Disables the {@link EventLoopProfiler}, discarding all collected data.
+     * @since CloudSim Plus 7.1.0
+     */
+    public void disableProfiler() {
+        profiler = null;
+    }
+
+    /**
+     * Gets the {@link EventLoopProfiler} collecting data about
+     * the event processing, if it was {@link #enableProfiler() enabled}.
+     *
+     * @return an {@link Optional} containing the profiler or an empty one if it's disabled
+     * @since CloudSim Plus 7.1.0
+     */
+    public Optional<EventLoopProfiler> getProfiler() {
+        return Optional.ofNullable(profiler);
+    }
+
+    /**
+     * Enables an {@link EventFlightRecorder} that records every processed event
+     * into a memory-mapped ring file, which can be read by an {@link EventTrace}.
+     * The recorder is automatically closed when the simulation finishes.
+     *
+     * @param file the path of the file to record events to (overwritten if it exists)
+     * @param capacity the max number of events kept into the file
+     * @return the enabled recorder
+     * @see #getFlightRecorder()
+     * @since CloudSim Plus 7.1.0
+     */
+    public EventFlightRecorder enableFlightRecorder(final Path file, final int capacity) {
+        disableFlightRecorder();
+        flightRecorder = new EventFlightRecorder(file, capacity);
+        return flightRecorder;
+    }
+
+    /**
+     * Disables the {@link EventFlightRecorder}, if enabled, flushing and closing its file.
+     * @since CloudSim Plus 7.1.0
+     */
+    public void disableFlightRecorder() {
+        if (flightRecorder != null) {
+            flightRecorder.close();
+            flightRecorder = null;
+        }
+    }
+
+    /**
+     * Gets the {@link EventFlightRecorder} recording processed events,
+     * if it was {@link #enableFlightRecorder(Path, int) enabled}.
+     *
+     * @return an {@link Optional} containing the recorder or an empty one if it's disabled
+     * @since CloudSim Plus 7.1.0
+     */
+    public Optional<EventFlightRecorder> getFlightRecorder() {
+        return Optional.ofNullable(flightRecorder);
+    }
+
+    /**
+     * Enables the idle fast-forward, which avoids increasing the clock in small steps
+     * when there is no event to process and a {@link #terminateAt(double) termination time} is set.
+     * Without this feature, the clock is increased by the minimum {@link Datacenter#getSchedulingInterval()}
+     * (or {@link #getMinTimeBetweenEvents()}) at a time, logging every step,
+     * until the termination time is reached or some event arrives.
+     *
+     * <p>When enabled, the clock jumps straight to the earliest of the termination time,
+     * the time of the next future event and the {@link #pause(double) pause} time.
+     * If there are {@link #addOnClockTickListener(EventListener) Clock Tick Listeners},
+     * the clock keeps being increased in the mentioned steps, so that such listeners
+     * can dynamically create new simulation objects at the same times they would be
+     * without this feature. However, such steps are logged just once.</p>
+     *
+     * @return this simulation instance
+     * @see #isIdleFastForwardEnabled()
+     * @since CloudSim Plus 7.1.0
+     */
+    public CloudSim enableIdleFastForward() {
+        idleFastForward = true;
+        return this;
+    }
+
+    /**
+     * Disables the {@link #enableIdleFastForward() idle fast-forward}.
+     * @since CloudSim Plus 7.1.0
+     */
+    public void disableIdleFastForward() {
+        idleFastForward = false;
+    }
+
+    /**
+     * Checks if the {@link #enableIdleFastForward() idle fast-forward} is enabled.
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public boolean isIdleFastForwardEnabled() {
+        return idleFastForward;
+    }
+
+    /**
+     * Enables the simulation to be split into {@link SimulationPartition partitions}
+     * running in different JVMs, defining the partition run by the current JVM.
+     * Every JVM must build the same simulation scenario.
+     * When the simulation is {@link #start() started}, it connects to the {@link PartitionCoordinator}
+     * and just processes events for the entities owned by such a partition.
+     *
+     * <p>Partitioning can also be enabled from system properties
+     * by calling {@link #enablePartitioningFromSystemProperties()}.</p>
+     *
+     * @param index the index of the partition run by the current JVM (starting at 0)
+     * @param count the total number of partitions
+     * @param coordinator the address of the {@link PartitionCoordinator}
+     * @return the partition, which enables defining how entities are partitioned
+     * @throws IllegalStateException when the simulation has already started
+     * @see #getPartition()
+     * @since CloudSim Plus 7.1.0
+     */
+    public SimulationPartition enablePartitioning(final int index, final int count, final InetSocketAddress coordinator) {
+        if (running || alreadyRunOnce) {
+            throw new IllegalStateException("Partitioning can only be enabled before the simulation starts.");
+        }
+
+        partition = new SimulationPartition(this, index, count, coordinator);
+        return partition;
+    }
+
+    /**
+     * Enables the simulation to be split into {@link SimulationPartition partitions}
+     * if the system properties defining the partition run by the current JVM are set
+     * (such as by {@link PartitionCoordinator#launch(Class, int, String...)}).
+     * Otherwise, the simulation keeps running entirely inside the current JVM.
+     * This way, the same simulation scenario can run in a single process or across multiple ones.
+     *
+     * @return an {@link Optional} containing the partition or an empty one if the system properties aren't set
+     * @throws IllegalStateException when the simulation has already started
+     *                               or some required system property is missing
+     * @see SimulationPartition#INDEX_PROPERTY
+     * @see #enablePartitioning(int, int, InetSocketAddress)
+     * @since CloudSim Plus 7.1.0
+     */
+    public Optional<SimulationPartition> enablePartitioningFromSystemProperties() {
+        if (running || alreadyRunOnce) {
+            throw new IllegalStateException("Partitioning can only be enabled before the simulation starts.");
+        }
+
+        SimulationPartition.fromSystemProperties(this).ifPresent(partition -> this.partition = partition);
+        return getPartition();
+    }
+
+    /**
+     * Gets the {@link SimulationPartition} run by the current JVM,
+     * if the simulation is {@link #enablePartitioning(int, int, InetSocketAddress) partitioned}.
+     *
+     * @return an {@link Optional} containing the partition or an empty one if the simulation is not partitioned
+     * @since CloudSim Plus 7.1.0
+     */
+    public Optional<SimulationPartition> getPartition() {
+        return Optional.ofNullable(partition);
+    }
+
+    /**
+     * Processes all events happening before a given time (exclusive),
+     * which is the end of the time window defined by the {@link PartitionCoordinator}.
+     * @param windowEnd the time up to which events are processed (exclusive)
+     */
+    void processEventsBefore(final double windowEnd) {
+        final double until = Math.nextDown(windowEnd);
+        while (runClockTickAndProcessFutureEvents(until)) {
+            notifyOnSimulationStartListeners(); //it's ensured to run just once.
+        }
+    }
+
+    /**
+     * Gets the time of the next event in the future event queue.
+     * @return the time of the next event or {@link Double#MAX_VALUE} if there is no future event
+     */
+    double nextEventTime() {
+        return future.isEmpty() ? Double.MAX_VALUE : future.first().getTime();
+    }
+
+    /**
+     * Gets the list of entities in the simulation, which can be changed.
+     * @return
+     */
+    List<CloudSimEntity> getEntities() {
+        return entities;
+    }
+
+    /**
+     * Gets the {@link EventLoopProfiler} or null if it's disabled.
+     * It's used internally to avoid any overhead when the profiler is disabled.
+     * @return
+     */
+    EventLoopProfiler profiler() {
+        return profiler;
+    }
+
+    /**
+     * Takes a {@link SimulationCheckpoint} of the current simulation state
+     * (including the state of Hosts, VMs, Cloudlets and their schedulers),
+     * which can be later restored into a new simulation instance
+     * to continue the simulation from the current time.
+     * The checkpoint must be taken when no event is being processed,
+     * for instance after a {@link #runFor(double)} call returns or
+     * inside a {@link #addOnSimulationPauseListener(EventListener) pause listener}.
+     *
+     * @return the checkpoint for the current simulation state
+     * @throws IllegalStateException when the simulation is not running
+     * @throws UnsupportedOperationException when some event carries data that cannot be stored
+     * @see SimulationCheckpoint
+     * @since CloudSim Plus 7.1.0
+     */
+    public SimulationCheckpoint checkpoint() {
+        if (!running) {
+            throw new IllegalStateException("A checkpoint can only be taken while the simulation is running.");
+        }
+
+        LOGGER.info("{}: Simulation: Taking a checkpoint with {} future events.", clockStr(), future.size());
+        return new SimulationCheckpoint(this, entities, future, deferred);
+    }
+
+    /**
+     * Restores a {@link SimulationCheckpoint} into this simulation,
+     * including the state of its entities and simulation objects (such as VM placement
+     * and Cloudlet execution progress), so that it continues from the checkpoint time when started.
+     * This simulation must not be started yet and all its entities and simulation objects
+     * must be created in the same way they were created in the checkpointed simulation.
+     * After restoring the checkpoint, call {@link #start()} or {@link #runFor(double)}
+     * to continue the simulation.
+     *
+     * @param checkpoint the checkpoint to restore
+     * @throws IllegalStateException when this simulation has already started or
+     *                               its scenario doesn't match the checkpoint
+     * @see SimulationCheckpoint#fork(java.util.function.Supplier)
+     * @since CloudSim Plus 7.1.0
+     */
+    public void restore(final SimulationCheckpoint checkpoint) {
+        requireNonNull(checkpoint);
+        if (running || alreadyRunOnce) {
+            throw new IllegalStateException("A checkpoint can only be restored into a simulation that has not started yet.");
+        }
+
+        setClock(checkpoint.getTime());
+        this.terminationTime = checkpoint.getTerminationTime();
+        checkpoint.restoreInto(this, entities, future, deferred);
+        deferred.stream().forEach(evt -> addPendingEntity(evt.getDestination()));
+
+        //Entities were already started in the checkpointed simulation, therefore they must not start again
+        running = true;
+        LOGGER.info("{}: Simulation: Checkpoint restored with {} future events.", clockStr(), future.size());
+    }
 }
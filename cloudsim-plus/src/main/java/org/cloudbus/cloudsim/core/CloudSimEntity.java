@@ -52,6 +52,9 @@ public abstract class CloudSimEntity implements SimEntity, Cloneable {
     /** @see #getShutdownTime() */
     private double shutdownTime;
 
+    /** @see #getAdditionOrder() */
+    private long additionOrder;
+
     /**
      * Creates a new entity.
      *
@@ -61,6 +64,7 @@ public abstract class CloudSimEntity implements SimEntity, Cloneable {
     public CloudSimEntity(final Simulation simulation) {
         setSimulation(simulation);
         setId(-1);
+        additionOrder = -1;
         state = State.RUNNABLE;
         this.simulation.addEntity(this);
         this.startTime = -1;
@@ -340,9 +344,15 @@ public abstract class CloudSimEntity implements SimEntity, Cloneable {
 
     public void run(final double until) {
         SimEvent evt = buffer == null ? getNextEvent(e -> e.getTime() <= until) : buffer;
+        final EventLoopProfiler profiler = simulation instanceof CloudSim cloudsim ? cloudsim.profiler() : null;
 
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            if (profiler == null) {
+                processEvent(evt);
+            } else {
+                profiler.processEvent(this, evt);
+            }
+
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -413,6 +423,20 @@ public abstract class CloudSimEntity implements SimEntity, Cloneable {
         return this;
     }
 
+    /**
+     * Gets the order in which the entity was added to the simulation entity list
+     * (which defines the order entities are executed at each clock tick),
+     * or -1 if the entity isn't in such a list.
+     * @return the addition order of the entity or -1 if it isn't in the entity list
+     */
+    long getAdditionOrder() {
+        return additionOrder;
+    }
+
+    void setAdditionOrder(final long additionOrder) {
+        this.additionOrder = additionOrder;
+    }
+
     /**
      * Sets the entity id and defines its name based on such ID.
      *
@@ -573,4 +597,14 @@ public abstract class CloudSimEntity implements SimEntity, Cloneable {
     public double getStartTime() {
         return startTime;
     }
+
+    /**
+     * Sets the time the entity was started, without executing its startup logic.
+     * It's used just to restore an entity from a {@link SimulationCheckpoint}.
+     *
+     * @param startTime the start time to set
+     */
+    void setStartTime(final double startTime) {
+        this.startTime = startTime;
+    }
 }
@@ -97,7 +97,8 @@ public final class CloudSimTags {
      * Denotes the submission of a Cloudlet. This tag is normally used between
      * a DatacenterBroker and Datacenter entity.
      * When an event of this type is sent, the {@link SimEvent#getData()}
-     * must be a {@link Cloudlet} object.
+     * must be a {@link Cloudlet} object
+     * or a {@link java.util.List} of Cloudlets submitted at the same time.
      */
     public static final int CLOUDLET_SUBMIT = BASE + 16;
 
@@ -105,8 +106,8 @@ public final class CloudSimTags {
      * Denotes the submission of a Cloudlet with an acknowledgement. This tag is
      * normally used between DatacenterBroker and Datacenter entity.
      * When an event of this type is sent, the {@link SimEvent#getData()}
-     * must be a {@link Cloudlet} object.
-     *
+     * must be a {@link Cloudlet} object
+     * or a {@link java.util.List} of Cloudlets submitted at the same time.
      */
     public static final int CLOUDLET_SUBMIT_ACK = BASE + 17;
 
@@ -272,6 +273,15 @@ public final class CloudSimTags {
      */
     public static final int VM_MIGRATE_ACK = BASE + 36;
 
+    /**
+     * Denotes an internal event generated in a {@link Datacenter}
+     * to update the progress of VM migrations managed by a
+     * {@link org.cloudbus.cloudsim.datacenters.VmMigrationScheduler},
+     * finishing the ones that have transferred all data
+     * and starting waiting ones.
+     */
+    public static final int VM_MIGRATION_UPDATE = BASE + 37;
+
     /**
      * Denotes an internal event generated in a {@link Datacenter}
      * to notify itself to update the processing of cloudlets.
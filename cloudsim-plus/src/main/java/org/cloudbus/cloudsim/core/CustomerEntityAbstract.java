@@ -11,7 +11,7 @@ import static java.util.Objects.requireNonNull;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.0.3
  */
-public abstract class CustomerEntityAbstract implements CustomerEntity {
+public abstract class CustomerEntityAbstract implements CustomerEntity, Checkpointable {
     /**
      * @see #getId()
      */
@@ -35,6 +35,20 @@ public abstract class CustomerEntityAbstract implements CustomerEntity {
         creationTime = -1;
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeDouble(arrivedTime);
+        writer.writeDouble(creationTime);
+        writer.writeEntity(lastTriedDatacenter);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.arrivedTime = reader.readDouble();
+        this.creationTime = reader.readDouble();
+        this.lastTriedDatacenter = reader.readEntity(Datacenter.NULL);
+    }
+
     @Override
     public final void setBroker(final DatacenterBroker broker) {
         this.broker = requireNonNull(broker);
@@ -0,0 +1,164 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the data carried by {@link SimEvent}s into a compact binary format
+ * and decodes it back, storing simulation objects just by their IDs.
+ * When the data is decoded, such objects are looked up by a {@link SimulationObjectResolver},
+ * therefore the decoding simulation must be built by the same scenario code that built the encoding one.
+ *
+ * <p>Event data is encoded only when it is null, a boxed primitive, a String,
+ * a {@link SimEntity}, {@link Host}, {@link Vm}, {@link Cloudlet},
+ * or a {@link List} or {@link Map.Entry} of such types.
+ * Trying to encode any other type of data throws an {@link UnsupportedOperationException}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see SimulationCheckpoint
+ * @see SimulationPartition
+ */
+final class EventDataCodec {
+    private static final byte NULL_DATA = 0;
+    private static final byte BOOLEAN_DATA = 1;
+    private static final byte INT_DATA = 2;
+    private static final byte LONG_DATA = 3;
+    private static final byte DOUBLE_DATA = 4;
+    private static final byte STRING_DATA = 5;
+    private static final byte ENTITY_DATA = 6;
+    private static final byte HOST_DATA = 7;
+    private static final byte VM_DATA = 8;
+    private static final byte CLOUDLET_DATA = 9;
+    private static final byte LIST_DATA = 10;
+    private static final byte ENTRY_DATA = 11;
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private EventDataCodec(){/**/}
+
+    /**
+     * Writes the data of an event.
+     * @param out the stream to write to
+     * @param evt the event carrying the data (used just for error messages)
+     * @param data the data to write
+     * @throws UnsupportedOperationException when the type of the data cannot be encoded
+     */
+    static void write(final DataOutputStream out, final SimEvent evt, final Object data) throws IOException {
+        if (data == null) {
+            out.writeByte(NULL_DATA);
+        } else if (data instanceof Boolean bool) {
+            out.writeByte(BOOLEAN_DATA);
+            out.writeBoolean(bool);
+        } else if (data instanceof Integer value) {
+            out.writeByte(INT_DATA);
+            out.writeInt(value);
+        } else if (data instanceof Long value) {
+            out.writeByte(LONG_DATA);
+            out.writeLong(value);
+        } else if (data instanceof Double value) {
+            out.writeByte(DOUBLE_DATA);
+            out.writeDouble(value);
+        } else if (data instanceof String str) {
+            out.writeByte(STRING_DATA);
+            out.writeUTF(str);
+        } else if (data instanceof SimEntity entity) {
+            out.writeByte(ENTITY_DATA);
+            out.writeLong(entity.getId());
+        } else if (data instanceof Host host) {
+            out.writeByte(HOST_DATA);
+            out.writeLong(host.getDatacenter().getId());
+            out.writeLong(host.getId());
+        } else if (data instanceof Vm vm) {
+            out.writeByte(VM_DATA);
+            out.writeLong(vm.getBroker().getId());
+            out.writeLong(vm.getId());
+        } else if (data instanceof Cloudlet cloudlet) {
+            out.writeByte(CLOUDLET_DATA);
+            out.writeLong(cloudlet.getBroker().getId());
+            out.writeLong(cloudlet.getId());
+        } else if (data instanceof List<?> list) {
+            out.writeByte(LIST_DATA);
+            out.writeInt(list.size());
+            for (final Object item : list) {
+                write(out, evt, item);
+            }
+        } else if (data instanceof Map.Entry<?, ?> entry) {
+            out.writeByte(ENTRY_DATA);
+            write(out, evt, entry.getKey());
+            write(out, evt, entry.getValue());
+        } else {
+            final var msg = "%s carries data of type %s, which cannot be encoded.";
+            throw new UnsupportedOperationException(String.format(msg, evt, data.getClass().getName()));
+        }
+    }
+
+    /**
+     * Reads the data of an event written by {@link #write(DataOutputStream, SimEvent, Object)}.
+     * @param in the stream to read from
+     * @param resolver the object used to look up simulation objects by their IDs
+     * @return the read data
+     */
+    static Object read(final DataInputStream in, final SimulationObjectResolver resolver) throws IOException {
+        final byte dataType = in.readByte();
+        return switch (dataType) {
+            case NULL_DATA -> null;
+            case BOOLEAN_DATA -> in.readBoolean();
+            case INT_DATA -> in.readInt();
+            case LONG_DATA -> in.readLong();
+            case DOUBLE_DATA -> in.readDouble();
+            case STRING_DATA -> in.readUTF();
+            case ENTITY_DATA -> resolver.entity(in.readLong());
+            case HOST_DATA -> resolver.host(in.readLong(), in.readLong());
+            case VM_DATA -> resolver.vm(in.readLong(), in.readLong());
+            case CLOUDLET_DATA -> resolver.cloudlet(in.readLong(), in.readLong());
+            case LIST_DATA -> readList(in, resolver);
+            case ENTRY_DATA -> new AbstractMap.SimpleEntry<>(read(in, resolver), read(in, resolver));
+            default -> throw new IllegalStateException("Invalid encoded event data type: " + dataType);
+        };
+    }
+
+    private static List<Object> readList(final DataInputStream in, final SimulationObjectResolver resolver) throws IOException {
+        final int size = in.readInt();
+        final var list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(read(in, resolver));
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Records every event dispatched by a {@link CloudSim} simulation into a compact binary
+ * ring file, enabling a simulation run to be inspected offline
+ * (or partially replayed) without enabling verbose logging,
+ * which is slow and changes the simulation execution time.
+ *
+ * <p>The file is memory-mapped, therefore recording an event
+ * is just a write of a fixed-size record into memory,
+ * while the operating system asynchronously flushes the data to disk.
+ * The file works as a ring buffer: when the given capacity is reached,
+ * the oldest events are overwritten.
+ * Each record stores the event time, serial, type, tag, source and destination entity IDs
+ * and the ID of the event data when it's a simulation object
+ * (such as a {@link Vm}, {@link Cloudlet} or {@link Host}) or its value when it's a primitive.
+ * An event carrying a non-empty {@link List} (such as a batch of Cloudlets submitted together)
+ * is recorded as one record for each element, all of them with the same event serial.
+ * That way, replaying such records sends the elements one by one.</p>
+ *
+ * <p>Recorded files are read by {@link EventTrace}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see CloudSim#enableFlightRecorder(Path, int)
+ */
+public final class EventFlightRecorder implements Closeable {
+    /**
+     * The types of data attached to recorded events.
+     * Only the ID of simulation objects and the value of
+     * primitives are recorded.
+     */
+    public enum DataType {NULL, BOOLEAN, INT, LONG, DOUBLE, ENTITY, HOST, VM, CLOUDLET, OTHER}
+
+    /** A number identifying the recorder binary format ("CSFR" in ASCII). */
+    static final int MAGIC = 0x43534652;
+    static final short FORMAT_VERSION = 1;
+
+    /** Header size: magic, version, record size, capacity and number of recorded events. */
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES * 2 + Integer.BYTES + Long.BYTES;
+
+    /** Position of the number of recorded events into the header. */
+    static final int RECORDED_EVENTS_POSITION = Integer.BYTES + Short.BYTES * 2 + Integer.BYTES;
+
+    /**
+     * Size of each event record (in bytes):
+     * time, serial, source, destination, data owner and data value (8 bytes each),
+     * tag (4 bytes), event type and data type (1 byte each) plus 2 bytes for alignment.
+     */
+    static final short RECORD_SIZE = Long.BYTES * 6 + Integer.BYTES + 4;
+
+    /** The max number of events a file can store, since a memory-mapped file is limited to 2GB. */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private static final DataType[] DATA_TYPES = DataType.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    /** @see #getRecordedEvents() */
+    private long recordedEvents;
+
+    /**
+     * Creates a recorder that writes events into a given file.
+     * If the file exists, it's overwritten.
+     *
+     * @param file the path of the file to record events to
+     * @param capacity the max number of events kept into the file
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public EventFlightRecorder(final Path file, final int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+
+        this.file = file;
+        this.capacity = capacity;
+        try {
+            this.channel = FileChannel.open(file, CREATE, READ, WRITE, TRUNCATE_EXISTING);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) RECORD_SIZE * capacity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.putInt(MAGIC);
+        buffer.putShort(FORMAT_VERSION);
+        buffer.putShort(RECORD_SIZE);
+        buffer.putInt(capacity);
+        buffer.putLong(0);
+    }
+
+    /**
+     * Records an event into the ring file.
+     * @param evt the event to record
+     */
+    void record(final SimEvent evt) {
+        if (evt.getData() instanceof List<?> list && !list.isEmpty()) {
+            for (final Object item : list) {
+                record(evt, item);
+            }
+
+            return;
+        }
+
+        record(evt, evt.getData());
+    }
+
+    /**
+     * Records an event into the ring file.
+     * @param evt the event to record
+     * @param data the data to record for that event
+     *             (the event data or an element of it, when it's a List)
+     */
+    private void record(final SimEvent evt, final Object data) {
+        final int position = HEADER_SIZE + (int) (recordedEvents % capacity) * RECORD_SIZE;
+        buffer.putDouble(position, evt.getTime());
+        buffer.putLong(position + 8, evt.getSerial());
+        buffer.putLong(position + 16, evt.getSource().getId());
+        buffer.putLong(position + 24, evt.getDestination().getId());
+        buffer.putInt(position + 48, evt.getTag());
+        buffer.put(position + 52, (byte) evt.getType().ordinal());
+        recordData(position, data);
+        buffer.putLong(RECORDED_EVENTS_POSITION, ++recordedEvents);
+    }
+
+    private void recordData(final int position, final Object data) {
+        long owner = -1;
+        long value = 0;
+        final DataType type;
+        if (data == null) {
+            type = DataType.NULL;
+        } else if (data instanceof Boolean bool) {
+            type = DataType.BOOLEAN;
+            value = bool ? 1 : 0;
+        } else if (data instanceof Integer number) {
+            type = DataType.INT;
+            value = number;
+        } else if (data instanceof Long number) {
+            type = DataType.LONG;
+            value = number;
+        } else if (data instanceof Double number) {
+            type = DataType.DOUBLE;
+            value = Double.doubleToRawLongBits(number);
+        } else if (data instanceof SimEntity entity) {
+            type = DataType.ENTITY;
+            value = entity.getId();
+        } else if (data instanceof Host host) {
+            type = DataType.HOST;
+            owner = host.getDatacenter().getId();
+            value = host.getId();
+        } else if (data instanceof Vm vm) {
+            type = DataType.VM;
+            owner = vm.getBroker().getId();
+            value = vm.getId();
+        } else if (data instanceof Cloudlet cloudlet) {
+            type = DataType.CLOUDLET;
+            owner = cloudlet.getBroker().getId();
+            value = cloudlet.getId();
+        } else {
+            type = DataType.OTHER;
+        }
+
+        buffer.putLong(position + 32, owner);
+        buffer.putLong(position + 40, value);
+        buffer.put(position + 53, (byte) type.ordinal());
+    }
+
+    /**
+     * Converts a data type ordinal read from a file to the enum value.
+     * @param ordinal the data type ordinal
+     * @return the data type
+     */
+    static DataType dataType(final byte ordinal) {
+        return DATA_TYPES[ordinal];
+    }
+
+    /**
+     * Gets the path of the file events are recorded to.
+     * @return
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the max number of events kept into the file.
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the total number of recorded events,
+     * including the ones overwritten in the ring file.
+     * An event carrying a List is counted once for each element.
+     * @return
+     */
+    public long getRecordedEvents() {
+        return recordedEvents;
+    }
+
+    /**
+     * Flushes the recorded events to disk and closes the file.
+     */
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
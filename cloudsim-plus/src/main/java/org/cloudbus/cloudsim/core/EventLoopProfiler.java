@@ -0,0 +1,212 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.DeferredQueue;
+import org.cloudbus.cloudsim.core.events.FutureQueue;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.util.*;
+
+/**
+ * Collects the number of processed events and the time spent to process them,
+ * per entity class and per event tag, besides the size of the event queues
+ * along the simulation time.
+ * It enables finding which entities and events dominate the simulation execution time
+ * without attaching an external profiler.
+ *
+ * <p>The profiler is disabled by default and must be enabled by calling
+ * {@link CloudSim#enableProfiler()}. When disabled, the simulation engine just performs
+ * a null check to know there is no profiler.
+ * The collected {@link #getStats() statistics} can be printed using the
+ * {@link org.cloudsimplus.builders.tables.EventProcessingStatsTableBuilder}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class EventLoopProfiler {
+    /**
+     * Stores a sample of the event queues size at a given simulation time.
+     * @param time the simulation time the sample was taken (in seconds)
+     * @param futureEvents the number of events in the future event queue
+     * @param deferredEvents the number of events in the deferred event queue
+     */
+    public record QueueSizeSample(double time, int futureEvents, int deferredEvents) {}
+
+    private final FutureQueue future;
+    private final DeferredQueue deferred;
+
+    /**
+     * A map where each key is an entity class and each value is
+     * a map of {@link EventProcessingStats} for each event tag.
+     */
+    private final Map<Class<?>, Map<Integer, EventProcessingStats>> statsMap;
+
+    /** @see #getQueueSizeHistory() */
+    private final List<QueueSizeSample> queueSizeHistory;
+
+    /** @see #getQueueSizeSamplingInterval() */
+    private double queueSizeSamplingInterval;
+
+    private double lastQueueSizeSampleTime;
+
+    /**
+     * Creates a profiler for the event queues of a simulation.
+     * @param future the future event queue
+     * @param deferred the deferred event queue
+     */
+    EventLoopProfiler(final FutureQueue future, final DeferredQueue deferred) {
+        this.future = future;
+        this.deferred = deferred;
+        this.statsMap = new HashMap<>();
+        this.queueSizeHistory = new ArrayList<>();
+        this.queueSizeSamplingInterval = 1;
+        this.lastQueueSizeSampleTime = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Processes an event by a given entity, measuring the processing time
+     * and the number of events scheduled during such a processing.
+     *
+     * @param entity the entity to process the event
+     * @param evt the event to process
+     */
+    void processEvent(final SimEntity entity, final SimEvent evt) {
+        final long scheduledEvents = scheduledEvents();
+        final long startTime = System.nanoTime();
+        entity.processEvent(evt);
+        record(entity.getClass(), evt.getTag(), System.nanoTime() - startTime, scheduledEvents);
+    }
+
+    /**
+     * Records the processing of an event by a given class.
+     *
+     * @param entityClass the class of the entity which processed the event
+     * @param tag the event tag
+     * @param elapsedNanos the time spent to process the event
+     * @param scheduledEventsBefore the number of scheduled events before the event processing
+     */
+    void record(final Class<?> entityClass, final int tag, final long elapsedNanos, final long scheduledEventsBefore) {
+        statsMap.computeIfAbsent(entityClass, key -> new HashMap<>())
+                .computeIfAbsent(tag, key -> new EventProcessingStats(entityClass, tag))
+                .record(elapsedNanos, scheduledEvents() - scheduledEventsBefore);
+    }
+
+    /**
+     * Gets the total number of events ever added to the future queue,
+     * including the ones added with priority.
+     * @return
+     */
+    long scheduledEvents() {
+        return future.getSerial() - future.getLowestSerial();
+    }
+
+    /**
+     * Samples the size of the event queues if the {@link #getQueueSizeSamplingInterval()}
+     * has elapsed since the last sample.
+     * @param time the current simulation time
+     */
+    void clockChanged(final double time) {
+        if (time - lastQueueSizeSampleTime >= queueSizeSamplingInterval) {
+            queueSizeHistory.add(new QueueSizeSample(time, future.size(), deferred.size()));
+            lastQueueSizeSampleTime = time;
+        }
+    }
+
+    /**
+     * Gets the statistics collected for every pair of entity class and event tag,
+     * sorted in descending order of total processing time.
+     * @return a new list of statistics
+     */
+    public List<EventProcessingStats> getStats() {
+        return statsMap.values()
+                       .stream()
+                       .flatMap(map -> map.values().stream())
+                       .sorted(Comparator.comparingLong(EventProcessingStats::getTotalTime).reversed())
+                       .toList();
+    }
+
+    /**
+     * Gets the statistics collected for events with a given tag processed by entities of a given class.
+     * @param entityClass the entity class to get the statistics for
+     * @param tag the event tag to get the statistics for
+     * @return an {@link Optional} containing the statistics or an empty one if no such event was processed
+     */
+    public Optional<EventProcessingStats> getStats(final Class<?> entityClass, final int tag) {
+        return Optional.ofNullable(statsMap.getOrDefault(entityClass, Map.of()).get(tag));
+    }
+
+    /**
+     * Gets the total number of events processed by all entities.
+     * @return
+     */
+    public long getProcessedEvents() {
+        return getStats().stream()
+                         .filter(stats -> stats.getEntityClass() != CloudSim.class)
+                         .mapToLong(EventProcessingStats::getCount)
+                         .sum();
+    }
+
+    /**
+     * Gets the size of the event queues sampled along the simulation time,
+     * at every {@link #getQueueSizeSamplingInterval()}.
+     * @return a read-only list of samples
+     */
+    public List<QueueSizeSample> getQueueSizeHistory() {
+        return Collections.unmodifiableList(queueSizeHistory);
+    }
+
+    /**
+     * Gets the minimum simulation time interval between samples
+     * of the event queues size (in seconds).
+     * @return
+     */
+    public double getQueueSizeSamplingInterval() {
+        return queueSizeSamplingInterval;
+    }
+
+    /**
+     * Sets the minimum simulation time interval between samples
+     * of the event queues size (in seconds).
+     * @param queueSizeSamplingInterval the interval to set (in seconds)
+     * @return
+     */
+    public EventLoopProfiler setQueueSizeSamplingInterval(final double queueSizeSamplingInterval) {
+        if (queueSizeSamplingInterval < 0) {
+            throw new IllegalArgumentException("Sampling interval cannot be negative.");
+        }
+
+        this.queueSizeSamplingInterval = queueSizeSamplingInterval;
+        return this;
+    }
+
+    /**
+     * Clears all collected statistics and queue size samples.
+     */
+    public void reset() {
+        statsMap.clear();
+        queueSizeHistory.clear();
+        lastQueueSizeSampleTime = Double.NEGATIVE_INFINITY;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.util.LatencyHistogram;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statistics about the processing of events having a given {@link #getTag() tag}
+ * by entities of a given {@link #getEntityClass() class}, collected by an {@link EventLoopProfiler}.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class EventProcessingStats {
+    /**
+     * A map where each key is a tag value and each value is the name of the
+     * {@link CloudSimTags} constant with that value.
+     */
+    private static Map<Integer, String> tagNames;
+
+    private final Class<?> entityClass;
+    private final int tag;
+    private final LatencyHistogram histogram;
+
+    /** @see #getGeneratedEvents() */
+    private long generatedEvents;
+
+    EventProcessingStats(final Class<?> entityClass, final int tag) {
+        this.entityClass = entityClass;
+        this.tag = tag;
+        this.histogram = new LatencyHistogram();
+    }
+
+    /**
+     * Records the processing of an event.
+     * @param elapsedNanos the time spent to process the event (in nanoseconds)
+     * @param generatedEvents the number of events scheduled while processing the event
+     */
+    void record(final long elapsedNanos, final long generatedEvents) {
+        histogram.record(elapsedNanos);
+        this.generatedEvents += generatedEvents;
+    }
+
+    /**
+     * Gets the class of the entities that processed the events.
+     * When it's the {@link CloudSim} class, the statistics represent the
+     * time spent by the simulation engine to dispatch the events
+     * (including the time to notify event processing listeners).
+     * @return
+     */
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Gets the tag of the processed events.
+     * @return
+     */
+    public int getTag() {
+        return tag;
+    }
+
+    /**
+     * Gets the name of the {@link CloudSimTags} constant for the {@link #getTag() tag} of the processed events,
+     * or the tag number if it's a user-defined tag.
+     * @return
+     */
+    public String getTagName() {
+        return tagNames().getOrDefault(tag, String.valueOf(tag));
+    }
+
+    /**
+     * Gets the number of processed events.
+     * @return
+     */
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    /**
+     * Gets the total time spent to process the events (in nanoseconds).
+     * @return
+     */
+    public long getTotalTime() {
+        return histogram.getTotal();
+    }
+
+    /**
+     * Gets the mean time spent to process an event (in nanoseconds).
+     * @return
+     */
+    public double getMeanTime() {
+        return histogram.getMean();
+    }
+
+    /**
+     * Gets the max time spent to process an event (in nanoseconds).
+     * @return
+     */
+    public long getMaxTime() {
+        return histogram.getMax();
+    }
+
+    /**
+     * Gets the time spent to process an event at a given percentile (in nanoseconds).
+     * @param percentile the percentile in the range [0..100]
+     * @return
+     * @see LatencyHistogram#getValueAtPercentile(double)
+     */
+    public long getTimeAtPercentile(final double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * Gets the total number of events scheduled while processing the events.
+     * @return
+     */
+    public long getGeneratedEvents() {
+        return generatedEvents;
+    }
+
+    /**
+     * Gets the mean number of events scheduled while processing each event.
+     * @return
+     */
+    public double getGeneratedEventsPerEvent() {
+        return getCount() == 0 ? 0 : generatedEvents / (double) getCount();
+    }
+
+    private static Map<Integer, String> tagNames() {
+        if (tagNames == null) {
+            final var map = new HashMap<Integer, String>();
+            for (final Field field : CloudSimTags.class.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && field.getType() == int.class) {
+                    try {
+                        map.put(field.getInt(null), field.getName());
+                    } catch (final IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+
+            tagNames = map;
+        }
+
+        return tagNames;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %d events, %.0f ns mean, %d ns p99",
+            entityClass.getSimpleName(), getTagName(), getCount(), getMeanTime(), getTimeAtPercentile(99));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.EventFlightRecorder.DataType;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.cloudbus.cloudsim.core.EventFlightRecorder.*;
+
+/**
+ * Reads a file written by an {@link EventFlightRecorder},
+ * enabling to query the recorded events offline
+ * and to replay some of them into a new simulation.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class EventTrace {
+    /**
+     * An event read from the trace file.
+     *
+     * @param time the time the event was processed (in seconds)
+     * @param serial the event serial number
+     * @param type the event type
+     * @param tag the event tag
+     * @param sourceId the ID of the entity which sent the event
+     * @param destinationId the ID of the entity which received the event
+     * @param dataType the type of the event data
+     * @param dataOwnerId the ID of the entity owning the event data, when it's a {@link DataType#HOST},
+     *                    {@link DataType#VM} or {@link DataType#CLOUDLET} (-1 otherwise)
+     * @param dataValue the ID of the event data when it's a simulation object,
+     *                  or its value (as long bits) when it's a primitive
+     */
+    public record Record(
+        double time, long serial, SimEvent.Type type, int tag,
+        long sourceId, long destinationId,
+        DataType dataType, long dataOwnerId, long dataValue)
+    {
+        /**
+         * Gets the event data as a double value, when its type is {@link DataType#DOUBLE}.
+         * @return
+         */
+        public double doubleValue() {
+            return Double.longBitsToDouble(dataValue);
+        }
+
+        /**
+         * Checks if the event data can be rebuilt to replay the event.
+         * @return
+         */
+        public boolean isReplayable() {
+            return dataType != DataType.OTHER;
+        }
+    }
+
+    private static final SimEvent.Type[] EVENT_TYPES = SimEvent.Type.values();
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final long recordedEvents;
+
+    /**
+     * Opens a trace file written by an {@link EventFlightRecorder}.
+     *
+     * @param file the path of the trace file
+     * @throws UncheckedIOException when the file cannot be read
+     * @throws IllegalArgumentException when the file is not a valid trace
+     */
+    public EventTrace(final Path file) {
+        try (var channel = FileChannel.open(file, READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException(file + " is not an event trace file.");
+        }
+
+        final short version = buffer.getShort(Integer.BYTES);
+        if (version != FORMAT_VERSION || buffer.getShort(Integer.BYTES + Short.BYTES) != RECORD_SIZE) {
+            throw new IllegalArgumentException("Unsupported event trace format version: " + version);
+        }
+
+        this.capacity = buffer.getInt(Integer.BYTES + Short.BYTES * 2);
+        this.recordedEvents = buffer.getLong(RECORDED_EVENTS_POSITION);
+    }
+
+    /**
+     * Gets the total number of events recorded,
+     * including the ones overwritten in the ring file.
+     * @return
+     */
+    public long getRecordedEvents() {
+        return recordedEvents;
+    }
+
+    /**
+     * Gets the number of events available into the trace file.
+     * @return
+     */
+    public int size() {
+        return (int) Math.min(recordedEvents, capacity);
+    }
+
+    /**
+     * Gets a stream of the events available into the trace file,
+     * in the order they were processed.
+     * @return
+     */
+    public Stream<Record> stream() {
+        final long first = recordedEvents - size();
+        return LongStream.range(first, recordedEvents).mapToObj(this::read);
+    }
+
+    /**
+     * Gets a stream of the available events that match a given predicate,
+     * in the order they were processed.
+     * @param predicate the predicate to filter events
+     * @return
+     */
+    public Stream<Record> filter(final Predicate<Record> predicate) {
+        return stream().filter(predicate);
+    }
+
+    /**
+     * Gets a stream of the available events with a given tag,
+     * processed between a given time interval.
+     * @param tag the event tag
+     * @param fromTime the initial time (inclusive, in seconds)
+     * @param toTime the final time (inclusive, in seconds)
+     * @return
+     */
+    public Stream<Record> filter(final int tag, final double fromTime, final double toTime) {
+        return filter(rec -> rec.tag() == tag && rec.time() >= fromTime && rec.time() <= toTime);
+    }
+
+    private Record read(final long index) {
+        final int position = HEADER_SIZE + (int) (index % capacity) * RECORD_SIZE;
+        return new Record(
+            buffer.getDouble(position),
+            buffer.getLong(position + 8),
+            EVENT_TYPES[buffer.get(position + 52)],
+            buffer.getInt(position + 48),
+            buffer.getLong(position + 16),
+            buffer.getLong(position + 24),
+            dataType(buffer.get(position + 53)),
+            buffer.getLong(position + 32),
+            buffer.getLong(position + 40));
+    }
+
+    /**
+     * Replays recorded events matching a given predicate into a new simulation,
+     * which must be created by the same scenario code of the recorded simulation,
+     * so that entities and simulation objects have the same IDs.
+     * The predicate usually selects the external inputs of the recorded simulation,
+     * such as events sent by an entity that dynamically submits VMs or Cloudlets,
+     * so that the run can be reproduced without such an entity (and without logging).
+     * Events are scheduled to the same time they were recorded.
+     *
+     * @param simulation the simulation to replay events into, which must not be started yet
+     * @param predicate the predicate to select the events to replay
+     * @return the number of replayed events
+     * @throws IllegalStateException when some selected event {@link Record#isReplayable() cannot be replayed}
+     *                               or some recorded object is not found into the simulation
+     */
+    public int replay(final CloudSim simulation, final Predicate<Record> predicate) {
+        if (simulation.isRunning()) {
+            throw new IllegalStateException("Events can only be replayed into a simulation that has not started yet.");
+        }
+
+        final var resolver = new SimulationObjectResolver(simulation.getEntities());
+        final var records = filter(predicate).toList();
+        for (final Record rec : records) {
+            final var evt = CloudSimEvent.ofTime(
+                rec.type(), rec.time(),
+                resolver.entityOrNull(rec.sourceId()), resolver.entityOrNull(rec.destinationId()),
+                rec.tag(), data(rec, resolver));
+            simulation.send(evt);
+        }
+
+        return records.size();
+    }
+
+    private Object data(final Record rec, final SimulationObjectResolver resolver) {
+        return switch (rec.dataType()) {
+            case NULL -> null;
+            case BOOLEAN -> rec.dataValue() != 0;
+            case INT -> (int) rec.dataValue();
+            case LONG -> rec.dataValue();
+            case DOUBLE -> rec.doubleValue();
+            case ENTITY -> resolver.entity(rec.dataValue());
+            case HOST -> resolver.host(rec.dataOwnerId(), rec.dataValue());
+            case VM -> resolver.vm(rec.dataOwnerId(), rec.dataValue());
+            case CLOUDLET -> resolver.cloudlet(rec.dataOwnerId(), rec.dataValue());
+            case OTHER -> throw new IllegalStateException("The data of the recorded event cannot be replayed: " + rec);
+        };
+    }
+}
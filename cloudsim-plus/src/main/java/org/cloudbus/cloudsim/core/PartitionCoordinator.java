@@ -0,0 +1,347 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinates the execution of a simulation split into {@link SimulationPartition}s,
+ * usually running in different JVMs in the same machine.
+ * It defines the time windows each partition processes and
+ * delivers the events sent between partitions.
+ *
+ * <p>At each round, the coordinator receives from every partition the time of its next event
+ * and the events it sent to other partitions.
+ * The next window starts at the earliest time among such events
+ * and ends after the lookahead (the minimum network delay between entities in different partitions),
+ * so that no partition can receive an event in the past.
+ * The simulation terminates when there is no event to process
+ * or the {@link CloudSim#terminateAt(double) termination time} is reached.</p>
+ *
+ * <p>The coordinator listens just to the loopback interface.
+ * {@link #launch(Class, int, String...)} is the easiest way to run a simulation
+ * across multiple local JVMs.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see SimulationPartition
+ */
+public final class PartitionCoordinator implements Runnable, Closeable {
+    /** Time (in milliseconds) to wait for all partitions to connect. */
+    private static final int ACCEPT_TIMEOUT = 60_000;
+
+    private final ServerSocket server;
+
+    /** @see #getPartitions() */
+    private final int partitions;
+
+    /** @see #getLookahead() */
+    private double lookahead = Double.MAX_VALUE;
+
+    /** @see #getTerminationTime() */
+    private double terminationTime = -1;
+
+    /** @see #getRounds() */
+    private long rounds;
+
+    /** @see #getRoutedEvents() */
+    private long routedEvents;
+
+    /**
+     * An event sent from one partition to another, which is pending to be delivered.
+     * @param time the time the event must be processed
+     * @param bytes the encoded event
+     */
+    private record PendingEvent(double time, byte[] bytes) {}
+
+    /**
+     * Creates a coordinator listening to an ephemeral port at the loopback interface.
+     * @param partitions the number of partitions to coordinate
+     * @throws UncheckedIOException when the server socket cannot be created
+     */
+    public PartitionCoordinator(final int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("The number of partitions must be positive.");
+        }
+
+        this.partitions = partitions;
+        try {
+            this.server = new ServerSocket(0, partitions, InetAddress.getLoopbackAddress());
+            this.server.setSoTimeout(ACCEPT_TIMEOUT);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs a simulation across multiple local JVMs, one for each partition.
+     * Each JVM executes the main method of the given class (using the classpath of the current JVM),
+     * with the system properties that define the partition to run.
+     * The main method must call {@link CloudSim#enablePartitioningFromSystemProperties()}
+     * before starting the simulation.
+     * The method waits all JVMs to finish.
+     *
+     * @param mainClass the class with the main method building and starting the simulation
+     * @param partitions the number of partitions (JVMs) to run
+     * @param args the arguments to pass to the main method
+     * @return the coordinator used to run the simulation
+     * @throws IllegalStateException when some JVM fails
+     * @throws UncheckedIOException when some JVM cannot be started or the communication with it fails
+     */
+    public static PartitionCoordinator launch(final Class<?> mainClass, final int partitions, final String... args) {
+        final List<Process> processes = new ArrayList<>(partitions);
+        try (var coordinator = new PartitionCoordinator(partitions)) {
+            final InetSocketAddress address = coordinator.getAddress();
+            final String java = String.join(File.separator, System.getProperty("java.home"), "bin", "java");
+            for (int i = 0; i < partitions; i++) {
+                final var command = new ArrayList<>(List.of(
+                    java, "-cp", System.getProperty("java.class.path"),
+                    "-D" + SimulationPartition.INDEX_PROPERTY + "=" + i,
+                    "-D" + SimulationPartition.COUNT_PROPERTY + "=" + partitions,
+                    "-D" + SimulationPartition.COORDINATOR_PROPERTY + "=" + address.getHostString() + ":" + address.getPort(),
+                    mainClass.getName()));
+                command.addAll(List.of(args));
+                processes.add(new ProcessBuilder(command).inheritIO().start());
+            }
+
+            coordinator.run();
+            for (int i = 0; i < partitions; i++) {
+                final int exitCode = processes.get(i).waitFor();
+                if (exitCode != 0) {
+                    throw new IllegalStateException("Partition " + i + " finished with exit code " + exitCode);
+                }
+            }
+
+            return coordinator;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            processes.forEach(Process::destroy);
+        }
+    }
+
+    /**
+     * Waits all partitions to connect, then coordinates the simulation until it terminates.
+     * @throws UncheckedIOException when the communication with some partition fails
+     */
+    @Override
+    public void run() {
+        final var sockets = new Socket[partitions];
+        try {
+            final var ins = new DataInputStream[partitions];
+            final var outs = new DataOutputStream[partitions];
+            for (int i = 0; i < partitions; i++) {
+                final Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                final var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                final int index = readHello(in);
+                sockets[index] = socket;
+                ins[index] = in;
+                outs[index] = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            }
+
+            CloudSim.LOGGER.info(
+                "PartitionCoordinator: {} partitions connected. Lookahead: {} seconds", partitions, lookahead);
+            coordinate(ins, outs);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (final Socket socket : sockets) {
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    /**
+     * Reads the first message sent by a partition, containing its index, the number of partitions,
+     * its lookahead and termination time.
+     * @return the index of the partition
+     */
+    private int readHello(final DataInputStream in) throws IOException {
+        final int index = in.readInt();
+        final int count = in.readInt();
+        if (count != partitions || index < 0 || index >= partitions) {
+            final var msg = "Partition %d of %d doesn't match the %d partitions being coordinated.";
+            throw new IllegalStateException(String.format(msg, index, count, partitions));
+        }
+
+        lookahead = Math.min(lookahead, in.readDouble());
+        final double partitionTerminationTime = in.readDouble();
+        if (partitionTerminationTime > 0) {
+            terminationTime = terminationTime > 0 ? Math.min(terminationTime, partitionTerminationTime) : partitionTerminationTime;
+        }
+
+        return index;
+    }
+
+    private void coordinate(final DataInputStream[] ins, final DataOutputStream[] outs) throws IOException {
+        final var pending = new ArrayList<List<PendingEvent>>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            pending.add(new ArrayList<>());
+        }
+
+        while (true) {
+            double windowStart = Double.MAX_VALUE;
+            for (final DataInputStream in : ins) {
+                windowStart = Math.min(windowStart, readReport(in, pending));
+            }
+
+            for (final List<PendingEvent> events : pending) {
+                for (final PendingEvent evt : events) {
+                    windowStart = Math.min(windowStart, evt.time());
+                }
+            }
+
+            if (windowStart == Double.MAX_VALUE || (terminationTime > 0 && windowStart > terminationTime)) {
+                for (final DataOutputStream out : outs) {
+                    out.writeDouble(-1);
+                    out.flush();
+                }
+
+                CloudSim.LOGGER.info(
+                    "PartitionCoordinator: Simulation terminated after {} rounds and {} events routed between partitions",
+                    rounds, routedEvents);
+                return;
+            }
+
+            double windowEnd = windowStart + lookahead;
+            if (terminationTime > 0) {
+                windowEnd = Math.min(windowEnd, Math.nextUp(terminationTime));
+            }
+
+            for (int i = 0; i < partitions; i++) {
+                sendWindow(outs[i], windowEnd, pending.get(i));
+            }
+
+            rounds++;
+        }
+    }
+
+    /**
+     * Reads the report sent by a partition after processing a window,
+     * adding the events it sent to the pending events of the destination partitions.
+     * @return the time of the next event in the partition
+     */
+    private double readReport(final DataInputStream in, final List<List<PendingEvent>> pending) throws IOException {
+        final double nextEventTime = in.readDouble();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            final int dest = in.readInt();
+            final double time = in.readDouble();
+            final var bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            pending.get(dest).add(new PendingEvent(time, bytes));
+        }
+
+        routedEvents += size;
+        return nextEventTime;
+    }
+
+    private void sendWindow(final DataOutputStream out, final double windowEnd, final List<PendingEvent> events) throws IOException {
+        out.writeDouble(windowEnd);
+        out.writeInt(events.size());
+        for (final PendingEvent evt : events) {
+            out.writeInt(evt.bytes().length);
+            out.write(evt.bytes());
+        }
+
+        out.flush();
+        events.clear();
+    }
+
+    private static void closeQuietly(final Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+
+        try {
+            closeable.close();
+        } catch (final IOException e) {
+            CloudSim.LOGGER.warn("PartitionCoordinator: Error closing connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the address the coordinator is listening to,
+     * which must be given to every {@link SimulationPartition}.
+     * @return
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) server.getLocalSocketAddress();
+    }
+
+    /**
+     * Gets the number of partitions being coordinated.
+     * @return
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Gets the length of the time windows (in seconds), which is the minimum lookahead reported by partitions.
+     * @return
+     */
+    public double getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Gets the earliest termination time set into the partitions or -1 if it was not set.
+     * @return
+     */
+    public double getTerminationTime() {
+        return terminationTime;
+    }
+
+    /**
+     * Gets the number of time windows processed.
+     * @return
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Gets the number of events routed between partitions.
+     * @return
+     */
+    public long getRoutedEvents() {
+        return routedEvents;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
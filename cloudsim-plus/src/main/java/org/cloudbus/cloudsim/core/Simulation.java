@@ -127,6 +127,16 @@ public interface Simulation {
      */
     SimEvent cancel(SimEntity src, Predicate<SimEvent> predicate);
 
+    /**
+     * Cancels a given event, removing it from the future event queue.
+     * Different from {@link #cancel(SimEntity, Predicate)}, the queue is not scanned,
+     * therefore it's the way to go when the event to cancel is known.
+     *
+     * @param evt the event to cancel
+     * @return true if the event was in the future event queue and was cancelled; false otherwise
+     */
+    boolean cancel(SimEvent evt);
+
     /**
      * Cancels all events from the future event queue that matches a given predicate
      * and were sent by a given entity, then removes those ones from the queue.
@@ -492,6 +502,14 @@ public interface Simulation {
      */
     long getNumberOfFutureEvents(Predicate<SimEvent> predicate);
 
+    /**
+     * Gets the number of events in the future queue.
+     *
+     * @return the number of future events
+     * @see #getNumberOfFutureEvents(Predicate)
+     */
+    long getNumberOfFutureEvents();
+
     /**
      * Checks if there is any event in the future queue that matches a given predicate.
      *
@@ -0,0 +1,364 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.DeferredQueue;
+import org.cloudbus.cloudsim.core.events.FutureQueue;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compact binary snapshot of a {@link CloudSim} simulation at a given time,
+ * enabling a simulation to be restored into a new {@link CloudSim} instance.
+ * Since a checkpoint is immutable, multiple independent continuations
+ * can be forked from the same checkpoint.
+ * This way, experiments that share the same warm-up phase
+ * (such as the initial VM placement or the first hours of a trace replay)
+ * don't need to simulate such a phase repeatedly.
+ *
+ * <p>A checkpoint stores the simulation clock, the termination time,
+ * the state of every entity, all events inside the future and deferred queues
+ * (keeping their serial numbers, so that they are processed in the same order)
+ * and the state of the simulation objects reachable from the entities.
+ * That includes the Datacenters, brokers and their VM and Cloudlet lists,
+ * the {@link Host}s and their resource provisioning and VM scheduling,
+ * the placement and resource usage of {@link Vm}s
+ * and the execution progress of {@link Cloudlet}s inside their schedulers.</p>
+ *
+ * <p>Entities, Hosts, VMs and Cloudlets are identified by their IDs.
+ * When the checkpoint is restored, such objects are looked up by ID into the new simulation instance
+ * and have their state overwritten by the stored one.
+ * That means the new instance must be built by the same scenario code
+ * that built the checkpointed simulation (usually a method that creates
+ * the Datacenters, brokers, VMs and Cloudlets), so that all objects
+ * have the same IDs. Objects created after the scenario was built,
+ * such as the execution of a Cloudlet inside a VM, are recreated.</p>
+ *
+ * <p>The state of simulation objects is stored by the objects themselves,
+ * through the {@link Checkpointable} interface, which is implemented by the
+ * Datacenters, brokers, Hosts, VMs, Cloudlets, their resources, Cloudlet schedulers,
+ * VM allocation policies and the VM migration scheduler.
+ * Just the state which changes during the simulation is stored.
+ * The configuration set by the scenario code, listeners, functions, comparators,
+ * utilization models, VM scaling objects, power models, the Datacenter storage,
+ * broker's Cloudlet result stores, the state of random number generators
+ * and fields declared by user classes (such as a {@link Vm} subclass that doesn't override the
+ * {@link Checkpointable} methods) keep the values set by the scenario code in the new instance.
+ * Therefore, a forked simulation using random numbers doesn't continue
+ * with the same sequence of the checkpointed one.</p>
+ *
+ * <p>The checkpoint data has a format version, which is increased
+ * when the stored state of any class changes.
+ * Data with a different format version is rejected.
+ * The class of each stored object is checked when it is restored too,
+ * so that a scenario using a different class (such as another Cloudlet scheduler)
+ * is rejected instead of restoring a wrong state.</p>
+ *
+ * <p>Event data is stored only when it is null, a boxed primitive, a String,
+ * a {@link SimEntity}, {@link Host}, {@link Vm}, {@link Cloudlet},
+ * or a {@link List} or {@link Map.Entry} of such types.
+ * Trying to checkpoint an event carrying any other type of data
+ * throws an {@link UnsupportedOperationException}.</p>
+ *
+ * <p>The checkpoint must be taken when no event is being processed,
+ * such as after a {@link CloudSim#runFor(double)} call returns or inside a
+ * {@link Simulation#addOnSimulationPauseListener(org.cloudsimplus.listeners.EventListener) pause listener}.
+ * Predicates given to {@link CloudSimEntity#waitForEvent(java.util.function.Predicate)} cannot
+ * be stored, therefore a waiting entity is restored waiting for any event.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see CloudSim#checkpoint()
+ * @see CloudSim#restore(SimulationCheckpoint)
+ */
+public final class SimulationCheckpoint {
+    /** A number identifying the checkpoint binary format ("CSCP" in ASCII). */
+    private static final int MAGIC = 0x43534350;
+    private static final short FORMAT_VERSION = 5;
+
+    private static final SimEntity.State[] STATES = SimEntity.State.values();
+    private static final SimEvent.Type[] EVENT_TYPES = SimEvent.Type.values();
+
+    /** The encoded checkpoint. */
+    private final byte[] bytes;
+
+    /** @see #getTime() */
+    private final double time;
+
+    /** @see #getTerminationTime() */
+    private final double terminationTime;
+
+    /**
+     * Creates a checkpoint for the current state of a simulation.
+     *
+     * @param simulation the simulation to checkpoint
+     * @param entities the entities currently in the simulation
+     * @param future the future event queue of the simulation
+     * @param deferred the deferred event queue of the simulation
+     */
+    SimulationCheckpoint(
+        final CloudSim simulation, final List<CloudSimEntity> entities,
+        final FutureQueue future, final DeferredQueue deferred)
+    {
+        this.time = simulation.clock();
+        this.terminationTime = simulation.getTerminationTime();
+
+        final var byteStream = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(new BufferedOutputStream(byteStream))) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeDouble(time);
+            out.writeDouble(terminationTime);
+            out.writeLong(future.getSerial());
+            out.writeLong(future.getLowestSerial());
+
+            final var writer = new CheckpointWriter(out);
+            out.writeInt(entities.size());
+            for (final CloudSimEntity entity : entities) {
+                out.writeLong(entity.getId());
+                out.writeUTF(entity.getClass().getName());
+                out.writeByte(entity.getState().ordinal());
+                out.writeDouble(entity.getStartTime());
+                writer.writeState(entity);
+            }
+
+            writeEvents(out, future.size(), future.iterator());
+            writeEvents(out, deferred.size(), deferred.iterator());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.bytes = byteStream.toByteArray();
+    }
+
+    /**
+     * Creates a checkpoint from an already encoded one.
+     * @param bytes the encoded checkpoint
+     */
+    private SimulationCheckpoint(final byte[] bytes) {
+        this.bytes = requireNonNull(bytes);
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("The given data is not a simulation checkpoint.");
+            }
+
+            final short version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported simulation checkpoint format version: " + version);
+            }
+
+            this.time = in.readDouble();
+            this.terminationTime = in.readDouble();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a checkpoint from the bytes returned by {@link #toByteArray()}.
+     *
+     * @param bytes the encoded checkpoint
+     * @return the decoded checkpoint
+     * @throws IllegalArgumentException when the bytes don't represent a valid checkpoint
+     */
+    public static SimulationCheckpoint of(final byte[] bytes) {
+        return new SimulationCheckpoint(bytes.clone());
+    }
+
+    /**
+     * Reads a checkpoint from a file previously written by {@link #write(Path)}.
+     *
+     * @param file the path of the checkpoint file
+     * @return the checkpoint read from the file
+     * @throws UncheckedIOException when the file cannot be read
+     */
+    public static SimulationCheckpoint read(final Path file) {
+        try {
+            return new SimulationCheckpoint(Files.readAllBytes(file));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the checkpoint into a file.
+     *
+     * @param file the path of the file to write the checkpoint to
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    public void write(final Path file) {
+        try {
+            Files.write(file, bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets a copy of the encoded checkpoint.
+     * @return the checkpoint bytes
+     */
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    /**
+     * Gets the size of the encoded checkpoint (in bytes).
+     * @return
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * Gets the simulation time when the checkpoint was taken (in seconds).
+     * @return
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the simulation termination time when the checkpoint was taken,
+     * or -1 if it wasn't set.
+     * @return
+     * @see CloudSim#terminateAt(double)
+     */
+    public double getTerminationTime() {
+        return terminationTime;
+    }
+
+    /**
+     * Creates a new simulation by calling a scenario factory
+     * and restores this checkpoint into it.
+     * Calling this method multiple times forks
+     * independent simulations from the same checkpoint.
+     *
+     * @param scenarioFactory a {@link Supplier} that creates a new, not started {@link CloudSim}
+     *                        instance with all its entities and simulation objects,
+     *                        in the same way they were created in the checkpointed simulation
+     * @return the new simulation, ready to be started to continue from the checkpoint time
+     * @see CloudSim#restore(SimulationCheckpoint)
+     */
+    public CloudSim fork(final Supplier<CloudSim> scenarioFactory) {
+        final CloudSim simulation = requireNonNull(scenarioFactory.get());
+        simulation.restore(this);
+        return simulation;
+    }
+
+    /**
+     * Restores the state of the entities, the simulation objects and the event queues into a given simulation.
+     *
+     * @param simulation the simulation to restore the checkpoint into
+     * @param entities the list of entities of the simulation
+     * @param future the future event queue to restore events into
+     * @param deferred the deferred event queue to restore events into
+     */
+    void restoreInto(
+        final CloudSim simulation, final List<CloudSimEntity> entities,
+        final FutureQueue future, final DeferredQueue deferred)
+    {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            in.skipBytes(Integer.BYTES + Short.BYTES + Double.BYTES * 2);
+            future.restoreSerials(in.readLong(), in.readLong());
+            final var resolver = new SimulationObjectResolver(entities).indexModelObjects();
+            final var reader = new CheckpointReader(in, resolver);
+
+            final int entitiesNumber = in.readInt();
+            final var restoredIds = new HashSet<Long>(entitiesNumber);
+            for (int i = 0; i < entitiesNumber; i++) {
+                final long id = in.readLong();
+                final String className = in.readUTF();
+                final CloudSimEntity entity = resolver.entity(id);
+                if (!entity.getClass().getName().equals(className)) {
+                    final var msg = "Entity %d is a %s but the checkpoint has a %s. The simulation scenario doesn't match the checkpoint.";
+                    throw new IllegalStateException(String.format(msg, id, entity.getClass().getName(), className));
+                }
+
+                entity.setState(STATES[in.readByte()]);
+                entity.setStartTime(in.readDouble());
+                reader.readState(entity);
+                restoredIds.add(id);
+            }
+
+            /* Entities not found in the checkpoint had already finished
+             * and were removed from the checkpointed simulation. */
+            for (final CloudSimEntity entity : new ArrayList<>(entities)) {
+                if (!restoredIds.contains(entity.getId())) {
+                    entity.setState(SimEntity.State.FINISHED);
+                    simulation.removeFinishedEntity(entity);
+                }
+            }
+
+            readEvents(in, resolver, future::addEventKeepingSerial);
+            readEvents(in, resolver, deferred::addEvent);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeEvents(final DataOutputStream out, final int size, final Iterator<SimEvent> iterator) throws IOException {
+        out.writeInt(size);
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            out.writeByte(evt.getType().ordinal());
+            out.writeDouble(evt.getTime());
+            out.writeLong(evt.getSource().getId());
+            out.writeLong(evt.getDestination().getId());
+            out.writeInt(evt.getTag());
+            out.writeLong(evt.getSerial());
+            EventDataCodec.write(out, evt, evt.getData());
+        }
+    }
+
+    private void readEvents(
+        final DataInputStream in, final SimulationObjectResolver resolver,
+        final Consumer<SimEvent> queue) throws IOException
+    {
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            final var type = EVENT_TYPES[in.readByte()];
+            final double evtTime = in.readDouble();
+            final SimEntity src = resolver.entityOrNull(in.readLong());
+            final SimEntity dest = resolver.entityOrNull(in.readLong());
+            final int tag = in.readInt();
+            final long serial = in.readLong();
+            final var evt = CloudSimEvent.ofTime(type, evtTime, src, dest, tag, EventDataCodec.read(in, resolver));
+            evt.setSerial(serial);
+            queue.accept(evt);
+        }
+    }
+}
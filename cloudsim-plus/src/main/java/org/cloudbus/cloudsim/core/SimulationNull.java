@@ -25,6 +25,9 @@ final class SimulationNull implements Simulation {
     @Override public SimEvent cancel(SimEntity src, Predicate<SimEvent> predicate) {
         return SimEvent.NULL;
     }
+    @Override public boolean cancel(SimEvent evt) {
+        return false;
+    }
     @Override public boolean cancelAll(SimEntity src, Predicate<SimEvent> predicate) {
         return false;
     }
@@ -101,6 +104,7 @@ final class SimulationNull implements Simulation {
     @Override public NetworkTopology getNetworkTopology() { return NetworkTopology.NULL; }
     @Override public void setNetworkTopology(NetworkTopology networkTopology) {/**/}
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
+    @Override public long getNumberOfFutureEvents() { return 0; }
     @Override public double getLastCloudletProcessingUpdate() { return 0; }
     @Override public void setLastCloudletProcessingUpdate(double lastCloudletProcessingUpdate) {/**/}
     @Override public boolean isAbortRequested() {return true;}
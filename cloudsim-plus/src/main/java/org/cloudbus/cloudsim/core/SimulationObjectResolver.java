@@ -0,0 +1,178 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks up simulation objects by their IDs inside a simulation,
+ * enabling events stored by a {@link SimulationCheckpoint} or an {@link EventFlightRecorder}
+ * to be rebuilt into another simulation instance created by the same scenario code.
+ * The indexes for Hosts, {@link Pe}s, VMs and Cloudlets are just built when
+ * an event carrying such objects is found, unless {@link #indexModelObjects()} is called.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class SimulationObjectResolver {
+    private final Map<Long, CloudSimEntity> entities;
+    private Map<String, Host> hosts;
+    private Map<String, List<Pe>> peLists;
+    private Map<String, Vm> vms;
+    private Map<String, Cloudlet> cloudlets;
+
+    SimulationObjectResolver(final List<CloudSimEntity> entityList) {
+        this.entities = new HashMap<>(entityList.size());
+        entityList.forEach(entity -> entities.put(entity.getId(), entity));
+    }
+
+    CloudSimEntity entity(final long id) {
+        final CloudSimEntity entity = entities.get(id);
+        if (entity == null) {
+            throw new IllegalStateException(
+                "Entity " + id + " was not found. The simulation scenario doesn't match the stored one.");
+        }
+
+        return entity;
+    }
+
+    SimEntity entityOrNull(final long id) {
+        return id < 0 ? SimEntity.NULL : entity(id);
+    }
+
+    /**
+     * Builds the indexes for all Hosts, {@link Pe}s, VMs and Cloudlets at once,
+     * so that they can be found even after the simulation objects are changed
+     * (such as when a Cloudlet is moved between broker lists).
+     * @return this resolver
+     */
+    SimulationObjectResolver indexModelObjects() {
+        indexHosts();
+        indexVms();
+        indexCloudlets();
+        return this;
+    }
+
+    Host host(final long datacenterId, final long hostId) {
+        indexHosts();
+        return find(hosts, "Host", datacenterId, hostId);
+    }
+
+    Pe pe(final long datacenterId, final long hostId, final int index) {
+        indexHosts();
+        final List<Pe> peList = find(peLists, "Host", datacenterId, hostId);
+        if (index >= peList.size()) {
+            final var msg = "Pe %d from Host %d was not found. The simulation scenario doesn't match the stored one.";
+            throw new IllegalStateException(String.format(msg, index, hostId));
+        }
+
+        return peList.get(index);
+    }
+
+    Vm vm(final long brokerId, final long vmId) {
+        indexVms();
+        return find(vms, "Vm", brokerId, vmId);
+    }
+
+    Cloudlet cloudlet(final long brokerId, final long cloudletId) {
+        indexCloudlets();
+        return find(cloudlets, "Cloudlet", brokerId, cloudletId);
+    }
+
+    private void indexHosts() {
+        if (hosts != null) {
+            return;
+        }
+
+        hosts = new HashMap<>();
+        peLists = new HashMap<>();
+        for (final CloudSimEntity entity : entities.values()) {
+            if (entity instanceof Datacenter dc) {
+                for (final Host host : dc.getHostList()) {
+                    final String uid = UniquelyIdentifiable.getUid(dc.getId(), host.getId());
+                    hosts.put(uid, host);
+                    peLists.put(uid, List.copyOf(host.getPeList()));
+                }
+            }
+        }
+    }
+
+    private void indexVms() {
+        if (vms != null) {
+            return;
+        }
+
+        vms = new HashMap<>();
+        for (final DatacenterBroker broker : brokers()) {
+            addAll(vms, broker.getVmWaitingList());
+            addAll(vms, broker.getVmCreatedList());
+            addAll(vms, broker.getVmExecList());
+            addAll(vms, broker.getVmFailedList());
+        }
+    }
+
+    private void indexCloudlets() {
+        if (cloudlets != null) {
+            return;
+        }
+
+        cloudlets = new HashMap<>();
+        for (final DatacenterBroker broker : brokers()) {
+            addAll(cloudlets, broker.getCloudletWaitingList());
+            addAll(cloudlets, broker.getCloudletSubmittedList());
+            addAll(cloudlets, broker.getCloudletCreatedList());
+            addAll(cloudlets, broker.getCloudletFinishedList());
+        }
+    }
+
+    private List<DatacenterBroker> brokers() {
+        return entities.values().stream()
+                       .filter(DatacenterBroker.class::isInstance)
+                       .map(DatacenterBroker.class::cast)
+                       .toList();
+    }
+
+    private static <T extends UniquelyIdentifiable> void addAll(final Map<String, ? super T> map, final List<T> list) {
+        list.forEach(obj -> map.put(obj.getUid(), obj));
+    }
+
+    private static <T> T find(final Map<String, T> map, final String type, final long ownerId, final long id) {
+        final T obj = map.get(UniquelyIdentifiable.getUid(ownerId, id));
+        if (obj == null) {
+            final var msg = "%s %d from entity %d was not found. The simulation scenario doesn't match the stored one.";
+            throw new IllegalStateException(String.format(msg, type, id, ownerId));
+        }
+
+        return obj;
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.network.topologies.BriteNetworkTopology;
+import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudbus.cloudsim.power.PowerMeter;
+import org.cloudsimplus.faultinjection.FaultInjectionEngine;
+import org.cloudsimplus.faultinjection.HostFaultInjection;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs a subset of the entities of a {@link CloudSim} simulation (a partition)
+ * inside the current JVM, exchanging events with other partitions running in other JVMs
+ * (usually in the same machine) through a {@link PartitionCoordinator}.
+ * This way, a large simulation can use the memory and CPUs of multiple processes.
+ *
+ * <p>Every process runs the same simulation scenario code,
+ * creating all entities and simulation objects in the same order.
+ * However, each entity is owned by a single partition (defined by a {@link #setPartitioner(ToIntFunction) partitioner}),
+ * which is the only one that processes events sent to such an entity.
+ * Since the state of simulation objects (such as Vms, Cloudlets and Hosts) is not synchronized between partitions,
+ * entities sharing such objects must be owned by the same partition.
+ * That is why the default partitioner keeps all Datacenters, brokers and the entities
+ * attached to them in the first partition.
+ * Events sent to entities owned by other partitions are exported to the coordinator,
+ * which delivers them to the owning partition.
+ * The {@link CloudInformationService} is replicated into every partition,
+ * so that all Datacenters are registered into every replica.</p>
+ *
+ * <p>The synchronization is conservative: partitions process events in time windows
+ * defined by the coordinator, whose length is the <b>lookahead</b>.
+ * It is the minimum {@link NetworkTopology#getDelay(SimEntity, SimEntity) network delay} between
+ * entities owned by different partitions (such as the one defined by a {@link BriteNetworkTopology}).
+ * Since an event sent between such entities takes at least the lookahead to arrive,
+ * no event can be received in the past.
+ * An event sent to another partition with a delay smaller than the lookahead
+ * (such as when it's sent using {@link CloudSimEntity#schedule(SimEntity, double, int, Object)},
+ * which ignores the network delay) makes the simulation to fail with an {@link IllegalStateException}.</p>
+ *
+ * <p>The partitioning has the following limitations:
+ * <ul>
+ *   <li>the state of simulation objects (such as Vms, Cloudlets and Hosts) is not synchronized
+ *   between partitions. An object sent into an event is just looked up by its ID into the destination
+ *   partition (check {@link EventDataCodec} for the supported types of event data).
+ *   Therefore, a custom partitioner must not split entities sharing such objects
+ *   (such as a broker and the Datacenters where its Vms are placed);</li>
+ *   <li>events sent to other partitions after the simulation finishes
+ *   (such as when entities are notified about the end of the simulation) are dropped;</li>
+ *   <li>events happening at the same time are processed in the order they arrived at a partition;</li>
+ *   <li>pausing or terminating the simulation before the {@link CloudSim#terminateAt(double) termination time}
+ *   is not supported;</li>
+ *   <li>the clock doesn't wait for new events when there is no event to process (even if a termination time is set).</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Partitioning is enabled for each simulation instance by {@link CloudSim#enablePartitioning(int, int, InetSocketAddress)}
+ * or by {@link CloudSim#enablePartitioningFromSystemProperties()}, which reads the system properties
+ * {@link #INDEX_PROPERTY}, {@link #COUNT_PROPERTY}, {@link #COORDINATOR_PROPERTY} and {@link #PARTITIONER_PROPERTY}
+ * set by {@link PartitionCoordinator#launch(Class, int, String...)}.
+ * The latter enables the same simulation scenario to run in a single process or across multiple ones.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see PartitionCoordinator
+ */
+public final class SimulationPartition {
+    /** The system property defining the index of the partition run by the current JVM. */
+    public static final String INDEX_PROPERTY = "cloudsimplus.partition.index";
+
+    /** The system property defining the total number of partitions. */
+    public static final String COUNT_PROPERTY = "cloudsimplus.partition.count";
+
+    /** The system property defining the address (in the format host:port) of the {@link PartitionCoordinator}. */
+    public static final String COORDINATOR_PROPERTY = "cloudsimplus.partition.coordinator";
+
+    /**
+     * The system property defining the fully qualified name of a class implementing
+     * {@link ToIntFunction ToIntFunction&lt;SimEntity&gt;} (with a no-args constructor)
+     * used as the {@link #setPartitioner(ToIntFunction) partitioner}.
+     */
+    public static final String PARTITIONER_PROPERTY = "cloudsimplus.partition.partitioner";
+
+    /** Indicates an entity is replicated into every partition. */
+    public static final int REPLICATED = -1;
+
+    /**
+     * The types of entities sharing simulation objects (such as Vms, Cloudlets and Hosts),
+     * which are kept in the first partition by the default partitioner.
+     */
+    private static final List<Class<?>> SHARED_OBJECTS_ENTITIES = List.of(
+        Datacenter.class, DatacenterBroker.class, Switch.class,
+        HostFaultInjection.class, FaultInjectionEngine.class, PowerMeter.class);
+
+    private final CloudSim simulation;
+
+    /** @see #getIndex() */
+    private final int index;
+
+    /** @see #getCount() */
+    private final int count;
+
+    private final InetSocketAddress coordinator;
+
+    /** @see #setPartitioner(ToIntFunction) */
+    private ToIntFunction<SimEntity> partitioner;
+
+    /** A cache of the partition owning each entity. */
+    private final Map<SimEntity, Integer> owners;
+
+    /** Events sent to other partitions since the last report to the coordinator. */
+    private final List<ExportedEvent> exported;
+
+    /** @see #getLookahead() */
+    private double lookahead;
+
+    /**
+     * The time up to which (exclusive) events are being processed in the current window.
+     * Events sent to other partitions must happen at or after this time.
+     */
+    private double windowEnd;
+
+    /** Indicates if the coordinator has terminated the simulation. */
+    private boolean terminated;
+
+    /** @see #getExportedEvents() */
+    private long exportedEvents;
+
+    /** @see #getImportedEvents() */
+    private long importedEvents;
+
+    /** @see #getRounds() */
+    private long rounds;
+
+    /**
+     * An event sent to another partition, encoded to be transferred to the coordinator.
+     * @param partition the index of the destination partition
+     * @param time the time the event must be processed
+     * @param bytes the encoded event
+     */
+    private record ExportedEvent(int partition, double time, byte[] bytes) {}
+
+    /**
+     * Creates a partition for a simulation.
+     * @param simulation the simulation to run a subset of entities
+     * @param index the index of the partition run by the current JVM
+     * @param count the total number of partitions
+     * @param coordinator the address of the {@link PartitionCoordinator}
+     * @see CloudSim#enablePartitioning(int, int, InetSocketAddress)
+     */
+    SimulationPartition(final CloudSim simulation, final int index, final int count, final InetSocketAddress coordinator) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The number of partitions must be positive.");
+        }
+
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("The partition index must be between 0 and " + (count - 1));
+        }
+
+        this.simulation = requireNonNull(simulation);
+        this.coordinator = requireNonNull(coordinator);
+        this.index = index;
+        this.count = count;
+        this.partitioner = this::defaultOwner;
+        this.owners = new HashMap<>();
+        this.exported = new ArrayList<>();
+    }
+
+    /**
+     * Gets the partition owning an entity when no {@link #setPartitioner(ToIntFunction) partitioner} is set.
+     * Entities sharing simulation objects are kept in the first partition,
+     * since a broker may place its Vms into any Datacenter.
+     * Other entities are distributed in a round-robin fashion according to their IDs.
+     * @param entity the entity to get the owner
+     * @return the owner partition index
+     */
+    private int defaultOwner(final SimEntity entity) {
+        if (SHARED_OBJECTS_ENTITIES.stream().anyMatch(type -> type.isInstance(entity))) {
+            return 0;
+        }
+
+        return (int) (entity.getId() % count);
+    }
+
+    /**
+     * Creates a partition for a simulation from the system properties,
+     * if the {@link #INDEX_PROPERTY} is set.
+     * @param simulation the simulation to run a subset of entities
+     * @return an {@link Optional} containing the partition or an empty one if the properties aren't set
+     */
+    static Optional<SimulationPartition> fromSystemProperties(final CloudSim simulation) {
+        final String indexValue = System.getProperty(INDEX_PROPERTY);
+        if (indexValue == null) {
+            return Optional.empty();
+        }
+
+        final int count = Integer.parseInt(requiredProperty(COUNT_PROPERTY));
+        final String address = requiredProperty(COORDINATOR_PROPERTY);
+        final int colon = address.lastIndexOf(':');
+        final var coordinator = new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+        final var partition = new SimulationPartition(simulation, Integer.parseInt(indexValue), count, coordinator);
+
+        final String partitionerClass = System.getProperty(PARTITIONER_PROPERTY);
+        if (partitionerClass != null) {
+            partition.setPartitioner(newPartitioner(partitionerClass));
+        }
+
+        return Optional.of(partition);
+    }
+
+    private static String requiredProperty(final String name) {
+        final String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException("The system property " + name + " is required to run a simulation partition.");
+        }
+
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ToIntFunction<SimEntity> newPartitioner(final String className) {
+        try {
+            return (ToIntFunction<SimEntity>) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Invalid partitioner class " + className, e);
+        }
+    }
+
+    /**
+     * Runs the partition until the coordinator terminates the simulation:
+     * starts the entities and processes the events of each time window defined by the coordinator.
+     * @throws IllegalStateException when there is no positive network delay between
+     *                               entities owned by different partitions
+     * @throws UncheckedIOException when the communication with the coordinator fails
+     */
+    void run() {
+        lookahead = computeLookahead();
+        CloudSim.LOGGER.info(
+            "Simulation: Running partition {} of {} with a lookahead of {} seconds. Coordinator at {}",
+            index, count, lookahead, coordinator);
+
+        try (var socket = new Socket()) {
+            socket.connect(coordinator);
+            socket.setTcpNoDelay(true);
+            final var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            final var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(index);
+            out.writeInt(count);
+            out.writeDouble(lookahead);
+            out.writeDouble(simulation.getTerminationTime());
+
+            simulation.startSync();
+            report(out);
+            while ((windowEnd = in.readDouble()) >= 0) {
+                importEvents(in);
+                rounds++;
+                simulation.processEventsBefore(windowEnd);
+                report(out);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Communication with partition coordinator at " + coordinator + " failed", e);
+        } finally {
+            terminated = true;
+        }
+    }
+
+    /**
+     * Gets the minimum positive network delay between entities owned by different partitions.
+     * @return the lookahead (in seconds)
+     */
+    private double computeLookahead() {
+        final NetworkTopology topology = simulation.getNetworkTopology();
+        final List<CloudSimEntity> entities = simulation.getEntities();
+        double min = Double.MAX_VALUE;
+        for (final CloudSimEntity src : entities) {
+            final int srcOwner = getOwner(src);
+            for (final CloudSimEntity dest : entities) {
+                final int destOwner = getOwner(dest);
+                if (srcOwner == REPLICATED || destOwner == REPLICATED || srcOwner == destOwner) {
+                    continue;
+                }
+
+                final double delay = topology.getDelay(src, dest);
+                if (delay > 0 && delay < min) {
+                    min = delay;
+                }
+            }
+        }
+
+        if (min == Double.MAX_VALUE) {
+            throw new IllegalStateException(
+                "There is no positive network delay between entities owned by different partitions. " +
+                "Define a NetworkTopology (such as a BriteNetworkTopology) linking such entities.");
+        }
+
+        return min;
+    }
+
+    /**
+     * Sends to the coordinator the time of the next local event
+     * and the events sent to other partitions since the last report.
+     */
+    private void report(final DataOutputStream out) throws IOException {
+        out.writeDouble(simulation.nextEventTime());
+        out.writeInt(exported.size());
+        for (final ExportedEvent evt : exported) {
+            out.writeInt(evt.partition());
+            out.writeDouble(evt.time());
+            out.writeInt(evt.bytes().length);
+            out.write(evt.bytes());
+        }
+
+        out.flush();
+        exportedEvents += exported.size();
+        exported.clear();
+    }
+
+    /**
+     * Reads the events sent by other partitions for the next window, adding them to the local queue.
+     */
+    private void importEvents(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size == 0) {
+            return;
+        }
+
+        //Simulation objects may have been created since the last window, therefore a new resolver is required
+        final var resolver = new SimulationObjectResolver(simulation.getEntities());
+        for (int i = 0; i < size; i++) {
+            final var bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            final var evtIn = new DataInputStream(new ByteArrayInputStream(bytes));
+            final var type = SimEvent.Type.values()[evtIn.readByte()];
+            final double time = evtIn.readDouble();
+            final SimEntity src = resolver.entityOrNull(evtIn.readLong());
+            final SimEntity dest = resolver.entityOrNull(evtIn.readLong());
+            final int tag = evtIn.readInt();
+            simulation.enqueue(CloudSimEvent.ofTime(type, time, src, dest, tag, EventDataCodec.read(evtIn, resolver)));
+        }
+
+        importedEvents += size;
+    }
+
+    /**
+     * Checks if an event sent inside the current JVM must be added to the local event queue.
+     * If the event is sent by a local entity to an entity owned by another partition,
+     * it's exported to the coordinator.
+     * Events between non-local entities are dropped, since they are processed by the partition owning them.
+     *
+     * @param evt the sent event
+     * @return true if the event must be added to the local event queue, false otherwise
+     * @throws IllegalStateException when an event is sent to another partition with a delay smaller than the lookahead
+     */
+    boolean accept(final SimEvent evt) {
+        final int srcOwner = getOwner(evt.getSource());
+        final int destOwner = getOwner(evt.getDestination());
+        if (destOwner == REPLICATED) {
+            return true;
+        }
+
+        if (destOwner == index) {
+            return srcOwner == index || srcOwner == REPLICATED;
+        }
+
+        if (srcOwner == index && !terminated) {
+            export(evt, destOwner);
+        }
+
+        return false;
+    }
+
+    private void export(final SimEvent evt, final int destOwner) {
+        if (evt.getTime() < windowEnd) {
+            final var msg =
+                "%s was sent to partition %d at time %.4f, before the end of the current window (%.4f). " +
+                "Events between entities in different partitions must be sent with a delay of at least the lookahead (%.4f).";
+            throw new IllegalStateException(String.format(msg, evt, destOwner, evt.getTime(), windowEnd, lookahead));
+        }
+
+        try {
+            final var bytes = new ByteArrayOutputStream();
+            final var out = new DataOutputStream(bytes);
+            out.writeByte(evt.getType().ordinal());
+            out.writeDouble(evt.getTime());
+            out.writeLong(evt.getSource().getId());
+            out.writeLong(evt.getDestination().getId());
+            out.writeInt(evt.getTag());
+            EventDataCodec.write(out, evt, evt.getData());
+            exported.add(new ExportedEvent(destOwner, evt.getTime(), bytes.toByteArray()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the index of the partition owning a given entity.
+     * @param entity the entity to get the owner
+     * @return the owner partition index or {@link #REPLICATED} if the entity is replicated into every partition
+     */
+    public int getOwner(final SimEntity entity) {
+        if (entity.getId() < 0 || entity instanceof CloudInformationService) {
+            return REPLICATED;
+        }
+
+        return owners.computeIfAbsent(entity, this::computeOwner);
+    }
+
+    private int computeOwner(final SimEntity entity) {
+        final int owner = partitioner.applyAsInt(entity);
+        if (owner < 0 || owner >= count) {
+            final var msg = "The partitioner assigned %s to partition %d, but it must be between 0 and %d.";
+            throw new IllegalStateException(String.format(msg, entity, owner, count - 1));
+        }
+
+        return owner;
+    }
+
+    /**
+     * Checks if a given entity is run by this partition
+     * (that is, it's either owned by this partition or replicated into every partition).
+     * @param entity the entity to check
+     * @return true if the entity is run by this partition, false otherwise
+     */
+    public boolean isLocal(final SimEntity entity) {
+        final int owner = getOwner(entity);
+        return owner == index || owner == REPLICATED;
+    }
+
+    /**
+     * Sets the function that defines the index of the partition owning each entity.
+     * It must return the same value for a given entity in every partition
+     * and must keep entities sharing simulation objects (such as a broker and the Datacenters it uses)
+     * in the same partition.
+     * By default, Datacenters, brokers and the entities attached to them are kept in the first partition
+     * and other entities are distributed in a round-robin fashion according to their IDs.
+     * The {@link CloudInformationService} is always {@link #REPLICATED}.
+     *
+     * @param partitioner the partitioner function to set
+     * @return this partition
+     */
+    public SimulationPartition setPartitioner(final ToIntFunction<SimEntity> partitioner) {
+        if (simulation.isRunning()) {
+            throw new IllegalStateException("The partitioner cannot be changed after the simulation has started.");
+        }
+
+        this.partitioner = requireNonNull(partitioner);
+        owners.clear();
+        return this;
+    }
+
+    /**
+     * Gets the index of the partition run by the current JVM.
+     * @return
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the total number of partitions.
+     * @return
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the length of the time windows (in seconds), which is the minimum network delay
+     * between entities owned by different partitions.
+     * It's just computed when the simulation starts.
+     * @return
+     */
+    public double getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Gets the number of events sent to other partitions.
+     * @return
+     */
+    public long getExportedEvents() {
+        return exportedEvents;
+    }
+
+    /**
+     * Gets the number of events received from other partitions.
+     * @return
+     */
+    public long getImportedEvents() {
+        return importedEvents;
+    }
+
+    /**
+     * Gets the number of time windows processed.
+     * @return
+     */
+    public long getRounds() {
+        return rounds;
+    }
+}
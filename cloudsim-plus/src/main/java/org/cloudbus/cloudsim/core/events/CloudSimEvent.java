@@ -174,6 +174,57 @@ public final class CloudSimEvent implements SimEvent {
         this.data = data;
     }
 
+    /**
+     * Creates a CloudSimEvent scheduled to an absolute simulation time,
+     * instead of a delay from the current simulation time.
+     * It's used to rebuild events that were already scheduled,
+     * ensuring the exact event time is kept.
+     *
+     * @param type the internal type of the event
+     * @param time the simulation time that the event should occur (in seconds)
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     */
+    private CloudSimEvent(
+        final double time, final Type type,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        this.type = type;
+        this.setSource(src);
+        this.setDestination(dest);
+        this.setSimulation(src.getSimulation());
+        this.time = time;
+        this.tag = tag;
+        this.data = data;
+    }
+
+    /**
+     * Creates a CloudSimEvent scheduled to an absolute simulation time,
+     * instead of a delay from the current simulation time.
+     * Since the time is not validated against the current simulation clock,
+     * this method is intended only to rebuild events that were already scheduled
+     * (such as when restoring a simulation checkpoint).
+     *
+     * @param type the internal type of the event
+     * @param time the simulation time that the event should occur (in seconds)
+     * @param src the source entity which is sending the message
+     * @param dest the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the new event
+     * @since CloudSim Plus 7.1.0
+     */
+    public static CloudSimEvent ofTime(
+        final Type type, final double time,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        return new CloudSimEvent(time, type, src, dest, tag, data);
+    }
+
     @Override
     public void setSerial(final long serial) {
         this.serial = serial;
@@ -56,6 +56,32 @@ public class FutureQueue implements EventQueue {
         sortedSet.add(newEvent);
     }
 
+    /**
+     * Adds an event to the queue keeping its current serial number,
+     * instead of generating a new one.
+     * It's used to restore events that were already in a queue,
+     * ensuring they are processed in the same order as before.
+     *
+     * @param event the event to be put in the queue
+     * @see #restoreSerials(long, long)
+     */
+    public void addEventKeepingSerial(final SimEvent event) {
+        sortedSet.add(event);
+        maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
+    }
+
+    /**
+     * Restores the counters used to generate event serial numbers,
+     * after events are added by {@link #addEventKeepingSerial(SimEvent)}.
+     *
+     * @param serial the next serial number for events added by {@link #addEvent(SimEvent)}
+     * @param lowestSerial the lowest serial number used by {@link #addEventFirst(SimEvent)}
+     */
+    public void restoreSerials(final long serial, final long lowestSerial) {
+        this.serial = serial;
+        this.lowestSerial = lowestSerial;
+    }
+
     @Override
     public Iterator<SimEvent> iterator() {
         return sortedSet.iterator();
@@ -117,6 +143,11 @@ public class FutureQueue implements EventQueue {
         return serial;
     }
 
+    /** Gets the lowest serial number used by events added by {@link #addEventFirst(SimEvent)}. */
+    public long getLowestSerial() {
+        return lowestSerial;
+    }
+
     /**
      * Maximum number of events that have ever existed at the same time
      * inside the queue.
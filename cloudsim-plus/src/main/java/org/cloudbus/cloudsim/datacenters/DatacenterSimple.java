@@ -10,10 +10,14 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudbus.cloudsim.allocationpolicies.migration.VmAllocationPolicyMigration;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
 import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
 import org.cloudbus.cloudsim.core.events.PredicateType;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.hosts.Host;
@@ -51,7 +55,13 @@ import static org.cloudbus.cloudsim.util.BytesConversion.bitesToBytes;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 1.0
  */
-public class DatacenterSimple extends CloudSimEntity implements Datacenter {
+public class DatacenterSimple extends CloudSimEntity implements Datacenter, Checkpointable {
+    /**
+     * Simulation time before which the processing of Cloudlets is updated every time
+     * it's requested, without considering the {@link Simulation#getMinTimeBetweenEvents()}.
+     * This enables the schedulers to be properly initialized at the simulation start.
+     */
+    private static final double UPDATE_PROCESSING_WARMUP_TIME = 0.111;
 
     /**
      * The last time some Host on the Datacenter was under or overloaded.
@@ -82,6 +92,25 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #getLastProcessTime() */
     private double lastProcessTime;
 
+    /**
+     * Times this Datacenter has requested to update the processing of Cloudlets
+     * and that weren't processed yet.
+     * Just a single {@link CloudSimTags#VM_UPDATE_CLOUDLET_PROCESSING} event,
+     * for the earliest time, is kept into the future event queue,
+     * instead of one event for every Cloudlet submitted.
+     * Times too close to the last update, which would be discarded by
+     * {@link #isTimeToUpdateCloudletsProcessing()}, are not stored at all.
+     * @see #nextProcessingUpdate
+     */
+    private final NavigableSet<Double> processingUpdateTimes;
+
+    /**
+     * The {@link CloudSimTags#VM_UPDATE_CLOUDLET_PROCESSING} event sent for the first of the
+     * {@link #processingUpdateTimes}, or {@link SimEvent#NULL} if there is none.
+     * When an earlier update is requested, the event is cancelled and sent again for the new time.
+     */
+    private SimEvent nextProcessingUpdate;
+
     /** @see #getSchedulingInterval() */
     private double schedulingInterval;
 
@@ -98,6 +127,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #getHostSearchRetryDelay() */
     private double hostSearchRetryDelay;
 
+    /** @see #getMigrationScheduler() */
+    private VmMigrationScheduler migrationScheduler;
+
     private PowerModelDatacenter powerModel = PowerModelDatacenter.NULL;
     private long activeHostsNumber;
 
@@ -196,6 +228,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         this.hostSearchRetryDelay = -1;
 
         this.lastMigrationMap = Collections.emptyMap();
+        this.processingUpdateTimes = new TreeSet<>();
+        this.nextProcessingUpdate = SimEvent.NULL;
 
         setVmAllocationPolicy(vmAllocationPolicy);
     }
@@ -229,6 +263,44 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextId;
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeDouble(lastProcessTime);
+        writer.writeDouble(lastUnderOrOverloadedDetection);
+        writer.writeLong(activeHostsNumber);
+        writer.writeInt(processingUpdateTimes.size());
+        processingUpdateTimes.forEach(writer::writeDouble);
+
+        writer.writeInt(hostList.size());
+        hostList.forEach(writer::writeState);
+        writer.writeState(vmAllocationPolicy);
+        writer.writeState(migrationScheduler);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.lastProcessTime = reader.readDouble();
+        this.lastUnderOrOverloadedDetection = reader.readDouble();
+        this.activeHostsNumber = reader.readLong();
+        //The restored event is a different object, which is processed as any other update event
+        this.nextProcessingUpdate = SimEvent.NULL;
+        processingUpdateTimes.clear();
+        final int updateTimes = reader.readInt();
+        for (int i = 0; i < updateTimes; i++) {
+            processingUpdateTimes.add(reader.readDouble());
+        }
+
+        final int hostsNumber = reader.readInt();
+        if (hostsNumber != hostList.size()) {
+            final var msg = "%s has %d Hosts but the checkpoint has %d. The simulation scenario doesn't match the checkpoint.";
+            throw new IllegalStateException(String.format(msg, this, hostList.size(), hostsNumber));
+        }
+
+        hostList.forEach(reader::readState);
+        reader.readState(vmAllocationPolicy);
+        reader.readState(migrationScheduler);
+    }
+
     @Override
     public void processEvent(final SimEvent evt) {
         if (processCloudletEvents(evt) || processVmEvents(evt) || processNetworkEvents(evt) || processHostEvents(evt)) {
@@ -330,7 +402,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTags.VM_DESTROY_ACK -> processVmDestroy(evt, true);
             case CloudSimTags.VM_MIGRATE -> finishVmMigration(evt, false);
             case CloudSimTags.VM_MIGRATE_ACK -> finishVmMigration(evt, true);
-            case CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING -> updateCloudletProcessing() != Double.MAX_VALUE;
+            case CloudSimTags.VM_MIGRATION_UPDATE -> updateVmMigrations();
+            case CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING -> processCloudletProcessingUpdate(evt);
             default -> false;
         };
     }
@@ -415,13 +488,28 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     }
 
     /**
-     * Processes the submission of a Cloudlet by a DatacenterBroker.
+     * Processes the submission of Cloudlets by a DatacenterBroker.
+     * The event data may be a single Cloudlet or a List of Cloudlets
+     * submitted at the same time.
+     *
      * @param evt information about the event just happened
      * @param ack indicates if the event's sender expects to receive an acknowledgement
-     * @return
+     * @return true if some Cloudlet was submitted, false otherwise
      */
     protected boolean processCloudletSubmit(final SimEvent evt, final boolean ack) {
-        final var cloudlet = (Cloudlet) evt.getData();
+        if (evt.getData() instanceof List<?> cloudletList) {
+            boolean submitted = false;
+            for (final Object cloudlet : cloudletList) {
+                submitted |= processCloudletSubmit((Cloudlet) cloudlet, ack);
+            }
+
+            return submitted;
+        }
+
+        return processCloudletSubmit((Cloudlet) evt.getData(), ack);
+    }
+
+    private boolean processCloudletSubmit(final Cloudlet cloudlet, final boolean ack) {
         if (cloudlet.isFinished()) {
             notifyBrokerAboutAlreadyFinishedCloudlet(cloudlet, ack);
             return false;
@@ -441,16 +529,15 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     private void submitCloudletToVm(final Cloudlet cloudlet, final boolean ack) {
         // time to transfer cloudlet's files
-        final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
+        final double fileTransferTime =
+            getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles(), cloudlet.getVm().getHost());
 
         final var scheduler = cloudlet.getVm().getCloudletScheduler();
         final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
 
         // if this cloudlet is in the exec queue
         if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
-            send(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+            scheduleCloudletProcessingUpdate(getCloudletProcessingUpdateInterval(estimatedFinishTime));
         }
 
         ((CustomerEntityAbstract)cloudlet).setCreationTime();
@@ -501,9 +588,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final double estimatedFinishTime = cloudlet.getVm().getCloudletScheduler().cloudletResume(cloudlet);
 
         if (estimatedFinishTime > 0.0 && estimatedFinishTime > clock()) {
-            schedule(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+            scheduleCloudletProcessingUpdate(getCloudletProcessingUpdateInterval(estimatedFinishTime));
         }
 
         sendAck(ack, cloudlet, CloudSimTags.CLOUDLET_RESUME_ACK);
@@ -755,7 +840,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         if (nextSimulationDelay != Double.MAX_VALUE) {
             nextSimulationDelay = getCloudletProcessingUpdateInterval(nextSimulationDelay);
-            schedule(nextSimulationDelay, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING);
+            scheduleCloudletProcessingUpdate(nextSimulationDelay);
         }
         setLastProcessTime(clock());
 
@@ -763,11 +848,98 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationDelay;
     }
 
+    /**
+     * Requests the Datacenter to update the processing of Cloudlets after a given delay.
+     * The time is added to the {@link #processingUpdateTimes} and,
+     * if it's the earliest one, the {@link #nextProcessingUpdate} event is moved to it.
+     * Updates during the warm-up time are always sent, as the schedulers are being initialized.
+     *
+     * @param delay the delay to update Cloudlets processing
+     *              (a relative delay from the current simulation time)
+     */
+    private void scheduleCloudletProcessingUpdate(final double delay) {
+        final double time = clock() + delay;
+        if (time < UPDATE_PROCESSING_WARMUP_TIME) {
+            schedule(new CloudSimEvent(delay, this, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING));
+            return;
+        }
+
+        if (time >= getMinProcessingUpdateTime() && processingUpdateTimes.add(time)) {
+            scheduleNextProcessingUpdate();
+        }
+    }
+
+    /**
+     * Ensures the {@link #nextProcessingUpdate} event is the one for the earliest of the {@link #processingUpdateTimes},
+     * cancelling the current event if it's for another time.
+     * Times that became too close to the last update are discarded.
+     */
+    private void scheduleNextProcessingUpdate() {
+        processingUpdateTimes.headSet(getMinProcessingUpdateTime(), false).clear();
+        final double time = processingUpdateTimes.isEmpty() ? Double.MAX_VALUE : processingUpdateTimes.first();
+        if (nextProcessingUpdate.getTime() == time) {
+            return;
+        }
+
+        if (nextProcessingUpdate != SimEvent.NULL) {
+            getSimulation().cancel(nextProcessingUpdate);
+            nextProcessingUpdate = SimEvent.NULL;
+        }
+
+        //No event is sent after the simulation is terminated, since the pending requests won't be processed anymore
+        if (time == Double.MAX_VALUE || !getSimulation().isRunning()) {
+            return;
+        }
+
+        /* The event is created for the exact requested time, instead of a delay from the current time,
+         * which may not be the same time due to floating point errors.
+         * The Datacenter is the event data to distinguish the update from the ones sent by other objects. */
+        final var evt = CloudSimEvent.ofTime(
+            SimEvent.Type.SEND, time, this, this, CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING, this);
+        if (schedule(evt)) {
+            nextProcessingUpdate = evt;
+        }
+    }
+
+    /**
+     * Gets the earliest time the processing of Cloudlets can be updated again,
+     * according to {@link #isTimeToUpdateCloudletsProcessing()}.
+     * @return the earliest time for the next update (in seconds)
+     */
+    private double getMinProcessingUpdateTime() {
+        return lastProcessTime + getSimulation().getMinTimeBetweenEvents();
+    }
+
+    /**
+     * Processes a {@link CloudSimTags#VM_UPDATE_CLOUDLET_PROCESSING} event.
+     * @param evt the event to process
+     * @return true if the processing of Cloudlets was updated and a new update was scheduled, false otherwise
+     * @see #updateCloudletProcessing()
+     */
+    private boolean processCloudletProcessingUpdate(final SimEvent evt) {
+        if (evt.getData() != this) {
+            return updateCloudletProcessing() != Double.MAX_VALUE;
+        }
+
+        if (evt == nextProcessingUpdate) {
+            nextProcessingUpdate = SimEvent.NULL;
+        }
+
+        /* If there is no requested time up to now, the event is a duplicate of an update already processed
+         * (which just happens after a checkpoint is restored, since the restored event cannot be cancelled). */
+        final var dueTimes = processingUpdateTimes.headSet(evt.getTime(), true);
+        final boolean due = !dueTimes.isEmpty();
+        dueTimes.clear();
+        final boolean updated = due && updateCloudletProcessing() != Double.MAX_VALUE;
+        scheduleNextProcessingUpdate();
+        return updated;
+    }
+
     private boolean isTimeToUpdateCloudletsProcessing() {
         // if some time passed since last processing
         // R: for term is to allow loop at simulation start. Otherwise, one initial
         // simulation step is skipped and schedulers are not properly initialized
-        return clock() < 0.111 ||
+        return clock() < UPDATE_PROCESSING_WARMUP_TIME ||
                clock() >= lastProcessTime + getSimulation().getMinTimeBetweenEvents();
     }
 
@@ -843,6 +1015,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         final Host sourceHost = sourceVm.getHost();
+        if (migrationScheduler != null) {
+            scheduleVmMigration(sourceVm, sourceHost, targetHost);
+            return;
+        }
+
         final double delay = timeToMigrateVm(sourceVm, targetHost);
         final String msg1 =
             Host.NULL.equals(sourceHost) ?
@@ -860,6 +1037,52 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
     }
 
+    /**
+     * Submits a VM migration to the {@link #getMigrationScheduler() migration scheduler},
+     * which will start it as soon as the concurrency limits allow.
+     *
+     * @param vm the VM to migrate
+     * @param sourceHost the Host where the VM is currently placed
+     * @param targetHost the Host to migrate the VM to
+     */
+    private void scheduleVmMigration(final Vm vm, final Host sourceHost, final Host targetHost) {
+        LOGGER.info(
+            "{}: {}: Migration of {} from {} to {} is requested ({} running and {} waiting migrations).",
+            getSimulation().clockStr(), getName(), vm, sourceHost, targetHost,
+            migrationScheduler.getRunningMigrationsNumber(), migrationScheduler.getWaitingMigrationsNumber());
+
+        //Gets the RAM size before the target Host allocates resources for the VM, which may change its capacity
+        final long ramSize = vm.getRam().getCapacity();
+        if(targetHost.addMigratingInVm(vm)) {
+            sourceHost.addVmMigratingOut(vm);
+            migrationScheduler.submit(vm, sourceHost, targetHost, ramSize, clock());
+            updateVmMigrations();
+        }
+    }
+
+    /**
+     * Updates the progress of the migrations managed by the {@link #getMigrationScheduler() migration scheduler},
+     * sending a {@link CloudSimTags#VM_MIGRATE} event for each finished migration
+     * and scheduling the next update.
+     *
+     * @return true to indicate the event was processed
+     * @see CloudSimTags#VM_MIGRATION_UPDATE
+     */
+    private boolean updateVmMigrations() {
+        for (final Map.Entry<Vm, Host> entry : migrationScheduler.update(clock())) {
+            sendNow(this, CloudSimTags.VM_MIGRATE, entry);
+        }
+
+        //The event is created for the exact time a migration round finishes, avoiding rounding errors on the delay
+        final double nextUpdateTime = migrationScheduler.nextUpdateTimeToSchedule();
+        if (nextUpdateTime < Double.MAX_VALUE) {
+            schedule(CloudSimEvent.ofTime(
+                SimEvent.Type.SEND, nextUpdateTime, this, this, CloudSimTags.VM_MIGRATION_UPDATE, null));
+        }
+
+        return true;
+    }
+
     /**
      * Computes the expected time to migrate a VM to a given Host.
      * It is computed as: VM RAM (MB)/Target Host Bandwidth (Mb/s).
@@ -1066,6 +1289,34 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return result;
     }
 
+    /**
+     * Gets the scheduler that limits the number of concurrent VM migrations
+     * and shares the network bandwidth among them.
+     * If no scheduler is set (the default), every migration is started when requested and takes
+     * the VM RAM size divided by the target Host {@link #getBandwidthPercentForMigration() bandwidth for migration},
+     * regardless of other migrations.
+     *
+     * @return an {@link Optional} containing the scheduler or an empty Optional if it was not set
+     */
+    public Optional<VmMigrationScheduler> getMigrationScheduler() {
+        return Optional.ofNullable(migrationScheduler);
+    }
+
+    /**
+     * Sets the scheduler that limits the number of concurrent VM migrations
+     * and shares the network bandwidth among them.
+     * It must be set before any migration is requested.
+     *
+     * @param migrationScheduler the scheduler to set
+     * @return
+     * @see #getMigrationScheduler()
+     */
+    public Datacenter setMigrationScheduler(final VmMigrationScheduler migrationScheduler) {
+        requireNonNull(migrationScheduler).setDatacenter(this);
+        this.migrationScheduler = migrationScheduler;
+        return this;
+    }
+
     @Override
     public double getBandwidthPercentForMigration() {
         return bandwidthPercentForMigration;
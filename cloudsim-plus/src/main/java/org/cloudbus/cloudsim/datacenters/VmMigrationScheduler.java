@@ -0,0 +1,691 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.Objects.requireNonNull;
+import static org.cloudbus.cloudsim.util.BytesConversion.bitesToBytes;
+
+/**
+ * Schedules the live migration of VMs inside a {@link DatacenterSimple},
+ * limiting the number of concurrent migrations and sharing the network bandwidth among them.
+ * When a scheduler is {@link DatacenterSimple#setMigrationScheduler(VmMigrationScheduler) set to a Datacenter},
+ * migration requests exceeding the {@link #setMaxMigrationsPerHost(int) per Host}
+ * or {@link #setMaxMigrationsPerDatacenter(int) per Datacenter} limits are queued
+ * and started in FIFO order as soon as running migrations finish
+ * (a queued migration may start before older ones whose Hosts are still busy).
+ *
+ * <p>The bandwidth available for migrations in each Host is the
+ * {@link Datacenter#getBandwidthPercentForMigration() percentage of the Host bandwidth reserved for that}.
+ * The upload link of the source Host and the download link of the target Host are shared among all
+ * running migrations using them, according to a max-min fair allocation.
+ * That way, the transfer rate of each migration changes as other migrations start and finish.</p>
+ *
+ * <p>If a {@link #setDirtyPageRateFunction(ToDoubleFunction) dirty page rate} is defined,
+ * the pre-copy live migration is modeled:
+ * the whole VM RAM is transferred in the first round and each following round transfers the memory
+ * dirtied during the previous one.
+ * When the dirtied memory is lower than the {@link #setStopCopyThreshold(double) stop-and-copy threshold},
+ * doesn't decrease anymore or the {@link #setMaxPreCopyRounds(int) maximum number of pre-copy rounds} is reached,
+ * the VM is suspended to transfer the remaining dirtied memory (a stop-and-copy round),
+ * whose duration is the VM downtime.
+ * Otherwise, just the VM RAM is transferred.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class VmMigrationScheduler implements Checkpointable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VmMigrationScheduler.class.getSimpleName());
+
+    /**
+     * Default value for the {@link #getMaxMigrationsPerHost() maximum number of concurrent migrations per Host}.
+     */
+    public static final int DEF_MAX_MIGRATIONS_PER_HOST = 2;
+
+    /**
+     * Default value for the {@link #getMaxPreCopyRounds() maximum number of pre-copy rounds}.
+     */
+    public static final int DEF_MAX_PRE_COPY_ROUNDS = 30;
+
+    /**
+     * Default value for the {@link #getStopCopyThreshold() stop-and-copy threshold} (in MB).
+     */
+    public static final double DEF_STOP_COPY_THRESHOLD = 50;
+
+    /**
+     * The amount of data (in MB) below which a migration round is considered finished,
+     * absorbing rounding errors on the transfer progress.
+     * A round is also finished when the time it was expected to finish is reached,
+     * since the remaining data may not reach this value due to the precision of large simulation times.
+     */
+    private static final double DATA_PRECISION = 1e-6;
+
+    /**
+     * Information about a migration request.
+     */
+    private static final class Migration {
+        private final Vm vm;
+        private final Host sourceHost;
+        private final Host targetHost;
+        private final double requestTime;
+
+        /** The VM RAM size (in MB) to transfer in the first round. */
+        private final long ramSize;
+        private double roundStartTime;
+
+        /** The amount of memory (in MB) to transfer in the current round. */
+        private double roundData;
+
+        /** The amount of memory (in MB) still to be transferred in the current round. */
+        private double remainingData;
+
+        /** The current transfer rate (in MB/s). */
+        private double rate;
+        private int preCopyRounds;
+        private boolean stopAndCopy;
+
+        /** Indicates if a warning was logged because the migration has no bandwidth to transfer data. */
+        private boolean stalled;
+
+        private Migration(final Vm vm, final Host sourceHost, final Host targetHost, final long ramSize, final double requestTime) {
+            this.vm = vm;
+            this.ramSize = ramSize;
+            this.sourceHost = sourceHost;
+            this.targetHost = targetHost;
+            this.requestTime = requestTime;
+        }
+
+        private void writeState(final CheckpointWriter writer) {
+            writer.writeVm(vm);
+            writer.writeHost(sourceHost);
+            writer.writeHost(targetHost);
+            writer.writeLong(ramSize);
+            writer.writeDouble(requestTime);
+            writer.writeDouble(roundStartTime);
+            writer.writeDouble(roundData);
+            writer.writeDouble(remainingData);
+            writer.writeDouble(rate);
+            writer.writeInt(preCopyRounds);
+            writer.writeBoolean(stopAndCopy);
+            writer.writeBoolean(stalled);
+        }
+
+        private static Migration readState(final CheckpointReader reader) {
+            final var migration = new Migration(
+                reader.readVm(), reader.readHost(), reader.readHost(), reader.readLong(), reader.readDouble());
+            migration.roundStartTime = reader.readDouble();
+            migration.roundData = reader.readDouble();
+            migration.remainingData = reader.readDouble();
+            migration.rate = reader.readDouble();
+            migration.preCopyRounds = reader.readInt();
+            migration.stopAndCopy = reader.readBoolean();
+            migration.stalled = reader.readBoolean();
+            return migration;
+        }
+    }
+
+    /**
+     * The link of a Host used to upload or download VMs being migrated.
+     */
+    private static final class Link {
+        private double availableRate;
+        private int unassignedMigrations;
+    }
+
+    /** @see #setDatacenter(Datacenter) */
+    private Datacenter datacenter;
+
+    /** @see #getMaxMigrationsPerHost() */
+    private int maxMigrationsPerHost;
+
+    /** @see #getMaxMigrationsPerDatacenter() */
+    private int maxMigrationsPerDatacenter;
+
+    /** @see #getMaxPreCopyRounds() */
+    private int maxPreCopyRounds;
+
+    /** @see #getStopCopyThreshold() */
+    private double stopCopyThreshold;
+
+    /** @see #setDirtyPageRateFunction(ToDoubleFunction) */
+    private ToDoubleFunction<Vm> dirtyPageRateFunction;
+
+    private final List<Migration> waitingMigrations;
+    private final List<Migration> runningMigrations;
+
+    /** The number of running migrations where each Host is the source or the target. */
+    private final Map<Host, Integer> runningMigrationsByHost;
+
+    /** The last time the progress of running migrations was updated. */
+    private double lastUpdateTime;
+
+    /** Times of update events that were already scheduled and weren't processed yet. */
+    private final NavigableSet<Double> scheduledUpdateTimes;
+
+    private long finishedMigrations;
+    private int maxConcurrentMigrations;
+    private double totalMigrationTime;
+    private double totalWaitingTime;
+    private double totalDowntime;
+    private double transferredData;
+
+    /**
+     * Creates a VM migration scheduler
+     * allowing at most {@link #DEF_MAX_MIGRATIONS_PER_HOST} concurrent migrations per Host
+     * and no limit per Datacenter.
+     */
+    public VmMigrationScheduler() {
+        this.maxMigrationsPerHost = DEF_MAX_MIGRATIONS_PER_HOST;
+        this.maxMigrationsPerDatacenter = Integer.MAX_VALUE;
+        this.maxPreCopyRounds = DEF_MAX_PRE_COPY_ROUNDS;
+        this.stopCopyThreshold = DEF_STOP_COPY_THRESHOLD;
+        this.dirtyPageRateFunction = vm -> 0;
+        this.waitingMigrations = new LinkedList<>();
+        this.runningMigrations = new ArrayList<>();
+        this.runningMigrationsByHost = new HashMap<>();
+        this.scheduledUpdateTimes = new TreeSet<>();
+    }
+
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writeMigrations(writer, waitingMigrations);
+        writeMigrations(writer, runningMigrations);
+        writer.writeDouble(lastUpdateTime);
+        writer.writeInt(scheduledUpdateTimes.size());
+        scheduledUpdateTimes.forEach(writer::writeDouble);
+        writer.writeLong(finishedMigrations);
+        writer.writeInt(maxConcurrentMigrations);
+        writer.writeDouble(totalMigrationTime);
+        writer.writeDouble(totalWaitingTime);
+        writer.writeDouble(totalDowntime);
+        writer.writeDouble(transferredData);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        readMigrations(reader, waitingMigrations);
+        readMigrations(reader, runningMigrations);
+        runningMigrationsByHost.clear();
+        for (final Migration migration : runningMigrations) {
+            addRunningMigration(migration.sourceHost);
+            addRunningMigration(migration.targetHost);
+        }
+
+        this.lastUpdateTime = reader.readDouble();
+        scheduledUpdateTimes.clear();
+        final int updates = reader.readInt();
+        for (int i = 0; i < updates; i++) {
+            scheduledUpdateTimes.add(reader.readDouble());
+        }
+
+        this.finishedMigrations = reader.readLong();
+        this.maxConcurrentMigrations = reader.readInt();
+        this.totalMigrationTime = reader.readDouble();
+        this.totalWaitingTime = reader.readDouble();
+        this.totalDowntime = reader.readDouble();
+        this.transferredData = reader.readDouble();
+    }
+
+    private static void writeMigrations(final CheckpointWriter writer, final List<Migration> migrations) {
+        writer.writeInt(migrations.size());
+        migrations.forEach(migration -> migration.writeState(writer));
+    }
+
+    private static void readMigrations(final CheckpointReader reader, final List<Migration> migrations) {
+        migrations.clear();
+        final int size = reader.readInt();
+        for (int i = 0; i < size; i++) {
+            migrations.add(Migration.readState(reader));
+        }
+    }
+
+    /**
+     * Sets the Datacenter whose migrations are scheduled.
+     * @param datacenter the Datacenter to set
+     * @throws IllegalStateException if the scheduler is already being used by another Datacenter
+     */
+    void setDatacenter(final Datacenter datacenter) {
+        if (this.datacenter != null && this.datacenter != datacenter) {
+            throw new IllegalStateException("The VmMigrationScheduler is already being used by " + this.datacenter);
+        }
+
+        this.datacenter = requireNonNull(datacenter);
+    }
+
+    /**
+     * Adds a migration request to the queue of waiting migrations.
+     * The migration is just started when {@link #update(double)} is called.
+     *
+     * @param vm the VM to migrate
+     * @param sourceHost the Host where the VM is currently placed
+     * @param targetHost the Host to migrate the VM to
+     * @param ramSize the VM RAM size (in MB) to transfer
+     * @param time the current simulation time
+     */
+    void submit(final Vm vm, final Host sourceHost, final Host targetHost, final long ramSize, final double time) {
+        waitingMigrations.add(new Migration(vm, sourceHost, targetHost, ramSize, time));
+    }
+
+    /**
+     * Updates the progress of running migrations up to a given time,
+     * finishes the ones that have transferred all data, starts waiting migrations
+     * if the concurrency limits allow and then updates the transfer rate of every running migration.
+     *
+     * @param time the current simulation time
+     * @return the list of migrations that are finished, each one mapping the VM to its target Host
+     */
+    List<Map.Entry<Vm, Host>> update(final double time) {
+        scheduledUpdateTimes.headSet(time, true).clear();
+        final double previousUpdateTime = lastUpdateTime;
+        lastUpdateTime = time;
+
+        final var finishedList = new ArrayList<Map.Entry<Vm, Host>>();
+        final Iterator<Migration> iterator = runningMigrations.iterator();
+        while (iterator.hasNext()) {
+            final Migration migration = iterator.next();
+            final boolean roundFinished = migration.rate > 0 && getRoundFinishTime(migration, previousUpdateTime) <= time;
+            migration.remainingData -= migration.rate * (time - previousUpdateTime);
+            if ((!roundFinished && migration.remainingData > DATA_PRECISION) || startNextRound(migration, time)) {
+                continue;
+            }
+
+            iterator.remove();
+            removeRunningMigration(migration.sourceHost);
+            removeRunningMigration(migration.targetHost);
+            finishedMigrations++;
+            totalMigrationTime += time - migration.requestTime;
+            finishedList.add(new AbstractMap.SimpleEntry<>(migration.vm, migration.targetHost));
+        }
+
+        startWaitingMigrations(time);
+        updateTransferRates();
+        return finishedList;
+    }
+
+    /**
+     * Starts the next round of a migration whose current round has just finished.
+     * @param migration the migration to start the next round
+     * @param time the current simulation time
+     * @return true if a new round was started, false if the migration is finished
+     */
+    private boolean startNextRound(final Migration migration, final double time) {
+        final double roundDuration = time - migration.roundStartTime;
+        if (migration.stopAndCopy) {
+            totalDowntime += roundDuration;
+            return false;
+        }
+
+        final double dirtyPageRate = dirtyPageRateFunction.applyAsDouble(migration.vm);
+        final double dirtiedData = Math.min(dirtyPageRate * roundDuration, migration.ramSize);
+        if (dirtiedData <= 0) {
+            return false;
+        }
+
+        migration.stopAndCopy =
+            dirtiedData <= stopCopyThreshold || dirtiedData >= migration.roundData ||
+            migration.preCopyRounds >= maxPreCopyRounds;
+        if (!migration.stopAndCopy) {
+            migration.preCopyRounds++;
+        }
+
+        startRound(migration, dirtiedData, time);
+        return true;
+    }
+
+    private void startRound(final Migration migration, final double data, final double time) {
+        migration.roundStartTime = time;
+        migration.roundData = data;
+        migration.remainingData = data;
+        transferredData += data;
+    }
+
+    private void startWaitingMigrations(final double time) {
+        final Iterator<Migration> iterator = waitingMigrations.iterator();
+        while (iterator.hasNext() && runningMigrations.size() < maxMigrationsPerDatacenter) {
+            final Migration migration = iterator.next();
+            if (isHostBusy(migration.sourceHost) || isHostBusy(migration.targetHost)) {
+                continue;
+            }
+
+            iterator.remove();
+            migration.preCopyRounds = 1;
+            startRound(migration, migration.ramSize, time);
+            totalWaitingTime += time - migration.requestTime;
+            runningMigrations.add(migration);
+            addRunningMigration(migration.sourceHost);
+            addRunningMigration(migration.targetHost);
+        }
+
+        maxConcurrentMigrations = Math.max(maxConcurrentMigrations, runningMigrations.size());
+    }
+
+    private boolean isHostBusy(final Host host) {
+        return runningMigrationsByHost.getOrDefault(host, 0) >= maxMigrationsPerHost;
+    }
+
+    private void addRunningMigration(final Host host) {
+        if (host != Host.NULL) {
+            runningMigrationsByHost.merge(host, 1, Integer::sum);
+        }
+    }
+
+    private void removeRunningMigration(final Host host) {
+        runningMigrationsByHost.computeIfPresent(host, (h, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Computes the max-min fair transfer rate of each running migration,
+     * using progressive filling: the link with the lowest fair share
+     * defines the rate of all migrations using it which don't have a rate yet,
+     * then such a rate is subtracted from the other links those migrations use.
+     */
+    private void updateTransferRates() {
+        final var uploadLinks = new HashMap<Host, Link>();
+        final var downloadLinks = new HashMap<Host, Link>();
+        for (final Migration migration : runningMigrations) {
+            migration.rate = -1;
+            addToLink(uploadLinks, migration.sourceHost);
+            addToLink(downloadLinks, migration.targetHost);
+        }
+
+        final var links = new ArrayList<Link>(uploadLinks.size() + downloadLinks.size());
+        links.addAll(uploadLinks.values());
+        links.addAll(downloadLinks.values());
+        for (int assigned = 0; assigned < runningMigrations.size(); ) {
+            final Link bottleneck = links.stream()
+                                         .filter(link -> link.unassignedMigrations > 0)
+                                         .min(Comparator.comparingDouble(link -> link.availableRate / link.unassignedMigrations))
+                                         .orElseThrow();
+            final double rate = bottleneck.availableRate / bottleneck.unassignedMigrations;
+            for (final Migration migration : runningMigrations) {
+                final Link upload = uploadLinks.get(migration.sourceHost);
+                final Link download = downloadLinks.get(migration.targetHost);
+                if (migration.rate < 0 && (upload == bottleneck || download == bottleneck)) {
+                    migration.rate = rate;
+                    assigned++;
+                    releaseLink(upload, rate);
+                    releaseLink(download, rate);
+                }
+            }
+        }
+
+        runningMigrations.forEach(this::warnIfStalled);
+    }
+
+    /**
+     * Logs a warning the first time a migration has no bandwidth to transfer data,
+     * since no update is scheduled for it and the migration will never finish.
+     * @param migration the migration to check
+     */
+    private void warnIfStalled(final Migration migration) {
+        if (migration.rate > 0 || migration.stalled) {
+            return;
+        }
+
+        migration.stalled = true;
+        LOGGER.warn(
+            "{}: {}: Migration of {} from {} to {} cannot progress since there is no bandwidth available for migrations " +
+            "(check the Hosts bandwidth and the Datacenter bandwidth percent for migration).",
+            datacenter.getSimulation().clockStr(), getClass().getSimpleName(),
+            migration.vm, migration.sourceHost, migration.targetHost);
+    }
+
+    private void addToLink(final Map<Host, Link> links, final Host host) {
+        if (host == Host.NULL) {
+            return;
+        }
+
+        links.computeIfAbsent(host, h -> {
+            final var link = new Link();
+            link.availableRate = bitesToBytes(h.getBw().getCapacity() * datacenter.getBandwidthPercentForMigration());
+            return link;
+        }).unassignedMigrations++;
+    }
+
+    private static void releaseLink(final Link link, final double rate) {
+        if (link != null) {
+            link.availableRate = Math.max(0, link.availableRate - rate);
+            link.unassignedMigrations--;
+        }
+    }
+
+    /**
+     * Gets the time when the current round of a migration is expected to finish,
+     * according to the data remaining at a given time and its current transfer rate.
+     * @param migration the migration to get the round finish time
+     * @param time the time the remaining data of the migration refers to
+     * @return the expected round finish time
+     */
+    private static double getRoundFinishTime(final Migration migration, final double time) {
+        return time + migration.remainingData / migration.rate;
+    }
+
+    /**
+     * Gets the time when the next migration round is expected to finish,
+     * if an update event for that time wasn't scheduled yet.
+     * @return the time of the next update to schedule or {@link Double#MAX_VALUE}
+     *         if there is no running migration or the update was already scheduled
+     */
+    double nextUpdateTimeToSchedule() {
+        double nextTime = Double.MAX_VALUE;
+        for (final Migration migration : runningMigrations) {
+            if (migration.rate > 0) {
+                nextTime = Math.min(nextTime, getRoundFinishTime(migration, lastUpdateTime));
+            }
+        }
+
+        return nextTime == Double.MAX_VALUE || !scheduledUpdateTimes.add(nextTime) ? Double.MAX_VALUE : nextTime;
+    }
+
+    /**
+     * Gets the maximum number of concurrent migrations where a Host can be the source or the target.
+     * @return
+     */
+    public int getMaxMigrationsPerHost() {
+        return maxMigrationsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of concurrent migrations where a Host can be the source or the target.
+     * @param maxMigrationsPerHost the value to set (must be at least 1)
+     * @return
+     */
+    public VmMigrationScheduler setMaxMigrationsPerHost(final int maxMigrationsPerHost) {
+        if (maxMigrationsPerHost < 1) {
+            throw new IllegalArgumentException("The maximum number of migrations per Host must be at least 1.");
+        }
+
+        this.maxMigrationsPerHost = maxMigrationsPerHost;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of concurrent migrations in the Datacenter.
+     * @return
+     */
+    public int getMaxMigrationsPerDatacenter() {
+        return maxMigrationsPerDatacenter;
+    }
+
+    /**
+     * Sets the maximum number of concurrent migrations in the Datacenter.
+     * @param maxMigrationsPerDatacenter the value to set (must be at least 1)
+     * @return
+     */
+    public VmMigrationScheduler setMaxMigrationsPerDatacenter(final int maxMigrationsPerDatacenter) {
+        if (maxMigrationsPerDatacenter < 1) {
+            throw new IllegalArgumentException("The maximum number of migrations per Datacenter must be at least 1.");
+        }
+
+        this.maxMigrationsPerDatacenter = maxMigrationsPerDatacenter;
+        return this;
+    }
+
+    /**
+     * Sets a function that defines the rate (in MB/s) the memory of a given VM is dirtied (modified)
+     * while it's being migrated, enabling the pre-copy migration model.
+     * If the function returns 0 (the default), just the VM RAM is transferred
+     * and there is no downtime.
+     *
+     * @param dirtyPageRateFunction the function to set
+     * @return
+     */
+    public VmMigrationScheduler setDirtyPageRateFunction(final ToDoubleFunction<Vm> dirtyPageRateFunction) {
+        this.dirtyPageRateFunction = requireNonNull(dirtyPageRateFunction);
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of pre-copy rounds (including the first one, which transfers the whole VM RAM)
+     * before the VM is suspended to transfer the remaining dirtied memory.
+     * @return
+     */
+    public int getMaxPreCopyRounds() {
+        return maxPreCopyRounds;
+    }
+
+    /**
+     * Sets the maximum number of pre-copy rounds (including the first one, which transfers the whole VM RAM)
+     * before the VM is suspended to transfer the remaining dirtied memory.
+     * @param maxPreCopyRounds the value to set (must be at least 1)
+     * @return
+     */
+    public VmMigrationScheduler setMaxPreCopyRounds(final int maxPreCopyRounds) {
+        if (maxPreCopyRounds < 1) {
+            throw new IllegalArgumentException("The maximum number of pre-copy rounds must be at least 1.");
+        }
+
+        this.maxPreCopyRounds = maxPreCopyRounds;
+        return this;
+    }
+
+    /**
+     * Gets the amount of dirtied memory (in MB) below which the VM is suspended
+     * to transfer such memory in a final stop-and-copy round.
+     * @return
+     */
+    public double getStopCopyThreshold() {
+        return stopCopyThreshold;
+    }
+
+    /**
+     * Sets the amount of dirtied memory (in MB) below which the VM is suspended
+     * to transfer such memory in a final stop-and-copy round.
+     * @param stopCopyThreshold the value to set
+     * @return
+     */
+    public VmMigrationScheduler setStopCopyThreshold(final double stopCopyThreshold) {
+        if (stopCopyThreshold < 0) {
+            throw new IllegalArgumentException("The stop-and-copy threshold cannot be negative.");
+        }
+
+        this.stopCopyThreshold = stopCopyThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the number of migrations waiting for the concurrency limits to start.
+     * @return
+     */
+    public int getWaitingMigrationsNumber() {
+        return waitingMigrations.size();
+    }
+
+    /**
+     * Gets the number of migrations currently running.
+     * @return
+     */
+    public int getRunningMigrationsNumber() {
+        return runningMigrations.size();
+    }
+
+    /**
+     * Gets the maximum number of migrations that were running at the same time.
+     * @return
+     */
+    public int getMaxConcurrentMigrations() {
+        return maxConcurrentMigrations;
+    }
+
+    /**
+     * Gets the number of finished migrations.
+     * @return
+     */
+    public long getFinishedMigrationsNumber() {
+        return finishedMigrations;
+    }
+
+    /**
+     * Gets the mean time (in seconds) of finished migrations,
+     * from the migration request until the end of the data transfer (including the waiting time).
+     * @return
+     */
+    public double getMeanMigrationTime() {
+        return finishedMigrations == 0 ? 0 : totalMigrationTime / finishedMigrations;
+    }
+
+    /**
+     * Gets the total time (in seconds) of finished migrations,
+     * from each migration request until the end of the data transfer (including the waiting time).
+     * @return
+     */
+    public double getTotalMigrationTime() {
+        return totalMigrationTime;
+    }
+
+    /**
+     * Gets the total time (in seconds) migrations have waited for the concurrency limits to start.
+     * @return
+     */
+    public double getTotalWaitingTime() {
+        return totalWaitingTime;
+    }
+
+    /**
+     * Gets the total time (in seconds) VMs were suspended during the stop-and-copy round of migrations.
+     * @return
+     */
+    public double getTotalDowntime() {
+        return totalDowntime;
+    }
+
+    /**
+     * Gets the total amount of memory (in MB) transferred by started migrations,
+     * including the memory dirtied during pre-copy rounds.
+     * @return
+     */
+    public double getTransferredData() {
+        return transferredData;
+    }
+}
@@ -88,8 +88,14 @@ public class ExponentialDistr extends ExponentialDistribution implements Continu
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * If the distribution uses a {@link JDKSplittableRandomGenerator},
+     * the value is generated by its faster ziggurat-based {@link JDKSplittableRandomGenerator#nextExponential()}.
+     * @return {@inheritDoc}
+     */
     @Override
     public double originalSample() {
-        return super.sample();
+        return random instanceof JDKSplittableRandomGenerator gen ? getMean() * gen.nextExponential() : super.sample();
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.distributions;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link RandomGenerator} that internally uses a {@link SplittableGenerator}
+ * from the {@link java.util.random} package, such as the LXM family of generators.
+ * Such generators are much faster than the {@link org.apache.commons.math3.random.Well19937c}
+ * used by default (see {@link StatisticalDistribution#newDefaultGen(long)})
+ * and, differently from the {@link JDKThreadLocalRandomGenerator}, accept a seed,
+ * so that simulation experiments can be reproduced.
+ *
+ * <p>The main feature of this generator is that it can be {@link #split()}
+ * to create new generators whose sequences are statistically independent
+ * of the sequence of the original generator.
+ * That is the recommended way to provide PRNGs for multiple experiment runs,
+ * Datacenters, brokers or Hosts, instead of using consecutive seeds,
+ * which gives no guarantee of independence between the generated sequences.
+ * </p>
+ *
+ * <p>Since the {@link #nextGaussian()} and {@link #nextExponential()}
+ * methods rely on the JDK's ziggurat-based implementations,
+ * distributions such as the {@link NormalDistr} and {@link ExponentialDistr}
+ * are sampled faster when they use this generator.</p>
+ *
+ * <p>This class is not thread-safe. For parallel experiments,
+ * each thread must use its own generator, usually created by calling {@link #split()}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class JDKSplittableRandomGenerator implements RandomGenerator {
+    /**
+     * The name of the default algorithm used by the generator.
+     * @see RandomGeneratorFactory#of(String)
+     */
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    private final RandomGeneratorFactory<SplittableGenerator> factory;
+    private SplittableGenerator generator;
+
+    /**
+     * Creates a generator using the {@link #DEFAULT_ALGORITHM}.
+     * @param seed the seed to initialize the generator
+     */
+    public JDKSplittableRandomGenerator(final long seed) {
+        this(DEFAULT_ALGORITHM, seed);
+    }
+
+    /**
+     * Creates a generator using a given algorithm.
+     * @param algorithm the name of a splittable algorithm available in the {@link java.util.random} package,
+     *                  such as "L64X128MixRandom", "L64X256MixRandom" or "SplittableRandom"
+     * @param seed the seed to initialize the generator
+     * @throws IllegalArgumentException when the algorithm is unknown or is not splittable
+     */
+    public JDKSplittableRandomGenerator(final String algorithm, final long seed) {
+        this.factory = RandomGeneratorFactory.of(requireNonNull(algorithm));
+        if(!factory.isSplittable()){
+            throw new IllegalArgumentException("The random generator algorithm " + algorithm + " is not splittable");
+        }
+
+        this.generator = factory.create(seed);
+    }
+
+    private JDKSplittableRandomGenerator(
+        final RandomGeneratorFactory<SplittableGenerator> factory,
+        final SplittableGenerator generator)
+    {
+        this.factory = factory;
+        this.generator = generator;
+    }
+
+    /**
+     * Creates a new generator, using the same algorithm,
+     * whose sequence is statistically independent of the sequence of this one.
+     * Splitting changes the state of this generator,
+     * therefore, the n-th split of generators initialized with the same seed
+     * always produces the same sequence.
+     *
+     * @return the new generator
+     */
+    public JDKSplittableRandomGenerator split() {
+        return new JDKSplittableRandomGenerator(factory, generator.split());
+    }
+
+    @Override
+    public void setSeed(final int seed) {
+        setSeed((long) seed);
+    }
+
+    @Override
+    public void setSeed(final int[] seed) {
+        long combined = 0;
+        for (final int value : seed) {
+            combined = combined * 31 + value;
+        }
+
+        setSeed(combined);
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        this.generator = factory.create(seed);
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        generator.nextBytes(bytes);
+    }
+
+    @Override
+    public int nextInt() {
+        return generator.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return generator.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return generator.nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return generator.nextBoolean();
+    }
+
+    @Override
+    public float nextFloat() {
+        return generator.nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return generator.nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     * It uses the JDK's modified ziggurat algorithm.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double nextGaussian() {
+        return generator.nextGaussian();
+    }
+
+    /**
+     * Gets the next pseudo-random value following an exponential distribution with mean 1,
+     * using the JDK's modified ziggurat algorithm.
+     * @return the next exponentially-distributed value
+     */
+    public double nextExponential() {
+        return generator.nextExponential();
+    }
+}
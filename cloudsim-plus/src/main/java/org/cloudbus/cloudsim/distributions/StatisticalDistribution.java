@@ -104,6 +104,20 @@ public interface StatisticalDistribution {
         return new Well19937c(seed);
     }
 
+    /**
+     * Instantiates a {@link JDKSplittableRandomGenerator}, a faster alternative to the
+     * {@link #newDefaultGen(long) default PRNG} that can be {@link JDKSplittableRandomGenerator#split() split}
+     * into statistically independent generators.
+     * The created PRNG can be given to any {@code ContinuousDistribution} constructor
+     * that accepts a {@link RandomGenerator}.
+     *
+     * @param seed the seed to set
+     * @see JDKSplittableRandomGenerator
+     */
+    static JDKSplittableRandomGenerator newSplittableGen(final long seed){
+        return new JDKSplittableRandomGenerator(seed);
+    }
+
     static long defaultSeed(){
         return System.nanoTime();
     }
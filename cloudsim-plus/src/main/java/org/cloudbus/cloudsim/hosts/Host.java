@@ -15,6 +15,7 @@ import org.cloudbus.cloudsim.power.PowerAware;
 import org.cloudbus.cloudsim.power.models.PowerModelHost;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.FileCache;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.Pe.Status;
 import org.cloudbus.cloudsim.resources.Ram;
@@ -233,6 +234,8 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
     /**
      * Gets the list of working Processing Elements (PEs) of the host.
      * It's the list of all PEs which are not <b>FAILEd</b>.
+     * The list may be a live read-only view which reflects further PE status changes,
+     * so it must be copied if a snapshot is required.
      *
      * @return the list working (non-failed) Host PEs
      */
@@ -241,6 +244,8 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
     /**
      * Gets the list of working Processing Elements (PEs) of the host,
      * <b>which excludes failed PEs</b>.
+     * The list may be a live read-only view which reflects further PE status changes,
+     * so it must be copied if a snapshot is required.
      *
      * @return the list working (non-failed) Host PEs
      */
@@ -249,11 +254,20 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
     /**
      * Gets the list of Free Processing Elements (PEs) of the host,
      * <b>which excludes failed PEs</b>.
+     * The list may be a live read-only view which reflects further PE status changes,
+     * so it must be copied if a snapshot is required.
      *
      * @return the list free (non-failed) Host PEs
      */
     List<Pe> getFreePeList();
 
+    /**
+     * Sets the status of a given (sub)list of {@link Pe}s from this Host to a new status.
+     * @param peList the (sub)list of {@link Pe} to change the status
+     * @param newStatus the new status
+     */
+    void setPeStatus(List<Pe> peList, Pe.Status newStatus);
+
     /**
      * Gets the number of PEs that are free to be used by any VM.
      *
@@ -575,6 +589,10 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
      * Adds a listener object that will be notified every time
      * the host updates the processing of all its {@link Vm VMs}.
      *
+     * <p>Since such notifications happen very often, the event info object
+     * given to the listener may be reused across notifications,
+     * therefore it must not be kept after the listener returns.</p>
+     *
      * @param listener the OnUpdateProcessingListener to add
      * @return
      * @see #updateProcessing(double)
@@ -744,4 +762,21 @@ public interface Host extends Machine, Comparable<Host>, PowerAware<PowerModelHo
      * when calling {@link #getSuitabilityFor(Vm)}.
      */
     Host setLazySuitabilityEvaluation(boolean lazySuitabilityEvaluation);
+
+    /**
+     * Gets the cache of files stored in the Host local storage,
+     * which avoids transferring files required by Cloudlets from the
+     * {@link org.cloudbus.cloudsim.resources.DatacenterStorage} again.
+     * @return the file cache or {@link FileCache#NULL} if caching is disabled (the default)
+     */
+    FileCache getFileCache();
+
+    /**
+     * Sets the cache of files stored in the Host local storage,
+     * which avoids transferring files required by Cloudlets from the
+     * {@link org.cloudbus.cloudsim.resources.DatacenterStorage} again.
+     * @param fileCache the file cache to set or {@link FileCache#NULL} to disable caching
+     * @return
+     */
+    Host setFileCache(FileCache fileCache);
 }
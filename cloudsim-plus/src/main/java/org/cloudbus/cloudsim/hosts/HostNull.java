@@ -28,6 +28,7 @@ import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.power.models.PowerModelHost;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
+import org.cloudbus.cloudsim.resources.FileCache;
 import org.cloudbus.cloudsim.resources.FileStorage;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.Resource;
@@ -181,6 +182,7 @@ final class HostNull implements Host {
     @Override public List<Pe> getWorkingPeList() { return Collections.emptyList(); }
     @Override public List<Pe> getBusyPeList() { return Collections.emptyList(); }
     @Override public List<Pe> getFreePeList() { return Collections.emptyList(); }
+    @Override public void setPeStatus(List<Pe> peList, Pe.Status newStatus) {/**/}
     @Override public double getCpuPercentUtilization() { return 0.0; }
     @Override public double getCpuPercentRequested() { return 0; }
     @Override public double getCpuMipsUtilization() { return 0.0; }
@@ -198,6 +200,8 @@ final class HostNull implements Host {
     @Override public List<Vm> getMigratableVms() { return Collections.emptyList(); }
     @Override public boolean isLazySuitabilityEvaluation() { return false; }
     @Override public Host setLazySuitabilityEvaluation(boolean lazySuitabilityEvaluation) { return this; }
+    @Override public FileCache getFileCache() { return FileCache.NULL; }
+    @Override public Host setFileCache(FileCache fileCache) { return this; }
     @Override public double getTotalUpTime() { return 0; }
     @Override public double getTotalUpTimeHours() { return 0; }
     @Override public void setShutdownTime(double shutdownTime) {/**/}
@@ -23,9 +23,10 @@ import org.cloudbus.cloudsim.vms.*;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
+import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfoReusable;
 
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -42,7 +43,7 @@ import static java.util.stream.Collectors.toList;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 1.0
  */
-public class HostSimple implements Host {
+public class HostSimple implements Host, Checkpointable {
     private static long defaultRamCapacity = (long) BytesConversion.gigaToMega(10);
     private static long defaultBwCapacity = 1000;
     private static long defaultStorageCapacity = (long) BytesConversion.gigaToMega(500);
@@ -50,7 +51,7 @@ public class HostSimple implements Host {
     protected HostResourceStats cpuUtilizationStats;
 
     /** @see #getStateHistory() */
-    private final List<HostStateHistoryEntry> stateHistory;
+    private List<HostStateHistoryEntry> stateHistory;
     private boolean activateOnDatacenterStartup;
 
     /**@see #getPowerModel() */
@@ -109,23 +110,36 @@ public class HostSimple implements Host {
     /** @see #getPeList() */
     private List<Pe> peList;
 
+    /*
+     * The collections below are mostly empty during the whole simulation for most Hosts.
+     * They are initialized as shared empty collections and just replaced
+     * by mutable ones when the first element is added,
+     * reducing the memory footprint of large-scale scenarios.
+     */
+
     /** @see #getVmsMigratingIn() */
-    private final Set<Vm> vmsMigratingIn;
+    private Set<Vm> vmsMigratingIn;
 
     /** @see #getVmsMigratingOut() */
-    private final Set<Vm> vmsMigratingOut;
+    private Set<Vm> vmsMigratingOut;
 
     /** @see #getDatacenter() */
     private Datacenter datacenter;
 
     /** @see #addOnUpdateProcessingListener(EventListener) */
-    private final Set<EventListener<HostUpdatesVmsProcessingEventInfo>> onUpdateProcessingListeners;
+    private Set<EventListener<HostUpdatesVmsProcessingEventInfo>> onUpdateProcessingListeners;
+
+    /**
+     * The event info reused to notify {@link #onUpdateProcessingListeners},
+     * lazily created when the first notification is sent.
+     */
+    private HostUpdatesVmsProcessingEventInfoReusable onUpdateProcessingEventInfo;
 
     /** @see #addOnStartupListener(EventListener) (EventListener) */
-    private final List<EventListener<HostEventInfo>> onStartupListeners;
+    private List<EventListener<HostEventInfo>> onStartupListeners;
 
     /** @see #addOnShutdownListener(EventListener) (EventListener) */
-    private final List<EventListener<HostEventInfo>> onShutdownListeners;
+    private List<EventListener<HostEventInfo>> onShutdownListeners;
 
     /** @see #getSimulation() */
     private Simulation simulation;
@@ -134,7 +148,7 @@ public class HostSimple implements Host {
     private List<ResourceManageable> resources;
 
     private List<ResourceProvisioner> provisioners;
-    private final List<Vm> vmCreatedList;
+    private List<Vm> vmCreatedList;
 
     /** @see #getFreePesNumber() */
     private int freePesNumber;
@@ -148,8 +162,27 @@ public class HostSimple implements Host {
     /** @see #getFailedPesNumber() */
     private int failedPesNumber;
 
+    /** @see #getFreePeList() */
+    private PeStatusView freePeList;
+
+    /** @see #getBusyPeList() */
+    private PeStatusView busyPeList;
+
+    /** @see #getWorkingPeList() */
+    private PeStatusView workingPeList;
+
+    /**
+     * Maps each PE to its index inside the {@link #peList},
+     * built just when some PE ID doesn't match its index.
+     * @see #getPeIndex(Pe)
+     */
+    private Map<Pe, Integer> peIndexMap;
+
     private boolean lazySuitabilityEvaluation;
 
+    /** @see #getFileCache() */
+    private FileCache fileCache;
+
     /**
      * Creates and powers on a Host without a pre-defined ID,
      * 10GB of RAM, 1000Mbps of Bandwidth and 500GB of Storage.
@@ -280,6 +313,7 @@ public class HostSimple implements Host {
         this.setSimulation(Simulation.NULL);
         this.idleShutdownDeadline = DEF_IDLE_SHUTDOWN_DEADLINE;
         this.lazySuitabilityEvaluation = true;
+        this.fileCache = FileCache.NULL;
 
         this.ram = new Ram(ram);
         this.bw = new Bandwidth(bw);
@@ -293,18 +327,18 @@ public class HostSimple implements Host {
         this.shutdownTime = -1;
         this.setDatacenter(Datacenter.NULL);
 
-        this.onUpdateProcessingListeners = new HashSet<>();
-        this.onStartupListeners = new ArrayList<>();
-        this.onShutdownListeners = new ArrayList<>();
+        this.onUpdateProcessingListeners = Collections.emptySet();
+        this.onStartupListeners = Collections.emptyList();
+        this.onShutdownListeners = Collections.emptyList();
         this.cpuUtilizationStats = HostResourceStats.NULL;
 
-        this.resources = new ArrayList<>();
-        this.vmCreatedList = new ArrayList<>();
-        this.provisioners = new ArrayList<>();
-        this.vmsMigratingIn = new HashSet<>();
-        this.vmsMigratingOut = new HashSet<>();
+        this.resources = Collections.emptyList();
+        this.vmCreatedList = Collections.emptyList();
+        this.provisioners = Collections.emptyList();
+        this.vmsMigratingIn = Collections.emptySet();
+        this.vmsMigratingOut = Collections.emptySet();
         this.powerModel = PowerModelHost.NULL;
-        this.stateHistory = new LinkedList<>();
+        this.stateHistory = Collections.emptyList();
         this.activateOnDatacenterStartup = activate;
     }
 
@@ -390,7 +424,22 @@ public class HostSimple implements Host {
     }
 
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
-        onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime)));
+        if(onUpdateProcessingListeners.isEmpty()){
+            return;
+        }
+
+        if(onUpdateProcessingEventInfo == null){
+            onUpdateProcessingEventInfo = new HostUpdatesVmsProcessingEventInfoReusable(this);
+        }
+
+        final var info = onUpdateProcessingEventInfo.acquire();
+        try {
+            for (final var listener : onUpdateProcessingListeners) {
+                listener.update(info.set(listener, nextSimulationTime));
+            }
+        } finally {
+            info.release();
+        }
     }
 
     @Override
@@ -688,7 +737,12 @@ public class HostSimple implements Host {
             return this;
         }
 
-        onStartupListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(isNotAllocated(onStartupListeners)){
+            onStartupListeners = new ArrayList<>();
+        }
+
+        onStartupListeners.add(listener);
         return this;
     }
 
@@ -703,7 +757,12 @@ public class HostSimple implements Host {
             return this;
         }
 
-        onShutdownListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(isNotAllocated(onShutdownListeners)){
+            onShutdownListeners = new ArrayList<>();
+        }
+
+        onShutdownListeners.add(listener);
         return this;
     }
 
@@ -741,6 +800,10 @@ public class HostSimple implements Host {
 
     @Override
     public double getTotalMipsCapacity() {
+        if(peList instanceof LazyPeList lazyPeList){
+            return lazyPeList.getTotalWorkingMipsCapacity();
+        }
+
         return peList.stream()
                      .filter(Pe::isWorking)
                      .mapToDouble(Pe::getCapacity)
@@ -923,7 +986,25 @@ public class HostSimple implements Host {
 
         checkSimulationIsRunningAndAttemptedToChangeHost("List of PE");
         this.peList = peList;
+        if(peList instanceof LazyPeList lazyPeList){
+            //PEs not accessed yet are created with sequential IDs and the FREE status
+            lazyPeList.forEachMaterialized(pe -> pe.setStatus(Pe.Status.FREE));
+        } else {
+            setPeIdsAndFreeStatus(peList);
+        }
+
+        failedPesNumber = 0;
+        busyPesNumber = 0;
+        freePesNumber = peList.size();
+        workingPesNumber = freePesNumber;
+
+        freePeList = new PeStatusView(peList, true);
+        busyPeList = new PeStatusView(peList, false);
+        workingPeList = new PeStatusView(peList, true);
+        peIndexMap = null;
+    }
 
+    private static void setPeIdsAndFreeStatus(final List<Pe> peList) {
         long peId = Math.max(peList.get(peList.size()-1).getId(), -1);
         for(final Pe pe: peList){
             if(pe.getId() < 0) {
@@ -931,11 +1012,6 @@ public class HostSimple implements Host {
             }
             pe.setStatus(Pe.Status.FREE);
         }
-
-        failedPesNumber = 0;
-        busyPesNumber = 0;
-        freePesNumber = peList.size();
-        workingPesNumber = freePesNumber;
     }
 
     @Override
@@ -953,7 +1029,12 @@ public class HostSimple implements Host {
     }
 
     protected void addVmToCreatedList(final Vm vm){
-        vmCreatedList.add(requireNonNull(vm));
+        requireNonNull(vm);
+        if(isNotAllocated(vmCreatedList)){
+            vmCreatedList = new ArrayList<>();
+        }
+
+        vmCreatedList.add(vm);
     }
 
     @Override
@@ -978,27 +1059,95 @@ public class HostSimple implements Host {
         return true;
     }
 
-    /**
-     * Sets the status of a given (sub)list of {@link Pe} to a new status.
-     * @param peList the (sub)list of {@link Pe} to change the status
-     * @param newStatus the new status
-     */
+    @Override
     public final void setPeStatus(final List<Pe> peList, final Pe.Status newStatus){
         /*For performance reasons, stores the number of free and failed PEs
         instead of iterating over the PE list every time to find out.*/
+        if(peList instanceof LazyPeList lazyPeList && newStatus == Pe.Status.FREE){
+            //PEs not accessed yet are already FREE
+            lazyPeList.forEachMaterialized(pe -> updatePeStatus(pe, newStatus));
+            return;
+        }
+
         for (final Pe pe : peList) {
             updatePeStatus(pe, newStatus);
         }
     }
 
+    /**
+     * Sets the status of the first PEs from a given list to a new status.
+     * Since the lists returned by {@link #getFreePeList()}, {@link #getBusyPeList()}
+     * and {@link #getWorkingPeList()} are views that tolerate status changes during iteration,
+     * they can be given directly, without building a sublist of the PEs to change.
+     *
+     * @param peList the list of {@link Pe} to change the status of the first ones
+     * @param pesNumber the maximum number of PEs to change the status
+     * @param newStatus the new status
+     */
+    public final void setPeStatus(final List<Pe> peList, final long pesNumber, final Pe.Status newStatus){
+        final Iterator<Pe> iterator = peList.iterator();
+        for (long i = 0; i < pesNumber && iterator.hasNext(); i++) {
+            updatePeStatus(iterator.next(), newStatus);
+        }
+    }
+
     private void updatePeStatus(final Pe pe, final Pe.Status newStatus) {
         if(pe.getStatus() != newStatus) {
             updatePeStatusCount(pe.getStatus(), false);
             updatePeStatusCount(newStatus, true);
+            updatePeStatusIndexes(pe, newStatus);
             pe.setStatus(newStatus);
         }
     }
 
+    /**
+     * Moves the index of a PE from the set of indexes of its current status
+     * to the set of its new status.
+     * @param pe the PE to have the status changed
+     * @param newStatus the new PE status
+     */
+    private void updatePeStatusIndexes(final Pe pe, final Pe.Status newStatus) {
+        final int index = getPeIndex(pe);
+        if(index < 0) {
+            return;
+        }
+
+        updatePeStatusIndex(pe.getStatus(), index, false);
+        updatePeStatusIndex(newStatus, index, true);
+        workingPeList.set(index, newStatus != Pe.Status.FAILED);
+    }
+
+    /**
+     * Gets the index of a PE inside the {@link #peList}.
+     * Since PEs without an ID get sequential IDs when added to the Host,
+     * the ID usually is the PE index, otherwise the index is got from the {@link #peIndexMap},
+     * which is built the first time it's required (or when PEs are added to the list).
+     * @param pe the PE to get its index
+     * @return the PE index or -1 if the PE doesn't belong to this Host
+     */
+    private int getPeIndex(final Pe pe) {
+        final long id = pe.getId();
+        if(id >= 0 && id < peList.size() && peList.get((int)id) == pe) {
+            return (int)id;
+        }
+
+        if(peIndexMap == null || peIndexMap.size() != peList.size()) {
+            peIndexMap = new IdentityHashMap<>(peList.size());
+            for (int i = 0; i < peList.size(); i++) {
+                peIndexMap.put(peList.get(i), i);
+            }
+        }
+
+        return peIndexMap.getOrDefault(pe, -1);
+    }
+
+    private void updatePeStatusIndex(final Pe.Status status, final int index, final boolean isSet) {
+        switch (status) {
+            case FREE -> freePeList.set(index, isSet);
+            case BUSY -> busyPeList.set(index, isSet);
+        }
+    }
+
     /**
      * Update the number of PEs for a given status.
      * You must call the method before the Pe status change and after it
@@ -1043,11 +1192,133 @@ public class HostSimple implements Host {
         this.busyPesNumber += inc;
     }
 
+    /**
+     * {@inheritDoc}
+     * The returned Set can be changed, as in previous versions.
+     * It's allocated on the first call if no VM has migrated into this Host yet.
+     * @param <T> {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public <T extends Vm> Set<T> getVmsMigratingIn() {
+        if(isNotAllocated(vmsMigratingIn)){
+            vmsMigratingIn = new HashSet<>();
+        }
+
         return (Set<T>)vmsMigratingIn;
     }
 
+    /**
+     * Checks if a collection attribute is still the shared empty instance assigned at construction,
+     * so that it's allocated just once, the first time an element is added.
+     * Checking {@link Collection#isEmpty()} instead would allocate a new collection
+     * every time an emptied one gets an element again.
+     * @param collection the collection to check
+     * @return true if the collection is the shared empty instance, false otherwise
+     */
+    private static boolean isNotAllocated(final Collection<?> collection) {
+        return collection == Collections.EMPTY_SET || collection == Collections.EMPTY_LIST;
+    }
+
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeBoolean(failed);
+        writer.writeBoolean(active);
+        writer.writeBoolean(activationChangeInProgress);
+        writer.writeDouble(startTime);
+        writer.writeDouble(firstStartTime);
+        writer.writeDouble(shutdownTime);
+        writer.writeDouble(totalUpTime);
+        writer.writeDouble(lastBusyTime);
+        writer.writeDouble(idleShutdownDeadline);
+        writer.writeState(ram);
+        writer.writeState(bw);
+        writer.writeState(disk.getStorage());
+
+        writer.writeInt(peList.size());
+        for (final Pe pe : peList) {
+            writer.writeEnum(pe.getStatus());
+            writer.writeState(pe);
+        }
+
+        writer.writeVms(vmList);
+        writer.writeVms(vmCreatedList);
+        writer.writeVms(vmsMigratingIn);
+        writer.writeVms(vmsMigratingOut);
+
+        writer.writeInt(stateHistory.size());
+        for (final HostStateHistoryEntry entry : stateHistory) {
+            writer.writeDouble(entry.time());
+            writer.writeDouble(entry.allocatedMips());
+            writer.writeDouble(entry.requestedMips());
+            writer.writeBoolean(entry.active());
+        }
+
+        writer.writeState(cpuUtilizationStats == HostResourceStats.NULL ? null : cpuUtilizationStats);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The status of each PE is changed as when the Host allocates it,
+     * so that the number of PEs in each status is updated accordingly.
+     * @param reader {@inheritDoc}
+     */
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.failed = reader.readBoolean();
+        this.active = reader.readBoolean();
+        this.activationChangeInProgress = reader.readBoolean();
+        this.startTime = reader.readDouble();
+        this.firstStartTime = reader.readDouble();
+        this.shutdownTime = reader.readDouble();
+        this.totalUpTime = reader.readDouble();
+        this.lastBusyTime = reader.readDouble();
+        this.idleShutdownDeadline = reader.readDouble();
+        reader.readState(ram);
+        reader.readState(bw);
+        reader.readState(disk.getStorage());
+
+        final int pesNumber = reader.readInt();
+        if (pesNumber != peList.size()) {
+            final var msg = "%s has %d PEs but the checkpoint has %d. The simulation scenario doesn't match the checkpoint.";
+            throw new IllegalStateException(String.format(msg, this, peList.size(), pesNumber));
+        }
+
+        for (final Pe pe : peList) {
+            updatePeStatus(pe, reader.readEnum(Pe.Status.class));
+            reader.readState(pe);
+        }
+
+        vmList.clear();
+        vmList.addAll(reader.readVms());
+        this.vmCreatedList = readVmCollection(reader.readVms(), Collections.emptyList(), ArrayList::new);
+        this.vmsMigratingIn = readVmCollection(reader.readVms(), Collections.emptySet(), HashSet::new);
+        this.vmsMigratingOut = readVmCollection(reader.readVms(), Collections.emptySet(), HashSet::new);
+
+        final int historySize = reader.readInt();
+        this.stateHistory = historySize == 0 ? Collections.emptyList() : new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            stateHistory.add(new HostStateHistoryEntry(
+                reader.readDouble(), reader.readDouble(), reader.readDouble(), reader.readBoolean()));
+        }
+
+        reader.readState(cpuUtilizationStats);
+    }
+
+    /**
+     * Creates one of the lazily allocated collections of VMs from the VMs read from a checkpoint.
+     * @param vms the VMs read
+     * @param emptyCollection the shared empty collection to use when no VM was read
+     * @param collectionFactory a function to create a mutable collection containing the read VMs
+     * @return the shared empty collection or a new one containing the read VMs
+     */
+    private static <C extends Collection<Vm>> C readVmCollection(
+        final List<Vm> vms, final C emptyCollection,
+        final Function<List<Vm>, C> collectionFactory)
+    {
+        return vms.isEmpty() ? emptyCollection : collectionFactory.apply(vms);
+    }
+
     @Override
     public boolean hasMigratingVms(){
         return !(vmsMigratingIn.isEmpty() && vmsMigratingOut.isEmpty());
@@ -1064,6 +1335,10 @@ public class HostSimple implements Host {
             return false;
         }
 
+        if(isNotAllocated(vmsMigratingIn)){
+            vmsMigratingIn = new HashSet<>();
+        }
+
         vmsMigratingIn.add(vm);
         if(!allocateResourcesForVm(vm, true).fully()){
             vmsMigratingIn.remove(vm);
@@ -1092,6 +1367,10 @@ public class HostSimple implements Host {
 
     @Override
     public boolean addVmMigratingOut(final Vm vm) {
+        if(isNotAllocated(vmsMigratingOut)){
+            vmsMigratingOut = new HashSet<>();
+        }
+
         return this.vmsMigratingOut.add(vm);
     }
 
@@ -1130,7 +1409,12 @@ public class HostSimple implements Host {
             return this;
         }
 
-        this.onUpdateProcessingListeners.add(requireNonNull(listener));
+        requireNonNull(listener);
+        if(isNotAllocated(onUpdateProcessingListeners)){
+            onUpdateProcessingListeners = new HashSet<>();
+        }
+
+        this.onUpdateProcessingListeners.add(listener);
         return this;
     }
 
@@ -1232,23 +1516,49 @@ public class HostSimple implements Host {
             .orElse(ResourceProvisioner.NULL);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The returned list is a live read-only view, not a snapshot:
+     * it reflects PE status changes (even during iteration)
+     * and keeps the order of the {@link #getPeList() PE list}.
+     * Copy the list if a snapshot is required.
+     * Its size and elements at a given index are got in constant time
+     * while the PEs status don't change.</p>
+     * @return {@inheritDoc}
+     */
     @Override
     public List<Pe> getWorkingPeList() {
-        return getFilteredPeList(Pe::isWorking);
+        return workingPeList;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The returned list is a live read-only view, not a snapshot:
+     * it reflects PE status changes (even during iteration)
+     * and keeps the order of the {@link #getPeList() PE list}.
+     * Copy the list if a snapshot is required.
+     * Its size and elements at a given index are got in constant time
+     * while the PEs status don't change.</p>
+     * @return {@inheritDoc}
+     */
     @Override
     public List<Pe> getBusyPeList() {
-        return getFilteredPeList(Pe::isBusy);
+        return busyPeList;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The returned list is a live read-only view, not a snapshot:
+     * it reflects PE status changes (even during iteration)
+     * and keeps the order of the {@link #getPeList() PE list}.
+     * Copy the list if a snapshot is required.
+     * Its size and elements at a given index are got in constant time
+     * while the PEs status don't change.</p>
+     * @return {@inheritDoc}
+     */
     @Override
     public List<Pe> getFreePeList() {
-        return getFilteredPeList(Pe::isFree);
-    }
-
-    private List<Pe> getFilteredPeList(final Predicate<Pe> status) {
-        return peList.stream().filter(status).collect(toList());
+        return freePeList;
     }
 
     @Override
@@ -1417,7 +1727,9 @@ public class HostSimple implements Host {
         final boolean isActive)
     {
         final var newState = new HostStateHistoryEntry(time, allocatedMips, requestedMips, isActive);
-        if (!stateHistory.isEmpty()) {
+        if (isNotAllocated(stateHistory)) {
+            stateHistory = new ArrayList<>();
+        } else if (!stateHistory.isEmpty()) {
             final HostStateHistoryEntry previousState = stateHistory.get(stateHistory.size() - 1);
             if (previousState.time() == time) {
                 stateHistory.set(stateHistory.size() - 1, newState);
@@ -1454,6 +1766,17 @@ public class HostSimple implements Host {
         return this;
     }
 
+    @Override
+    public FileCache getFileCache() {
+        return fileCache;
+    }
+
+    @Override
+    public Host setFileCache(final FileCache fileCache) {
+        this.fileCache = requireNonNull(fileCache);
+        return this;
+    }
+
     /**
      * Indicates if the Host must be automatically started up
      * when the assigned Datacenter is started up.
@@ -0,0 +1,139 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.hosts;
+
+import org.cloudbus.cloudsim.resources.Pe;
+
+import java.util.*;
+
+/**
+ * A read-only view of the {@link Pe}s of a {@link HostSimple} which are in a given status.
+ * The view is backed by a {@link BitSet} of PE indexes inside the Host PE list,
+ * which is updated by the Host (by calling {@link #set(int, boolean)})
+ * every time the status of a PE changes.
+ * This way, the view keeps the order of the Host PE list,
+ * iterating over it visits just the PEs in the expected status
+ * and getting the view doesn't require a new list to be built.
+ *
+ * <p>The view is live, not a snapshot: a PE status change is reflected right away.
+ * Since the iterator just looks for the next index set after the current one,
+ * the status of the PE being visited can be changed during iteration.
+ * If a snapshot is required, the view must be copied, such as in {@code new ArrayList<>(view)}.</p>
+ *
+ * <p>{@link #size()} is kept as a counter and {@link #get(int)} uses
+ * an array with the PE indexes in the view (the rank of each PE),
+ * which is just rebuilt after the view changes. This way, both are O(1)
+ * while PEs status don't change. Changing the status of PEs
+ * while accessing the view by index requires the rank to be rebuilt,
+ * so the iterator must be preferred in such a case.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class PeStatusView extends AbstractList<Pe> {
+    private final List<Pe> peList;
+    private final BitSet indexes;
+
+    /** @see #size() */
+    private int size;
+
+    /**
+     * The indexes inside the {@link #peList} of the PEs in this view,
+     * where each position i is the index of the i-th PE in the view.
+     * It's null when the view has changed and the array must be rebuilt.
+     */
+    private int[] rank;
+
+    /**
+     * Creates a view for PEs in some status.
+     * @param peList the Host PE list
+     * @param allPes true to initially include all PEs from the peList in the view, false to create an empty view
+     */
+    PeStatusView(final List<Pe> peList, final boolean allPes) {
+        this.peList = peList;
+        this.indexes = new BitSet(peList.size());
+        if(allPes) {
+            indexes.set(0, peList.size());
+            size = peList.size();
+        }
+    }
+
+    /**
+     * Includes or excludes a PE from the view.
+     * @param peIndex the index of the PE inside the Host PE list
+     * @param included true to include the PE, false to exclude it
+     */
+    void set(final int peIndex, final boolean included) {
+        if(indexes.get(peIndex) == included) {
+            return;
+        }
+
+        indexes.set(peIndex, included);
+        size += included ? 1 : -1;
+        rank = null;
+    }
+
+    @Override
+    public Pe get(final int index) {
+        Objects.checkIndex(index, size);
+        if(rank == null) {
+            rank = indexes.stream().toArray();
+        }
+
+        return peList.get(rank[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<Pe> iterator() {
+        return new Iterator<>() {
+            private int next = indexes.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Pe next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                final Pe pe = peList.get(next);
+                next = indexes.nextSetBit(next + 1);
+                return pe;
+            }
+        };
+    }
+}
@@ -25,6 +25,7 @@ package org.cloudbus.cloudsim.power;
 
 import org.cloudbus.cloudsim.power.models.PowerModel;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -85,6 +86,26 @@ public class PowerMeasurement {
         return dynamicPower;
     }
 
+    /**
+     * Adds up the current power measurements of a list of entities,
+     * accumulating the static and dynamic power in primitive variables,
+     * instead of creating an intermediate measurement for each entity added up.
+     *
+     * @param entities the entities to add up their current power measurements
+     * @return a new instance with the added up values (which are zero if the list is empty)
+     */
+    public static PowerMeasurement sum(final List<? extends PowerAware<? extends PowerModel>> entities) {
+        double staticPower = 0;
+        double dynamicPower = 0;
+        for (final PowerAware<? extends PowerModel> entity : entities) {
+            final PowerMeasurement measurement = entity.getPowerModel().getPowerMeasurement();
+            staticPower += measurement.getStaticPower();
+            dynamicPower += measurement.getDynamicPower();
+        }
+
+        return new PowerMeasurement(staticPower, dynamicPower);
+    }
+
     /**
      * Adds up the values from the given measurement and this one,
      * returning a new instance.
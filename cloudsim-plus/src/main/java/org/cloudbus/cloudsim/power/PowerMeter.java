@@ -91,12 +91,7 @@ public class PowerMeter extends CloudSimEntity {
      */
     private void measurePowerConsumption() {
         final var powerAwareEntitiesList = powerAwareEntitiesSupplier.get();
-        final PowerMeasurement measurement = powerAwareEntitiesList.stream()
-            .map(PowerAware::getPowerModel)
-            .map(PowerModel::getPowerMeasurement)
-            .reduce(PowerMeasurement::add)
-            .orElse(new PowerMeasurement());
-        powerMeasurements.add(measurement);
+        powerMeasurements.add(PowerMeasurement.sum(powerAwareEntitiesList));
         scheduleMeasurement();
     }
 
@@ -1,7 +1,6 @@
 package org.cloudbus.cloudsim.power.models;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
-import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.power.PowerMeasurement;
 
 
@@ -27,12 +26,7 @@ public class PowerModelDatacenterSimple extends PowerModelDatacenter {
 
     @Override
     public PowerMeasurement getPowerMeasurement() {
-        final PowerMeasurement measurement = getDatacenter().getHostList().stream()
-            .map(Host::getPowerModel)
-            .map(PowerModelHost::getPowerMeasurement)
-            .reduce(PowerMeasurement::add)
-            .orElse(new PowerMeasurement());
-        return measurement.multiply(powerUsageEffectiveness);
+        return PowerMeasurement.sum(getDatacenter().getHostList()).multiply(powerUsageEffectiveness);
     }
 
     /**
@@ -2,6 +2,7 @@ package org.cloudbus.cloudsim.power.models;
 
 import org.cloudbus.cloudsim.hosts.Host;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -109,6 +110,31 @@ public abstract class PowerModelHost implements PowerModel {
      */
     public abstract double getPower(double utilizationFraction) throws IllegalArgumentException;
 
+    /**
+     * Computes the power usage in Watts (W) of multiple Hosts at once,
+     * each one at a given degree of utilization, according to the PowerModel of each Host.
+     * It's used to evaluate the placement of a VM into multiple candidate Hosts,
+     * in a primitive loop instead of creating objects for every Host.
+     *
+     * @param hostList the Hosts to compute the power usage
+     * @param utilizationFractions the utilization percentage (between [0 and 1]) of each Host, in the same order of the hostList
+     * @param powers an array to store the power supply in Watts (W) of each Host, in the same order of the hostList
+     * @throws IllegalArgumentException if some utilizationFraction is not between [0 and 1]
+     *                                  or the arrays size is different from the hostList size
+     */
+    public static void getPower(
+        final List<? extends Host> hostList, final double[] utilizationFractions, final double[] powers)
+        throws IllegalArgumentException
+    {
+        if (utilizationFractions.length != hostList.size() || powers.length != hostList.size()) {
+            throw new IllegalArgumentException("utilizationFractions and powers arrays must have the size of the hostList");
+        }
+
+        for (int i = 0; i < powers.length; i++) {
+            powers[i] = hostList.get(i).getPowerModel().getPower(utilizationFractions[i]);
+        }
+    }
+
     /**
      * Get the delay (in seconds) for starting up the {@link Host}.
      */
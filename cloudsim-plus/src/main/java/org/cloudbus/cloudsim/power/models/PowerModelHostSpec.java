@@ -34,7 +34,7 @@ public class PowerModelHostSpec extends PowerModelHost {
     public static final int MIN_POWER_CONSUMPTION_DATA_SIZE = 2;
 
     /**
-     * A List where each element represents the
+     * An array where each element represents the
      * power consumption (in Watts) of the entity for specific
      * CPU utilization percentage.
      * If the list has 10 items, each element represents
@@ -43,8 +43,9 @@ public class PowerModelHostSpec extends PowerModelHost {
      * the 2nd for 20% of CPU utilization and so on.
      * If the list has 100 itens, each item represents the power consumption for 1% of
      * CPU utilization and so no.
+     * It's stored as a primitive array to avoid unboxing values at every power computation.
      */
-    private final List<Double> powerSpec;
+    private final double[] powerSpec;
 
     /**
      * Instantiates a PowerModelHostSpec providing
@@ -77,7 +78,7 @@ public class PowerModelHostSpec extends PowerModelHost {
         super();
         Objects.requireNonNull(powerSpec, "powerSpec cannot be null");
         if (powerSpec.size() >= MIN_POWER_CONSUMPTION_DATA_SIZE) {
-            this.powerSpec = powerSpec;
+            this.powerSpec = powerSpec.stream().mapToDouble(Double::doubleValue).toArray();
             return;
         }
 
@@ -90,14 +91,16 @@ public class PowerModelHostSpec extends PowerModelHost {
     @Override
     public PowerMeasurement getPowerMeasurement() {
         final double utilizationFraction = getHost().getCpuMipsUtilization() / getHost().getTotalMipsCapacity();
-        final int utilizationIndex = (int) Math.round(utilizationFraction * powerSpec.size());
-        final double powerUsage = powerSpec.get(utilizationIndex);
-        return new PowerMeasurement(powerSpec.get(0), powerUsage - powerSpec.get(0));
+        final double powerUsage = getPower(utilizationFraction);
+        return new PowerMeasurement(powerSpec[0], powerUsage - powerSpec[0]);
     }
 
     @Override
     public double getPower(final double utilizationFraction) throws IllegalArgumentException {
-        final int utilizationIndex = (int) Math.round(utilizationFraction * powerSpec.size());
-        return powerSpec.get(utilizationIndex);
+        return powerSpec[utilizationIndex(utilizationFraction)];
+    }
+
+    private int utilizationIndex(final double utilizationFraction) {
+        return (int) Math.round(utilizationFraction * powerSpec.length);
     }
 }
@@ -2,11 +2,13 @@ package org.cloudbus.cloudsim.resources;
 
 import org.apache.commons.lang3.StringUtils;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.DataCloudTags;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
@@ -126,6 +128,55 @@ public class DatacenterStorage {
         return totalTime;
     }
 
+    /**
+     * Predict the total time to transfer a list of files to a given Host,
+     * considering the {@link Host#getFileCache() Host file cache}.
+     * Files already cached are read from the Host local storage,
+     * while the other ones are transferred from the storage device where they are
+     * and then inserted into the cache.
+     *
+     * @param requiredFiles the files to be transferred
+     * @param host the Host where the files are required
+     * @return the total predicted time to transfer the files
+     * @see #predictFileTransferTime(List)
+     */
+    public double predictFileTransferTime(final List<String> requiredFiles, final Host host) {
+        final FileCache cache = host.getFileCache();
+        if (cache == FileCache.NULL) {
+            return predictFileTransferTime(requiredFiles);
+        }
+
+        double totalTime = 0.0;
+        for (final String fileName: requiredFiles) {
+            totalTime += timeToTransferFile(fileName, host, cache);
+        }
+
+        return totalTime;
+    }
+
+    /**
+     * Finds a file in the storage devices from the {@link #storageList}
+     * and computes the time to transfer it to a given Host,
+     * reading it from the Host local storage when it is cached.
+     *
+     * @param fileName the name of the file to find
+     * @param host the Host where the file is required
+     * @param cache the Host file cache
+     * @return the transfer time or 0 if the file was not found
+     */
+    private double timeToTransferFile(final String fileName, final Host host, final FileCache cache) {
+        for (final SanStorage storage: getStorageList()) {
+            final Optional<File> file = storage.getFile(fileName);
+            if (file.isPresent()) {
+                return cache.access(file.get()) ?
+                            host.getStorage().getTransferTime(file.get().getSize()) :
+                            storage.getTransferTime(file.get());
+            }
+        }
+
+        return 0;
+    }
+
     /**
      * Try to get a file from a storage device in the {@link #storageList}
      * and computes the time to transfer it from that device.
@@ -0,0 +1,132 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import org.cloudbus.cloudsim.hosts.Host;
+
+import java.util.List;
+
+/**
+ * A cache of files kept in the local storage of a {@link Host},
+ * in front of the {@link DatacenterStorage}.
+ * When a Cloudlet requires a file that is already cached in the Host where it is going to run,
+ * the file is read from the Host local disk instead of being transferred again
+ * from the Datacenter's {@link SanStorage}.
+ *
+ * <p>The cache just keeps track of which files are stored and their sizes (in MB),
+ * evicting files according to the policy defined by each implementation
+ * when there is not enough capacity for a new file.
+ * The cache capacity is independent of the Host storage capacity allocated to VMs.</p>
+ *
+ * <p>The interface implements the Null Object Design
+ * Pattern in order to start avoiding {@link NullPointerException}
+ * when using the {@link FileCache#NULL} object instead
+ * of attributing {@code null} to {@link FileCache} variables.
+ * That object represents a disabled cache, where every file access is a miss
+ * and no file is ever cached.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see FileCacheLru
+ * @see FileCacheLfu
+ * @see FileCacheArc
+ */
+public interface FileCache {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link FileCache}
+     * objects, representing a disabled cache.
+     */
+    FileCache NULL = new FileCacheNull();
+
+    /**
+     * Registers an access to a file, checking if it's cached.
+     * If the file is not cached (a miss), it's inserted into the cache,
+     * evicting other files if required.
+     * Files larger than the cache capacity are never cached.
+     *
+     * @param file the file being accessed
+     * @return true if the file was cached (a hit), false otherwise (a miss)
+     */
+    boolean access(File file);
+
+    /**
+     * Checks if a file is cached, without registering an access to it.
+     * @param fileName the name of the file to check
+     * @return true if the file is cached, false otherwise
+     */
+    boolean contains(String fileName);
+
+    /**
+     * Gets the total size of the files from a given list which are currently cached,
+     * without registering an access to them.
+     * @param fileNames the names of the files to check
+     * @return the total size (in MB) of the given files that are cached
+     */
+    long getCachedSize(List<String> fileNames);
+
+    /**
+     * Gets the cache capacity.
+     * @return the capacity (in MB)
+     */
+    long getCapacity();
+
+    /**
+     * Gets the total size of the cached files.
+     * @return the used capacity (in MB)
+     */
+    long getUsedCapacity();
+
+    /**
+     * Gets the number of cached files.
+     * @return
+     */
+    int getFilesNumber();
+
+    /**
+     * Gets the number of file accesses that found the file cached.
+     * @return
+     */
+    long getHits();
+
+    /**
+     * Gets the number of file accesses that didn't find the file cached.
+     * @return
+     */
+    long getMisses();
+
+    /**
+     * Gets the number of files evicted from the cache to make room for other ones.
+     * @return
+     */
+    long getEvictions();
+
+    /**
+     * Gets the ratio between the number of {@link #getHits() hits} and the total number of file accesses.
+     * @return the hit ratio, between 0 and 1 (which is 0 if there was no access yet)
+     */
+    default double getHitRatio() {
+        final long accesses = getHits() + getMisses();
+        return accesses == 0 ? 0 : getHits() / (double) accesses;
+    }
+}
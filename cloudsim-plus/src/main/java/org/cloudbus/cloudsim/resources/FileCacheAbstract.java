@@ -0,0 +1,180 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An abstract class to implement {@link FileCache}s,
+ * which keeps the capacity usage and hit/miss counters,
+ * letting subclasses define just the eviction policy.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public abstract class FileCacheAbstract implements FileCache {
+    /** @see #getCapacity() */
+    private final long capacity;
+
+    /** @see #getUsedCapacity() */
+    private long usedCapacity;
+
+    /** @see #getHits() */
+    private long hits;
+
+    /** @see #getMisses() */
+    private long misses;
+
+    /** @see #getEvictions() */
+    private long evictions;
+
+    /**
+     * Creates a file cache.
+     * @param capacity the cache capacity (in MB)
+     */
+    protected FileCacheAbstract(final long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be greater than zero.");
+        }
+
+        this.capacity = capacity;
+    }
+
+    @Override
+    public final boolean access(final File file) {
+        requireNonNull(file);
+        if (hit(file.getName())) {
+            hits++;
+            return true;
+        }
+
+        misses++;
+        if (file.getSize() <= capacity) {
+            insert(file.getName(), file.getSize());
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean contains(final String fileName) {
+        return getCachedFileSize(fileName) > 0;
+    }
+
+    @Override
+    public long getCachedSize(final List<String> fileNames) {
+        long size = 0;
+        for (final String fileName : fileNames) {
+            size += getCachedFileSize(fileName);
+        }
+
+        return size;
+    }
+
+    /**
+     * Checks if a file is cached and, in such a case,
+     * updates the eviction policy information to register the access.
+     * @param fileName the name of the accessed file
+     * @return true if the file is cached, false otherwise
+     */
+    protected abstract boolean hit(String fileName);
+
+    /**
+     * Inserts a file which isn't cached yet,
+     * evicting other files until there is enough free capacity for it.
+     * The file size is ensured not to exceed the cache capacity.
+     * Implementations must call {@link #allocated(int)} and {@link #evicted(int)}
+     * to keep the used capacity updated.
+     *
+     * @param fileName the name of the file to insert
+     * @param fileSize the size of the file (in MB)
+     */
+    protected abstract void insert(String fileName, int fileSize);
+
+    /**
+     * Gets the size of a cached file.
+     * @param fileName the name of the file to get its size
+     * @return the file size (in MB) or 0 if it's not cached
+     */
+    protected abstract int getCachedFileSize(String fileName);
+
+    /**
+     * Checks if there is not enough free capacity to cache a file with a given size.
+     * @param fileSize the size of the file (in MB)
+     * @return true if some files must be evicted before caching the new one, false otherwise
+     */
+    protected final boolean isFull(final int fileSize) {
+        return usedCapacity + fileSize > capacity;
+    }
+
+    /**
+     * Registers the capacity taken by a file inserted into the cache.
+     * @param fileSize the size of the inserted file (in MB)
+     */
+    protected final void allocated(final int fileSize) {
+        usedCapacity += fileSize;
+    }
+
+    /**
+     * Registers the capacity released by a file evicted from the cache.
+     * @param fileSize the size of the evicted file (in MB)
+     */
+    protected final void evicted(final int fileSize) {
+        usedCapacity -= fileSize;
+        evictions++;
+    }
+
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long getUsedCapacity() {
+        return usedCapacity;
+    }
+
+    @Override
+    public long getHits() {
+        return hits;
+    }
+
+    @Override
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "%s: %d/%d MB used, %d files, hit ratio %.2f".formatted(
+            getClass().getSimpleName(), usedCapacity, capacity, getFilesNumber(), getHitRatio());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link FileCache} implementing the
+ * <a href="https://en.wikipedia.org/wiki/Adaptive_replacement_cache">Adaptive Replacement Cache (ARC)</a>
+ * eviction policy, which balances between recency and frequency of accesses.
+ *
+ * <p>Cached files are split into a list of files accessed only once recently (T1)
+ * and a list of files accessed at least twice (T2).
+ * The names of files evicted from each list are kept in ghost lists (B1 and B2),
+ * which are used to adapt the target size of T1 whenever an evicted file is accessed again.
+ * Since files have different sizes, the lists and the target are measured in MB instead of number of entries,
+ * and a ghost hit changes the target proportionally to the size of the accessed file.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see <a href="https://www.usenix.org/conference/fast-03/arc-self-tuning-low-overhead-replacement-cache">ARC: A Self-Tuning, Low Overhead Replacement Cache</a>
+ */
+public class FileCacheArc extends FileCacheAbstract {
+    /**
+     * Lists mapping file names to their sizes,
+     * ordered from the least to the most recently accessed file.
+     */
+    private final LinkedHashMap<String, Integer> t1, t2, b1, b2;
+
+    /** Total size (in MB) of the files in each list. */
+    private long t1Size, t2Size, b1Size, b2Size;
+
+    /** @see #getRecencyTargetSize() */
+    private double recencyTargetSize;
+
+    /**
+     * Creates an ARC file cache.
+     * @param capacity the cache capacity (in MB)
+     */
+    public FileCacheArc(final long capacity) {
+        super(capacity);
+        this.t1 = new LinkedHashMap<>();
+        this.t2 = new LinkedHashMap<>();
+        this.b1 = new LinkedHashMap<>();
+        this.b2 = new LinkedHashMap<>();
+    }
+
+    @Override
+    protected boolean hit(final String fileName) {
+        Integer fileSize = t1.remove(fileName);
+        if (fileSize != null) {
+            t1Size -= fileSize;
+        } else if ((fileSize = t2.remove(fileName)) != null) {
+            t2Size -= fileSize;
+        } else {
+            return false;
+        }
+
+        t2.put(fileName, fileSize);
+        t2Size += fileSize;
+        return true;
+    }
+
+    @Override
+    protected void insert(final String fileName, final int fileSize) {
+        final long capacity = getCapacity();
+        Integer ghostSize = b1.remove(fileName);
+        if (ghostSize != null) {
+            //The file was evicted from T1 too early: increase the target size of T1
+            final double delta = fileSize * Math.max(1.0, b2Size / (double) b1Size);
+            b1Size -= ghostSize;
+            recencyTargetSize = Math.min(capacity, recencyTargetSize + delta);
+            replace(fileSize, false);
+            addToT2(fileName, fileSize);
+            return;
+        }
+
+        if ((ghostSize = b2.remove(fileName)) != null) {
+            //The file was evicted from T2 too early: decrease the target size of T1
+            final double delta = fileSize * Math.max(1.0, b1Size / (double) b2Size);
+            b2Size -= ghostSize;
+            recencyTargetSize = Math.max(0, recencyTargetSize - delta);
+            replace(fileSize, true);
+            addToT2(fileName, fileSize);
+            return;
+        }
+
+        //Keeps the ghost lists bounded: |T1| + |B1| <= c and |T1| + |T2| + |B1| + |B2| <= 2c
+        while (t1Size + b1Size + fileSize > capacity && !b1.isEmpty()) {
+            b1Size -= removeEldest(b1).getValue();
+        }
+
+        while (t1Size + t2Size + b1Size + b2Size + fileSize > 2 * capacity && !b2.isEmpty()) {
+            b2Size -= removeEldest(b2).getValue();
+        }
+
+        replace(fileSize, false);
+        t1.put(fileName, fileSize);
+        t1Size += fileSize;
+        allocated(fileSize);
+    }
+
+    private void addToT2(final String fileName, final int fileSize) {
+        t2.put(fileName, fileSize);
+        t2Size += fileSize;
+        allocated(fileSize);
+    }
+
+    /**
+     * Evicts files from T1 or T2 (moving their names to the respective ghost list)
+     * until there is enough free capacity for a new file.
+     * @param fileSize the size of the file to be inserted
+     * @param ghostHitInB2 indicates if the new file was found in the B2 ghost list
+     */
+    private void replace(final int fileSize, final boolean ghostHitInB2) {
+        while (isFull(fileSize)) {
+            final boolean evictFromT1 =
+                !t1.isEmpty() &&
+                (t1Size > recencyTargetSize || (ghostHitInB2 && t1Size >= recencyTargetSize) || t2.isEmpty());
+            if (evictFromT1) {
+                final Map.Entry<String, Integer> eldest = removeEldest(t1);
+                t1Size -= eldest.getValue();
+                b1.put(eldest.getKey(), eldest.getValue());
+                b1Size += eldest.getValue();
+                evicted(eldest.getValue());
+            } else {
+                final Map.Entry<String, Integer> eldest = removeEldest(t2);
+                t2Size -= eldest.getValue();
+                b2.put(eldest.getKey(), eldest.getValue());
+                b2Size += eldest.getValue();
+                evicted(eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently accessed entry from a list.
+     * @param list the list to remove the entry from
+     * @return the removed entry, containing the file name and size
+     */
+    private static Map.Entry<String, Integer> removeEldest(final LinkedHashMap<String, Integer> list) {
+        final Iterator<Map.Entry<String, Integer>> iterator = list.entrySet().iterator();
+        final Map.Entry<String, Integer> next = iterator.next();
+        final Map.Entry<String, Integer> eldest = Map.entry(next.getKey(), next.getValue());
+        iterator.remove();
+        return eldest;
+    }
+
+    @Override
+    protected int getCachedFileSize(final String fileName) {
+        final Integer fileSize = t1.get(fileName);
+        return fileSize == null ? t2.getOrDefault(fileName, 0) : fileSize;
+    }
+
+    @Override
+    public int getFilesNumber() {
+        return t1.size() + t2.size();
+    }
+
+    /**
+     * Gets the current target size for the list of files accessed only once recently (T1),
+     * which is adapted according to accesses to recently evicted files.
+     * @return the target size (in MB), between 0 and the cache capacity
+     */
+    public double getRecencyTargetSize() {
+        return recencyTargetSize;
+    }
+}
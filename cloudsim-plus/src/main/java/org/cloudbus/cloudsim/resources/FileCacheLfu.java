@@ -0,0 +1,119 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import java.util.*;
+
+/**
+ * A {@link FileCache} that evicts the
+ * <a href="https://en.wikipedia.org/wiki/Least_frequently_used">Least Frequently Used (LFU)</a>
+ * files first. Files with the same access frequency are evicted
+ * from the least to the most recently accessed one.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class FileCacheLfu extends FileCacheAbstract {
+    /**
+     * Information about a cached file.
+     */
+    private static final class CachedFile {
+        private final int size;
+        private long frequency;
+
+        private CachedFile(final int size) {
+            this.size = size;
+            this.frequency = 1;
+        }
+    }
+
+    /** Maps each cached file name to its information. */
+    private final Map<String, CachedFile> files;
+
+    /**
+     * Maps each access frequency to the names of the files having such a frequency,
+     * ordered from the least to the most recently accessed file.
+     */
+    private final TreeMap<Long, LinkedHashSet<String>> filesByFrequency;
+
+    /**
+     * Creates an LFU file cache.
+     * @param capacity the cache capacity (in MB)
+     */
+    public FileCacheLfu(final long capacity) {
+        super(capacity);
+        this.files = new HashMap<>();
+        this.filesByFrequency = new TreeMap<>();
+    }
+
+    @Override
+    protected boolean hit(final String fileName) {
+        final CachedFile file = files.get(fileName);
+        if (file == null) {
+            return false;
+        }
+
+        removeFromFrequencyList(fileName, file.frequency);
+        file.frequency++;
+        addToFrequencyList(fileName, file.frequency);
+        return true;
+    }
+
+    @Override
+    protected void insert(final String fileName, final int fileSize) {
+        while (isFull(fileSize)) {
+            final Map.Entry<Long, LinkedHashSet<String>> leastFrequent = filesByFrequency.firstEntry();
+            final String evictedName = leastFrequent.getValue().iterator().next();
+            removeFromFrequencyList(evictedName, leastFrequent.getKey());
+            evicted(files.remove(evictedName).size);
+        }
+
+        files.put(fileName, new CachedFile(fileSize));
+        addToFrequencyList(fileName, 1);
+        allocated(fileSize);
+    }
+
+    private void addToFrequencyList(final String fileName, final long frequency) {
+        filesByFrequency.computeIfAbsent(frequency, freq -> new LinkedHashSet<>()).add(fileName);
+    }
+
+    private void removeFromFrequencyList(final String fileName, final long frequency) {
+        final Set<String> names = filesByFrequency.get(frequency);
+        names.remove(fileName);
+        if (names.isEmpty()) {
+            filesByFrequency.remove(frequency);
+        }
+    }
+
+    @Override
+    protected int getCachedFileSize(final String fileName) {
+        final CachedFile file = files.get(fileName);
+        return file == null ? 0 : file.size;
+    }
+
+    @Override
+    public int getFilesNumber() {
+        return files.size();
+    }
+}
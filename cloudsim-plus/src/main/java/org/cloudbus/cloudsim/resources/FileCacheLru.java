@@ -0,0 +1,87 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link FileCache} that evicts the
+ * <a href="https://en.wikipedia.org/wiki/Cache_replacement_policies#Least_recently_used_(LRU)">Least Recently Used (LRU)</a>
+ * files first.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class FileCacheLru extends FileCacheAbstract {
+    /**
+     * Maps each cached file name to its size,
+     * ordered from the least to the most recently accessed file.
+     */
+    private final LinkedHashMap<String, Integer> files;
+
+    /**
+     * Creates an LRU file cache.
+     * @param capacity the cache capacity (in MB)
+     */
+    public FileCacheLru(final long capacity) {
+        super(capacity);
+        this.files = new LinkedHashMap<>();
+    }
+
+    @Override
+    protected boolean hit(final String fileName) {
+        //Re-inserts the file to move it to the end of the map
+        final Integer fileSize = files.remove(fileName);
+        if (fileSize == null) {
+            return false;
+        }
+
+        files.put(fileName, fileSize);
+        return true;
+    }
+
+    @Override
+    protected void insert(final String fileName, final int fileSize) {
+        final Iterator<Map.Entry<String, Integer>> iterator = files.entrySet().iterator();
+        while (isFull(fileSize)) {
+            evicted(iterator.next().getValue());
+            iterator.remove();
+        }
+
+        files.put(fileName, fileSize);
+        allocated(fileSize);
+    }
+
+    @Override
+    protected int getCachedFileSize(final String fileName) {
+        return files.getOrDefault(fileName, 0);
+    }
+
+    @Override
+    public int getFilesNumber() {
+        return files.size();
+    }
+}
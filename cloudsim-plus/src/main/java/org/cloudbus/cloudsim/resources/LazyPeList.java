@@ -0,0 +1,178 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.resources;
+
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A fixed-size list of homogeneous {@link Pe}s for a Host, which just stores
+ * the number of PEs and their MIPS capacity, creating each {@link Pe} object
+ * only when it's accessed for the first time.
+ * Materialized PEs are kept in a compact array indexed by the PE position,
+ * whose ID is also that position.
+ *
+ * <p>This enables creating huge Datacenters with millions of Hosts,
+ * where most PEs are never allocated to a VM, without paying the memory
+ * and instantiation cost of a {@link Pe} and its {@link org.cloudbus.cloudsim.provisioners.PeProvisioner}
+ * for each one of them.
+ * Since PEs which weren't accessed yet are all {@link Pe.Status#FREE FREE},
+ * a Host doesn't need to visit them to set up its PE status information.</p>
+ *
+ * <p>Iterating over the whole list materializes all PEs.
+ * The list cannot be structurally modified.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class LazyPeList extends AbstractList<Pe> implements RandomAccess {
+    private final int size;
+    private final double mipsCapacity;
+    private final Function<Double, Pe> peSupplier;
+
+    /** The PEs already materialized, which is just created when the first PE is accessed. */
+    private Pe[] pes;
+
+    /** @see #getMaterializedPesNumber() */
+    private int materializedPesNumber;
+
+    /**
+     * Creates a list of PEs that are materialized as {@link PeSimple} objects
+     * using a {@link PeProvisionerSimple}.
+     * @param size the number of PEs
+     * @param mipsCapacity the MIPS capacity of every PE
+     */
+    public LazyPeList(final int size, final double mipsCapacity) {
+        this(size, mipsCapacity, mips -> new PeSimple(mips, new PeProvisionerSimple()));
+    }
+
+    /**
+     * Creates a list of PEs that are materialized by a given {@link Function}.
+     * @param size the number of PEs
+     * @param mipsCapacity the MIPS capacity of every PE
+     * @param peSupplier a {@link Function} that receives the MIPS capacity and creates a {@link Pe}
+     *                   in the {@link Pe.Status#FREE FREE} status
+     */
+    public LazyPeList(final int size, final double mipsCapacity, final Function<Double, Pe> peSupplier) {
+        if(size <= 0){
+            throw new IllegalArgumentException("The number of PEs must be greater than 0.");
+        }
+
+        if(mipsCapacity <= 0){
+            throw new IllegalArgumentException("The PE MIPS capacity must be greater than 0.");
+        }
+
+        this.size = size;
+        this.mipsCapacity = mipsCapacity;
+        this.peSupplier = Objects.requireNonNull(peSupplier);
+    }
+
+    @Override
+    public Pe get(final int index) {
+        Objects.checkIndex(index, size);
+        if(pes == null){
+            pes = new Pe[size];
+        }
+
+        if(pes[index] == null){
+            final Pe pe = peSupplier.apply(mipsCapacity);
+            pe.setId(index);
+            pes[index] = pe;
+            materializedPesNumber++;
+        }
+
+        return pes[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the MIPS capacity every PE in this list is created with.
+     * @return
+     */
+    public double getMipsCapacity() {
+        return mipsCapacity;
+    }
+
+    /**
+     * Gets the number of PEs already accessed, which have a {@link Pe} object instantiated.
+     * @return
+     */
+    public int getMaterializedPesNumber() {
+        return materializedPesNumber;
+    }
+
+    /**
+     * Checks if the PE at a given index was already accessed, having a {@link Pe} object instantiated.
+     * @param index the index of the PE
+     * @return
+     */
+    public boolean isMaterialized(final int index) {
+        Objects.checkIndex(index, size);
+        return pes != null && pes[index] != null;
+    }
+
+    /**
+     * Performs an action for each PE already materialized, without materializing the other ones.
+     * @param action the action to perform
+     */
+    public void forEachMaterialized(final Consumer<Pe> action) {
+        if(pes == null){
+            return;
+        }
+
+        for (final Pe pe : pes) {
+            if(pe != null){
+                action.accept(pe);
+            }
+        }
+    }
+
+    /**
+     * Gets the total MIPS capacity of working PEs (the ones which are not {@link Pe#isFailed() failed}),
+     * considering the PEs not materialized yet have the default {@link #getMipsCapacity() MIPS capacity}
+     * and are {@link Pe.Status#FREE FREE}.
+     * @return
+     */
+    public double getTotalWorkingMipsCapacity() {
+        double total = (size - materializedPesNumber) * mipsCapacity;
+        if(pes != null) {
+            for (final Pe pe : pes) {
+                if (pe != null && pe.isWorking()) {
+                    total += pe.getCapacity();
+                }
+            }
+        }
+
+        return total;
+    }
+}
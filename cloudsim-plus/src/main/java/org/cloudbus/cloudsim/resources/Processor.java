@@ -23,6 +23,8 @@
  */
 package org.cloudbus.cloudsim.resources;
 
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.vms.Vm;
 
 /**
@@ -56,6 +58,18 @@ public final class Processor extends ResourceManageableAbstract {
         super(numberOfPes, "Unit");
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeDouble(mips);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        this.mips = reader.readDouble();
+    }
+
     /**
      * Gets the sum of MIPS from all {@link Pe}s.
      * @return
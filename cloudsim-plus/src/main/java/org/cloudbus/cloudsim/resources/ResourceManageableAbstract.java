@@ -7,6 +7,10 @@
  */
 package org.cloudbus.cloudsim.resources;
 
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
+
 /**
  * A class that represents simple resources such as RAM, CPU, Bandwidth or Pe.
  * It stores, for instance, the resource capacity and amount of free available resource.
@@ -22,7 +26,7 @@ package org.cloudbus.cloudsim.resources;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public abstract class ResourceManageableAbstract extends ResourceAbstract implements ResourceManageable {
+public abstract class ResourceManageableAbstract extends ResourceAbstract implements ResourceManageable, Checkpointable {
 
     /** @see #getAvailableResource() */
     private long availableResource;
@@ -32,6 +36,18 @@ public abstract class ResourceManageableAbstract extends ResourceAbstract implem
         this.availableResource = capacity;
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeLong(capacity);
+        writer.writeLong(availableResource);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.capacity = reader.readLong();
+        this.availableResource = reader.readLong();
+    }
+
     @Override
     public boolean setCapacity(final long newCapacity){
         if(newCapacity < 0 || getAllocatedResource() > newCapacity) {
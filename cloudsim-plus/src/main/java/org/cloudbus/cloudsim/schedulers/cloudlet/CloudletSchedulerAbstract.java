@@ -10,6 +10,9 @@ package org.cloudbus.cloudsim.schedulers.cloudlet;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Bandwidth;
@@ -48,7 +51,7 @@ import static org.cloudsimplus.listeners.CloudletResourceAllocationFailEventInfo
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 1.0
  */
-public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
+public abstract class CloudletSchedulerAbstract implements CloudletScheduler, Checkpointable {
     @Serial
     private static final long serialVersionUID = -2314361120790372742L;
 
@@ -104,13 +107,72 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudletPausedList = new ArrayList<>();
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        cloudletWaitingList = new IndexedCloudletList();
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new MipsShare();
         taskScheduler = CloudletTaskScheduler.NULL;
         resourceAllocationFailListeners = new ArrayList<>();
     }
 
+    /**
+     * {@inheritDoc}
+     * Subclasses keeping additional indexes of the Cloudlets into the lists stored here
+     * must override this method to store such indexes too.
+     * @param writer {@inheritDoc}
+     */
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeDouble(previousTime);
+        writer.writeLong(currentMipsShare.pes());
+        writer.writeDouble(currentMipsShare.mips());
+        writeCloudletList(writer, cloudletExecList);
+        writeCloudletList(writer, cloudletWaitingList);
+        writeCloudletList(writer, cloudletPausedList);
+        writeCloudletList(writer, cloudletFinishedList);
+        writeCloudletList(writer, cloudletFailedList);
+        writer.writeCloudlets(cloudletSubmittedList);
+        writer.writeCloudlets(cloudletReturnedList);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The Cloudlets are directly added to the lists they were stored from,
+     * in the same order, without notifying subclasses. Therefore, subclasses keeping
+     * additional indexes of such Cloudlets must override this method to rebuild such indexes.
+     * @param reader {@inheritDoc}
+     */
+    @Override
+    public void readState(final CheckpointReader reader) {
+        clear();
+        this.previousTime = reader.readDouble();
+        this.currentMipsShare = new MipsShare(reader.readLong(), reader.readDouble());
+        readCloudletList(reader, cloudletExecList);
+        readCloudletList(reader, cloudletWaitingList);
+        readCloudletList(reader, cloudletPausedList);
+        readCloudletList(reader, cloudletFinishedList);
+        readCloudletList(reader, cloudletFailedList);
+        cloudletSubmittedList.clear();
+        cloudletSubmittedList.addAll(reader.readCloudlets());
+        cloudletReturnedList.clear();
+        cloudletReturnedList.addAll(reader.readCloudlets());
+    }
+
+    private static void writeCloudletList(final CheckpointWriter writer, final List<CloudletExecution> list) {
+        writer.writeInt(list.size());
+        for (final CloudletExecution cle : list) {
+            writer.writeCloudlet(cle.getCloudlet());
+            cle.writeState(writer);
+        }
+    }
+
+    private static void readCloudletList(final CheckpointReader reader, final List<CloudletExecution> list) {
+        list.clear();
+        final int size = reader.readInt();
+        for (int i = 0; i < size; i++) {
+            list.add(new CloudletExecution(reader.readCloudlet(), reader));
+        }
+    }
+
     @Override
     public double getPreviousTime() {
         return previousTime;
@@ -502,7 +564,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
     {
         final Function<CloudletExecution, Cloudlet> removeCloudletAndUpdateStatus = cle -> {
-            cloudletList.remove(cle);
+            if(cloudletList == cloudletWaitingList)
+                removeCloudletFromWaitingList(cle);
+            else if(cloudletList.remove(cle) && cloudletList == cloudletExecList)
+                onCloudletRemovedFromExecList(cle);
             cloudletStatusUpdaterConsumer.accept(cle);
             return cle.getCloudlet();
         };
@@ -952,9 +1017,23 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
         removeUsedPes(cle.getNumberOfPes());
-        return cloudletExecList.remove(cle) ? cle : CloudletExecution.NULL;
+        if(cloudletExecList.remove(cle)) {
+            onCloudletRemovedFromExecList(cle);
+            return cle;
+        }
+
+        return CloudletExecution.NULL;
     }
 
+    /**
+     * Notifies that a Cloudlet was removed from the execution list
+     * (because it finished, was paused, canceled or preempted).
+     * Subclasses may override it to update any data they keep about running Cloudlets.
+     *
+     * @param cle the Cloudlet removed
+     */
+    protected void onCloudletRemovedFromExecList(final CloudletExecution cle) {/**/}
+
     /**
      * Sets the finish time of a cloudlet and adds it to the
      * finished list.
@@ -1064,11 +1143,20 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     protected CloudletExecution addWaitingCloudletToExecList(final CloudletExecution cle) {
         /*If the Cloudlet is not found in the waiting List, there is no problem.
         * Just add it to the exec List.*/
-        cloudletWaitingList.remove(cle);
+        removeCloudletFromWaitingList(cle);
         addCloudletToExecList(cle);
         return cle;
     }
 
+    /**
+     * Removes a Cloudlet from the waiting list.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the waiting list, false otherwise
+     */
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        return cloudletWaitingList.remove(cle);
+    }
+
     @Override
     public Vm getVm() {
         return vm;
@@ -1345,7 +1433,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 	 * @param cle Cloudlet to check if it can be added to the execution list
 	 * @return true if the Cloudlet can be added to the execution list, false otherwise
 	 */
-    private boolean canExecuteCloudlet(final CloudletExecution cle){
+    protected boolean canExecuteCloudlet(final CloudletExecution cle){
         return cle.getCloudlet().getStatus().ordinal() < Status.FROZEN.ordinal() && canExecuteCloudletInternal(cle);
     }
 
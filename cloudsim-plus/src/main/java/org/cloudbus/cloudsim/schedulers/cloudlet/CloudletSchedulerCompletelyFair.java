@@ -25,17 +25,15 @@ package org.cloudbus.cloudsim.schedulers.cloudlet;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.MipsShare;
-import org.cloudbus.cloudsim.util.MathUtil;
 
 import java.io.Serial;
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Predicate;
-
-import static java.util.stream.Collectors.toList;
+import java.io.Serializable;
+import java.util.*;
 
 /**
  * A simplified implementation of the <a href="https://en.wikipedia.org/wiki/Completely_Fair_Scheduler">Completely Fair Scheduler (CFS)</a>
@@ -88,17 +86,27 @@ import static java.util.stream.Collectors.toList;
  *     (application execution is simulated just computing the amount of instructions
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS,
- *	   to sort waiting Cloudlets (run-queue list) increasingly, based on their virtual runtime (vruntime or VRT)
- *	   (placing the Cloudlets that have run the least at the top of the tree).
- *	   Furthermore, the use of such a data structure added some complexity to the implementation.
- *	   Since different Cloudlets may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.
- *	   </li>
  * </ul>
  * </p>
  *
+ * <p>As in real implementations of CFS, waiting Cloudlets (the run queue) are kept into
+ * a Red-Black tree (a {@link TreeMap}), increasingly sorted by their virtual runtime (vruntime or VRT),
+ * placing the Cloudlets that have run the least at the top of the tree.
+ * Since different Cloudlets may have the same virtual runtime,
+ * the tree key also includes the Cloudlet priority, ID and the order it was added to the run queue,
+ * ensuring keys are unique.
+ * The weight sum of running Cloudlets and the time when their time-slices expire
+ * are incrementally maintained as well.
+ * This way, the cost of each scheduling update grows logarithmically with the number of Cloudlets,
+ * instead of re-sorting the entire run queue.
+ * </p>
+ *
+ * <p>The run queue keeps the order used by previous releases, which re-sorted a list-based run queue:
+ * Cloudlets are sorted by their exact virtual runtime, then by priority (increasingly) and ID.
+ * Since a tree key is a snapshot of such attributes, changing the priority of a waiting Cloudlet
+ * just affects its position when it's added to the run queue again.
+ * </p>
+ *
  * <p>
  *     <b>NOTES:</b>
  *     <ul>
@@ -141,29 +149,97 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	private int latency = 3;
 
     /**
-     * A comparator used to increasingly sort Cloudlets into the waiting list
+     * A tolerance for checking if a Cloudlet time-slice may have expired,
+     * avoiding floating-point rounding errors to delay the preemption of a Cloudlet.
+     */
+    private static final double EXPIRE_TIME_TOLERANCE = 1e-6;
+
+    /**
+     * The key of a Cloudlet into the {@link #runQueue}, used to increasingly sort Cloudlets
      * based on their virtual runtime (vruntime or VRT). By this way, the Cloudlets in the beginning
-     * of such a list will be that ones which have run the least and have to be
-     * prioritized when getting Cloudlets from this list to add to the execution
-     * list.
+     * of the run queue will be that ones which have run the least and have to be
+     * prioritized when getting Cloudlets from it to add to the execution list.
+     * Ties are broken by the Cloudlet priority and ID, as done by previous releases.
+     * The order the Cloudlet was added to the run queue is the last criterion,
+     * just to ensure keys are unique.
      *
-     * @param c1 first Cloudlet to compare
-     * @param c2 second Cloudlet to compare
-     * @return a negative value if c1 is lower than c2, zero if they are equals,
-     * a positive value if c1 is greater than c2
+     * <p>The key is a snapshot of the Cloudlet attributes when it was added to the run queue.
+     * If the virtual runtime of a waiting Cloudlet changes, it must be re-added.</p>
      */
-    private int waitingCloudletsComparator(final CloudletExecution c1, final CloudletExecution c2){
-        final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
-        if (vRuntimeDiff != 0) {
-            return MathUtil.doubleToInt(vRuntimeDiff);
+    private record RunQueueKey(double virtualRuntime, int priority, long cloudletId, long order)
+        implements Comparable<RunQueueKey>, Serializable
+    {
+        @Override
+        public int compareTo(final RunQueueKey other) {
+            if (virtualRuntime != other.virtualRuntime) {
+                return virtualRuntime < other.virtualRuntime ? -1 : 1;
+            }
+
+            int res = Integer.compare(priority, other.priority);
+            if (res != 0) {
+                return res;
+            }
+
+            res = Long.compare(cloudletId, other.cloudletId);
+            return res == 0 ? Long.compare(order, other.order) : res;
         }
-
-        final long priorityDiff = c1.getCloudlet().getPriority() - c2.getCloudlet().getPriority();
-        final long idDiff = c1.getCloudletId() - c2.getCloudletId();
-        //Since the computed value is long but the comparator return must be int, rounds the value to the closest int
-        return Math.round(priorityDiff == 0 ? idDiff : priorityDiff);
     }
 
+    /**
+     * Data about a Cloudlet in the execution list, taken when it was added to such a list.
+     *
+     * @param cle the running Cloudlet
+     * @param priority the Cloudlet priority (that defines its weight)
+     * @param order the order the Cloudlet was added to the execution list,
+     *              which is the Cloudlet position in such a list related to the other running Cloudlets
+     * @param expireTime the earliest simulation time the Cloudlet time-slice may expire.
+     *                   Since the virtual runtime cannot increase faster than the simulation clock,
+     *                   the time-slice surely hasn't expired before that time.
+     */
+    private record RunningCloudlet(CloudletExecution cle, int priority, long order, double expireTime) implements Serializable {}
+
+    /**
+     * The run queue, sorting waiting Cloudlets by their virtual runtime.
+     * @see #getCloudletWaitingList()
+     */
+    private final TreeMap<RunQueueKey, CloudletExecution> runQueue = new TreeMap<>();
+
+    /** The key of each Cloudlet into the {@link #runQueue}. */
+    private final Map<CloudletExecution, RunQueueKey> runQueueKeys = new IdentityHashMap<>();
+
+    private long nextRunQueueOrder;
+
+    /**
+     * The number of times the {@link #runQueue} was changed,
+     * used to check if the snapshot inside the {@link #runQueueView} is outdated.
+     */
+    private long runQueueVersion;
+
+    /**
+     * A read-only view of the {@link #runQueue} values.
+     * @see #getCloudletWaitingList()
+     */
+    private final List<CloudletExecution> runQueueView = new RunQueueView();
+
+    /** @see RunningCloudlet#order() */
+    private long nextExecListOrder;
+
+    /** Data about each Cloudlet in the execution list. */
+    private final Map<CloudletExecution, RunningCloudlet> runningCloudlets = new IdentityHashMap<>();
+
+    /** The number of running Cloudlets for each priority, used to compute their weight sum. */
+    private final TreeMap<Integer, Integer> runningCloudletsByPriority = new TreeMap<>();
+
+    /** The number of running Cloudlets for each time-slice, used to get the shortest one. */
+    private final TreeMap<Double, Integer> runningCloudletsByTimeSlice = new TreeMap<>();
+
+    /**
+     * Running Cloudlets sorted by the earliest time their time-slices may expire.
+     * Entries for Cloudlets not running anymore are just discarded when polled.
+     */
+    private final PriorityQueue<RunningCloudlet> expireQueue =
+        new PriorityQueue<>(Comparator.comparingDouble(RunningCloudlet::expireTime));
+
     /**
 	 * Gets the latency, which is the amount of time (in seconds)
 	 * the scheduler will allow the execution of running Cloudlets
@@ -224,7 +300,12 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 
     /**
      * Gets a <b>read-only</b> list of Cloudlets which are waiting to run, the so called
-     * <a href="https://en.wikipedia.org/wiki/Run_queue">run queue</a>.
+     * <a href="https://en.wikipedia.org/wiki/Run_queue">run queue</a>,
+     * sorted by their virtual runtime.
+     * The returned list is a live view of the run queue (not a snapshot).
+     * Accessing it by index takes a snapshot of the run queue when it has changed,
+     * therefore iterating over the list is cheaper while Cloudlets are moved
+     * between the run queue and the execution list.
      *
      * <p>
      * <b>NOTE:</b> Different from real implementations, this scheduler uses just one run queue
@@ -236,7 +317,42 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     @Override
     public List<CloudletExecution> getCloudletWaitingList() {
-        return super.getCloudletWaitingList();
+        return runQueueView;
+    }
+
+    /**
+     * A read-only {@link List} view of the {@link #runQueue} values.
+     * Since a tree cannot be accessed by index, such an access uses a snapshot of the run queue,
+     * which is just taken again when the run queue changes.
+     * This way, visiting all the list elements by index costs O(n) instead of O(n²).
+     */
+    private final class RunQueueView extends AbstractList<CloudletExecution> implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -6209327484402817093L;
+
+        private CloudletExecution[] snapshot = new CloudletExecution[0];
+        private long snapshotVersion;
+
+        @Override
+        public CloudletExecution get(final int index) {
+            Objects.checkIndex(index, runQueue.size());
+            if (snapshotVersion != runQueueVersion) {
+                snapshot = runQueue.values().toArray(new CloudletExecution[0]);
+                snapshotVersion = runQueueVersion;
+            }
+
+            return snapshot[index];
+        }
+
+        @Override
+        public int size() {
+            return runQueue.size();
+        }
+
+        @Override
+        public Iterator<CloudletExecution> iterator() {
+            return Collections.unmodifiableCollection(runQueue.values()).iterator();
+        }
     }
 
     /**
@@ -249,8 +365,45 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     @Override
     protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
-        return super.findSuitableWaitingCloudlet();
+        for (final CloudletExecution cle : runQueue.values()) {
+            if (canExecuteCloudlet(cle)) {
+                return Optional.of(cle);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        if (cle != CloudletExecution.NULL) {
+            addToRunQueue(cle);
+        }
+    }
+
+    @Override
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        removeFromRunQueue(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    private void addToRunQueue(final CloudletExecution cle) {
+        removeFromRunQueue(cle);
+        final var key = new RunQueueKey(
+            cle.getVirtualRuntime(), cle.getCloudlet().getPriority(),
+            cle.getCloudletId(), nextRunQueueOrder++);
+        runQueueKeys.put(cle, key);
+        runQueue.put(key, cle);
+        runQueueVersion++;
+    }
+
+    private void removeFromRunQueue(final CloudletExecution cle) {
+        final RunQueueKey key = runQueueKeys.remove(cle);
+        if (key != null) {
+            runQueue.remove(key);
+            runQueueVersion++;
+        }
     }
 
 	/**
@@ -269,9 +422,19 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * @see #getCloudletNiceness(CloudletExecution)
 	 */
     private double getCloudletWeight(final CloudletExecution cloudlet){
-		return 1024.0/(Math.pow(1.25, getCloudletNiceness(cloudlet)));
+		return getWeight(getCloudletNiceness(cloudlet));
 	}
 
+    /**
+     * Gets the weight to use the CPU for a given niceness.
+     * @param niceness the niceness to get the weight
+     * @return the weight to use PEs
+     * @see #getCloudletWeight(CloudletExecution)
+     */
+    private static double getWeight(final double niceness){
+        return 1024.0/(Math.pow(1.25, niceness));
+    }
+
     /**
      * Gets the nice value from a Cloudlet based on its priority.
      * The nice value is the opposite of the priority.
@@ -300,12 +463,16 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 
 	/**
 	 * Gets the weight sum of all cloudlets in the executing list.
+     * Since Cloudlets with the same priority have the same weight,
+     * it just needs to visit each priority of running Cloudlets.
 	 */
 	private double getWeightSumOfRunningCloudlets() {
-		return getCloudletExecList()
-            .stream()
-            .mapToDouble(this::getCloudletWeight)
-            .sum();
+        double sum = 0;
+        for (final var entry : runningCloudletsByPriority.entrySet()) {
+            sum += entry.getValue() * getWeight(-entry.getKey());
+        }
+
+        return sum;
 	}
 
 	/**
@@ -373,9 +540,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
     @Override
     public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
         super.updateProcessing(currentTime, mipsShare);
-        return getCloudletExecList().stream()
-                .mapToDouble(CloudletExecution::getTimeSlice)
-                .min().orElse(Double.MAX_VALUE);
+        return runningCloudletsByTimeSlice.isEmpty() ? Double.MAX_VALUE : runningCloudletsByTimeSlice.firstKey();
     }
 
     @Override
@@ -478,6 +643,105 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         return super.getCloudletExecList();
     }
 
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        super.addCloudletToExecList(cle);
+        addRunningCloudlet(cle);
+    }
+
+    @Override
+    protected void onCloudletRemovedFromExecList(final CloudletExecution cle) {
+        final RunningCloudlet running = runningCloudlets.remove(cle);
+        if (running != null) {
+            decrement(runningCloudletsByPriority, running.priority());
+            decrement(runningCloudletsByTimeSlice, cle.getTimeSlice());
+        }
+    }
+
+    /**
+     * Adds a Cloudlet to the data kept about running Cloudlets,
+     * replacing any previous data about it.
+     * @param cle the running Cloudlet
+     */
+    private void addRunningCloudlet(final CloudletExecution cle) {
+        addRunningCloudlet(cle, nextExecListOrder++);
+    }
+
+    /**
+     * Adds a Cloudlet to the data kept about running Cloudlets,
+     * replacing any previous data about it.
+     * @param cle the running Cloudlet
+     * @param order the order the Cloudlet was added to the execution list
+     */
+    private void addRunningCloudlet(final CloudletExecution cle, final long order) {
+        onCloudletRemovedFromExecList(cle);
+        final double expireTime =
+            getVm().getSimulation().clock() + cle.getTimeSlice() - Math.max(cle.getVirtualRuntime(), 0);
+        final var running = new RunningCloudlet(cle, cle.getCloudlet().getPriority(), order, expireTime);
+        runningCloudlets.put(cle, running);
+        runningCloudletsByPriority.merge(running.priority(), 1, Integer::sum);
+        runningCloudletsByTimeSlice.merge(cle.getTimeSlice(), 1, Integer::sum);
+        expireQueue.add(running);
+    }
+
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeLong(nextRunQueueOrder);
+        for (final CloudletExecution cle : super.getCloudletWaitingList()) {
+            final RunQueueKey key = runQueueKeys.get(cle);
+            writer.writeDouble(key.virtualRuntime());
+            writer.writeInt(key.priority());
+            writer.writeLong(key.cloudletId());
+            writer.writeLong(key.order());
+        }
+
+        writer.writeLong(nextExecListOrder);
+        for (final CloudletExecution cle : getCloudletExecList()) {
+            final RunningCloudlet running = runningCloudlets.get(cle);
+            writer.writeInt(running.priority());
+            writer.writeLong(running.order());
+            writer.writeDouble(running.expireTime());
+        }
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        this.nextRunQueueOrder = reader.readLong();
+        for (final CloudletExecution cle : super.getCloudletWaitingList()) {
+            final var key = new RunQueueKey(reader.readDouble(), reader.readInt(), reader.readLong(), reader.readLong());
+            runQueueKeys.put(cle, key);
+            runQueue.put(key, cle);
+        }
+
+        runQueueVersion++;
+        this.nextExecListOrder = reader.readLong();
+        for (final CloudletExecution cle : getCloudletExecList()) {
+            final var running = new RunningCloudlet(cle, reader.readInt(), reader.readLong(), reader.readDouble());
+            runningCloudlets.put(cle, running);
+            runningCloudletsByPriority.merge(running.priority(), 1, Integer::sum);
+            runningCloudletsByTimeSlice.merge(cle.getTimeSlice(), 1, Integer::sum);
+            expireQueue.add(running);
+        }
+    }
+
+    private static <K> void decrement(final Map<K, Integer> counters, final K key) {
+        counters.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        runQueue.clear();
+        runQueueKeys.clear();
+        runQueueVersion++;
+        runningCloudlets.clear();
+        runningCloudletsByPriority.clear();
+        runningCloudletsByTimeSlice.clear();
+        expireQueue.clear();
+    }
+
     /**
      * Checks which Cloudlets in the execution list have the virtual runtime
      * equals to their allocated time slice and preempt them, getting
@@ -490,16 +754,23 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     @Override
     protected double moveNextCloudletsFromWaitingToExecList(final double currentTime) {
-        final List<CloudletExecution> preemptedCloudlets = preemptExecCloudletsWithExpiredVRuntimeAndMoveToWaitingList();
+        final List<CloudletExecution> preemptedCloudlets = preemptExecCloudletsWithExpiredVRuntimeAndMoveToWaitingList(currentTime);
         final double nextCloudletFinishTime = super.moveNextCloudletsFromWaitingToExecList(currentTime);
 
         /*After preempted Cloudlets are moved to the waiting list
         and next Cloudlets on the beginning of this list are moved
         to the execution list, the virtual runtime of these preempted Cloudlets
         is reset so that they can compete with other waiting Cloudlets to use
-        the processor again.*/
+        the processor again.
+        Since the virtual runtime changed, the Cloudlets are re-added to the
+        run queue (if still waiting) or have their expire time updated (if running again).*/
         for(final CloudletExecution c: preemptedCloudlets) {
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            final RunningCloudlet running = runningCloudlets.get(c);
+            if(runQueueKeys.containsKey(c))
+                addToRunQueue(c);
+            else if(running != null)
+                addRunningCloudlet(c, running.order());
         }
 
         return nextCloudletFinishTime;
@@ -509,22 +780,50 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * Checks which Cloudlets in the execution list have an expired virtual
      * runtime (that have reached the execution time slice) and
      * preempts its execution, moving them to the waiting list.
+     * Just the Cloudlets whose time-slices may have expired up to the current time are checked.
      *
+     * @param currentTime current simulation time
      * @return The list of preempted Cloudlets, that were removed from the execution list
      * and must have their virtual runtime (VRT) reset after the next cloudlets are put into
      * the execution list.
      *
      */
-    private List<CloudletExecution> preemptExecCloudletsWithExpiredVRuntimeAndMoveToWaitingList() {
-        final Predicate<CloudletExecution> vrtReachedTimeSlice = cle -> cle.getVirtualRuntime() >= cle.getTimeSlice();
-        final List<CloudletExecution> expiredVrtCloudlets =
-            getCloudletExecList()
-                .stream()
-                .filter(vrtReachedTimeSlice)
-                .collect(toList());
-
-        expiredVrtCloudlets.forEach(cle -> addCloudletToWaitingList(removeCloudletFromExecList(cle)));
-        return expiredVrtCloudlets;
+    private List<CloudletExecution> preemptExecCloudletsWithExpiredVRuntimeAndMoveToWaitingList(final double currentTime) {
+        final var expiredVrtCloudlets = new ArrayList<RunningCloudlet>();
+        final var notExpiredCloudlets = new ArrayList<RunningCloudlet>();
+        while (!expireQueue.isEmpty() && expireQueue.peek().expireTime() <= currentTime + EXPIRE_TIME_TOLERANCE) {
+            final RunningCloudlet running = expireQueue.poll();
+            final CloudletExecution cle = running.cle();
+            if (runningCloudlets.get(cle) != running) {
+                continue;
+            }
+
+            if (cle.getVirtualRuntime() >= cle.getTimeSlice())
+                expiredVrtCloudlets.add(running);
+            else notExpiredCloudlets.add(running);
+        }
+
+        /*The virtual runtime of running Cloudlets may not have been updated
+        (such as Cloudlets whose processing update was skipped).
+        The earliest expire time for them is moved forward accordingly.*/
+        for (final RunningCloudlet running : notExpiredCloudlets) {
+            final CloudletExecution cle = running.cle();
+            final double expireTime = currentTime + cle.getTimeSlice() - Math.max(cle.getVirtualRuntime(), 0);
+            final var updated = new RunningCloudlet(cle, running.priority(), running.order(), expireTime);
+            runningCloudlets.put(cle, updated);
+            expireQueue.add(updated);
+        }
+
+        //Keeps the order Cloudlets were in the execution list
+        expiredVrtCloudlets.sort(Comparator.comparingLong(RunningCloudlet::order));
+        final var preemptedCloudlets = new ArrayList<CloudletExecution>(expiredVrtCloudlets.size());
+        for (final RunningCloudlet running : expiredVrtCloudlets) {
+            final CloudletExecution cle = running.cle();
+            addCloudletToWaitingList(removeCloudletFromExecList(cle));
+            preemptedCloudlets.add(cle);
+        }
+
+        return preemptedCloudlets;
     }
 
 }
@@ -9,9 +9,13 @@ package org.cloudbus.cloudsim.schedulers.cloudlet;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.resources.Pe;
 
 import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
 
 /**
  * Implements a policy of scheduling performed by a
@@ -26,6 +30,14 @@ import java.io.Serial;
  * order. If actual priorities are defined for Cloudlets, they are just ignored
  * by the scheduler.</b></p>
  *
+ * <p>Waiting Cloudlets are indexed by the number of required PEs,
+ * so that finding the next Cloudlet to run when PEs become free
+ * doesn't require scanning the entire waiting list.
+ * By default, the first waiting Cloudlet which fits into the free PEs starts running,
+ * even if there are previously submitted Cloudlets still waiting for more PEs.
+ * To prevent such Cloudlets from starving, {@link #setEasyBackfilling(boolean) EASY backfilling}
+ * can be enabled.</p>
+ *
  * @author Rodrigo N. Calheiros
  * @author Anton Beloglazov
  * @author Manoel Campos da Silva Filho
@@ -35,6 +47,66 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
     @Serial
     private static final long serialVersionUID = 4699085761507163349L;
 
+    /** An index of the waiting Cloudlets, bucketed by the number of required PEs. */
+    private final WaitingCloudletBuckets waitingBuckets = new WaitingCloudletBuckets();
+
+    /** @see #isEasyBackfilling() */
+    private boolean easyBackfilling;
+
+    /**
+     * The expected time a running Cloudlet finishes, used as the key to sort Cloudlets into the {@link #finishQueue}.
+     * @param finishTime the expected finish time, estimated when the Cloudlet starts running
+     * @param order the order the Cloudlet started running, making keys unique
+     */
+    private record FinishKey(double finishTime, long order) implements Comparable<FinishKey>, Serializable {
+        @Override
+        public int compareTo(final FinishKey other) {
+            final int res = Double.compare(finishTime, other.finishTime);
+            return res == 0 ? Long.compare(order, other.order) : res;
+        }
+    }
+
+    /**
+     * Running Cloudlets sorted by their expected finish time,
+     * used to compute the time the first waiting Cloudlet will start when
+     * {@link #isEasyBackfilling() EASY backfilling} is enabled.
+     * It's just kept while backfilling is enabled.
+     */
+    private final TreeMap<FinishKey, CloudletExecution> finishQueue = new TreeMap<>();
+
+    /** The key of each running Cloudlet into the {@link #finishQueue}. */
+    private final Map<CloudletExecution, FinishKey> finishKeys = new HashMap<>();
+
+    private long nextFinishOrder;
+
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeLong(nextFinishOrder);
+        for (final CloudletExecution cle : getCloudletExecList()) {
+            final FinishKey key = finishKeys.get(cle);
+            writer.writeBoolean(key != null);
+            if (key != null) {
+                writer.writeDouble(key.finishTime());
+                writer.writeLong(key.order());
+            }
+        }
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        waitingBuckets.rebuild(getCloudletWaitingList());
+        this.nextFinishOrder = reader.readLong();
+        for (final CloudletExecution cle : getCloudletExecList()) {
+            if (reader.readBoolean()) {
+                final var key = new FinishKey(reader.readDouble(), reader.readLong());
+                finishKeys.put(cle, key);
+                finishQueue.put(key, cle);
+            }
+        }
+    }
+
     @Override
     public double cloudletResume(Cloudlet cloudlet) {
         return findCloudletInList(cloudlet, getCloudletPausedList())
@@ -93,4 +165,160 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
     protected boolean canExecuteCloudletInternal(final CloudletExecution cle) {
         return isThereEnoughFreePesForCloudlet(cle);
     }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        if(cle != CloudletExecution.NULL) {
+            waitingBuckets.add(cle);
+        }
+    }
+
+    @Override
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        waitingBuckets.remove(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    @Override
+    protected void sortCloudletWaitingList(final Comparator<CloudletExecution> comparator) {
+        super.sortCloudletWaitingList(comparator);
+        waitingBuckets.rebuild(getCloudletWaitingList());
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        waitingBuckets.clear();
+        finishQueue.clear();
+        finishKeys.clear();
+    }
+
+    @Override
+    protected void addCloudletToExecList(final CloudletExecution cle) {
+        super.addCloudletToExecList(cle);
+        if(easyBackfilling) {
+            addToFinishQueue(cle);
+        }
+    }
+
+    @Override
+    protected void onCloudletRemovedFromExecList(final CloudletExecution cle) {
+        final FinishKey key = finishKeys.remove(cle);
+        if(key != null) {
+            finishQueue.remove(key);
+        }
+    }
+
+    private void addToFinishQueue(final CloudletExecution cle) {
+        onCloudletRemovedFromExecList(cle);
+        final double runTime = estimatedRunTime(cle);
+        final double finishTime = runTime == Double.MAX_VALUE ? runTime : getVm().getSimulation().clock() + runTime;
+        final var key = new FinishKey(finishTime, nextFinishOrder++);
+        finishKeys.put(cle, key);
+        finishQueue.put(key, cle);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Instead of scanning the waiting list, just checks the first Cloudlet
+     * in each bucket of Cloudlets requiring up to the number of free PEs.
+     * If {@link #isEasyBackfilling() EASY backfilling} is enabled,
+     * the Cloudlet must also not delay the first waiting one.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
+        final long freePes = getVm().getProcessor().getAvailableResource();
+        if (!easyBackfilling) {
+            return waitingBuckets.findFirst(freePes, this::canExecuteCloudlet);
+        }
+
+        final var optionalHead = waitingBuckets.findFirst(CloudletSchedulerSpaceShared::isRunnable);
+        if (optionalHead.isEmpty() || canExecuteCloudlet(optionalHead.get())) {
+            return optionalHead;
+        }
+
+        return findBackfillingCloudlet(optionalHead.get(), freePes);
+    }
+
+    /**
+     * Finds a waiting Cloudlet that may start running before the first waiting one (the head),
+     * without delaying the time the head is expected to start (the shadow time).
+     * That is, the Cloudlet must either finish before the shadow time
+     * or use just the PEs that will remain free when the head starts.
+     * Running Cloudlets are visited in the order they are expected to finish,
+     * which is kept while they run, instead of sorting them at every call.
+     *
+     * @param head the first waiting Cloudlet, which cannot run yet
+     * @param freePes the number of free PEs
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    private Optional<CloudletExecution> findBackfillingCloudlet(final CloudletExecution head, final long freePes) {
+        final double currentTime = getVm().getSimulation().clock();
+        long availablePes = freePes;
+        for (final var entry : finishQueue.entrySet()) {
+            availablePes += entry.getValue().getNumberOfPes();
+            if (availablePes >= head.getNumberOfPes()) {
+                final double finishTime = entry.getKey().finishTime();
+                final double shadowTime = finishTime == Double.MAX_VALUE ? finishTime : finishTime - currentTime;
+                final long extraPes = availablePes - head.getNumberOfPes();
+                return waitingBuckets.findFirst(
+                    freePes,
+                    cle -> canExecuteCloudlet(cle) &&
+                           (estimatedRunTime(cle) <= shadowTime || cle.getNumberOfPes() <= extraPes));
+            }
+        }
+
+        //The head will never have enough PEs, so it doesn't block other Cloudlets
+        return waitingBuckets.findFirst(freePes, this::canExecuteCloudlet);
+    }
+
+    private static boolean isRunnable(final CloudletExecution cle) {
+        return cle.getCloudlet().getStatus().ordinal() < Cloudlet.Status.FROZEN.ordinal();
+    }
+
+    /**
+     * Gets the expected time (in seconds) for a Cloudlet to run,
+     * considering each of its PEs will use an entire VM PE.
+     * @param cle the Cloudlet to get its expected run time
+     * @return the expected run time or {@link Double#MAX_VALUE} if it cannot be estimated
+     */
+    private double estimatedRunTime(final CloudletExecution cle) {
+        if (cle.getCloudlet().getLength() < 0) {
+            return Double.MAX_VALUE;
+        }
+
+        return cle.getRemainingCloudletLength() / getVm().getMips();
+    }
+
+    /**
+     * Checks if EASY backfilling is enabled.
+     * When enabled, a waiting Cloudlet just starts running before previously submitted
+     * ones if it doesn't delay the start of the first waiting Cloudlet.
+     * Otherwise, any waiting Cloudlet fitting into the free PEs may start running.
+     *
+     * @return true if EASY backfilling is enabled, false otherwise
+     */
+    public boolean isEasyBackfilling() {
+        return easyBackfilling;
+    }
+
+    /**
+     * Enables or disables EASY backfilling.
+     * @param easyBackfilling true to enable EASY backfilling, false to disable
+     * @return this scheduler
+     * @see #isEasyBackfilling()
+     */
+    public CloudletSchedulerSpaceShared setEasyBackfilling(final boolean easyBackfilling) {
+        this.easyBackfilling = easyBackfilling;
+        finishQueue.clear();
+        finishKeys.clear();
+        if(easyBackfilling) {
+            getCloudletExecList().forEach(this::addToFinishQueue);
+        }
+
+        return this;
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * A list of {@link CloudletExecution}s which keeps the order Cloudlets are added
+ * and is indexed by the Cloudlets themselves.
+ * This way, adding, removing or checking if a Cloudlet is in the list is O(1),
+ * instead of the O(n) removal and lookup of an {@link ArrayList}.
+ * It's used to store the Cloudlets waiting in a {@link CloudletScheduler},
+ * which are usually removed from any position of the list.
+ *
+ * <p>Since a Cloudlet is just waiting once, the list doesn't store duplicates:
+ * adding a Cloudlet already in the list doesn't change it.
+ * Accessing a Cloudlet by index is O(index), so the list must be iterated instead.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class IndexedCloudletList extends AbstractList<CloudletExecution> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4287405839510937472L;
+
+    private final LinkedHashMap<CloudletExecution, CloudletExecution> map = new LinkedHashMap<>();
+
+    @Override
+    public boolean add(final CloudletExecution cle) {
+        map.putIfAbsent(cle, cle);
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object obj) {
+        return map.remove(obj) != null;
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        return map.containsKey(obj);
+    }
+
+    @Override
+    public CloudletExecution get(final int index) {
+        Objects.checkIndex(index, map.size());
+        final Iterator<CloudletExecution> iterator = iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+
+        return iterator.next();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public Iterator<CloudletExecution> iterator() {
+        return map.keySet().iterator();
+    }
+
+    @Override
+    public Spliterator<CloudletExecution> spliterator() {
+        return map.keySet().spliterator();
+    }
+
+    @Override
+    public void sort(final Comparator<? super CloudletExecution> comparator) {
+        final var sorted = new ArrayList<>(map.keySet());
+        sorted.sort(comparator);
+        map.clear();
+        sorted.forEach(this::add);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Indexes the Cloudlets waiting in a {@link CloudletScheduler},
+ * bucketing them by the number of required PEs.
+ * Inside each bucket, Cloudlets are kept in the order they were added,
+ * so that the first runnable Cloudlet for a given number of free PEs
+ * can be found just by checking the head of the buckets
+ * requiring up to that number of PEs, instead of scanning the entire waiting list.
+ * Since a VM has just a few distinct PE requirements among its Cloudlets,
+ * that is usually a constant-time lookup.
+ *
+ * <p>Removal of a Cloudlet from the index is O(1).</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class WaitingCloudletBuckets implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2706522254426591264L;
+
+    /**
+     * Buckets of waiting Cloudlets, indexed by the number of PEs they require.
+     * Each bucket maps Cloudlets to the order they were added to the index.
+     */
+    private final TreeMap<Long, LinkedHashMap<CloudletExecution, Long>> buckets;
+
+    /** The number of PEs each Cloudlet required when it was added (which defines its bucket). */
+    private final Map<CloudletExecution, Long> bucketKeys;
+
+    private long nextOrder;
+
+    WaitingCloudletBuckets() {
+        this.buckets = new TreeMap<>();
+        this.bucketKeys = new IdentityHashMap<>();
+    }
+
+    /**
+     * Adds a Cloudlet to the end of its bucket.
+     * @param cle the Cloudlet to add
+     */
+    void add(final CloudletExecution cle) {
+        final long pes = cle.getNumberOfPes();
+        if (bucketKeys.putIfAbsent(cle, pes) != null) {
+            return;
+        }
+
+        buckets.computeIfAbsent(pes, k -> new LinkedHashMap<>()).put(cle, nextOrder++);
+    }
+
+    /**
+     * Removes a Cloudlet from the index.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the index, false otherwise
+     */
+    boolean remove(final CloudletExecution cle) {
+        final Long pes = bucketKeys.remove(cle);
+        if (pes == null) {
+            return false;
+        }
+
+        final var bucket = buckets.get(pes);
+        bucket.remove(cle);
+        if (bucket.isEmpty()) {
+            buckets.remove(pes);
+        }
+
+        return true;
+    }
+
+    /**
+     * Rebuilds the index from a list of waiting Cloudlets,
+     * using the order of such a list (such as after it's sorted).
+     * @param waitingList the list of waiting Cloudlets
+     */
+    void rebuild(final List<CloudletExecution> waitingList) {
+        clear();
+        waitingList.forEach(this::add);
+    }
+
+    void clear() {
+        buckets.clear();
+        bucketKeys.clear();
+        nextOrder = 0;
+    }
+
+    /**
+     * Gets the first Cloudlet (in the order they were added),
+     * requiring up to a given number of PEs, which matches a given predicate.
+     * Inside each bucket, the search stops at the first Cloudlet matching the predicate.
+     *
+     * @param maxPes the maximum number of PEs the Cloudlet may require (usually the number of free PEs)
+     * @param predicate the predicate the Cloudlet must match (for instance, to check if it can run now)
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    Optional<CloudletExecution> findFirst(final long maxPes, final Predicate<CloudletExecution> predicate) {
+        CloudletExecution first = null;
+        long firstOrder = Long.MAX_VALUE;
+        for (final var bucket : buckets.headMap(maxPes, true).values()) {
+            for (final var entry : bucket.entrySet()) {
+                if (entry.getValue() > firstOrder) {
+                    break;
+                }
+
+                if (predicate.test(entry.getKey())) {
+                    first = entry.getKey();
+                    firstOrder = entry.getValue();
+                    break;
+                }
+            }
+        }
+
+        return Optional.ofNullable(first);
+    }
+
+    /**
+     * Gets the first Cloudlet (in the order they were added),
+     * regardless the number of required PEs, which matches a given predicate.
+     * @param predicate the predicate the Cloudlet must match
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    Optional<CloudletExecution> findFirst(final Predicate<CloudletExecution> predicate) {
+        return buckets.isEmpty() ? Optional.empty() : findFirst(buckets.lastKey(), predicate);
+    }
+
+    int size() {
+        return bucketKeys.size();
+    }
+
+    boolean isEmpty() {
+        return bucketKeys.isEmpty();
+    }
+}
@@ -17,7 +17,6 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An abstract class for implementation of {@link VmScheduler}s.
@@ -124,8 +123,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             return;
         }
 
-        final var selectedPesList = peList.stream().limit(vPesNumber).collect(toList());
-        ((HostSimple)host).setPeStatus(selectedPesList, newStatus);
+        ((HostSimple)host).setPeStatus(peList, vPesNumber, newStatus);
     }
 
     protected abstract boolean allocatePesForVmInternal(Vm vm, MipsShare mipsShareRequested);
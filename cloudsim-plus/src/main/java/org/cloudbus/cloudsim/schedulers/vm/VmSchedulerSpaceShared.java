@@ -67,22 +67,17 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
             return getHost().getWorkingPeList();
         }
 
-        final List<Pe> freePeList = getHost().getFreePeList();
+        /* Doesn't look ahead the next free PE, since it may be just
+         * lazily created when accessed (see LazyPeList). */
         final List<Pe> selectedPes = new ArrayList<>();
-        if(freePeList.isEmpty()){
-            return selectedPes;
-        }
-
-        final Iterator<Pe> peIterator = freePeList.iterator();
-        Pe pe = peIterator.next();
-        for (int i = 0; i < requestedMips.pes(); i++) {
-            if (requestedMips.mips() <= pe.getCapacity()) {
-                selectedPes.add(pe);
-                if (!peIterator.hasNext()) {
-                    break;
-                }
-                pe = peIterator.next();
+        final Iterator<Pe> peIterator = getHost().getFreePeList().iterator();
+        while (selectedPes.size() < requestedMips.pes() && peIterator.hasNext()) {
+            final Pe pe = peIterator.next();
+            if (requestedMips.mips() > pe.getCapacity()) {
+                break;
             }
+
+            selectedPes.add(pe);
         }
 
         return selectedPes;
@@ -0,0 +1,188 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of non-negative long values (such as latencies in nanoseconds)
+ * that uses log-linear buckets, in the same way as an HDR Histogram.
+ * Values lower than 32 are stored exactly and greater values are stored into
+ * buckets whose width grows with the value magnitude,
+ * keeping a relative error lower than 6.25% for any recorded value.
+ *
+ * <p>Recording a value is a constant-time operation that doesn't allocate memory,
+ * since the histogram keeps just a {@code long} array of counters.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class LatencyHistogram {
+    /** Number of bits used to define the sub-buckets inside each magnitude bucket. */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Number of sub-buckets inside each magnitude bucket. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Values lower than this are stored into their exact bucket. */
+    private static final int EXACT_VALUES = SUB_BUCKETS * 2;
+
+    private static final int BUCKETS = EXACT_VALUES + (Long.SIZE - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+
+    /** @see #getCount() */
+    private long count;
+
+    /** @see #getTotal() */
+    private long total;
+
+    /** @see #getMax() */
+    private long max;
+
+    /** @see #getMin() */
+    private long min = Long.MAX_VALUE;
+
+    /**
+     * Records a value into the histogram.
+     * @param value the value to record (negative values are recorded as zero)
+     */
+    public void record(final long value) {
+        final long positive = Math.max(value, 0);
+        counts[bucketIndex(positive)]++;
+        count++;
+        total += positive;
+        max = Math.max(max, positive);
+        min = Math.min(min, positive);
+    }
+
+    /**
+     * Gets the value at a given percentile, which is
+     * the highest value that is equivalent to the bucket where the percentile is.
+     *
+     * @param percentile the percentile to get the value for, in the range [0..100]
+     * @return the value at the given percentile or 0 if no value was recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long)Math.ceil(percentile / 100.0 * count));
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return Math.max(min, Math.min(max, highestValueInBucket(i)));
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     * @return
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     * @return the mean or 0 if no value was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : total / (double) count;
+    }
+
+    /**
+     * Gets the maximum recorded value.
+     * @return the max value or 0 if no value was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the minimum recorded value.
+     * @return the min value or 0 if no value was recorded
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+        min = Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the index of the bucket where a value is stored.
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    static int bucketIndex(final long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return EXACT_VALUES + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value that is stored into a given bucket.
+     * @param index the bucket index
+     * @return the highest value for the bucket
+     */
+    static long highestValueInBucket(final int index) {
+        if (index < EXACT_VALUES) {
+            return index;
+        }
+
+        final int shift = (index - EXACT_VALUES) / SUB_BUCKETS + 1;
+        final long subBucket = (index - EXACT_VALUES) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
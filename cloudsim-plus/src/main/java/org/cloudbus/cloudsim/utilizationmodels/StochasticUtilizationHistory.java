@@ -0,0 +1,203 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Stores the utilization history of a {@link UtilizationModelStochastic}
+ * into parallel arrays of primitive times and utilization values ordered by time,
+ * avoiding the boxing and per-entry overhead of a {@link Map}.
+ * Since utilization values are usually generated for increasing times,
+ * adding an entry usually just appends it to the end of the arrays.
+ *
+ * <p>The history can be saved to and loaded from a compact binary file,
+ * which is memory-mapped for loading, so that a recorded stochastic workload
+ * can be cheaply replayed by multiple simulation runs.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+final class StochasticUtilizationHistory {
+    /** Identifies binary history files ("CSUH"). */
+    private static final int MAGIC = 0x43535548;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    /** The first bytes of a file created by the Java serialization mechanism. */
+    private static final short JAVA_SERIALIZATION_MAGIC = (short) 0xACED;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] times;
+    private double[] utilizations;
+    private int size;
+
+    StochasticUtilizationHistory() {
+        this(new double[DEFAULT_CAPACITY], new double[DEFAULT_CAPACITY], 0);
+    }
+
+    private StochasticUtilizationHistory(final double[] times, final double[] utilizations, final int size) {
+        this.times = times;
+        this.utilizations = utilizations;
+        this.size = size;
+    }
+
+    /**
+     * Gets the utilization stored for a given time.
+     * @param time the time to get the utilization
+     * @return the stored utilization or {@link Double#NaN} if there is no utilization for that time
+     */
+    double get(final double time) {
+        final int index = indexOf(time);
+        return index < 0 ? Double.NaN : utilizations[index];
+    }
+
+    /**
+     * Stores the utilization for a given time,
+     * replacing any value previously stored for that time.
+     * @param time the time to store the utilization
+     * @param utilization the utilization to store
+     */
+    void put(final double time, final double utilization) {
+        if (size == 0 || time > times[size - 1]) {
+            ensureCapacity();
+            times[size] = time;
+            utilizations[size++] = utilization;
+            return;
+        }
+
+        final int index = indexOf(time);
+        if (index >= 0) {
+            utilizations[index] = utilization;
+            return;
+        }
+
+        final int insertionIndex = -index - 1;
+        ensureCapacity();
+        System.arraycopy(times, insertionIndex, times, insertionIndex + 1, size - insertionIndex);
+        System.arraycopy(utilizations, insertionIndex, utilizations, insertionIndex + 1, size - insertionIndex);
+        times[insertionIndex] = time;
+        utilizations[insertionIndex] = utilization;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(final double time) {
+        return Arrays.binarySearch(times, 0, size, time);
+    }
+
+    private void ensureCapacity() {
+        if (size < times.length) {
+            return;
+        }
+
+        final int capacity = Math.max(DEFAULT_CAPACITY, times.length * 2);
+        times = Arrays.copyOf(times, capacity);
+        utilizations = Arrays.copyOf(utilizations, capacity);
+    }
+
+    /**
+     * Saves the history into a binary file containing a header
+     * followed by all times and then all utilization values.
+     * @param filename the file to save the history
+     * @throws UncheckedIOException when the file cannot be accessed
+     */
+    void save(final String filename) {
+        final var buffer = ByteBuffer.allocate(HEADER_BYTES + 2 * size * Double.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(size);
+        final DoubleBuffer doubles = buffer.asDoubleBuffer();
+        doubles.put(times, 0, size).put(utilizations, 0, size);
+        buffer.rewind();
+
+        try (var channel = FileChannel.open(Path.of(filename),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads a history from a file created by {@link #save(String)}.
+     * Files containing a serialized {@code Map<Double, Double>},
+     * created by former versions of {@link UtilizationModelStochastic#saveHistory(String)}, are also accepted.
+     *
+     * @param filename the file to load the history from
+     * @return the loaded history
+     * @throws UncheckedIOException when the file cannot be accessed or has an invalid format
+     */
+    static StochasticUtilizationHistory load(final String filename) {
+        try (var channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() >= Short.BYTES && buffer.getShort(0) == JAVA_SERIALIZATION_MAGIC) {
+                return loadSerializedMap(filename);
+            }
+
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(filename + " is not a valid utilization history file");
+            }
+
+            final int size = buffer.getInt();
+            final DoubleBuffer doubles = buffer.asDoubleBuffer();
+            if (doubles.remaining() < 2 * size) {
+                throw new IOException(filename + " is truncated");
+            }
+
+            final double[] times = new double[Math.max(size, DEFAULT_CAPACITY)];
+            final double[] utilizations = new double[times.length];
+            doubles.get(times, 0, size).get(utilizations, 0, size);
+            return new StochasticUtilizationHistory(times, utilizations, size);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StochasticUtilizationHistory loadSerializedMap(final String filename) throws IOException {
+        try (var ois = new ObjectInputStream(new FileInputStream(filename))) {
+            final var map = (Map<Double, Double>) ois.readObject();
+            final var history = new StochasticUtilizationHistory();
+            map.entrySet()
+               .stream()
+               .sorted(Map.Entry.comparingByKey())
+               .forEach(entry -> history.put(entry.getKey(), entry.getValue()));
+            return history;
+        } catch (final ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
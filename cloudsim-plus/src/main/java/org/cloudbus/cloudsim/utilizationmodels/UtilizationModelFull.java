@@ -8,6 +8,8 @@
 
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import org.cloudbus.cloudsim.core.Simulation;
+
 import static org.cloudbus.cloudsim.util.Conversion.HUNDRED_PERCENT;
 
 /**
@@ -20,6 +22,43 @@ import static org.cloudbus.cloudsim.util.Conversion.HUNDRED_PERCENT;
  * @since CloudSim Toolkit 2.0
  */
 public class UtilizationModelFull extends UtilizationModelAbstract {
+    /**
+     * A {@link UtilizationModelFull} instance to be shared among any number of Cloudlets
+     * (which is the default CPU utilization model for them).
+     * Since this model always returns the same utilization, independent of the time,
+     * a single flyweight instance avoids creating one object for each Cloudlet,
+     * what is relevant when simulating millions of them.
+     *
+     * <p>The instance is immutable, so that Cloudlets from the same or different simulations
+     * (even running in parallel) don't interfere with each other.
+     * Its setters throw an {@link UnsupportedOperationException}.
+     * To change some attribute, set a new {@link UtilizationModelFull} to the Cloudlet that requires it.
+     * Since the utilization is always 100%, it doesn't depend on the simulation clock.</p>
+     * @since CloudSim Plus 7.1.0
+     */
+    public static final UtilizationModelFull SHARED = new Shared();
+
+    /**
+     * The class of the immutable {@link #SHARED} instance.
+     */
+    private static final class Shared extends UtilizationModelFull {
+        @Override
+        public UtilizationModel setSimulation(final Simulation simulation) {
+            throw unsupportedChange("simulation");
+        }
+
+        @Override
+        public UtilizationModel setOverCapacityRequestAllowed(final boolean allow) {
+            throw unsupportedChange("overCapacityRequestAllowed");
+        }
+
+        private static UnsupportedOperationException unsupportedChange(final String attribute) {
+            final var msg = "The shared UtilizationModelFull instance cannot be changed. " +
+                            "Set a new UtilizationModelFull to the Cloudlet to change its %s attribute.";
+            return new UnsupportedOperationException(String.format(msg, attribute));
+        }
+    }
+
     /**
      * Gets the utilization percentage (in scale from [0 to 1]) of resource at a given simulation time.
      *
@@ -12,9 +12,7 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 import org.cloudbus.cloudsim.distributions.StatisticalDistribution;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 
-import java.io.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -39,10 +37,9 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
     private ContinuousDistribution randomGenerator;
 
     /**
-     * The utilization history map, where each key is a time and
-     * each value is the resource utilization in that time.
+     * The utilization history, storing the resource utilization for each time.
      */
-    private Map<Double, Double> historyMap;
+    private StochasticUtilizationHistory history;
 
     /**
      * The previous time the utilization was requested.
@@ -159,7 +156,7 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
         this.previousUtilization = -1;
         this.maxPreviousTime = -1;
         this.historyEnabled = true;
-        this.historyMap = new HashMap<>();
+        this.history = new StochasticUtilizationHistory();
         setRandomGenerator(prng);
     }
 
@@ -179,64 +176,59 @@ public class UtilizationModelStochastic extends UtilizationModelAbstract {
         return utilization;
     }
 
-    private Double getOrGenerateUtilization(final double time) {
+    private double getOrGenerateUtilization(final double time) {
         if(time > this.maxPreviousTime || alwaysGenNewRandUtilization){
             return generateUtilization(time);
         }
 
-        final Double utilization = historyEnabled ? historyMap.get(time) : null;
-        return utilization == null ? generateUtilization(time) : utilization;
+        final double utilization = historyEnabled ? history.get(time) : Double.NaN;
+        return Double.isNaN(utilization) ? generateUtilization(time) : utilization;
     }
 
     private double generateUtilization(final double time) {
         final double utilization = Math.abs(randomGenerator.sample());
         if(historyEnabled) {
-            historyMap.put(time, utilization);
+            history.put(time, utilization);
         }
 
         return utilization;
     }
 
     /**
-     * Gets the utilization percentage for a given time from the internal {@link #historyMap}.
+     * Gets the utilization percentage for a given time from the internal {@link #history}.
      *
      * @param time the time to get the utilization history for
      * @return the stored utilization percentage or <b>null</b> if it has never been generated
      * an utilization value for the given time
      */
     protected Double getUtilizationHistory(final double time) {
-        return historyMap.get(time);
+        final double utilization = history.get(time);
+        return Double.isNaN(utilization) ? null : utilization;
     }
 
     /**
-     * Save the utilization history to a file.
+     * Save the utilization history to a file,
+     * using a compact binary format that can be quickly loaded by
+     * multiple simulation runs to replay the same utilization values.
      *
      * @param filename the filename
      * @throws UncheckedIOException when the file cannot be accessed
+     * @see #loadHistory(String)
      */
     public void saveHistory(final String filename) {
-        try (var oos = new ObjectOutputStream(new FileOutputStream(filename))) {
-            oos.writeObject(historyMap);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        history.save(filename);
     }
 
     /**
-     * Load a utilization history from a file.
+     * Load a utilization history from a file created by {@link #saveHistory(String)}.
+     * The file is memory-mapped to be loaded.
+     * Files saved by former versions, using Java serialization, are also accepted.
      *
      * @param filename the filename
-     * @throws UncheckedIOException when the file cannot be accessed
+     * @throws UncheckedIOException when the file cannot be accessed or has an invalid format
      */
-    @SuppressWarnings("unchecked")
     public void loadHistory(final String filename) {
-        try (var ois = new ObjectInputStream(new FileInputStream(filename))) {
-            historyMap = (Map<Double, Double>) ois.readObject();
-        } catch (final IOException e) {
-            throw new UncheckedIOException(e);
-        } catch (final ClassNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        history = StochasticUtilizationHistory.load(filename);
     }
 
     /**
@@ -25,6 +25,9 @@ package org.cloudbus.cloudsim.vms;
 
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudbus.cloudsim.core.AbstractMachine;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
+import org.cloudbus.cloudsim.core.Checkpointable;
 import org.cloudbus.cloudsim.resources.Resource;
 
 import java.util.Objects;
@@ -38,7 +41,7 @@ import java.util.function.Function;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 6.1.0
  */
-public class ResourceStats<T extends AbstractMachine> {
+public class ResourceStats<T extends AbstractMachine> implements Checkpointable {
     private final Function<T, Double> resourceUtilizationFunction;
     private final T machine;
     private final SummaryStatistics stats;
@@ -57,6 +60,20 @@ public class ResourceStats<T extends AbstractMachine> {
         this.stats = new SummaryStatistics();
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        writer.writeDouble(previousTime);
+        writer.writeDouble(previousUtilization);
+        writer.writeSerializable(stats);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        this.previousTime = reader.readDouble();
+        this.previousUtilization = reader.readDouble();
+        SummaryStatistics.copy(reader.readSerializable(), stats);
+    }
+
     /**
      * Collects the current resource utilization percentage (in scale from 0 to 1)
      * for the given time to the statistics.
@@ -201,6 +201,10 @@ public interface Vm extends AbstractMachine<Resource>, UniquelyIdentifiable, Com
      * Adds a listener object that will be notified every time when
      * the processing of the Vm is updated in its {@link Host}.
      *
+     * <p>Since such notifications happen very often, the event info object
+     * given to the listener may be reused across notifications,
+     * therefore it must not be kept after the listener returns.</p>
+     *
      * @param listener the listener to add
      * @return
      * @see #updateProcessing(double, MipsShare)
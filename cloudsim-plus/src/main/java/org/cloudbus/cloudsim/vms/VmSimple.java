@@ -10,6 +10,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.AbstractMachine;
+import org.cloudbus.cloudsim.core.CheckpointReader;
+import org.cloudbus.cloudsim.core.CheckpointWriter;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
@@ -23,6 +25,7 @@ import org.cloudsimplus.autoscaling.VmScaling;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.VmHostEventInfo;
+import org.cloudsimplus.listeners.VmHostEventInfoReusable;
 
 import java.util.*;
 
@@ -100,6 +103,12 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
     private final List<EventListener<VmHostEventInfo>> onUpdateProcessingListeners;
     private final List<EventListener<VmDatacenterEventInfo>> onCreationFailureListeners;
 
+    /**
+     * The event info reused to notify {@link #onUpdateProcessingListeners},
+     * lazily created when the first notification is sent.
+     */
+    private VmHostEventInfoReusable onUpdateProcessingEventInfo;
+
     private VerticalVmScaling ramVerticalScaling;
     private VerticalVmScaling bwVerticalScaling;
     private VerticalVmScaling peVerticalScaling;
@@ -269,6 +278,80 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         setStorage(new SimpleStorage(defaultStorageCapacity));
     }
 
+    @Override
+    public void writeState(final CheckpointWriter writer) {
+        super.writeState(writer);
+        writer.writeState(cloudletScheduler);
+        writer.writeHost(host);
+        writer.writeBoolean(created);
+        writer.writeBoolean(failed);
+        writer.writeBoolean(inMigration);
+        writer.writeState(processor);
+        writer.writeState(ram);
+        writer.writeState(bw);
+        writer.writeState(storage);
+        writer.writeLong(freePesNumber);
+        writer.writeLong(expectedFreePesNumber);
+        writer.writeDouble(submissionDelay);
+        writer.writeDouble(startTime);
+        writer.writeDouble(stopTime);
+        writer.writeDouble(lastBusyTime);
+        writer.writeDouble(timeZone);
+        writeMipsShare(writer, allocatedMips);
+        writeMipsShare(writer, requestedMips);
+
+        writer.writeInt(stateHistory.size());
+        for (final VmStateHistoryEntry entry : stateHistory) {
+            writer.writeDouble(entry.getTime());
+            writer.writeDouble(entry.getAllocatedMips());
+            writer.writeDouble(entry.getRequestedMips());
+            writer.writeBoolean(entry.isInMigration());
+        }
+
+        writer.writeState(cpuUtilizationStats == VmResourceStats.NULL ? null : cpuUtilizationStats);
+    }
+
+    @Override
+    public void readState(final CheckpointReader reader) {
+        super.readState(reader);
+        reader.readState(cloudletScheduler);
+        this.host = reader.readHost();
+        this.created = reader.readBoolean();
+        this.failed = reader.readBoolean();
+        this.inMigration = reader.readBoolean();
+        reader.readState(processor);
+        reader.readState(ram);
+        reader.readState(bw);
+        reader.readState(storage);
+        this.freePesNumber = reader.readLong();
+        this.expectedFreePesNumber = reader.readLong();
+        this.submissionDelay = reader.readDouble();
+        this.startTime = reader.readDouble();
+        this.stopTime = reader.readDouble();
+        this.lastBusyTime = reader.readDouble();
+        this.timeZone = reader.readDouble();
+        this.allocatedMips = readMipsShare(reader);
+        this.requestedMips = readMipsShare(reader);
+
+        stateHistory.clear();
+        final int historySize = reader.readInt();
+        for (int i = 0; i < historySize; i++) {
+            stateHistory.add(new VmStateHistoryEntry(
+                reader.readDouble(), reader.readDouble(), reader.readDouble(), reader.readBoolean()));
+        }
+
+        reader.readState(cpuUtilizationStats);
+    }
+
+    private static void writeMipsShare(final CheckpointWriter writer, final MipsShare mipsShare) {
+        writer.writeLong(mipsShare.pes());
+        writer.writeDouble(mipsShare.mips());
+    }
+
+    private static MipsShare readMipsShare(final CheckpointReader reader) {
+        return new MipsShare(reader.readLong(), reader.readDouble());
+    }
+
     @Override
     public double updateProcessing(MipsShare mipsShare) {
         return updateProcessing(getSimulation().clock(), mipsShare);
@@ -905,10 +988,23 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * Notifies all registered listeners when the processing of the Vm is updated in its {@link Host}.
      */
     public void notifyOnUpdateProcessingListeners() {
-        //Uses indexed for to avoid ConcurrentModificationException
-        for (int i = 0; i < onUpdateProcessingListeners.size(); i++) {
-            final var listener = onUpdateProcessingListeners.get(i);
-            listener.update(VmHostEventInfo.of(listener, this));
+        if(onUpdateProcessingListeners.isEmpty()){
+            return;
+        }
+
+        if(onUpdateProcessingEventInfo == null){
+            onUpdateProcessingEventInfo = new VmHostEventInfoReusable(this);
+        }
+
+        final var info = onUpdateProcessingEventInfo.acquire();
+        try {
+            //Uses indexed for to avoid ConcurrentModificationException
+            for (int i = 0; i < onUpdateProcessingListeners.size(); i++) {
+                final var listener = onUpdateProcessingListeners.get(i);
+                listener.update(info.set(listener));
+            }
+        } finally {
+            info.release();
         }
     }
 
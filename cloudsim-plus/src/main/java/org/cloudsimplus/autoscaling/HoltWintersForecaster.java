@@ -0,0 +1,156 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+/**
+ * A {@link LoadForecaster} using the
+ * <a href="https://en.wikipedia.org/wiki/Exponential_smoothing#Triple_exponential_smoothing_(Holt_Winters)">Holt-Winters</a>
+ * additive triple exponential smoothing, which models the level, the trend and the seasonality of the time series.
+ * If the season length is zero, the seasonality is ignored and it turns into the Holt's linear trend method
+ * (double exponential smoothing).
+ * Each added value is processed in constant time, without keeping the time series history.
+ *
+ * <p>When seasonality is enabled, the first season is used to initialize the seasonal components.
+ * Until that, the forecast is the last added value.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class HoltWintersForecaster implements LoadForecaster {
+    private final double alpha;
+    private final double beta;
+    private final double gamma;
+
+    /** The seasonal components or an empty array if seasonality is disabled. */
+    private final double[] seasonals;
+
+    private double level;
+    private double trend;
+    private double lastValue;
+    private long valuesNumber;
+
+    /**
+     * Creates a forecaster using the Holt's linear trend method (without seasonality).
+     *
+     * @param alpha the level smoothing factor, between 0 and 1
+     * @param beta the trend smoothing factor, between 0 and 1
+     */
+    public HoltWintersForecaster(final double alpha, final double beta) {
+        this(alpha, beta, 0, 0);
+    }
+
+    /**
+     * Creates a forecaster using the Holt-Winters additive method.
+     *
+     * @param alpha the level smoothing factor, between 0 and 1
+     * @param beta the trend smoothing factor, between 0 and 1
+     * @param gamma the seasonal smoothing factor, between 0 and 1
+     * @param seasonLength the number of values in a season or 0 to disable seasonality
+     */
+    public HoltWintersForecaster(final double alpha, final double beta, final double gamma, final int seasonLength) {
+        this.alpha = validateFactor(alpha, "alpha");
+        this.beta = validateFactor(beta, "beta");
+        this.gamma = validateFactor(gamma, "gamma");
+        if (seasonLength < 0) {
+            throw new IllegalArgumentException("Season length cannot be negative.");
+        }
+
+        this.seasonals = new double[seasonLength];
+    }
+
+    private static double validateFactor(final double factor, final String name) {
+        if (factor < 0 || factor > 1) {
+            throw new IllegalArgumentException("The %s smoothing factor must be between 0 and 1.".formatted(name));
+        }
+
+        return factor;
+    }
+
+    @Override
+    public void addValue(final double value) {
+        final int seasonLength = seasonals.length;
+        final int index = (int) (valuesNumber % Math.max(seasonLength, 1));
+        valuesNumber++;
+        lastValue = value;
+
+        if (valuesNumber <= seasonLength) {
+            initFirstSeason(index, value);
+            return;
+        }
+
+        if (valuesNumber == 1) {
+            level = value;
+            return;
+        }
+
+        final double season = seasonLength == 0 ? 0 : seasonals[index];
+        final double previousLevel = level;
+        level = alpha * (value - season) + (1 - alpha) * (level + trend);
+        trend = beta * (level - previousLevel) + (1 - beta) * trend;
+        if (seasonLength > 0) {
+            seasonals[index] = gamma * (value - level) + (1 - gamma) * season;
+        }
+    }
+
+    /**
+     * Stores a value of the first season and, when it's complete, initializes the level
+     * as the season mean and each seasonal component as the difference between the respective value and that mean.
+     */
+    private void initFirstSeason(final int index, final double value) {
+        seasonals[index] = value;
+        if (valuesNumber < seasonals.length) {
+            return;
+        }
+
+        double sum = 0;
+        for (final double seasonValue : seasonals) {
+            sum += seasonValue;
+        }
+
+        level = sum / seasonals.length;
+        for (int i = 0; i < seasonals.length; i++) {
+            seasonals[i] -= level;
+        }
+    }
+
+    @Override
+    public double forecast(final int steps) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("The number of steps to forecast must be at least 1.");
+        }
+
+        final int seasonLength = seasonals.length;
+        if (valuesNumber < Math.max(seasonLength, 1)) {
+            return lastValue;
+        }
+
+        final double season = seasonLength == 0 ? 0 : seasonals[(int) ((valuesNumber - 1 + steps) % seasonLength)];
+        return level + steps * trend + season;
+    }
+
+    @Override
+    public long getValuesNumber() {
+        return valuesNumber;
+    }
+}
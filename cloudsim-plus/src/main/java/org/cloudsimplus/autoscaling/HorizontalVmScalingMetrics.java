@@ -0,0 +1,166 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.EventInfo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Collects provisioning metrics for the VMs of a {@link DatacenterBroker},
+ * enabling the comparison of different {@link HorizontalVmScaling} implementations,
+ * such as the reactive {@link HorizontalVmScalingSimple} and the {@link HorizontalVmScalingPredictive}.
+ *
+ * <p>At every simulation clock tick, the mean CPU utilization of the broker's running VMs is sampled.
+ * The time during which such a mean is above the overload threshold is accounted as under-provisioning
+ * (there are fewer VMs than required) and the time it is below the underload threshold
+ * is accounted as over-provisioning (there are more VMs than required).
+ * The number of running VMs is also integrated over time, giving the VM-seconds paid for.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class HorizontalVmScalingMetrics {
+    private final DatacenterBroker broker;
+    private final double underloadThreshold;
+    private final double overloadThreshold;
+
+    /** The last time the broker's VMs were sampled. */
+    private double lastSampleTime;
+
+    /** Mean CPU utilization of the broker's VMs at the {@link #lastSampleTime}. */
+    private double lastMeanUtilization;
+
+    /** Number of running VMs at the {@link #lastSampleTime}. */
+    private int lastVmsNumber;
+
+    /** @see #getUnderProvisioningTime() */
+    private double underProvisioningTime;
+
+    /** @see #getOverProvisioningTime() */
+    private double overProvisioningTime;
+
+    /** @see #getVmSeconds() */
+    private double vmSeconds;
+
+    /** @see #getMaxVmsNumber() */
+    private int maxVmsNumber;
+
+    /**
+     * Creates an object to collect provisioning metrics for the VMs of a given broker.
+     * @param broker the broker whose VMs will be monitored
+     * @param underloadThreshold the mean CPU utilization (in scale from 0 to 1) below which VMs are over-provisioned
+     * @param overloadThreshold the mean CPU utilization (in scale from 0 to 1) above which VMs are under-provisioned
+     */
+    public HorizontalVmScalingMetrics(final DatacenterBroker broker, final double underloadThreshold, final double overloadThreshold) {
+        if (underloadThreshold < 0 || overloadThreshold > 1 || underloadThreshold >= overloadThreshold) {
+            throw new IllegalArgumentException("Thresholds must be between 0 and 1 and the underload threshold must be lower than the overload one.");
+        }
+
+        this.broker = Objects.requireNonNull(broker);
+        this.underloadThreshold = underloadThreshold;
+        this.overloadThreshold = overloadThreshold;
+        broker.getSimulation().addOnClockTickListener(this::onClockTick);
+    }
+
+    private void onClockTick(final EventInfo info) {
+        final double elapsed = info.getTime() - lastSampleTime;
+        if (lastVmsNumber > 0) {
+            vmSeconds += lastVmsNumber * elapsed;
+            if (lastMeanUtilization > overloadThreshold) {
+                underProvisioningTime += elapsed;
+            } else if (lastMeanUtilization < underloadThreshold) {
+                overProvisioningTime += elapsed;
+            }
+        }
+
+        final List<Vm> vmList = broker.getVmExecList();
+        lastSampleTime = info.getTime();
+        lastVmsNumber = vmList.size();
+        lastMeanUtilization = vmList.stream().mapToDouble(Vm::getCpuPercentUtilization).average().orElse(0);
+        maxVmsNumber = Math.max(maxVmsNumber, lastVmsNumber);
+    }
+
+    /**
+     * Gets the total time (in seconds) the mean CPU utilization of the broker's VMs
+     * was above the overload threshold.
+     * @return
+     */
+    public double getUnderProvisioningTime() {
+        return underProvisioningTime;
+    }
+
+    /**
+     * Gets the total time (in seconds) the mean CPU utilization of the broker's VMs
+     * was below the underload threshold.
+     * @return
+     */
+    public double getOverProvisioningTime() {
+        return overProvisioningTime;
+    }
+
+    /**
+     * Gets the number of running VMs integrated over the simulation time,
+     * which is proportional to the cost of the allocated VMs.
+     * @return
+     */
+    public double getVmSeconds() {
+        return vmSeconds;
+    }
+
+    /**
+     * Gets the maximum number of VMs running at the same time.
+     * @return
+     */
+    public int getMaxVmsNumber() {
+        return maxVmsNumber;
+    }
+
+    /**
+     * Gets the mean time (in seconds) finished Cloudlets waited to start executing.
+     * @return
+     */
+    public double getMeanWaitingTime() {
+        return meanOfFinishedCloudlets(Cloudlet::getWaitingTime);
+    }
+
+    /**
+     * Gets the mean time (in seconds) from the arrival of finished Cloudlets
+     * into the datacenter until they finish.
+     * @return
+     */
+    public double getMeanResponseTime() {
+        return meanOfFinishedCloudlets(cloudlet -> cloudlet.getFinishTime() - cloudlet.getLastDatacenterArrivalTime());
+    }
+
+    private double meanOfFinishedCloudlets(final ToDoubleFunction<Cloudlet> function) {
+        final List<Cloudlet> cloudletList = broker.getCloudletFinishedList();
+        return cloudletList.stream().mapToDouble(function).average().orElse(0);
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.VmHostEventInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A {@link HorizontalVmScaling} implementation that requests VMs ahead of a predicted overload.
+ * At every {@link org.cloudbus.cloudsim.datacenters.Datacenter#getSchedulingInterval() scheduling interval},
+ * the {@link #setLoadFunction(Function) load} of the {@link #getVm() VM} is added
+ * to a {@link LoadForecaster}, which forecasts the load at the {@link #setForecastHorizon(double) forecast horizon}.
+ * If no scheduling interval is set, the load is sampled at every processing update of the VM instead.
+ * The horizon should be set to the time new VMs take to be placed and booted,
+ * so that they are ready when the overload happens.
+ * </p>
+ *
+ * <p>A new VM is requested when the forecast load reaches the {@link #setOverloadThreshold(double) overload threshold}
+ * or the {@link #setOverloadPredicate(Predicate) overload predicate} matches (as in {@link HorizontalVmScalingSimple}).
+ * After that, no other VM is requested until the forecast horizon elapses, since the requested one
+ * is still being provisioned.
+ * When both the current and the forecast load are below the {@link #setUnderloadThreshold(double) underload threshold},
+ * the last VM created by this scaling which is idle is destroyed.
+ * VMs running Cloudlets and the VM this scaling is attached to are never destroyed.
+ * </p>
+ *
+ * <p>Use {@link HorizontalVmScalingMetrics} to compare the provisioning achieved
+ * by this scaling against the reactive {@link HorizontalVmScalingSimple}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see HoltWintersForecaster
+ * @see LoessForecaster
+ */
+public class HorizontalVmScalingPredictive extends VmScalingAbstract implements HorizontalVmScaling {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HorizontalVmScalingPredictive.class.getSimpleName());
+
+    /**
+     * Default value for the {@link #getOverloadThreshold() overload threshold}.
+     */
+    public static final double DEF_OVERLOAD_THRESHOLD = 0.8;
+
+    /**
+     * Default value for the {@link #getUnderloadThreshold() underload threshold}.
+     */
+    public static final double DEF_UNDERLOAD_THRESHOLD = 0.3;
+
+    /** @see #getVmSupplier() */
+    private Supplier<Vm> vmSupplier;
+
+    /** @see #getOverloadPredicate() */
+    private Predicate<Vm> overloadPredicate;
+
+    /** @see #getLoadFunction() */
+    private Function<Vm, Double> loadFunction;
+
+    /** @see #getForecaster() */
+    private final LoadForecaster forecaster;
+
+    /** @see #getForecastHorizon() */
+    private double forecastHorizon;
+
+    /** @see #getOverloadThreshold() */
+    private double overloadThreshold;
+
+    /** @see #getUnderloadThreshold() */
+    private double underloadThreshold;
+
+    /** @see #getLastForecast() */
+    private double lastForecast;
+
+    /** The last time a VM was requested. */
+    private double lastUpScalingTime;
+
+    /** VMs requested by this scaling that weren't destroyed yet, from the oldest to the newest one. */
+    private final Deque<Vm> requestedVms;
+
+    /** @see #getUpScalingRequests() */
+    private long upScalingRequests;
+
+    /** @see #getDownScalingRequests() */
+    private long downScalingRequests;
+
+    /**
+     * Creates a predictive horizontal VM scaling using a {@link HoltWintersForecaster}
+     * without seasonality.
+     */
+    public HorizontalVmScalingPredictive() {
+        this(new HoltWintersForecaster(0.5, 0.3));
+    }
+
+    /**
+     * Creates a predictive horizontal VM scaling using a given forecaster.
+     * @param forecaster the forecaster to predict the VM load
+     */
+    public HorizontalVmScalingPredictive(final LoadForecaster forecaster) {
+        super();
+        this.forecaster = Objects.requireNonNull(forecaster);
+        this.overloadPredicate = FALSE_PREDICATE;
+        this.vmSupplier = () -> Vm.NULL;
+        this.loadFunction = Vm::getCpuPercentUtilization;
+        this.overloadThreshold = DEF_OVERLOAD_THRESHOLD;
+        this.underloadThreshold = DEF_UNDERLOAD_THRESHOLD;
+        this.lastUpScalingTime = -Double.MAX_VALUE;
+        this.requestedVms = new ArrayDeque<>();
+    }
+
+    @Override
+    public final boolean requestUpScalingIfPredicateMatches(final VmHostEventInfo evt) {
+        if (!isTimeToCheckPredicate(evt.getTime())) {
+            return false;
+        }
+
+        setLastProcessingTime(evt.getTime());
+        final double load = loadFunction.apply(getVm());
+        forecaster.addValue(load);
+        lastForecast = forecaster.forecast(getForecastSteps());
+
+        if (overloadPredicate.test(getVm()) || lastForecast >= overloadThreshold) {
+            return requestUpScaling(evt.getTime());
+        }
+
+        if (load <= underloadThreshold && lastForecast <= underloadThreshold) {
+            requestDownScaling(evt.getTime());
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the Datacenter has no scheduling interval set, the VM is checked at every processing update,
+     * since there is no periodic update to sample the load.
+     */
+    @Override
+    protected boolean isTimeToCheckPredicate(final double time) {
+        if (getVm().getHost().getDatacenter().getSchedulingInterval() > 0) {
+            return super.isTimeToCheckPredicate(time);
+        }
+
+        return time > getLastProcessingTime();
+    }
+
+    /**
+     * Gets the number of scheduling intervals ahead to forecast the load,
+     * according to the {@link #getForecastHorizon() forecast horizon}.
+     * If the Datacenter has no scheduling interval set,
+     * the time between load samples is unknown and the load is forecast just one step ahead.
+     * @return
+     */
+    int getForecastSteps() {
+        final double interval = getVm().getHost().getDatacenter().getSchedulingInterval();
+        if (interval <= 0) {
+            return 1;
+        }
+
+        return (int) Math.max(1, Math.ceil(forecastHorizon / interval));
+    }
+
+    /**
+     * Checks if a VM requested previously may be still being provisioned.
+     * @param time the current simulation time
+     * @return
+     */
+    private boolean isInCooldown(final double time) {
+        final double interval = getVm().getHost().getDatacenter().getSchedulingInterval();
+        return time < lastUpScalingTime + Math.max(forecastHorizon, interval);
+    }
+
+    @Override
+    protected boolean requestUpScaling(final double time) {
+        if (isInCooldown(time)) {
+            return false;
+        }
+
+        final Vm newVm = getVmSupplier().get();
+        if (Vm.NULL.equals(newVm)) {
+            return false;
+        }
+
+        LOGGER.info(
+            "{}: {}{}: Requesting creation of {} since the load forecast for {} in {} seconds is {}%",
+            String.format("%.2f", time), getClass().getSimpleName(), getVm(), newVm, getVm(),
+            forecastHorizon, String.format("%.2f", lastForecast * 100));
+        getVm().getBroker().submitVm(newVm);
+        requestedVms.addLast(newVm);
+        lastUpScalingTime = time;
+        upScalingRequests++;
+        return true;
+    }
+
+    /**
+     * Destroys the newest VM requested by this scaling that is idle.
+     * @param time the current simulation time
+     * @return true if a VM was requested to be destroyed, false otherwise
+     */
+    private boolean requestDownScaling(final double time) {
+        if (isInCooldown(time)) {
+            return false;
+        }
+
+        final Iterator<Vm> iterator = requestedVms.descendingIterator();
+        while (iterator.hasNext()) {
+            final Vm vm = iterator.next();
+            if (vm.getStopTime() >= 0 || vm.isFailed()) {
+                iterator.remove();
+                continue;
+            }
+
+            if (vm.isCreated() && vm.getCloudletScheduler().isEmpty()) {
+                iterator.remove();
+                final DatacenterBroker broker = vm.getBroker();
+                LOGGER.info(
+                    "{}: {}{}: Requesting destruction of idle {} since the load forecast for {} in {} seconds is {}%",
+                    String.format("%.2f", time), getClass().getSimpleName(), getVm(), vm, getVm(),
+                    forecastHorizon, String.format("%.2f", lastForecast * 100));
+                broker.getSimulation().sendNow(broker, vm.getHost().getDatacenter(), CloudSimTags.VM_DESTROY, vm);
+                downScalingRequests++;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Supplier<Vm> getVmSupplier() {
+        return vmSupplier;
+    }
+
+    @Override
+    public final HorizontalVmScaling setVmSupplier(final Supplier<Vm> supplier) {
+        this.vmSupplier = Objects.requireNonNull(supplier);
+        return this;
+    }
+
+    @Override
+    public Predicate<Vm> getOverloadPredicate() {
+        return overloadPredicate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The predicate enables requesting VMs even if the forecast load is below
+     * the {@link #getOverloadThreshold() overload threshold}. It never matches by default.</p>
+     * @param predicate {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public VmScaling setOverloadPredicate(final Predicate<Vm> predicate) {
+        this.overloadPredicate = Objects.requireNonNull(predicate);
+        return this;
+    }
+
+    /**
+     * Gets the function that computes the load of the VM to be forecast,
+     * which by default is the {@link Vm#getCpuPercentUtilization() VM CPU utilization}.
+     * @return
+     */
+    public Function<Vm, Double> getLoadFunction() {
+        return loadFunction;
+    }
+
+    /**
+     * Sets the function that computes the load of the VM to be forecast.
+     * The load is compared against the overload and underload thresholds,
+     * therefore they must be in the same scale.
+     * It may be, for instance, the mean CPU utilization of all VMs of the broker.
+     *
+     * @param loadFunction the function to set
+     * @return
+     */
+    public HorizontalVmScalingPredictive setLoadFunction(final Function<Vm, Double> loadFunction) {
+        this.loadFunction = Objects.requireNonNull(loadFunction);
+        return this;
+    }
+
+    /**
+     * Gets the forecaster used to predict the VM load.
+     * @return
+     */
+    public LoadForecaster getForecaster() {
+        return forecaster;
+    }
+
+    /**
+     * Gets how far ahead (in seconds) the load is forecast.
+     * @return
+     */
+    public double getForecastHorizon() {
+        return forecastHorizon;
+    }
+
+    /**
+     * Sets how far ahead (in seconds) the load is forecast,
+     * which should be the time new VMs take to be ready.
+     * The forecast is performed at least one scheduling interval ahead.
+     *
+     * @param forecastHorizon the horizon to set (in seconds)
+     * @return
+     */
+    public HorizontalVmScalingPredictive setForecastHorizon(final double forecastHorizon) {
+        if (forecastHorizon < 0) {
+            throw new IllegalArgumentException("Forecast horizon cannot be negative.");
+        }
+
+        this.forecastHorizon = forecastHorizon;
+        return this;
+    }
+
+    /**
+     * Gets the forecast load from which a new VM is requested.
+     * @return
+     */
+    public double getOverloadThreshold() {
+        return overloadThreshold;
+    }
+
+    /**
+     * Sets the forecast load from which a new VM is requested.
+     * @param overloadThreshold the threshold to set
+     * @return
+     */
+    public HorizontalVmScalingPredictive setOverloadThreshold(final double overloadThreshold) {
+        if (overloadThreshold <= underloadThreshold) {
+            throw new IllegalArgumentException("The overload threshold must be greater than the underload threshold.");
+        }
+
+        this.overloadThreshold = overloadThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the load below which (for both the current and the forecast load)
+     * an idle VM requested by this scaling is destroyed.
+     * @return
+     */
+    public double getUnderloadThreshold() {
+        return underloadThreshold;
+    }
+
+    /**
+     * Sets the load below which (for both the current and the forecast load)
+     * an idle VM requested by this scaling is destroyed.
+     * @param underloadThreshold the threshold to set
+     * @return
+     */
+    public HorizontalVmScalingPredictive setUnderloadThreshold(final double underloadThreshold) {
+        if (underloadThreshold < 0 || underloadThreshold >= overloadThreshold) {
+            throw new IllegalArgumentException("The underload threshold must be between 0 and the overload threshold.");
+        }
+
+        this.underloadThreshold = underloadThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the load forecast at the last time the VM load was checked.
+     * @return
+     */
+    public double getLastForecast() {
+        return lastForecast;
+    }
+
+    /**
+     * Gets the number of VMs requested by this scaling.
+     * @return
+     */
+    public long getUpScalingRequests() {
+        return upScalingRequests;
+    }
+
+    /**
+     * Gets the number of idle VMs this scaling requested to be destroyed.
+     * @return
+     */
+    public long getDownScalingRequests() {
+        return downScalingRequests;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+/**
+ * Incrementally fits a time series of load values (such as the CPU utilization of VMs),
+ * sampled at a fixed interval, to forecast the load some intervals ahead.
+ * It's used by a {@link HorizontalVmScalingPredictive} to request VMs before an overload happens.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see HoltWintersForecaster
+ * @see LoessForecaster
+ */
+public interface LoadForecaster {
+    /**
+     * Adds the next value of the time series, updating the forecast model.
+     * @param value the value to add
+     */
+    void addValue(double value);
+
+    /**
+     * Forecasts the value of the time series a given number of intervals ahead of the last added value.
+     * @param steps the number of intervals ahead to forecast (at least 1)
+     * @return the forecast value or the last added value if there are not enough values to fit the model yet
+     */
+    double forecast(int steps);
+
+    /**
+     * Gets the number of values added so far.
+     * @return
+     */
+    long getValuesNumber();
+}
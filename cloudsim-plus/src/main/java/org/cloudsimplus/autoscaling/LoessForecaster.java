@@ -0,0 +1,94 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.util.Regression;
+
+/**
+ * A {@link LoadForecaster} that fits a Local Regression (LOESS) line
+ * over a sliding window with the last values of the time series
+ * and extrapolates it to forecast future values.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see Regression#getLoessParameterEstimates(double...)
+ */
+public class LoessForecaster implements LoadForecaster {
+    /**
+     * The minimum number of values to fit the regression.
+     */
+    private static final int MIN_VALUES = 3;
+
+    /** A circular buffer with the last values. */
+    private final double[] window;
+    private long valuesNumber;
+
+    /**
+     * Creates a forecaster that fits the regression over a given number of last values.
+     * @param windowSize the number of last values to fit the regression (at least 3)
+     */
+    public LoessForecaster(final int windowSize) {
+        if (windowSize < MIN_VALUES) {
+            throw new IllegalArgumentException("The window size must be at least " + MIN_VALUES);
+        }
+
+        this.window = new double[windowSize];
+    }
+
+    @Override
+    public void addValue(final double value) {
+        window[(int) (valuesNumber % window.length)] = value;
+        valuesNumber++;
+    }
+
+    @Override
+    public double forecast(final int steps) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("The number of steps to forecast must be at least 1.");
+        }
+
+        if (valuesNumber == 0) {
+            return 0;
+        }
+
+        final int size = (int) Math.min(valuesNumber, window.length);
+        if (size < MIN_VALUES) {
+            return window[(int) ((valuesNumber - 1) % window.length)];
+        }
+
+        //Copies the values from the oldest to the newest one
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = window[(int) ((valuesNumber - size + i) % window.length)];
+        }
+
+        final double[] estimates = Regression.getLoessParameterEstimates(values);
+        return estimates[0] + estimates[1] * (size + steps);
+    }
+
+    @Override
+    public long getValuesNumber() {
+        return valuesNumber;
+    }
+}
@@ -54,12 +54,14 @@ public abstract class VmScalingAbstract implements VmScaling {
 
     /**
      * Checks if it is time to evaluate weather the Vm is under or overloaded.
+     * If the Datacenter has no scheduling interval set, the Vm is never checked.
      *
      * @param time current simulation time
      * @return true if it's time to check weather the Vm is over and underloaded, false otherwise
      */
     protected boolean isTimeToCheckPredicate(final double time) {
-        return time > lastProcessingTime && (long) time % getVm().getHost().getDatacenter().getSchedulingInterval() == 0;
+        final double interval = getVm().getHost().getDatacenter().getSchedulingInterval();
+        return interval > 0 && time > lastProcessingTime && (long) time % interval == 0;
     }
 
     /**
@@ -74,6 +76,14 @@ public abstract class VmScalingAbstract implements VmScaling {
      */
     protected abstract boolean requestUpScaling(double time);
 
+    /**
+     * Gets the last time the scheduler checked for VM overload.
+     * @return the last processing time (in seconds)
+     */
+    protected double getLastProcessingTime() {
+        return lastProcessingTime;
+    }
+
     /**
      * Sets the last time the scheduler checked for VM overload.
      * @param lastProcessingTime the processing time to set
@@ -25,7 +25,7 @@ package org.cloudsimplus.builders;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.HostSimple;
-import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.LazyPeList;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudsimplus.listeners.EventListener;
@@ -52,7 +52,10 @@ public class HostBuilder implements Builder {
     private double mips = 2000;
     private int    pes = 1;
 
-    private final List<Host> hosts;
+    /** @see #setLazyPes(boolean) */
+    private boolean lazyPes;
+
+    private final ArrayList<Host> hosts;
     private Function<List<Pe>, Host> hostCreationFunction;
     private EventListener<HostUpdatesVmsProcessingEventInfo> onUpdateVmsProcessingListener = EventListener.NULL;
     private Supplier<VmScheduler> vmSchedulerSupplier;
@@ -80,8 +83,10 @@ public class HostBuilder implements Builder {
     public HostBuilder create(final int amount) {
         validateAmount(amount);
 
+        hosts.ensureCapacity(hosts.size() + amount);
+        final var peBuilder = new PeBuilder();
         for (int i = 0; i < amount; i++) {
-            final List<Pe> peList = new PeBuilder().create(pes, mips);
+            final List<Pe> peList = lazyPes ? new LazyPeList(pes, mips) : peBuilder.create(pes, mips);
             final Host host = hostCreationFunction.apply(peList);
             if(vmSchedulerSupplier != null) {
                 host.setVmScheduler(vmSchedulerSupplier.get());
@@ -102,10 +107,7 @@ public class HostBuilder implements Builder {
     }
 
     private Host defaultHostCreationFunction(final List<Pe> peList) {
-        return new HostSimple(peList)
-            .setRamProvisioner(new ResourceProvisionerSimple())
-            .setBwProvisioner(new ResourceProvisionerSimple())
-            .addOnUpdateProcessingListener(onUpdateVmsProcessingListener);
+        return new HostSimple(peList).addOnUpdateProcessingListener(onUpdateVmsProcessingListener);
     }
 
     public double getMips() {
@@ -126,6 +128,26 @@ public class HostBuilder implements Builder {
         return this;
     }
 
+    public boolean isLazyPes() {
+        return lazyPes;
+    }
+
+    /**
+     * Defines if the PEs of created Hosts must be represented by a {@link LazyPeList},
+     * which just instantiates a {@link Pe} object when it's accessed for the first time.
+     * This drastically reduces memory footprint and creation time
+     * of Datacenters with a huge number of Hosts and PEs,
+     * since most of those PEs may never be used.
+     *
+     * @param lazyPes true to create PEs lazily, false to create all PEs upfront
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public HostBuilder setLazyPes(final boolean lazyPes) {
+        this.lazyPes = lazyPes;
+        return this;
+    }
+
     /**
      * Sets a {@link Function} used to create Hosts.
      * It must receive a list of {@link Pe} for the Host it will create.
@@ -29,8 +29,7 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-
-import static java.util.stream.Collectors.toList;
+import java.util.function.BiConsumer;
 
 /**
  * An abstract base class for implementing data tables.
@@ -38,6 +37,12 @@ import static java.util.stream.Collectors.toList;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class AbstractTable implements Table {
+    /**
+     * Number of characters of printed rows accumulated before they are
+     * written to the {@link #getPrintStream() PrintStream} at once.
+     */
+    private static final int ROWS_BUFFER_SIZE = 8192;
+
     private PrintStream printStream;
 
     /** @see #getColumns() */
@@ -54,6 +59,20 @@ public abstract class AbstractTable implements Table {
      */
     private String columnSeparator;
 
+    /**
+     * Accumulates printed rows so that the {@link #getPrintStream() PrintStream}
+     * is written (and possibly flushed) once every {@link #ROWS_BUFFER_SIZE} characters,
+     * instead of once per row.
+     */
+    private final StringBuilder rowsBuffer;
+
+    /**
+     * The {@link #rowOpening()} and {@link #rowClosing()} strings already formatted,
+     * which are computed once when the table starts being printed.
+     */
+    private String formattedRowOpening;
+    private String formattedRowClosing;
+
     public AbstractTable(){
         this("");
     }
@@ -66,6 +85,7 @@ public abstract class AbstractTable implements Table {
         this.printStream = System.out;
         this.columns = new ArrayList<>();
         this.rows = new ArrayList<>();
+        this.rowsBuffer = new StringBuilder();
         setTitle(title);
     }
 
@@ -123,26 +143,68 @@ public abstract class AbstractTable implements Table {
         return columns.stream().anyMatch(col -> StringUtils.isNotBlank(col.getSubTitle()));
     }
 
-    private void printRow(final List<Object> row) {
-        getPrintStream().printf(rowOpening());
-        final List<TableColumn> cols =
-            columns.stream()
-                .limit( Math.min(columns.size(), row.size()))
-                .collect(toList());
+    /**
+     * Prints a row of data.
+     * Rows are accumulated into a buffer that is just written to the {@link #getPrintStream() PrintStream}
+     * when it gets full or the table is finished.
+     *
+     * @param row the data of each column in the row to print
+     */
+    protected void printRow(final List<Object> row) {
+        rowsBuffer.append(formattedRowOpening);
+        final int cols = Math.min(columns.size(), row.size());
+        for (int i = 0; i < cols; i++) {
+            rowsBuffer.append(columns.get(i).generateData(row.get(i)));
+        }
+        rowsBuffer.append(formattedRowClosing);
+
+        if(rowsBuffer.length() >= ROWS_BUFFER_SIZE){
+            flushRows();
+        }
+    }
 
-        int idxCol = 0;
-        for(final TableColumn col: cols){
-            getPrintStream().print(col.generateData(row.get(idxCol++)));
+    /**
+     * Writes the rows printed so far to the {@link #getPrintStream() PrintStream}.
+     */
+    private void flushRows() {
+        if(rowsBuffer.length() > 0) {
+            printStream.print(rowsBuffer);
+            rowsBuffer.setLength(0);
         }
-        getPrintStream().printf(rowClosing());
     }
 
     @Override
     public void print() {
+        print(List.of(), (object, row) -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each row is printed right after being generated and the same row list is reused
+     * for every object, so that no more than one row is stored at a time
+     * (despite the rows previously added by {@link #newRow()}).
+     *
+     * @param objects {@inheritDoc}
+     * @param rowDataFunction {@inheritDoc}
+     * @param <T> {@inheritDoc}
+     */
+    @Override
+    public <T> void print(final Iterable<? extends T> objects, final BiConsumer<? super T, List<Object>> rowDataFunction) {
+        formattedRowOpening = String.format(rowOpening());
+        formattedRowClosing = String.format(rowClosing());
         printTableOpening();
         printTitle();
         printColumnHeaders();
         rows.forEach(this::printRow);
+
+        final var row = new ArrayList<>(columns.size());
+        for (final T object : objects) {
+            row.clear();
+            rowDataFunction.accept(object, row);
+            printRow(row);
+        }
+
+        flushRows();
         printTableClosing();
     }
 
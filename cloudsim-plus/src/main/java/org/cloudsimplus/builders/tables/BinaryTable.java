@@ -0,0 +1,247 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes a table in a compact binary format, storing the raw value of each column
+ * (instead of its formatted text) so that results can be
+ * exported for later analysis without string formatting overhead.
+ * The column {@link TableColumn#getFormat() format} is ignored.
+ * Column values are still received as objects (such as boxed numbers)
+ * from the functions that generate the table data.
+ *
+ * <p>The table is written to the {@link OutputStream} given to the constructor
+ * (such as a {@link java.io.FileOutputStream}), which isn't closed after printing.
+ * Data is written in big-endian order (as defined by {@link DataOutputStream}),
+ * using the following layout:</p>
+ * <ol>
+ *     <li>the {@link #MAGIC} int and the {@link #VERSION} byte;</li>
+ *     <li>the table title (string);</li>
+ *     <li>the number of columns (int), followed by the title and subtitle (strings) of each column;</li>
+ *     <li>each row, preceded by a {@link #ROW} byte, containing one value for each column.
+ *     Each value is preceded by a type byte: {@link #NULL} (no value),
+ *     {@link #LONG} (long, for any integral number), {@link #DOUBLE} (double, for any floating-point number),
+ *     {@link #BOOLEAN} (boolean) or {@link #STRING} (string, for any other object);</li>
+ *     <li>the {@link #END} byte.</li>
+ * </ol>
+ *
+ * <p>Strings are written as the number of bytes (int) followed by their UTF-8 bytes,
+ * so that they are not limited in size.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class BinaryTable extends AbstractTable {
+    /** The int at the beginning of binary tables ("CSTB"). */
+    public static final int MAGIC = 0x43535442;
+
+    /** The version of the binary table format. */
+    public static final byte VERSION = 1;
+
+    /** The byte indicating that a row follows. */
+    public static final byte ROW = 1;
+
+    /** The byte indicating that there are no more rows. */
+    public static final byte END = 0;
+
+    public static final byte NULL = 0;
+    public static final byte LONG = 1;
+    public static final byte DOUBLE = 2;
+    public static final byte BOOLEAN = 3;
+    public static final byte STRING = 4;
+
+    private static final int BUFFER_SIZE = 65536;
+
+    /** @see #getOutputStream() */
+    private final OutputStream outputStream;
+
+    /**
+     * The stream the table is being written to, which is created
+     * when the table starts being printed.
+     */
+    private DataOutputStream out;
+
+    /**
+     * Creates a Table
+     * @param outputStream the stream to write the table to
+     */
+    public BinaryTable(final OutputStream outputStream) {
+        this("", outputStream);
+    }
+
+    /**
+     * Creates a Table
+     * @param title Title of the table
+     * @param outputStream the stream to write the table to
+     */
+    public BinaryTable(final String title, final OutputStream outputStream) {
+        super(title);
+        this.outputStream = Objects.requireNonNull(outputStream);
+    }
+
+    /**
+     * Gets the stream the table is written to.
+     * @return
+     */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Binary tables are written to the {@link #getOutputStream() OutputStream} given to the constructor.
+     * @param printStream {@inheritDoc}
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setPrintStream(final PrintStream printStream) {
+        throw new UnsupportedOperationException("BinaryTable is written to the OutputStream given to its constructor");
+    }
+
+    @Override
+    protected void printTableOpening() {
+        out = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void printTitle() {
+        try {
+            writeString(getTitle());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void printColumnHeaders() {
+        try {
+            out.writeInt(getColumns().size());
+            for (final TableColumn col : getColumns()) {
+                writeString(col.generateTitleHeader());
+                writeString(col.generateSubtitleHeader());
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void printRow(final List<Object> row) {
+        try {
+            out.writeByte(ROW);
+            final int cols = getColumns().size();
+            for (int i = 0; i < cols; i++) {
+                writeValue(i < row.size() ? row.get(i) : null);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(bool);
+        } else {
+            out.writeByte(STRING);
+            writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes a string as its number of bytes followed by its UTF-8 bytes.
+     * {@link DataOutputStream#writeUTF(String)} isn't used
+     * because it's limited to strings up to 64 KB.
+     * @param str the string to write
+     */
+    private void writeString(final String str) throws IOException {
+        final byte[] bytes = str.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    protected void printTableClosing() {
+        try {
+            out.writeByte(END);
+            out.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rows are not delimited by text in binary tables.
+     * @return
+     */
+    @Override
+    protected String rowOpening() {
+        return "";
+    }
+
+    /**
+     * Rows are not delimited by text in binary tables.
+     * @return
+     */
+    @Override
+    protected String rowClosing() {
+        return "";
+    }
+
+    @Override
+    protected String subtitleHeaderOpening() {
+        return "";
+    }
+
+    @Override
+    public TableColumn addColumn(final int index, final String columnTitle) {
+        final TableColumn col = new BinaryTableColumn(this, columnTitle);
+        getColumns().add(index, col);
+        return col;
+    }
+}
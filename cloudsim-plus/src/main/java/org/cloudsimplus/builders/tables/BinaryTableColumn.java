@@ -0,0 +1,56 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+/**
+ * A column of a {@link BinaryTable}.
+ * Since such a table stores raw column values,
+ * the column {@link #getFormat() format} is ignored
+ * and headers are just the column title and subtitle.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class BinaryTableColumn extends AbstractTableColumn {
+    public BinaryTableColumn(final String title, final String subTitle) {
+        this(null, title, subTitle);
+    }
+
+    public BinaryTableColumn(final String title) {
+        this(null, title, "");
+    }
+
+    public BinaryTableColumn(final Table table, final String title, final String subTitle) {
+        super(table, title, subTitle);
+    }
+
+    public BinaryTableColumn(final Table table, final String title) {
+        super(table, title);
+    }
+
+    @Override
+    protected String generateHeader(final String str) {
+        return str == null ? "" : str;
+    }
+}
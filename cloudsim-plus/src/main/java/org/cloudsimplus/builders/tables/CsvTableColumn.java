@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.builders.tables;
 
+import org.apache.commons.lang3.StringUtils;
+
 /**
  * A column of an CSV table. The class generates the CSV code
  * that represents a column in a CSV table.
@@ -31,11 +33,6 @@ package org.cloudsimplus.builders.tables;
  * @since CloudSim Plus 1.0
  */
 public class CsvTableColumn extends AbstractTableColumn {
-    /**
-     * A format used to print data followed by the column separator.
-     */
-    public static final String DATA_COL_SEPARATOR_FORMAT = "%s%s";
-
     public CsvTableColumn(final String title, final String subTitle) {
         this(null, title, subTitle);
     }
@@ -58,7 +55,7 @@ public class CsvTableColumn extends AbstractTableColumn {
             return str;
         }
 
-        return String.format(DATA_COL_SEPARATOR_FORMAT, str, getTable().getColumnSeparator());
+        return str + getTable().getColumnSeparator();
     }
 
     @Override
@@ -67,7 +64,7 @@ public class CsvTableColumn extends AbstractTableColumn {
             return super.generateData(data);
         }
 
-        return String.format(DATA_COL_SEPARATOR_FORMAT, super.generateData(data), getTable().getColumnSeparator());
+        return super.generateData(data) + getTable().getColumnSeparator();
     }
 
     /**
@@ -81,7 +78,6 @@ public class CsvTableColumn extends AbstractTableColumn {
     }
 
     public static String alignStringRight(final String str, final int size) {
-        final String fmt = String.format("%%%ds", size);
-        return String.format(fmt, str);
+        return StringUtils.leftPad(String.valueOf(str), size);
     }
 }
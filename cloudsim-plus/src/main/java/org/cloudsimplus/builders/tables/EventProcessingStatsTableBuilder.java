@@ -0,0 +1,103 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import org.cloudbus.cloudsim.core.EventLoopProfiler;
+import org.cloudbus.cloudsim.core.EventProcessingStats;
+
+import java.util.List;
+
+/**
+ * Builds a table for printing the {@link EventProcessingStats} collected by an {@link EventLoopProfiler}.
+ * It defines a set of default columns but new ones can be added
+ * dynamically using the {@code addColumn()} methods.
+ *
+ * <p>The basic usage of the class is by calling its constructor,
+ * giving the list from {@link EventLoopProfiler#getStats()}, and then
+ * calling the {@link #build()} method.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public class EventProcessingStatsTableBuilder extends TableBuilderAbstract<EventProcessingStats> {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Instantiates a builder to print a list of event processing statistics using the
+     * default {@link MarkdownTable}.
+     * To use a different {@link Table}, check the alternative constructors.
+     *
+     * @param list the list of statistics to print
+     */
+    public EventProcessingStatsTableBuilder(final List<EventProcessingStats> list) {
+        super(list);
+    }
+
+    /**
+     * Instantiates a builder to print a list of event processing statistics using a
+     * given {@link Table}.
+     *
+     * @param list the list of statistics to print
+     * @param table the {@link Table} used to build the table with the statistics
+     */
+    public EventProcessingStatsTableBuilder(final List<EventProcessingStats> list, final Table table) {
+        super(list, table);
+    }
+
+    @Override
+    public void build() {
+        if (getTable().getTitle().isEmpty()) {
+            getTable().setTitle("EVENT PROCESSING PROFILE");
+        }
+
+        super.build();
+    }
+
+    @Override
+    protected void createTableColumns() {
+        addColumnDataFunction(getTable().addColumn("Entity Class"), stats -> stats.getEntityClass().getSimpleName());
+        addColumnDataFunction(getTable().addColumn("Event Tag"), EventProcessingStats::getTagName);
+        addColumnDataFunction(getTable().addColumn("Events"), EventProcessingStats::getCount);
+
+        TableColumn col = getTable().addColumn("Total", "ms").setFormat("%.2f");
+        addColumnDataFunction(col, stats -> stats.getTotalTime() / NANOS_PER_MILLI);
+
+        final String format = "%.1f";
+        col = getTable().addColumn("Mean", "us").setFormat(format);
+        addColumnDataFunction(col, stats -> stats.getMeanTime() / NANOS_PER_MICRO);
+
+        col = getTable().addColumn("p50", "us").setFormat(format);
+        addColumnDataFunction(col, stats -> stats.getTimeAtPercentile(50) / NANOS_PER_MICRO);
+
+        col = getTable().addColumn("p99", "us").setFormat(format);
+        addColumnDataFunction(col, stats -> stats.getTimeAtPercentile(99) / NANOS_PER_MICRO);
+
+        col = getTable().addColumn("Max", "us").setFormat(format);
+        addColumnDataFunction(col, stats -> stats.getMaxTime() / NANOS_PER_MICRO);
+
+        col = getTable().addColumn("Generated", "events/event").setFormat("%.2f");
+        addColumnDataFunction(col, EventProcessingStats::getGeneratedEventsPerEvent);
+    }
+}
@@ -24,6 +24,7 @@
 package org.cloudsimplus.builders.tables;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * An interface for classes that generate tables from a given data set,
@@ -128,4 +129,21 @@ public interface Table {
      * Prints the table.
      */
     void print();
+
+    /**
+     * Prints the table, including one row for each object in a given list.
+     * Implementations may print each row as soon as it's generated,
+     * instead of storing all the rows before printing.
+     * This default implementation just adds all the rows to the table and then prints it.
+     *
+     * @param objects the objects to print the data, one object per row
+     * @param rowDataFunction a {@link BiConsumer} that receives an object
+     *                        and the row to add the data from such an object
+     * @param <T> the type of objects to print
+     * @since CloudSim Plus 7.1.0
+     */
+    default <T> void print(final Iterable<? extends T> objects, final BiConsumer<? super T, List<Object>> rowDataFunction) {
+        objects.forEach(object -> rowDataFunction.accept(object, newRow()));
+        print();
+    }
 }
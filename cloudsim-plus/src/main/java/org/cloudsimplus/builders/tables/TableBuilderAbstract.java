@@ -177,14 +177,15 @@ public abstract class TableBuilderAbstract<T> {
 
     /**
      * Builds the table with the data from the list of objects and shows the results.
+     * Each row is printed as soon as it is generated (when the {@link Table} supports that),
+     * so that large object lists don't have to be entirely copied to the table before printing.
      */
     public void build(){
         if(getTable().getTitle().isEmpty()){
             getTable().setTitle("SIMULATION RESULTS");
         }
 
-        list.forEach(cloudlet -> addDataToRow(cloudlet, getTable().newRow()));
-        getTable().print();
+        getTable().print(list, this::addDataToRow);
     }
 
     /**
@@ -193,9 +194,9 @@ public abstract class TableBuilderAbstract<T> {
      * @param row The row that the data from the object T will be added to
      */
     protected void addDataToRow(final T object, final List<Object> row) {
-        getTable()
-            .getColumns()
-            .forEach(col -> row.add(columnsDataFunctions.get(col).apply(object)));
+        for (final TableColumn col : getTable().getColumns()) {
+            row.add(columnsDataFunctions.get(col).apply(object));
+        }
     }
 
     protected TableBuilderAbstract<T> addColumnDataFunction(final TableColumn col, final Function<T, Object> function){
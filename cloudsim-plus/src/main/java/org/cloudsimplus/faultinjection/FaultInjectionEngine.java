@@ -0,0 +1,915 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.faultinjection;
+
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.distributions.StatisticalDistribution;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+import static org.cloudbus.cloudsim.core.CloudSimTags.HOST_FAILURE;
+
+/**
+ * Injects failures and repairs into {@link Host}s of any number of {@link Datacenter}s,
+ * according to multiple failure processes which are superposed into a single stream of events.
+ * Different from the {@link HostFaultInjection}, which is one entity per Datacenter
+ * and doesn't repair failures, this engine is a single entity
+ * that enables defining failure and repair distributions:
+ * <ul>
+ *   <li>for each Host ({@link #addHostFailures(List, StatisticalDistribution, StatisticalDistribution)});</li>
+ *   <li>for a group of Hosts failing together, such as a rack
+ *   ({@link #addGroupFailures(List, StatisticalDistribution, StatisticalDistribution)});</li>
+ *   <li>for the PEs of each Host, representing component failures
+ *   ({@link #addPeFailures(List, StatisticalDistribution, StatisticalDistribution)});</li>
+ *   <li>for an entire Datacenter, where each failure hits a randomly selected working Host
+ *   ({@link #addDatacenterFailures(Datacenter, StatisticalDistribution, StatisticalDistribution)}).</li>
+ * </ul>
+ *
+ * <p>The next failure or repair of every process is kept into a priority queue,
+ * so that just a single event is scheduled at a time, for the earliest one.
+ * Each failure or repair takes O(log n) time, where n is the number of processes.
+ * Hosts eligible to fail in a Datacenter are kept into an indexed set,
+ * so that one of them is randomly selected in O(1).
+ * Reliability metrics such as MTBF, MTTR and availability
+ * are computed online using primitive accumulators,
+ * without storing the time of each failure.
+ * This way, reliability studies with hundreds of thousands of Hosts
+ * add negligible overhead to the simulation.</p>
+ *
+ * <p>When a Host fails, all its PEs are set as failed and all its VMs are destroyed.
+ * When some PEs of a Host fail, VMs are destroyed just if the remaining working PEs
+ * aren't enough to run them.
+ * Destroyed VMs are not recovered.
+ * Values returned by all given distributions are considered to be <b>hours</b>,
+ * as in the {@link HostFaultInjection}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ * @see HostFaultInjection
+ */
+public class FaultInjectionEngine extends CloudSimEntity {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FaultInjectionEngine.class.getSimpleName());
+
+    /**
+     * Maximum number of random selections of a Host to fail inside a Datacenter,
+     * until an active Host is found. If no active Host is found, the failure is skipped.
+     */
+    private static final int MAX_HOST_SELECTION_ATTEMPTS = 32;
+
+    private static final Predicate<SimEvent> FAILURE_EVENTS = evt -> evt.getTag() == HOST_FAILURE;
+
+    /** The next failure or repair of each process, sorted by time. */
+    private final PriorityQueue<Transition> transitions;
+
+    /**
+     * A Pseudo Random Number Generator used to select a Host
+     * and the number of PEs to fail.
+     */
+    private final UniformDistr random;
+
+    /** The number of transitions ever created, used to order transitions happening at the same time. */
+    private long createdTransitions;
+
+    /**
+     * The time of the {@link CloudSimTags#HOST_FAILURE} event scheduled for the next transition or -1 if none.
+     * Just a single event is pending at a time, so that the engine knows how many of the
+     * simulation future events are its own, without searching the future event queue.
+     */
+    private double scheduledTime = -1;
+
+    /** @see #getMaxTimeToFailInHours() */
+    private double maxTimeToFailInHours = Double.MAX_VALUE;
+
+    /** The index of each Host subject to failures into the arrays below. */
+    private final Map<Host, Integer> hostIndexes;
+
+    /** Hosts subject to failures, in the order they were added. */
+    private final List<Host> hosts;
+
+    /** The number of ongoing failures affecting each Host (a Host may be part of multiple processes). */
+    private int[] ongoingFailures;
+
+    /** The time each Host failed (if it's failed) or was last repaired (if it's working). */
+    private double[] lastStatusChangeTime;
+
+    /** Indicates if each Host was active before failing, so that it's activated again when repaired. */
+    private final BitSet activeBeforeFailure;
+
+    /**
+     * The PE failure processes of each Host index, used to keep the PEs failed by such processes
+     * as failed when their Host is repaired.
+     */
+    private final Map<Integer, List<PeFailures>> peFailuresByHost;
+
+    /** The Datacenter failure process selecting each Host, or null if there is no such a process. */
+    private DatacenterFailures[] datacenterFailuresByHost;
+
+    /**
+     * The position of each Host into the eligible Hosts of its {@link DatacenterFailures} process,
+     * or -1 if the Host is not eligible.
+     */
+    private int[] eligibleHostPositions;
+
+    /** @see #getFailuresNumber() */
+    private long failures;
+
+    /** @see #getRepairsNumber() */
+    private long repairs;
+
+    /** @see #getFailedVmsNumber() */
+    private long failedVms;
+
+    /** @see #getFailedHostsNumber() */
+    private int failedHosts;
+
+    /** Sum of the time (in seconds) failed units were working before each failure. */
+    private double operatingTimeSecs;
+
+    /** Sum of the time (in seconds) failed units took to be repaired. */
+    private double repairTimeSecs;
+
+    /** Sum of the time (in seconds) Hosts were failed, considering just repaired Hosts. */
+    private double hostDowntimeSecs;
+
+    /** Sum of the time currently failed Hosts have failed. */
+    private double failedHostsSinceSum;
+
+    /** Sum of the times Hosts were added to the engine. */
+    private double hostsAdditionTimeSum;
+
+    /**
+     * Creates a fault injection engine using a random seed.
+     * @param simulation the simulation to inject failures
+     */
+    public FaultInjectionEngine(final Simulation simulation) {
+        this(simulation, StatisticalDistribution.defaultSeed());
+    }
+
+    /**
+     * Creates a fault injection engine.
+     * @param simulation the simulation to inject failures
+     * @param seed the seed of the generator used to select Hosts and PEs to fail
+     */
+    public FaultInjectionEngine(final Simulation simulation, final long seed) {
+        super(simulation);
+        this.random = new UniformDistr(seed);
+        this.transitions = new PriorityQueue<>(
+            Comparator.comparingDouble(Transition::getTime).thenComparingLong(Transition::getOrder));
+        this.hostIndexes = new HashMap<>();
+        this.hosts = new ArrayList<>();
+        this.ongoingFailures = new int[0];
+        this.lastStatusChangeTime = new double[0];
+        this.datacenterFailuresByHost = new DatacenterFailures[0];
+        this.eligibleHostPositions = new int[0];
+        this.activeBeforeFailure = new BitSet();
+        this.peFailuresByHost = new HashMap<>();
+    }
+
+    @Override
+    protected void startInternal() {
+        scheduleNextTransition();
+    }
+
+    @Override
+    public void processEvent(final SimEvent evt) {
+        if (evt.getTag() != HOST_FAILURE) {
+            return;
+        }
+
+        scheduledTime = -1;
+        processDueTransitions();
+        scheduleNextTransition();
+    }
+
+    /**
+     * Adds an independent failure process for each given Host.
+     *
+     * @param hostList the Hosts to fail
+     * @param timeToFailHours generator of the time (in hours) a Host works until its next failure
+     * @param timeToRepairHours generator of the time (in hours) a failed Host takes to be repaired
+     * @return this engine
+     */
+    public FaultInjectionEngine addHostFailures(
+        final List<? extends Host> hostList,
+        final StatisticalDistribution timeToFailHours, final StatisticalDistribution timeToRepairHours)
+    {
+        requireNonNull(timeToFailHours);
+        requireNonNull(timeToRepairHours);
+        for (final Host host : hostList) {
+            addTransition(new GroupFailures(new int[]{hostIndex(host)}, timeToFailHours, timeToRepairHours));
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds a failure process for a group of Hosts that fail together,
+     * such as the Hosts of a rack (which may fail due to a switch or power failure).
+     *
+     * @param hostList the Hosts in the group
+     * @param timeToFailHours generator of the time (in hours) the group works until its next failure
+     * @param timeToRepairHours generator of the time (in hours) a failed group takes to be repaired
+     * @return this engine
+     */
+    public FaultInjectionEngine addGroupFailures(
+        final List<? extends Host> hostList,
+        final StatisticalDistribution timeToFailHours, final StatisticalDistribution timeToRepairHours)
+    {
+        final int[] indexes = hostList.stream().mapToInt(this::hostIndex).toArray();
+        addTransition(new GroupFailures(indexes, requireNonNull(timeToFailHours), requireNonNull(timeToRepairHours)));
+        return this;
+    }
+
+    /**
+     * Adds an independent failure process for the PEs of each given Host,
+     * where each failure affects a random number of the Host working PEs.
+     *
+     * @param hostList the Hosts to fail PEs
+     * @param timeToFailHours generator of the time (in hours) the PEs of a Host work until the next failure
+     * @param timeToRepairHours generator of the time (in hours) failed PEs take to be repaired
+     * @return this engine
+     */
+    public FaultInjectionEngine addPeFailures(
+        final List<? extends Host> hostList,
+        final StatisticalDistribution timeToFailHours, final StatisticalDistribution timeToRepairHours)
+    {
+        requireNonNull(timeToFailHours);
+        requireNonNull(timeToRepairHours);
+        for (final Host host : hostList) {
+            final int index = hostIndex(host);
+            final var process = new PeFailures(index, timeToFailHours, timeToRepairHours);
+            peFailuresByHost.computeIfAbsent(index, k -> new ArrayList<>()).add(process);
+            addTransition(process);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds a failure process for a Datacenter, where failures arrive according to a given distribution
+     * and each one hits a Host randomly selected among the active ones which aren't failed.
+     * Each Host of the Datacenter can be selected by just one Datacenter failure process.
+     *
+     * @param datacenter the Datacenter to fail Hosts
+     * @param interArrivalHours generator of the time (in hours) between failures of Hosts in the Datacenter
+     * @param timeToRepairHours generator of the time (in hours) a failed Host takes to be repaired
+     * @return this engine
+     */
+    public FaultInjectionEngine addDatacenterFailures(
+        final Datacenter datacenter,
+        final StatisticalDistribution interArrivalHours, final StatisticalDistribution timeToRepairHours)
+    {
+        final var process = new DatacenterFailures(requireNonNull(interArrivalHours), requireNonNull(timeToRepairHours));
+        for (final Host host : datacenter.getHostList()) {
+            final int index = hostIndex(host);
+            if (datacenterFailuresByHost[index] != null) {
+                throw new IllegalArgumentException(host + " is already selected by another Datacenter failure process.");
+            }
+
+            datacenterFailuresByHost[index] = process;
+            if (ongoingFailures[index] == 0) {
+                process.addEligibleHost(index);
+            }
+        }
+
+        addTransition(process);
+        return this;
+    }
+
+    /**
+     * Gets the index of a Host into the internal arrays, registering it if it's not registered yet.
+     */
+    private int hostIndex(final Host host) {
+        requireNonNull(host);
+        return hostIndexes.computeIfAbsent(host, this::registerHost);
+    }
+
+    private int registerHost(final Host host) {
+        final int index = hosts.size();
+        if (index == ongoingFailures.length) {
+            final int capacity = Math.max(16, index * 2);
+            ongoingFailures = Arrays.copyOf(ongoingFailures, capacity);
+            lastStatusChangeTime = Arrays.copyOf(lastStatusChangeTime, capacity);
+            datacenterFailuresByHost = Arrays.copyOf(datacenterFailuresByHost, capacity);
+            eligibleHostPositions = Arrays.copyOf(eligibleHostPositions, capacity);
+        }
+
+        hosts.add(host);
+        eligibleHostPositions[index] = -1;
+        lastStatusChangeTime[index] = getSimulation().clock();
+        hostsAdditionTimeSum += getSimulation().clock();
+        return index;
+    }
+
+    /**
+     * Adds the first transition of a process into the queue.
+     * If the simulation is already running, the next failure event is rescheduled if required.
+     */
+    private void addTransition(final FailureProcess transition) {
+        transition.scheduleNextFailure();
+        if (transition.isScheduled()) {
+            transitions.add(transition);
+        }
+
+        if (getSimulation().isRunning()) {
+            scheduleNextTransition();
+        }
+    }
+
+    /**
+     * Performs all failures and repairs happening up to the current time.
+     */
+    private void processDueTransitions() {
+        final double clock = getSimulation().clock();
+        while (!transitions.isEmpty() && transitions.peek().getTime() <= clock) {
+            final Transition transition = transitions.poll();
+            if (transition.isFailure() && isAfterMaxTimeToFail(transition.getTime())) {
+                continue;
+            }
+
+            transition.fire();
+            if (transition.isScheduled()) {
+                transitions.add(transition);
+            }
+        }
+    }
+
+    /**
+     * Schedules an event for the earliest transition, if there isn't an event scheduled up to such a time yet.
+     * If a {@link #setMaxTimeToFailInHours(double) max time to fail} is not set,
+     * events are just scheduled while there are other events to process.
+     * Otherwise, the simulation would never finish.
+     * Since this engine keeps at most one pending event, such a check just compares
+     * the number of future events with the number of pending events from this engine.
+     * That is why a single engine is expected per simulation
+     * (which can inject failures into any number of Datacenters).
+     */
+    private void scheduleNextTransition() {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        //Failures after the max time to fail are discarded, so that the simulation doesn't run until that time
+        while (!transitions.isEmpty() && transitions.peek().isFailure() && isAfterMaxTimeToFail(transitions.peek().getTime())) {
+            transitions.poll();
+        }
+
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        final Simulation sim = getSimulation();
+        final double nextTime = transitions.peek().getTime();
+        if (scheduledTime >= 0) {
+            if (scheduledTime <= nextTime) {
+                return;
+            }
+
+            //A process added while the simulation is running has a transition before the pending event
+            cancelEvent(FAILURE_EVENTS);
+            scheduledTime = -1;
+        }
+
+        if (maxTimeToFailInHours == Double.MAX_VALUE && sim.isRunning() && sim.getNumberOfFutureEvents() == 0) {
+            return;
+        }
+
+        schedule(this, Math.max(0, nextTime - sim.clock()), HOST_FAILURE);
+        scheduledTime = Math.max(nextTime, sim.clock());
+    }
+
+    private boolean isAfterMaxTimeToFail(final double time) {
+        return time > maxTimeToFailInHours * 3600;
+    }
+
+    /**
+     * Fails a Host, if it isn't failed already, setting all its PEs as failed and destroying its VMs.
+     * @param index the index of the Host to fail
+     */
+    private void failHost(final int index) {
+        if (ongoingFailures[index]++ > 0) {
+            return;
+        }
+
+        final double clock = getSimulation().clock();
+        final Host host = hosts.get(index);
+        lastStatusChangeTime[index] = clock;
+        failedHostsSinceSum += clock;
+        failedHosts++;
+        activeBeforeFailure.set(index, host.isActive());
+        if (datacenterFailuresByHost[index] != null) {
+            datacenterFailuresByHost[index].removeEligibleHost(index);
+        }
+
+        LOGGER.debug("{}: {}: {} failed with {} VMs", getSimulation().clockStr(), getName(), host, host.getVmList().size());
+        host.setFailed(true);
+        new ArrayList<Vm>(host.getVmList()).forEach(this::failVm);
+    }
+
+    /**
+     * Repairs a Host, if there isn't other ongoing failure for it.
+     * @param index the index of the Host to repair
+     */
+    private void repairHost(final int index) {
+        if (--ongoingFailures[index] > 0) {
+            return;
+        }
+
+        final double clock = getSimulation().clock();
+        final Host host = hosts.get(index);
+        hostDowntimeSecs += clock - lastStatusChangeTime[index];
+        failedHostsSinceSum -= lastStatusChangeTime[index];
+        lastStatusChangeTime[index] = clock;
+        failedHosts--;
+        if (datacenterFailuresByHost[index] != null) {
+            datacenterFailuresByHost[index].addEligibleHost(index);
+        }
+
+        LOGGER.debug("{}: {}: {} repaired", getSimulation().clockStr(), getName(), host);
+        host.setFailed(false);
+        //Repairing the Host just restores the PEs the Host failure took down
+        for (final PeFailures process : peFailuresByHost.getOrDefault(index, List.of())) {
+            process.keepPesFailed(host);
+        }
+
+        if (activeBeforeFailure.get(index)) {
+            host.setActive(true);
+        }
+    }
+
+    /**
+     * Sets a VM as failed and requests the Datacenter to destroy it.
+     * As the broker is expected to request VM destruction, it is set as the sender of the request.
+     */
+    private void failVm(final Vm vm) {
+        if (vm.isFailed()) {
+            return;
+        }
+
+        failedVms++;
+        vm.setFailed(true);
+        getSimulation().sendNow(vm.getBroker(), vm.getHost().getDatacenter(), CloudSimTags.VM_DESTROY, vm);
+    }
+
+    private void registerFailure(final double operatingTimeSecs) {
+        failures++;
+        this.operatingTimeSecs += operatingTimeSecs;
+    }
+
+    private void registerRepair(final double repairTimeSecs) {
+        repairs++;
+        this.repairTimeSecs += repairTimeSecs;
+    }
+
+    /**
+     * Gets the total number of failures injected so far,
+     * considering failures of Hosts, groups of Hosts and PEs.
+     * @return
+     */
+    public long getFailuresNumber() {
+        return failures;
+    }
+
+    /**
+     * Gets the total number of failures repaired so far.
+     * @return
+     */
+    public long getRepairsNumber() {
+        return repairs;
+    }
+
+    /**
+     * Gets the number of VMs destroyed due to failures.
+     * @return
+     */
+    public long getFailedVmsNumber() {
+        return failedVms;
+    }
+
+    /**
+     * Gets the number of Hosts currently failed (excluding Hosts with just some failed PEs).
+     * @return
+     */
+    public int getFailedHostsNumber() {
+        return failedHosts;
+    }
+
+    /**
+     * Gets the number of Hosts subject to failures.
+     * @return
+     */
+    public int getHostsNumber() {
+        return hosts.size();
+    }
+
+    /**
+     * Computes the current Mean Time Between Failures (MTBF) in minutes,
+     * which is the mean time failed Hosts, groups of Hosts or PEs
+     * were working before failing.
+     *
+     * @return the MTBF (in minutes) or zero if no failure has happened yet
+     */
+    public double meanTimeBetweenFailuresInMinutes() {
+        return failures == 0 ? 0 : operatingTimeSecs / failures / 60.0;
+    }
+
+    /**
+     * Computes the current Mean Time To Repair (MTTR) in minutes,
+     * considering just the failures already repaired.
+     *
+     * @return the MTTR (in minutes) or zero if no failure was repaired yet
+     */
+    public double meanTimeToRepairInMinutes() {
+        return repairs == 0 ? 0 : repairTimeSecs / repairs / 60.0;
+    }
+
+    /**
+     * Gets the availability as a percentage value between 0 and 1,
+     * computed as MTBF / (MTBF + MTTR).
+     * @return
+     * @see #hostAvailability()
+     */
+    public double availability() {
+        //no failure means 100% availability
+        final double mtbf = meanTimeBetweenFailuresInMinutes();
+        if (mtbf == 0) {
+            return 1;
+        }
+
+        return mtbf / (mtbf + meanTimeToRepairInMinutes());
+    }
+
+    /**
+     * Gets the fraction of time (between 0 and 1) Hosts subject to failures were working
+     * since they were added to the engine, up to the current simulation time.
+     * Hosts with just some failed PEs are considered working.
+     * @return
+     * @see #availability()
+     */
+    public double hostAvailability() {
+        final double clock = getSimulation().clock();
+        final double totalSecs = hosts.size() * clock - hostsAdditionTimeSum;
+        if (totalSecs <= 0) {
+            return 1;
+        }
+
+        final double downtimeSecs = hostDowntimeSecs + failedHosts * clock - failedHostsSinceSum;
+        return 1 - downtimeSecs / totalSecs;
+    }
+
+    /**
+     * Gets the maximum time to generate a failure (in hours).
+     * After that time, no failure will be generated, but ongoing failures are still repaired.
+     * @return
+     */
+    public double getMaxTimeToFailInHours() {
+        return maxTimeToFailInHours;
+    }
+
+    /**
+     * Sets the maximum time to generate a failure (in hours).
+     * After that time, no failure will be generated, but ongoing failures are still repaired.
+     * It can be set after failure processes are added.
+     * If it's not set, failures are generated while there are other events to process in the simulation.
+     *
+     * @param maxTimeToFailInHours the maximum time to set (in hours)
+     * @return this engine
+     */
+    public FaultInjectionEngine setMaxTimeToFailInHours(final double maxTimeToFailInHours) {
+        if (maxTimeToFailInHours <= 0) {
+            throw new IllegalArgumentException("The max time to fail must be positive.");
+        }
+
+        this.maxTimeToFailInHours = maxTimeToFailInHours;
+        return this;
+    }
+
+    /**
+     * The next failure or repair of a failure process.
+     */
+    private abstract class Transition {
+        private final long order = createdTransitions++;
+
+        /** @see #getTime() */
+        protected double time = Double.MAX_VALUE;
+
+        /**
+         * Gets the time (in seconds) of the next transition
+         * or {@link Double#MAX_VALUE} if there is no other transition.
+         */
+        final double getTime() {
+            return time;
+        }
+
+        final long getOrder() {
+            return order;
+        }
+
+        final boolean isScheduled() {
+            return time < Double.MAX_VALUE;
+        }
+
+        /**
+         * Checks if the next transition is a failure (instead of a repair).
+         */
+        abstract boolean isFailure();
+
+        /**
+         * Performs the transition and defines the time of the next one.
+         */
+        abstract void fire();
+    }
+
+    /**
+     * A process that alternates between failures and repairs according to given distributions.
+     */
+    private abstract class FailureProcess extends Transition {
+        private final StatisticalDistribution timeToFailHours;
+        private final StatisticalDistribution timeToRepairHours;
+
+        FailureProcess(final StatisticalDistribution timeToFailHours, final StatisticalDistribution timeToRepairHours) {
+            this.timeToFailHours = timeToFailHours;
+            this.timeToRepairHours = timeToRepairHours;
+        }
+
+        /**
+         * Samples the time of the next failure.
+         */
+        final void scheduleNextFailure() {
+            time = getSimulation().clock() + timeToFailHours.sample() * 3600;
+        }
+
+        /**
+         * Samples the time a failure takes to be repaired.
+         * @return the repair time (in seconds)
+         */
+        final double sampleRepairTime() {
+            return timeToRepairHours.sample() * 3600;
+        }
+
+        /**
+         * Schedules the repair of the current failure.
+         */
+        final void scheduleRepair() {
+            time = getSimulation().clock() + sampleRepairTime();
+        }
+    }
+
+    /**
+     * A failure process for one or more Hosts that fail together.
+     */
+    private final class GroupFailures extends FailureProcess {
+        private final int[] hostIndexes;
+        private boolean failed;
+        private double lastTransitionTime;
+
+        GroupFailures(final int[] hostIndexes, final StatisticalDistribution timeToFailHours, final StatisticalDistribution timeToRepairHours) {
+            super(timeToFailHours, timeToRepairHours);
+            this.hostIndexes = hostIndexes;
+            this.lastTransitionTime = getSimulation().clock();
+        }
+
+        @Override
+        boolean isFailure() {
+            return !failed;
+        }
+
+        @Override
+        void fire() {
+            final double clock = getSimulation().clock();
+            if (failed) {
+                registerRepair(clock - lastTransitionTime);
+                for (final int index : hostIndexes) {
+                    repairHost(index);
+                }
+
+                scheduleNextFailure();
+            } else {
+                registerFailure(clock - lastTransitionTime);
+                for (final int index : hostIndexes) {
+                    failHost(index);
+                }
+
+                scheduleRepair();
+            }
+
+            failed = !failed;
+            lastTransitionTime = clock;
+        }
+    }
+
+    /**
+     * A failure process for the PEs of a Host.
+     */
+    private final class PeFailures extends FailureProcess {
+        private final int hostIndex;
+        private List<Pe> failedPes;
+        private double lastTransitionTime;
+
+        PeFailures(final int hostIndex, final StatisticalDistribution timeToFailHours, final StatisticalDistribution timeToRepairHours) {
+            super(timeToFailHours, timeToRepairHours);
+            this.hostIndex = hostIndex;
+            this.failedPes = List.of();
+            this.lastTransitionTime = getSimulation().clock();
+        }
+
+        @Override
+        boolean isFailure() {
+            return failedPes.isEmpty();
+        }
+
+        @Override
+        void fire() {
+            final double clock = getSimulation().clock();
+            final Host host = hosts.get(hostIndex);
+            if (!failedPes.isEmpty()) {
+                registerRepair(clock - lastTransitionTime);
+                //If the entire Host has failed meanwhile, its PEs will be set as free when the Host is repaired
+                if (!host.isFailed()) {
+                    host.setPeStatus(failedPes, Pe.Status.FREE);
+                }
+
+                failedPes = List.of();
+                scheduleNextFailure();
+            } else if (host.isFailed() || host.getWorkingPesNumber() == 0) {
+                //A failed Host has no working PE to fail
+                scheduleNextFailure();
+            } else {
+                registerFailure(clock - lastTransitionTime);
+                final int pesToFail = (int) (random.sample() * host.getWorkingPesNumber()) + 1;
+                failedPes = new ArrayList<>(pesToFail);
+                for (final Pe pe : host.getWorkingPeList()) {
+                    if (failedPes.size() == pesToFail) {
+                        break;
+                    }
+
+                    failedPes.add(pe);
+                }
+
+                host.setPeStatus(failedPes, Pe.Status.FAILED);
+                LOGGER.debug("{}: {}: {} PEs of {} failed", getSimulation().clockStr(), getName(), pesToFail, host);
+                failVmsWithoutEnoughPes(host);
+                scheduleRepair();
+            }
+
+            lastTransitionTime = clock;
+        }
+
+        /**
+         * Sets the PEs failed by this process (which weren't repaired yet) as failed again,
+         * after the entire Host is repaired.
+         */
+        void keepPesFailed(final Host host) {
+            if (!failedPes.isEmpty()) {
+                host.setPeStatus(failedPes, Pe.Status.FAILED);
+            }
+        }
+
+        /**
+         * Destroys VMs of a Host, in the order they were placed, until the remaining working PEs are enough to run the others.
+         */
+        private void failVmsWithoutEnoughPes(final Host host) {
+            long requiredPes = host.getVmList().stream().filter(Vm::isWorking).mapToLong(Vm::getNumberOfPes).sum();
+            for (final Vm vm : new ArrayList<Vm>(host.getVmList())) {
+                if (requiredPes <= host.getWorkingPesNumber()) {
+                    return;
+                }
+
+                if (vm.isWorking()) {
+                    requiredPes -= vm.getNumberOfPes();
+                    failVm(vm);
+                }
+            }
+        }
+    }
+
+    /**
+     * A failure process for a Datacenter, where each failure hits a randomly selected working Host.
+     * Working Hosts are kept into an indexed set, enabling random selection and removal in O(1).
+     */
+    private final class DatacenterFailures extends FailureProcess {
+        /** Indexes of Hosts eligible to fail (the first {@link #eligibleHostsNumber} positions). */
+        private int[] eligibleHosts;
+        private int eligibleHostsNumber;
+
+        DatacenterFailures(final StatisticalDistribution interArrivalHours, final StatisticalDistribution timeToRepairHours) {
+            super(interArrivalHours, timeToRepairHours);
+            this.eligibleHosts = new int[16];
+        }
+
+        @Override
+        boolean isFailure() {
+            return true;
+        }
+
+        void addEligibleHost(final int index) {
+            if (eligibleHostsNumber == eligibleHosts.length) {
+                eligibleHosts = Arrays.copyOf(eligibleHosts, eligibleHostsNumber * 2);
+            }
+
+            eligibleHostPositions[index] = eligibleHostsNumber;
+            eligibleHosts[eligibleHostsNumber++] = index;
+        }
+
+        void removeEligibleHost(final int index) {
+            final int position = eligibleHostPositions[index];
+            if (position < 0) {
+                return;
+            }
+
+            //Moves the last eligible Host to the position of the removed one
+            final int last = eligibleHosts[--eligibleHostsNumber];
+            eligibleHosts[position] = last;
+            eligibleHostPositions[last] = position;
+            eligibleHostPositions[index] = -1;
+        }
+
+        @Override
+        void fire() {
+            final int index = selectHost();
+            if (index < 0) {
+                LOGGER.debug("{}: {}: No working Host to fail", getSimulation().clockStr(), getName());
+            } else {
+                registerFailure(getSimulation().clock() - lastStatusChangeTime[index]);
+                failHost(index);
+                transitions.add(new HostRepair(index, sampleRepairTime()));
+            }
+
+            scheduleNextFailure();
+        }
+
+        /**
+         * Randomly selects an active Host among the eligible ones.
+         * @return the index of the selected Host or -1 if no active Host was found
+         */
+        private int selectHost() {
+            for (int attempt = 0; attempt < MAX_HOST_SELECTION_ATTEMPTS && eligibleHostsNumber > 0; attempt++) {
+                final int index = eligibleHosts[(int) (random.sample() * eligibleHostsNumber)];
+                if (hosts.get(index).isActive()) {
+                    return index;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    /**
+     * The repair of a Host failed by a {@link DatacenterFailures} process.
+     */
+    private final class HostRepair extends Transition {
+        private final int hostIndex;
+        private final double failureTime;
+
+        HostRepair(final int hostIndex, final double repairSecs) {
+            this.hostIndex = hostIndex;
+            this.failureTime = getSimulation().clock();
+            this.time = failureTime + repairSecs;
+        }
+
+        @Override
+        boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        void fire() {
+            registerRepair(getSimulation().clock() - failureTime);
+            repairHost(hostIndex);
+            time = Double.MAX_VALUE;
+        }
+    }
+}
@@ -823,12 +823,8 @@ public class HostFaultInjection extends CloudSimEntity {
      * @return the number of PEs just failed for the Host, which is equals to the input number
      */
     private int generateHostPesFaults(final int pesFailures) {
-        final var peList = lastFailedHost.getWorkingPeList()
-            .stream()
-            .limit(pesFailures)
-            .collect(toList());
-
-        ((HostSimple)lastFailedHost).setPeStatus(peList, Pe.Status.FAILED);
+        final var host = (HostSimple)lastFailedHost;
+        host.setPeStatus(host.getWorkingPeList(), pesFailures, Pe.Status.FAILED);
 
         return pesFailures;
     }
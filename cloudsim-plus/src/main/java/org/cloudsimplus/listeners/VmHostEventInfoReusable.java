@@ -0,0 +1,114 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.listeners;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link VmHostEventInfo} that is reused for every notification
+ * a given {@link Vm} sends to its
+ * {@link Vm#addOnUpdateProcessingListener(EventListener) OnUpdateProcessing} listeners,
+ * avoiding the creation of a new object for every listener at every processing update.
+ *
+ * <p>Since the same instance is updated before notifying each listener,
+ * a listener must not keep a reference to the received object
+ * after returning. If the event data is required later,
+ * the listener must copy the values it needs.</p>
+ *
+ * <p>If a listener causes a nested notification from the same Vm,
+ * the nested one uses a new instance (see {@link #acquire()}),
+ * so that the data the outer listener is using isn't overwritten.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 7.1.0
+ */
+public final class VmHostEventInfoReusable implements VmHostEventInfo {
+    private final Vm vm;
+    private EventListener<VmHostEventInfo> listener;
+    private Host host;
+    private double time;
+
+    /** @see #acquire() */
+    private boolean inUse;
+
+    /**
+     * Creates an event info to be reused for the notifications of a given VM.
+     * @param vm the {@link Vm} that fires the events
+     */
+    public VmHostEventInfoReusable(final Vm vm) {
+        this.vm = requireNonNull(vm);
+    }
+
+    /**
+     * Gets this instance to notify the listeners or a new one if this instance is already being used.
+     * That happens when a listener causes a nested notification,
+     * which must not overwrite the data the outer notification is still giving to listeners.
+     * The returned object must be {@link #release() released} after all listeners are notified.
+     * @return this instance or a new one if this is in use
+     */
+    public VmHostEventInfoReusable acquire() {
+        if (inUse) {
+            return new VmHostEventInfoReusable(vm);
+        }
+
+        inUse = true;
+        return this;
+    }
+
+    /**
+     * Indicates that this instance isn't being used to notify listeners anymore.
+     * @see #acquire()
+     */
+    public void release() {
+        inUse = false;
+    }
+
+    /**
+     * Sets the data for the next notification.
+     * The {@link #getHost() Host} is defined as the {@link Host} where the {@link Vm}
+     * is running and the {@link #getTime()} is the current simulation time.
+     *
+     * @param listener the listener to be notified about the event
+     * @return this event info
+     */
+    public VmHostEventInfoReusable set(final EventListener<VmHostEventInfo> listener) {
+        this.listener = listener;
+        this.host = vm.getHost();
+        this.time = vm.getSimulation().clock();
+        return this;
+    }
+
+    @Override public Host getHost() { return host; }
+    @Override public Vm getVm() { return vm; }
+    @Override public double getTime() { return time; }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends EventInfo> EventListener<T> getListener() {
+        return (EventListener<T>) listener;
+    }
+}
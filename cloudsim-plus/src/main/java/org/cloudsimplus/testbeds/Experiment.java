@@ -301,7 +301,7 @@ public abstract class Experiment extends AbstractRunnable {
             seed = runner.getBaseSeed() + index;
         }
 
-        runner.addSeed(seed);
+        runner.addSeed(index, seed);
         return seed;
     }
 
@@ -26,6 +26,7 @@ package org.cloudsimplus.testbeds;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.JDKSplittableRandomGenerator;
 import org.cloudbus.cloudsim.distributions.StatisticalDistribution;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.cloudbus.cloudsim.util.TimeUtil;
@@ -63,9 +64,9 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
     /** @see #getBaseSeed() */
     private final long baseSeed;
 
-    /** List of seeds used for each experiment.
-     * @see #addSeed(long)  */
-    private final List<Long> seeds;
+    /** Map of seeds used for each experiment, where each key is the experiment index.
+     * @see #addSeed(int, long)  */
+    private final Map<Integer, Long> seeds;
 
     /** @see #getSimulationRuns() */
     private int simulationRuns;
@@ -110,6 +111,21 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
     private boolean latexTableResultsGeneration;
     private List<Experiment> experiments;
 
+    /** @see #getTargetRelativePrecision() */
+    private double targetRelativePrecision;
+
+    /** @see #getMaxRuns() */
+    private int maxRuns;
+
+    /** @see #getTimeBudgetSecs() */
+    private long timeBudgetSecs;
+
+    /** @see #getStoppingMetrics() */
+    private Set<String> stoppingMetrics;
+
+    /** @see #getExecutedRuns() */
+    private int executedRuns;
+
     /**
      * Creates an experiment runner with a given {@link #getBaseSeed() base seed}
      * that runs sequentially.
@@ -186,8 +202,9 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
 
         /*Since experiments may run in parallel and these fields are shared across them,
         * we need to synchronize these collections.*/
-        this.seeds = parallel ? Collections.synchronizedList(new ArrayList<>()) : new ArrayList<>();
+        this.seeds = parallel ? Collections.synchronizedMap(new HashMap<>()) : new HashMap<>();
         this.metricsMap = parallel ? Collections.synchronizedMap(new TreeMap<>()) : new TreeMap<>();
+        this.stoppingMetrics = Set.of();
 
         setSimulationRunsAndBatchesToEvenNumber();
         setNumberOfSimulationRunsAsMultipleOfNumberOfBatches();
@@ -485,24 +502,69 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
             seed -> new UniformDistr(minInclusive, maxExclusive, seed));
     }
 
+    /**
+     * Creates a {@link JDKSplittableRandomGenerator} for an experiment run,
+     * which is split from a root generator initialized with the {@link #getBaseSeed() base seed}.
+     * Differently from the {@link #getSeed(int) seeds} of experiments, which are consecutive values,
+     * the sequences of generators created for different experiments are statistically independent.
+     * The experiment can further {@link JDKSplittableRandomGenerator#split() split} the returned
+     * generator to create independent PRNGs for its brokers, Hosts and so on.
+     *
+     * <p>The generator created for a given experiment index always produces the same sequence,
+     * despite the order experiments are run, making {@link #isParallel() parallel} runs reproducible.
+     * If it is to apply the {@link #isApplyAntitheticVariates() "Antithetic Variates Technique"},
+     * the second half of experiments gets the generators from the first half,
+     * which can be given to distributions that have such a technique enabled.</p>
+     *
+     * @param experimentIndex index of the experiment run to create a PRNG
+     * @return the created PRNG
+     * @see #createRandomGen(int, Function)
+     */
+    public JDKSplittableRandomGenerator createSplittableGen(final int experimentIndex) {
+        if(experimentIndex < 0){
+            throw new IllegalArgumentException("Experiment index cannot be negative");
+        }
+
+        final int index = isToReuseSeedFromFirstHalfOfExperiments(experimentIndex) ?
+                                experimentIndex - halfSimulationRuns() :
+                                experimentIndex;
+
+        final var root = StatisticalDistribution.newSplittableGen(baseSeed);
+        var generator = root.split();
+        for (int i = 0; i < index; i++) {
+            generator = root.split();
+        }
+
+        return generator;
+    }
+
+    /**
+     * Checks if an experiment has to reuse the seed of an experiment from the first half of runs,
+     * according to the {@link #isApplyAntitheticVariates() "Antithetic Variates Technique"}.
+     * If {@link #isSequentialStopping() sequential stopping} is enabled,
+     * each wave of {@link #getSimulationRuns()} has its own halves.
+     *
+     * @param currentExperimentIndex index of the experiment to check
+     * @return true if the experiment has to reuse a seed, false otherwise
+     */
     public boolean isToReuseSeedFromFirstHalfOfExperiments(final int currentExperimentIndex) {
         return isApplyAntitheticVariates() &&
-               simulationRuns > 1 && currentExperimentIndex >= halfSimulationRuns();
+               simulationRuns > 1 && currentExperimentIndex % simulationRuns >= halfSimulationRuns();
     }
 
     /**
-     * Adds a seed to the list of seeds used for each experiment.
+     * Adds a seed to the map of seeds used for each experiment.
      *
-     * @param seed seed of the current experiment to add to the list
+     * @param experimentIndex index of the experiment
+     * @param seed seed of the experiment
      */
-    void addSeed(final long seed) {
-        if(!seeds.contains(seed)){
-            seeds.add(seed);
-        }
+    void addSeed(final int experimentIndex, final long seed) {
+        seeds.put(experimentIndex, seed);
     }
 
     /**
      * @return the half of {@link #getSimulationRuns()}
+     * (which is the half of each wave if {@link #isSequentialStopping() sequential stopping} is enabled)
      */
     public int halfSimulationRuns() {
         return simulationRuns / 2;
@@ -526,15 +588,22 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
 
     /**
      * Setups and starts the execution of all experiments sequentially or in {@link #parallel}.
+     * If {@link #isSequentialStopping() sequential stopping} is enabled,
+     * experiments are executed in waves until a stopping condition is met.
      */
     @Override
     public void run() {
-        createAllExperimentsBeforeFirstRun();
+        if(!isSequentialStopping()) {
+            createAllExperimentsBeforeFirstRun();
+        }
 
         final String runWord = simulationRuns > 1 ? "runs" : "run";
+        final String runsInfo = isSequentialStopping() ?
+                                    String.format("waves of %d %s (up to %d runs)", simulationRuns, runWord, maxRuns) :
+                                    String.format("%d %s", simulationRuns, runWord);
         System.out.printf(
-            "Started %s for %d %s using %s (real local time: %s)%n",
-            getClass().getSimpleName(), simulationRuns, runWord, CloudSim.VERSION, LocalTime.now());
+            "Started %s for %s using %s (real local time: %s)%n",
+            getClass().getSimpleName(), runsInfo, CloudSim.VERSION, LocalTime.now());
         if(description != null && !description.isBlank()){
             System.out.println(description);
         }
@@ -542,21 +611,156 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
 
         experimentsStartTimeSecs = Math.round(System.currentTimeMillis()/1000.0);
         printProgress(0);
+        final List<ConfidenceInterval> confidenceIntervals =
+            isSequentialStopping() ? runWavesUntilStoppingConditionIsMet() : runAllExperiments();
+
+        final var table = new ResultTable<>(this, confidenceIntervals);
+        table.buildLatexMetricsResultTable();
+        table.buildCsvResultsTable();
+
+        System.out.printf(
+            "%nExperiments for %d runs finished in %s (real local time: %s)!%n",
+            executedRuns, TimeUtil.secondsToStr(experimentsExecutionTimeSecs), LocalTime.now());
+    }
+
+    /**
+     * Runs the defined number of {@link #getSimulationRuns() simulation runs}.
+     * @return the confidence interval computed for each metric
+     */
+    private List<ConfidenceInterval> runAllExperiments() {
         getStream(this.experiments).forEach(Experiment::run);
+        executedRuns = simulationRuns;
         System.out.println();
         experimentsExecutionTimeSecs = TimeUtil.elapsedSeconds(experimentsStartTimeSecs);
 
+        printFinalResultsHeader();
+        return metricsMap.entrySet()
+                         .stream()
+                         .map(this::computeFinalResults)
+                         .collect(toCollection(() -> new ArrayList<>(metricsMap.size())));
+    }
+
+    /**
+     * Runs waves of {@link #getSimulationRuns()} experiments, updating the statistics
+     * of each metric after every wave, until one of the sequential stopping conditions is met.
+     * Antithetic Variates and Batch Means are applied to the samples of each wave
+     * in the same way they are applied to all runs when sequential stopping is disabled.
+     *
+     * @return the confidence interval computed for each metric
+     * @see #enableSequentialStopping(double, int, String...)
+     */
+    private List<ConfidenceInterval> runWavesUntilStoppingConditionIsMet() {
+        final var statsMap = new TreeMap<String, SummaryStatistics>();
+        int wave = 0;
+        do {
+            final int firstIndex = executedRuns;
+            /* Since experiments may run in parallel and during execution they access the shared seeds map,
+             * all experiments of a wave have to be created before starting execution. */
+            this.experiments = IntStream.range(firstIndex, firstIndex + simulationRuns).mapToObj(this::createExperiment).collect(toList());
+            final Map<String, Integer> previousSamplesNumber = new HashMap<>();
+            metricsMap.forEach((metric, values) -> previousSamplesNumber.put(metric, values.size()));
+
+            getStream(this.experiments).forEach(Experiment::run);
+            executedRuns += simulationRuns;
+            wave++;
+            metricsMap.forEach((metric, values) -> addWaveSamples(statsMap, metric, values.subList(previousSamplesNumber.getOrDefault(metric, 0), values.size())));
+            System.out.printf("%nWave %d finished (%d runs). Worst relative precision: %.4f%n", wave, executedRuns, worstRelativePrecision(statsMap));
+        } while (!isSequentialStoppingConditionMet(statsMap));
+
+        this.experiments = null;
+        experimentsExecutionTimeSecs = TimeUtil.elapsedSeconds(experimentsStartTimeSecs);
+        printFinalResultsHeader();
+        return statsMap.entrySet()
+                       .stream()
+                       .map(entry -> new ConfidenceInterval(entry.getValue(), entry.getKey()))
+                       .collect(toCollection(() -> new ArrayList<>(statsMap.size())));
+    }
+
+    /**
+     * Adds the samples a metric got in the last wave to the statistics of that metric.
+     * The variance reduction techniques are just applied when all runs in the wave
+     * provided a value for the metric, since they require a fixed number of samples.
+     *
+     * @param statsMap the map of statistics for each metric
+     * @param metric the name of the metric
+     * @param waveValues the values collected for the metric in the last wave
+     */
+    private void addWaveSamples(final Map<String, SummaryStatistics> statsMap, final String metric, final List<Double> waveValues) {
+        final var values = new ArrayList<>(waveValues);
+        final List<Double> adjustedValues = values.size() == simulationRuns ? computeAntitheticMeans(computeBatchMeans(values)) : values;
+        final SummaryStatistics stats = statsMap.computeIfAbsent(metric, key -> new SummaryStatistics());
+        adjustedValues.forEach(stats::addValue);
+    }
+
+    /**
+     * Checks if the experiments must stop, since the target relative precision was reached
+     * for all the {@link #getStoppingMetrics() stopping metrics},
+     * or running another wave would exceed the {@link #getMaxRuns() max runs}
+     * or the {@link #getTimeBudgetSecs() time budget} was exhausted.
+     * @param statsMap the map of statistics for each metric
+     * @return true if experiments must stop, false otherwise
+     */
+    private boolean isSequentialStoppingConditionMet(final Map<String, SummaryStatistics> statsMap) {
+        if (worstRelativePrecision(statsMap) <= targetRelativePrecision) {
+            System.out.printf("Target relative precision %s reached after %d runs.%n", targetRelativePrecision, executedRuns);
+            return true;
+        }
+
+        if (executedRuns + simulationRuns > maxRuns) {
+            System.out.printf("Max number of %d runs reached before the target relative precision %s.%n", maxRuns, targetRelativePrecision);
+            return true;
+        }
+
+        if (timeBudgetSecs > 0 && TimeUtil.elapsedSeconds(experimentsStartTimeSecs) >= timeBudgetSecs) {
+            System.out.printf("Time budget of %s exhausted before the target relative precision %s.%n", TimeUtil.secondsToStr(timeBudgetSecs), targetRelativePrecision);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the largest relative precision among the {@link #getStoppingMetrics() stopping metrics},
+     * which is the ratio between the confidence interval error margin (half-width) and the absolute mean.
+     * @param statsMap the map of statistics for each metric
+     * @return the worst relative precision or {@link Double#POSITIVE_INFINITY}
+     *         if it cannot be computed for some metric yet
+     */
+    private double worstRelativePrecision(final Map<String, SummaryStatistics> statsMap) {
+        final Collection<String> metrics = stoppingMetrics.isEmpty() ? statsMap.keySet() : stoppingMetrics;
+        if (metrics.isEmpty()) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double worst = 0;
+        for (final String metric : metrics) {
+            worst = Math.max(worst, relativePrecision(statsMap.get(metric)));
+        }
+
+        return worst;
+    }
+
+    private static double relativePrecision(final SummaryStatistics stats) {
+        if (stats == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final double errorMargin = ConfidenceInterval.errorMargin(stats).orElse(Double.POSITIVE_INFINITY);
+        final double mean = Math.abs(stats.getMean());
+        if (mean == 0) {
+            return errorMargin == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+
+        return errorMargin / mean;
+    }
+
+    private void printFinalResultsHeader() {
         System.out.printf(
             "%nFinal simulation results for %d metrics in %d simulation runs -------------------%n",
-            metricsMap.size(), simulationRuns);
+            metricsMap.size(), executedRuns);
         if (batchesNumber > 1 && !isApplyBatchMeansMethod()) {
             System.out.println("Batch means method was not be applied because the number of simulation runs is not greater than the number of batches.");
         }
-        computeAndPrintFinalResults();
-
-        System.out.printf(
-            "%nExperiments for %d runs finished in %s (real local time: %s)!%n",
-            simulationRuns, TimeUtil.secondsToStr(experimentsExecutionTimeSecs), LocalTime.now());
     }
 
     /** Since experiments may execute in parallel and during execution
@@ -570,18 +774,6 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
         }
     }
 
-    private void computeAndPrintFinalResults() {
-        final List<ConfidenceInterval> confidenceIntervals =
-            metricsMap.entrySet()
-                      .stream()
-                      .map(this::computeFinalResults)
-                      .collect(toCollection(() -> new ArrayList<>(metricsMap.size())));
-
-        final var table = new ResultTable<>(this, confidenceIntervals);
-        table.buildLatexMetricsResultTable();
-        table.buildCsvResultsTable();
-    }
-
     private Stream<Experiment> getStream(final List<Experiment> experiments) {
         return parallel ? experiments.stream().parallel() : experiments.stream();
     }
@@ -799,9 +991,117 @@ public abstract class ExperimentRunner<T extends Experiment> extends AbstractRun
     }
 
     final void printProgress(final int current) {
-        if(simulationRuns > 1 && showProgress) {
-            Util.printProgress(current, simulationRuns, progressBarInNewLine);
+        final int totalRuns = isSequentialStopping() ? maxRuns : simulationRuns;
+        if(totalRuns > 1 && showProgress) {
+            Util.printProgress(current, totalRuns, progressBarInNewLine);
+        }
+    }
+
+    /**
+     * Enables the sequential stopping of experiments: instead of executing a fixed number of runs,
+     * experiments are executed in waves of {@link #getSimulationRuns()} runs.
+     * After each wave, the confidence interval of the given metrics is updated and
+     * experiments stop as soon as the relative precision of all those metrics
+     * (the CI error margin divided by the absolute mean) is not greater than a given target,
+     * or when running another wave would exceed a max number of runs.
+     * The {@link #isApplyAntitheticVariates() Antithetic Variates} and
+     * {@link #isApplyBatchMeansMethod() Batch Means} techniques are applied inside each wave.
+     *
+     * @param targetRelativePrecision the relative precision to reach, such as 0.05 for a CI half-width of 5% of the mean
+     * @param maxRuns the max number of runs to execute, which must not be lower than {@link #getSimulationRuns()}
+     * @param metrics the names of the metrics that must reach the target precision
+     *                (if none is given, all metrics must reach it)
+     * @return this runner
+     * @see #setTimeBudgetSecs(long)
+     * @since CloudSim Plus 7.1.0
+     */
+    public ExperimentRunner<T> enableSequentialStopping(final double targetRelativePrecision, final int maxRuns, final String... metrics) {
+        if(targetRelativePrecision <= 0) {
+            throw new IllegalArgumentException("Target relative precision must be greater than 0.");
+        }
+
+        if(maxRuns < simulationRuns) {
+            throw new IllegalArgumentException("Max runs cannot be lower than the number of simulation runs in each wave: " + simulationRuns);
         }
+
+        this.targetRelativePrecision = targetRelativePrecision;
+        this.maxRuns = maxRuns;
+        this.stoppingMetrics = Set.of(metrics);
+        return this;
+    }
+
+    /**
+     * Checks if {@link #enableSequentialStopping(double, int, String...) sequential stopping} is enabled.
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public boolean isSequentialStopping() {
+        return targetRelativePrecision > 0;
+    }
+
+    /**
+     * Gets the relative precision (the CI error margin divided by the absolute mean)
+     * the {@link #getStoppingMetrics() stopping metrics} have to reach to stop experiments,
+     * if {@link #isSequentialStopping() sequential stopping} is enabled.
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public double getTargetRelativePrecision() {
+        return targetRelativePrecision;
+    }
+
+    /**
+     * Gets the max number of runs to execute if {@link #isSequentialStopping() sequential stopping} is enabled.
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public int getMaxRuns() {
+        return maxRuns;
+    }
+
+    /**
+     * Gets the names of the metrics that have to reach the {@link #getTargetRelativePrecision() target relative precision}
+     * to stop experiments. An empty set means all metrics have to reach it.
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public Set<String> getStoppingMetrics() {
+        return stoppingMetrics;
+    }
+
+    /**
+     * Gets the max time (in seconds) experiments can take if {@link #isSequentialStopping() sequential stopping} is enabled.
+     * No new wave of runs is started after such a time (0 means no time budget).
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public long getTimeBudgetSecs() {
+        return timeBudgetSecs;
+    }
+
+    /**
+     * Sets the max time (in seconds) experiments can take if {@link #isSequentialStopping() sequential stopping} is enabled.
+     * No new wave of runs is started after such a time.
+     * @param timeBudgetSecs the time budget to set (0 means no time budget)
+     * @return this runner
+     * @since CloudSim Plus 7.1.0
+     */
+    public ExperimentRunner<T> setTimeBudgetSecs(final long timeBudgetSecs) {
+        if(timeBudgetSecs < 0) {
+            throw new IllegalArgumentException("Time budget cannot be negative.");
+        }
+
+        this.timeBudgetSecs = timeBudgetSecs;
+        return this;
+    }
+
+    /**
+     * Gets the number of runs executed so far.
+     * @return
+     * @since CloudSim Plus 7.1.0
+     */
+    public int getExecutedRuns() {
+        return executedRuns;
     }
 
     public ExperimentRunner<T> setProgressBarInNewLine(final boolean progressBarInNewLine) {
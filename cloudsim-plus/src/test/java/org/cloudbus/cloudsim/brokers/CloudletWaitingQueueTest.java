@@ -0,0 +1,145 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class CloudletWaitingQueueTest {
+    private final Vm vm0 = new VmSimple(0, 1000, 1);
+    private final Vm vm1 = new VmSimple(1, 1000, 1);
+    private final Cloudlet cloudlet0 = new CloudletSimple(0, 1000, 1);
+    private final Cloudlet cloudlet1 = new CloudletSimple(1, 1000, 1);
+    private final Cloudlet cloudlet2 = new CloudletSimple(2, 1000, 1);
+
+    @Test
+    void iterateInAdditionOrder() {
+        final var queue = newQueue();
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet2), dispatchable(queue));
+    }
+
+    @Test
+    void parkedCloudletsAreNotVisited() {
+        final var queue = newQueue();
+        parkIf(queue, cloudlet -> cloudlet != cloudlet1, vm0);
+
+        assertEquals(List.of(cloudlet1), dispatchable(queue));
+        assertEquals(1, queue.dispatchableSize());
+        assertFalse(queue.isEmpty());
+    }
+
+    @Test
+    void releaseVmKeepsAdditionOrder() {
+        final var queue = newQueue();
+        parkIf(queue, cloudlet -> cloudlet != cloudlet1, vm0);
+
+        assertFalse(queue.release(vm1));
+        assertTrue(queue.release(vm0));
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet2), dispatchable(queue));
+        assertFalse(queue.release(vm0));
+    }
+
+    @Test
+    void releaseSingleCloudlet() {
+        final var queue = newQueue();
+        parkIf(queue, cloudlet -> true, vm0);
+
+        assertFalse(queue.release(cloudlet1, vm1));
+        assertTrue(queue.release(cloudlet1, vm0));
+        assertEquals(List.of(cloudlet1), dispatchable(queue));
+        assertTrue(queue.release(vm0));
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet2), dispatchable(queue));
+    }
+
+    @Test
+    void releaseAnyVmReleasesCloudletsWaitingForAnyVm() {
+        final var queue = newQueue();
+        parkIf(queue, cloudlet -> cloudlet == cloudlet0, vm0);
+        parkIf(queue, cloudlet -> cloudlet == cloudlet2, Vm.NULL);
+
+        assertTrue(queue.release(vm1));
+        assertEquals(List.of(cloudlet1, cloudlet2), dispatchable(queue));
+        assertTrue(queue.release(vm0));
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet2), dispatchable(queue));
+    }
+
+    @Test
+    void emptyAfterAllCloudletsAreRemoved() {
+        final var queue = newQueue();
+        parkIf(queue, cloudlet -> cloudlet == cloudlet0, vm0);
+        for (final var dispatcher = queue.dispatcher(); dispatcher.hasNext(); ) {
+            dispatcher.next();
+            dispatcher.remove();
+        }
+
+        assertFalse(queue.isEmpty());
+        assertEquals(List.of(cloudlet0), queue.asList());
+        queue.release(vm0);
+        final var dispatcher = queue.dispatcher();
+        dispatcher.next();
+        dispatcher.remove();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void listViewHasParkedAndDispatchableCloudletsInAdditionOrder() {
+        final var queue = newQueue();
+        final List<Cloudlet> list = queue.asList();
+        parkIf(queue, cloudlet -> cloudlet == cloudlet1, vm0);
+
+        assertAll(
+            () -> assertEquals(List.of(cloudlet0, cloudlet1, cloudlet2), list),
+            () -> assertEquals(cloudlet2, list.get(2)),
+            () -> assertThrows(UnsupportedOperationException.class, () -> list.remove(cloudlet0))
+        );
+    }
+
+    @Test
+    void listViewIndexedAccessReflectsChanges() {
+        final var queue = newQueue();
+        final List<Cloudlet> list = queue.asList();
+        assertEquals(cloudlet0, list.get(0));
+
+        final var dispatcher = queue.dispatcher();
+        dispatcher.next();
+        dispatcher.remove();
+        assertEquals(cloudlet1, list.get(0));
+
+        final var cloudlet3 = new CloudletSimple(3, 1000, 1);
+        queue.add(cloudlet3);
+        assertEquals(cloudlet3, list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    private CloudletWaitingQueue newQueue() {
+        final var queue = new CloudletWaitingQueue();
+        queue.add(cloudlet0);
+        queue.add(cloudlet1);
+        queue.add(cloudlet2);
+        return queue;
+    }
+
+    private static void parkIf(final CloudletWaitingQueue queue, final Predicate<Cloudlet> predicate, final Vm vm) {
+        for (final var dispatcher = queue.dispatcher(); dispatcher.hasNext(); ) {
+            if (predicate.test(dispatcher.next())) {
+                assertTrue(dispatcher.park(vm));
+            }
+        }
+    }
+
+    private static List<Cloudlet> dispatchable(final CloudletWaitingQueue queue) {
+        final var list = new ArrayList<Cloudlet>();
+        queue.dispatcher().forEachRemaining(list::add);
+        return list;
+    }
+}
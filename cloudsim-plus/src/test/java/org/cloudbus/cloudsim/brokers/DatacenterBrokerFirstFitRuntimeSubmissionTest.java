@@ -0,0 +1,62 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that Cloudlets which couldn't be mapped to any VM when submitted
+ * are retried when Cloudlets are submitted during the simulation execution,
+ * after other Cloudlets have finished and freed VM capacity.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+class DatacenterBrokerFirstFitRuntimeSubmissionTest {
+    @Test
+    void unmappedCloudletIsDispatchedAfterCapacityIsFreed() {
+        final var simulation = new CloudSim();
+        final var host = new HostSimple(10_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host));
+        final var broker = new DatacenterBrokerFirstFit(simulation);
+        broker.submitVm(new VmSimple(1000, 2));
+
+        final Cloudlet first = new CloudletSimple(10_000, 2);
+        final Cloudlet unmapped = new CloudletSimple(10_000, 2);
+        final Cloudlet last = new CloudletSimple(10_000, 1);
+        broker.submitCloudlet(first);
+
+        simulation.terminateAt(100);
+        simulation.startSync();
+        runUntil(simulation, 2);
+        //There is no VM with 2 free PEs, so the Cloudlet can't be mapped yet
+        broker.submitCloudlet(unmapped);
+        runUntil(simulation, 15);
+        assertTrue(first.isFinished());
+        assertFalse(unmapped.isFinished());
+
+        //Submitting another Cloudlet retries the one that couldn't be mapped before
+        broker.submitCloudlet(last);
+        while (simulation.isRunning()) {
+            simulation.runFor(5);
+        }
+
+        assertTrue(unmapped.isFinished());
+        assertTrue(last.isFinished());
+        assertTrue(broker.getCloudletWaitingList().isEmpty());
+    }
+
+    private static void runUntil(final CloudSim simulation, final double time) {
+        while (simulation.clock() < time) {
+            simulation.runFor(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the simulation end time with and without {@link DatacenterBroker#setVmIdlenessVerifiedOnce(boolean)}
+ * for 2 VMs which become idle at different times and are destroyed after being idle for 10 seconds.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+class DatacenterBrokerVmIdlenessTest {
+    private static final double FIRST_VM_STOP_TIME = 20.11;
+    private static final double LAST_VM_STOP_TIME = 50.21;
+
+    @Test
+    void idleVmsAreVerifiedAtEveryProcessingUpdateByDefault() {
+        final var broker = new DatacenterBrokerSimple(new CloudSim());
+        assertFalse(broker.isVmIdlenessVerifiedOnce());
+
+        final List<Vm> vms = createScenario(broker);
+        //Redundant verification events keep the clock ticking after the last VM is destroyed
+        assertEquals(60.21, broker.getSimulation().start(), 0.001);
+        assertVmsStopTime(vms);
+    }
+
+    @Test
+    void idleVmsVerifiedOnceFinishSimulationWhenLastVmIsDestroyed() {
+        final var broker = new DatacenterBrokerSimple(new CloudSim()).setVmIdlenessVerifiedOnce(true);
+        assertTrue(broker.isVmIdlenessVerifiedOnce());
+
+        final List<Vm> vms = createScenario(broker);
+        assertEquals(LAST_VM_STOP_TIME, broker.getSimulation().start(), 0.001);
+        assertVmsStopTime(vms);
+    }
+
+    /**
+     * Checks that a VM whose idle deadline expires due to floating-point rounding
+     * before it's considered idle long enough doesn't have such a deadline checked forever.
+     */
+    @Test
+    void idleDeadlineExpiredBeforeVmIsIdleEnoughIsNotCheckedForever() {
+        final var broker = new DatacenterBrokerSimple(new CloudSim());
+        final List<Host> hosts = IntStream.range(0, 2)
+                                          .mapToObj(i -> (Host)new HostSimple(10_000, 10_000, 10_000, List.of(new PeSimple(1000))))
+                                          .toList();
+        new DatacenterSimple(broker.getSimulation(), hosts).setSchedulingInterval(0.2);
+        broker.setVmDestructionDelay(1.4000000000000001);
+        final List<Vm> vms = List.of(new VmSimple(1000, 1), new VmSimple(1000, 1));
+        broker.submitVmList(vms);
+        broker.submitCloudletList(List.of(new CloudletSimple(259, 1), new CloudletSimple(829, 1)));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> broker.getSimulation().start());
+        vms.forEach(vm -> assertFalse(vm.isCreated()));
+        vms.forEach(vm -> assertTrue(vm.getStopTime() > 0));
+    }
+
+    private static void assertVmsStopTime(final List<Vm> vms) {
+        assertEquals(FIRST_VM_STOP_TIME, vms.get(0).getStopTime(), 0.001);
+        assertEquals(LAST_VM_STOP_TIME, vms.get(1).getStopTime(), 0.001);
+    }
+
+    private static List<Vm> createScenario(final DatacenterBroker broker) {
+        final List<Host> hosts = IntStream.range(0, 2)
+                                          .mapToObj(i -> (Host)new HostSimple(10_000, 10_000, 10_000, List.of(new PeSimple(1000))))
+                                          .toList();
+        new DatacenterSimple(broker.getSimulation(), hosts).setSchedulingInterval(3);
+        broker.setVmDestructionDelay(10);
+        final List<Vm> vms = List.of(new VmSimple(1000, 1), new VmSimple(1000, 1));
+        broker.submitVmList(vms);
+        broker.submitCloudletList(List.of(new CloudletSimple(10_000, 1), new CloudletSimple(40_000, 1)));
+        return vms;
+    }
+}
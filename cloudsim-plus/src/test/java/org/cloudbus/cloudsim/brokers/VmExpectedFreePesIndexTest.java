@@ -0,0 +1,78 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class VmExpectedFreePesIndexTest {
+    private static final int VMS = 100;
+    private static final int MAX_VM_PES = 8;
+
+    @Test
+    void emptyIndex() {
+        final var index = new VmExpectedFreePesIndex();
+        index.sync(List.of());
+        assertSame(Vm.NULL, index.bestFit(1));
+        assertEquals(-1, index.firstFit(1, 0));
+    }
+
+    /**
+     * Randomly changes the expected free PEs of VMs and checks that
+     * the index selects the same VMs as a linear scan of the VM list.
+     */
+    @Test
+    void selectsSameVmsAsLinearScan() {
+        final var random = new Random(1);
+        final var vmList = new ArrayList<Vm>();
+        final var index = new VmExpectedFreePesIndex();
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(i, 1000, 1 + random.nextInt(MAX_VM_PES)));
+            if (i % 10 == 0) {
+                index.sync(vmList);
+            }
+        }
+        index.sync(vmList);
+
+        for (int i = 0; i < 2000; i++) {
+            final var vm = (VmSimple) vmList.get(random.nextInt(VMS));
+            if (random.nextBoolean()) {
+                vm.removeExpectedFreePesNumber(random.nextInt(3));
+            } else vm.addExpectedFreePesNumber(Math.min(random.nextInt(3), vm.getNumberOfPes() - vm.getExpectedFreePesNumber()));
+            index.update(vm);
+
+            final int requiredPes = 1 + random.nextInt(MAX_VM_PES);
+            final int startPos = random.nextInt(VMS);
+            assertSame(linearBestFit(vmList, requiredPes), index.bestFit(requiredPes));
+            assertEquals(linearFirstFit(vmList, requiredPes, startPos), index.firstFit(requiredPes, startPos));
+        }
+    }
+
+    private static Vm linearBestFit(final List<Vm> vmList, final long requiredPes) {
+        return vmList.stream()
+                     .filter(vm -> vm.getExpectedFreePesNumber() >= requiredPes)
+                     .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
+                     .orElse(Vm.NULL);
+    }
+
+    private static int linearFirstFit(final List<Vm> vmList, final long requiredPes, final int startPos) {
+        for (int i = 0; i < vmList.size(); i++) {
+            final int pos = (startPos + i) % vmList.size();
+            if (vmList.get(pos).getExpectedFreePesNumber() >= requiredPes) {
+                return pos;
+            }
+        }
+
+        return -1;
+    }
+}
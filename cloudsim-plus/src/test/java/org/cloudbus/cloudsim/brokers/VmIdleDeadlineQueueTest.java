@@ -0,0 +1,87 @@
+package org.cloudbus.cloudsim.brokers;
+
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class VmIdleDeadlineQueueTest {
+    private final Vm vm0 = new VmSimple(0, 1000, 1);
+    private final Vm vm1 = new VmSimple(1, 1000, 1);
+    private final Vm vm2 = new VmSimple(2, 1000, 1);
+
+    @Test
+    void pollOnlyExpiredDeadlinesInOrder() {
+        final var queue = new VmIdleDeadlineQueue();
+        queue.arm(vm2, 30);
+        queue.arm(vm0, 10);
+        queue.arm(vm1, 20);
+
+        final var expired = new ArrayList<Vm>();
+        queue.pollExpired(20, expired::add);
+        assertEquals(List.of(vm0, vm1), expired);
+        assertFalse(queue.isArmed(vm0));
+        assertTrue(queue.isArmed(vm2));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void armingSameDeadlineTwice() {
+        final var queue = new VmIdleDeadlineQueue();
+        assertTrue(queue.arm(vm0, 10));
+        assertFalse(queue.arm(vm0, 10));
+        assertTrue(queue.arm(vm0, 15));
+    }
+
+    @Test
+    void disarmedAndRearmedVmsAreNotPolledForStaleDeadlines() {
+        final var queue = new VmIdleDeadlineQueue();
+        queue.arm(vm0, 10);
+        queue.arm(vm1, 10);
+        queue.disarm(vm0);
+        queue.arm(vm1, 50);
+
+        final var expired = new ArrayList<Vm>();
+        queue.pollExpired(20, expired::add);
+        assertTrue(expired.isEmpty());
+
+        queue.pollExpired(50, expired::add);
+        assertEquals(List.of(vm1), expired);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void deadlineArmedAgainWhilePollingIsNotPolledInTheSameCall() {
+        final var queue = new VmIdleDeadlineQueue();
+        queue.arm(vm0, 10);
+
+        final var expired = new ArrayList<Vm>();
+        queue.pollExpired(20, vm -> {
+            expired.add(vm);
+            queue.arm(vm, 10);
+        });
+
+        assertEquals(List.of(vm0), expired);
+        assertTrue(queue.isArmed(vm0));
+    }
+
+    @Test
+    void rearmComputesAllDeadlinesAgain() {
+        final var queue = new VmIdleDeadlineQueue();
+        queue.arm(vm0, 10);
+        queue.arm(vm1, 30);
+        queue.rearm(vm -> vm.getId() * 100.0);
+
+        final var expired = new ArrayList<Vm>();
+        queue.pollExpired(50, expired::add);
+        assertEquals(List.of(vm0), expired);
+        assertTrue(queue.isArmed(vm1));
+    }
+}
@@ -0,0 +1,86 @@
+package org.cloudbus.cloudsim.cloudlets;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class CloudletResultStoreTest {
+    private static final int CLOUDLETS = 3;
+    private static final long CLOUDLET_LENGTH = 10_000;
+
+    @Test
+    void brokerCopiesFinishedCloudletsToStore() {
+        final var simulation = new CloudSim();
+        final var host = new HostSimple(4096, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host));
+
+        final var store = new CloudletResultStore(1);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation).setCloudletResultStore(store);
+        broker.submitVmList(List.of(new VmSimple(1000, 2)));
+
+        final var cloudletList = new ArrayList<Cloudlet>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudletList.add(new CloudletSimple(CLOUDLET_LENGTH * (i + 1), 1));
+        }
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+        assertSame(store, broker.getCloudletResultStore().orElseThrow());
+        assertEquals(CLOUDLETS, store.size());
+        for (final Cloudlet cloudlet : cloudletList) {
+            final int row = store.indexOf(cloudlet.getId());
+            assertEquals(cloudlet.getFinishTime(), store.getFinishTime(row));
+            assertEquals(cloudlet.getActualCpuTime(), store.getActualCpuTime(row));
+            assertEquals(cloudlet.getWaitingTime(), store.getWaitingTime(row));
+            assertEquals(cloudlet.getVm().getHost().getId(), store.getHostId(row));
+            assertEquals(cloudlet.getLength(), store.getLength(row));
+            assertEquals(Cloudlet.Status.SUCCESS, store.getStatus(row));
+        }
+
+        assertEquals(cloudletList.get(CLOUDLETS - 1).getFinishTime(), store.getMaxFinishTime());
+    }
+
+    @Test
+    void invalidRow() {
+        final var store = new CloudletResultStore();
+        assertTrue(store.isEmpty());
+        assertEquals(-1, store.indexOf(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getFinishTime(0));
+    }
+
+    @Test
+    void cloudletWithoutListenersSharesDefaultUtilizationModel() {
+        final var cloudlet1 = new CloudletSimple(1000, 1);
+        final var cloudlet2 = new CloudletSimple(1000, 1);
+        assertSame(UtilizationModelFull.SHARED, cloudlet1.getUtilizationModelCpu());
+        assertSame(cloudlet1.getUtilizationModelCpu(), cloudlet2.getUtilizationModelCpu());
+        assertFalse(cloudlet1.hasRequiresFiles());
+        assertTrue(cloudlet1.addRequiredFile("file1"));
+        assertEquals(List.of("file1"), cloudlet1.getRequiredFiles());
+        assertTrue(cloudlet2.getRequiredFiles().isEmpty());
+    }
+
+    @Test
+    void requiredFilesListCanBeChangedBeforeAddingFiles() {
+        final var cloudlet = new CloudletSimple(1000, 1);
+        cloudlet.getRequiredFiles().add("file1");
+        assertTrue(cloudlet.hasRequiresFiles());
+        assertEquals(List.of("file1"), cloudlet.getRequiredFiles());
+        assertTrue(new CloudletSimple(1000, 1).getRequiredFiles().isEmpty());
+    }
+}
@@ -0,0 +1,56 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class CloudSimIdleFastForwardTest {
+    private static final double TERMINATION_TIME = 1000;
+
+    @Test
+    void jumpsToTerminationTimeWhenThereAreNoClockTickListeners() {
+        final var simulation = newSimulation().enableIdleFastForward();
+        final double finishTime = simulation.start();
+
+        assertTrue(simulation.isIdleFastForwardEnabled());
+        assertEquals(TERMINATION_TIME + simulation.getMinTimeBetweenEvents()*2, finishTime);
+    }
+
+    @Test
+    void clockTickListenersAreNotifiedAtTheSameTimes() {
+        final List<Double> expectedTicks = clockTicks(newSimulation());
+        final List<Double> ticks = clockTicks(newSimulation().enableIdleFastForward());
+
+        assertTrue(expectedTicks.size() > TERMINATION_TIME);
+        assertEquals(expectedTicks, ticks);
+    }
+
+    private static List<Double> clockTicks(final CloudSim simulation) {
+        final var ticks = new ArrayList<Double>();
+        simulation.addOnClockTickListener(info -> ticks.add(info.getTime()));
+        simulation.start();
+        return ticks;
+    }
+
+    private static CloudSim newSimulation() {
+        final var simulation = new CloudSim();
+        new DatacenterSimple(simulation, List.of(new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000)))));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1));
+        broker.submitCloudlet(new CloudletSimple(10_000, 1));
+        simulation.terminateAt(TERMINATION_TIME);
+        return simulation;
+    }
+}
@@ -0,0 +1,137 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that only the entities having events to process are executed at each clock tick,
+ * in the order they were added to the simulation.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+class CloudSimPendingEntitiesTest {
+    private static final int MSG = 1;
+    private static final int CREATE_ENTITY = 2;
+
+    private static final class LogEntity extends CloudSimEntity {
+        private final List<String> log;
+        private final List<SimEntity> startTargets = new ArrayList<>();
+        private boolean createEntityAtStart;
+        private int runs;
+
+        LogEntity(final Simulation simulation, final List<String> log) {
+            super(simulation);
+            this.log = log;
+        }
+
+        @Override
+        protected void startInternal() {
+            startTargets.forEach(target -> schedule(target, 10, MSG));
+            if (createEntityAtStart) {
+                schedule(this, 0, CREATE_ENTITY);
+            }
+        }
+
+        @Override
+        public void run(final double until) {
+            runs++;
+            super.run(until);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            //Ignores the events sent to every entity when the simulation ends
+            if (evt.getTag() < 0) {
+                return;
+            }
+
+            log.add(getSimulation().clock() + ":" + getName() + ":" + evt.getTag());
+            if (evt.getTag() == CREATE_ENTITY) {
+                final var created = new LogEntity(getSimulation(), log);
+                created.setName("Created");
+                schedule(created, 5, MSG);
+                schedule(this, 5, MSG);
+            }
+        }
+    }
+
+    private static LogEntity newEntity(final CloudSim simulation, final String name, final List<String> log) {
+        final var entity = new LogEntity(simulation, log);
+        entity.setName(name);
+        return entity;
+    }
+
+    /**
+     * Runs the simulation up to a given time, without finishing it,
+     * since all entities are executed when the simulation finishes.
+     */
+    private static void runUntil(final CloudSim simulation, final double time) {
+        simulation.terminateAt(time * 2);
+        simulation.startSync();
+        while (simulation.clock() < time) {
+            simulation.runFor(1);
+        }
+    }
+
+    @Test
+    void entitiesProcessEventsInTheOrderTheyWereAdded() {
+        final var simulation = new CloudSim();
+        final var log = new ArrayList<String>();
+        final var entity0 = newEntity(simulation, "E0", log);
+        final var entity1 = newEntity(simulation, "E1", log);
+        final var entity2 = newEntity(simulation, "E2", log);
+
+        //Events are sent in the reverse order of the entities
+        entity0.startTargets.addAll(List.of(entity2, entity1, entity0));
+        simulation.start();
+
+        assertEquals(List.of("10.0:E0:1", "10.0:E1:1", "10.0:E2:1"), log);
+    }
+
+    @Test
+    void entityAddedDuringSimulationProcessesEventsAfterExistingOnes() {
+        final var simulation = new CloudSim();
+        final var log = new ArrayList<String>();
+        final var entity0 = newEntity(simulation, "E0", log);
+        final var entity1 = newEntity(simulation, "E1", log);
+        entity1.startTargets.add(entity0);
+        entity0.createEntityAtStart = true;
+        simulation.start();
+
+        assertEquals(List.of("0.0:E0:2", "5.0:E0:1", "5.0:Created:1", "10.0:E0:1"), log);
+    }
+
+    @Test
+    void entitiesWithoutEventsAreNotExecuted() {
+        final var simulation = new CloudSim();
+        final var log = new ArrayList<String>();
+        final var entity0 = newEntity(simulation, "E0", log);
+        final var entity1 = newEntity(simulation, "E1", log);
+        final var idle = newEntity(simulation, "Idle", log);
+        entity0.startTargets.add(entity1);
+        runUntil(simulation, 20);
+
+        assertEquals(List.of("10.0:E1:1"), log);
+        assertEquals(0, entity0.runs);
+        assertEquals(1, entity1.runs);
+        assertEquals(0, idle.runs);
+    }
+
+    @Test
+    void noEntityIsExecutedWhenNoneHasEvents() {
+        final var simulation = new CloudSim();
+        final var log = new ArrayList<String>();
+        final var entity0 = newEntity(simulation, "E0", log);
+        final var entity1 = newEntity(simulation, "E1", log);
+        runUntil(simulation, 20);
+
+        assertTrue(log.isEmpty());
+        assertEquals(0, entity0.runs);
+        assertEquals(0, entity1.runs);
+    }
+}
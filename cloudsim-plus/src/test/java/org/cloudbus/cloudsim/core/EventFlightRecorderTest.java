@@ -0,0 +1,139 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFlightRecorderTest {
+    private static final int INPUT = 1002;
+    private static final int INPUTS = 5;
+
+    /**
+     * An entity that, when active, sends {@link #INPUTS} events to a receiver, 10 seconds apart,
+     * representing external inputs for the simulation.
+     */
+    private static final class InputEntity extends CloudSimEntity {
+        private final boolean active;
+        private SimEntity receiver;
+
+        InputEntity(final Simulation simulation, final boolean active) {
+            super(simulation);
+            this.active = active;
+        }
+
+        @Override
+        protected void startInternal() {
+            if (active) {
+                for (int i = 1; i <= INPUTS; i++) {
+                    schedule(receiver, i * 10, INPUT, i * 1.5);
+                }
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {/**/}
+    }
+
+    private static final class ReceiverEntity extends CloudSimEntity {
+        private final List<String> received = new ArrayList<>();
+
+        ReceiverEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {/**/}
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == INPUT) {
+                received.add(getSimulation().clock() + ":" + evt.getData());
+            }
+        }
+    }
+
+    private static ReceiverEntity createScenario(final CloudSim simulation, final boolean activeInput) {
+        final var input = new InputEntity(simulation, activeInput);
+        final var receiver = new ReceiverEntity(simulation);
+        input.receiver = receiver;
+        return receiver;
+    }
+
+    @Test
+    void recordsAndReplaysExternalInputs(@TempDir final Path dir) {
+        final Path file = dir.resolve("events.trace");
+        final var recorded = new CloudSim();
+        final ReceiverEntity recordedReceiver = createScenario(recorded, true);
+        recorded.enableFlightRecorder(file, 100);
+        recorded.start();
+        assertTrue(recorded.getFlightRecorder().isEmpty());
+
+        final var trace = new EventTrace(file);
+        assertEquals(INPUTS, trace.filter(INPUT, 0, Double.MAX_VALUE).count());
+        assertEquals(2, trace.filter(INPUT, 15, 30).count());
+        assertTrue(trace.filter(INPUT, 0, Double.MAX_VALUE).allMatch(EventTrace.Record::isReplayable));
+
+        final var replayed = new CloudSim();
+        final ReceiverEntity replayedReceiver = createScenario(replayed, false);
+        assertEquals(INPUTS, trace.replay(replayed, rec -> rec.tag() == INPUT));
+        replayed.start();
+        assertEquals(recordedReceiver.received, replayedReceiver.received);
+    }
+
+    @Test
+    void ringFileKeepsLastEvents(@TempDir final Path dir) {
+        final Path file = dir.resolve("events.trace");
+        final var simulation = new CloudSim();
+        createScenario(simulation, true);
+        final EventFlightRecorder recorder = simulation.enableFlightRecorder(file, 3);
+        simulation.start();
+
+        final var trace = new EventTrace(file);
+        assertEquals(recorder.getRecordedEvents(), trace.getRecordedEvents());
+        assertTrue(trace.getRecordedEvents() > 3);
+        assertEquals(3, trace.size());
+
+        final var times = trace.stream().mapToDouble(EventTrace.Record::time).toArray();
+        for (int i = 1; i < times.length; i++) {
+            assertTrue(times[i] >= times[i - 1]);
+        }
+    }
+
+    /**
+     * The broker submits Cloudlets to the same Datacenter in a single event carrying a List,
+     * which must be recorded as one record per Cloudlet.
+     */
+    @Test
+    void recordsEachCloudletOfBatchedSubmission(@TempDir final Path dir) {
+        final Path file = dir.resolve("events.trace");
+        final var simulation = new CloudSim();
+        new DatacenterSimple(simulation, List.of(new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000)))));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1));
+        final int cloudlets = 3;
+        for (int i = 0; i < cloudlets; i++) {
+            broker.submitCloudlet(new CloudletSimple(1000, 1));
+        }
+
+        simulation.enableFlightRecorder(file, 1000);
+        simulation.start();
+
+        final List<EventTrace.Record> submissions = new EventTrace(file).filter(CloudSimTags.CLOUDLET_SUBMIT, 0, Double.MAX_VALUE).toList();
+        assertEquals(cloudlets, submissions.size());
+        assertTrue(submissions.stream().allMatch(rec -> rec.dataType() == EventFlightRecorder.DataType.CLOUDLET));
+        assertEquals(List.of(0L, 1L, 2L), submissions.stream().map(EventTrace.Record::dataValue).toList());
+        assertEquals(1, submissions.stream().mapToLong(EventTrace.Record::serial).distinct().count());
+    }
+}
@@ -0,0 +1,57 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLoopProfilerTest {
+    private static final int TICK = 1001;
+    private static final int TICKS = 10;
+
+    /**
+     * An entity that sends itself a fixed number of events, 1 second apart.
+     */
+    private static final class TickEntity extends CloudSimEntity {
+        TickEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(1, TICK, 1);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == TICK && (Integer) evt.getData() < TICKS) {
+                schedule(1, TICK, (Integer) evt.getData() + 1);
+            }
+        }
+    }
+
+    @Test
+    void collectsStatsPerEntityClassAndTag() {
+        final var simulation = new CloudSim();
+        new TickEntity(simulation);
+        final EventLoopProfiler profiler = simulation.enableProfiler();
+        simulation.start();
+
+        final var stats = profiler.getStats(TickEntity.class, TICK).orElseThrow();
+        assertEquals(TICKS, stats.getCount());
+        assertEquals(TICKS - 1, stats.getGeneratedEvents());
+        assertEquals("1001", stats.getTagName());
+        assertTrue(profiler.getStats(CloudSim.class, TICK).isPresent());
+        assertFalse(profiler.getQueueSizeHistory().isEmpty());
+    }
+
+    @Test
+    void disabledByDefault() {
+        final var simulation = new CloudSim();
+        assertTrue(simulation.getProfiler().isEmpty());
+        simulation.enableProfiler();
+        assertTrue(simulation.getProfiler().isPresent());
+        simulation.disableProfiler();
+        assertTrue(simulation.getProfiler().isEmpty());
+    }
+}
@@ -0,0 +1,276 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class SimulationCheckpointTest {
+    private static final int PING = 1000;
+    private static final double INTERVAL = 10;
+    private static final double LAST_PING_TIME = 100;
+
+    /**
+     * An entity that sends a ping to a peer entity at every {@link #INTERVAL}
+     * and records the time and data of each received ping.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private final List<String> received = new ArrayList<>();
+        private PingEntity peer;
+
+        PingEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(peer, INTERVAL, PING, 1);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() != PING) {
+                return;
+            }
+
+            final int count = (Integer) evt.getData();
+            received.add(getSimulation().clock() + ":" + count + ":" + evt.getSource().getName());
+            if (getSimulation().clock() < LAST_PING_TIME) {
+                schedule(peer, INTERVAL, PING, count + 1);
+            }
+        }
+    }
+
+    private static List<PingEntity> createScenario(final CloudSim simulation) {
+        final var entity1 = new PingEntity(simulation);
+        final var entity2 = new PingEntity(simulation);
+        entity1.peer = entity2;
+        entity2.peer = entity1;
+        return List.of(entity1, entity2);
+    }
+
+    @Test
+    void restoredSimulationContinuesAsTheOriginalOne() {
+        final var original = new CloudSim();
+        final List<PingEntity> originalEntities = createScenario(original);
+        original.startSync();
+        for (int i = 0; i < 4; i++) {
+            original.runFor(INTERVAL);
+        }
+
+        final SimulationCheckpoint checkpoint = SimulationCheckpoint.of(original.checkpoint().toByteArray());
+        final int receivedBeforeCheckpoint = originalEntities.get(0).received.size();
+        assertEquals(original.clock(), checkpoint.getTime());
+
+        final var forkedEntities = new ArrayList<List<PingEntity>>();
+        final var forked1 = checkpoint.fork(() -> newSimulation(forkedEntities));
+        final var forked2 = checkpoint.fork(() -> newSimulation(forkedEntities));
+        while (original.isRunning()) {
+            original.runFor(INTERVAL);
+        }
+
+        final List<String> expected = originalEntities.get(0).received.stream().skip(receivedBeforeCheckpoint).toList();
+        assertFalse(expected.isEmpty());
+        int i = 0;
+        for (final CloudSim forked : List.of(forked1, forked2)) {
+            assertEquals(checkpoint.getTime(), forked.clock());
+            forked.start();
+            assertEquals(expected, forkedEntities.get(i++).get(0).received);
+        }
+    }
+
+    /**
+     * Creates a Datacenter and a broker whose VMs are placed into different Hosts,
+     * where some VMs run Cloudlets in time-shared and others in space-shared mode,
+     * so that Cloudlets finish at different times and some of them wait for others.
+     */
+    private static DatacenterBroker createBrokerScenario(final CloudSim simulation) {
+        final var hosts = new ArrayList<Host>();
+        for (int i = 0; i < 3; i++) {
+            final List<Pe> peList = IntStream.range(0, 4).mapToObj(pe -> (Pe) new PeSimple(1000)).toList();
+            hosts.add(new HostSimple(20_000, 100_000, 1_000_000, peList));
+        }
+
+        new DatacenterSimple(simulation, hosts).setSchedulingInterval(5);
+        final var broker = new DatacenterBrokerSimple(simulation);
+        for (int i = 0; i < 4; i++) {
+            final var vm = new VmSimple(1000, 2).setRam(4000).setBw(1000).setSize(10_000);
+            if (i % 2 == 1) {
+                vm.setCloudletScheduler(new CloudletSchedulerSpaceShared());
+            }
+
+            broker.submitVm(vm);
+        }
+
+        for (int i = 0; i < 12; i++) {
+            final var cloudlet = new CloudletSimple(10_000 * (i % 5 + 1), i % 2 + 1).setSizes(300);
+            cloudlet.setSubmissionDelay(i < 8 ? 0 : 30);
+            broker.submitCloudlet(cloudlet);
+        }
+
+        return broker;
+    }
+
+    /**
+     * Gets the VM, Host, start and finish time of each Cloudlet finished by a broker.
+     */
+    private static List<String> cloudletResults(final DatacenterBroker broker) {
+        return broker.getCloudletFinishedList().stream()
+                     .map(cl -> String.format(
+                         "%d:%d:%d:%.2f:%.2f:%s", cl.getId(), cl.getVm().getId(), cl.getVm().getHost().getId(),
+                         cl.getExecStartTime(), cl.getFinishTime(), cl.getStatus()))
+                     .sorted()
+                     .toList();
+    }
+
+    /**
+     * Gets the Host and the execution progress of each VM and Cloudlet created by a broker.
+     */
+    private static List<String> executionState(final DatacenterBroker broker) {
+        final var state = new ArrayList<String>();
+        for (final Vm vm : broker.<Vm>getVmCreatedList()) {
+            state.add(String.format(
+                "vm %d:%d:%.2f:%d", vm.getId(), vm.getHost().getId(),
+                vm.getCpuPercentUtilization(), vm.getCloudletScheduler().getCloudletWaitingList().size()));
+        }
+
+        for (final Cloudlet cloudlet : broker.<Cloudlet>getCloudletSubmittedList()) {
+            state.add(String.format(
+                "cloudlet %d:%s:%d", cloudlet.getId(), cloudlet.getStatus(), cloudlet.getFinishedLengthSoFar()));
+        }
+
+        return state;
+    }
+
+    @Test
+    void restoredBrokerScenarioHasSameResultsAsStraightRun() {
+        final var straight = new CloudSim();
+        final DatacenterBroker straightBroker = createBrokerScenario(straight);
+        straight.start();
+        final List<String> expected = cloudletResults(straightBroker);
+        assertEquals(12, expected.size());
+
+        final var original = new CloudSim();
+        final DatacenterBroker originalBroker = createBrokerScenario(original);
+        original.startSync();
+        while (original.clock() < 25) {
+            original.runFor(5);
+        }
+
+        final SimulationCheckpoint checkpoint = SimulationCheckpoint.of(original.checkpoint().toByteArray());
+        final List<String> stateAtCheckpoint = executionState(originalBroker);
+        final List<String> finishedAtCheckpoint = cloudletResults(originalBroker);
+        assertFalse(finishedAtCheckpoint.isEmpty());
+        assertTrue(finishedAtCheckpoint.size() < expected.size());
+
+        final var forkedBrokers = new ArrayList<DatacenterBroker>();
+        for (int i = 0; i < 2; i++) {
+            final CloudSim forked = checkpoint.fork(() -> {
+                final var simulation = new CloudSim();
+                forkedBrokers.add(createBrokerScenario(simulation));
+                return simulation;
+            });
+
+            final DatacenterBroker forkedBroker = forkedBrokers.get(i);
+            assertEquals(stateAtCheckpoint, executionState(forkedBroker));
+            assertEquals(finishedAtCheckpoint, cloudletResults(forkedBroker));
+            forked.start();
+            assertEquals(expected, cloudletResults(forkedBroker));
+        }
+
+        while (original.isRunning()) {
+            original.runFor(5);
+        }
+
+        assertEquals(expected, cloudletResults(originalBroker));
+    }
+
+    /**
+     * Checks that all the state stored by a checkpoint is restored,
+     * since checkpointing the restored simulation produces the same data.
+     */
+    @Test
+    void restoredBrokerScenarioIsCheckpointedWithSameData() {
+        final var original = new CloudSim();
+        createBrokerScenario(original);
+        original.startSync();
+        while (original.clock() < 25) {
+            original.runFor(5);
+        }
+
+        final byte[] data = original.checkpoint().toByteArray();
+        final CloudSim forked = SimulationCheckpoint.of(data).fork(() -> {
+            final var simulation = new CloudSim();
+            createBrokerScenario(simulation);
+            return simulation;
+        });
+
+        assertArrayEquals(data, forked.checkpoint().toByteArray());
+    }
+
+    @Test
+    void checkpointWithDifferentFormatVersion() {
+        final var original = new CloudSim();
+        createScenario(original);
+        original.startSync();
+        original.runFor(15);
+
+        final byte[] data = original.checkpoint().toByteArray();
+        //The format version is stored right after the 4-byte magic number
+        data[5]++;
+        final var ex = assertThrows(IllegalArgumentException.class, () -> SimulationCheckpoint.of(data));
+        assertTrue(ex.getMessage().contains("version"));
+    }
+
+    @Test
+    void restoreIntoStartedSimulation() {
+        final var original = new CloudSim();
+        createScenario(original);
+        original.startSync();
+        original.runFor(15);
+
+        final SimulationCheckpoint checkpoint = original.checkpoint();
+        assertThrows(IllegalStateException.class, () -> original.restore(checkpoint));
+    }
+
+    @Test
+    void restoreIntoScenarioMissingEntities() {
+        final var original = new CloudSim();
+        createScenario(original);
+        original.startSync();
+        original.runFor(15);
+
+        final SimulationCheckpoint checkpoint = original.checkpoint();
+        assertThrows(IllegalStateException.class, () -> checkpoint.fork(CloudSim::new));
+    }
+
+    @Test
+    void invalidCheckpointData() {
+        assertThrows(IllegalArgumentException.class, () -> SimulationCheckpoint.of(new byte[32]));
+    }
+
+    private CloudSim newSimulation(final List<List<PingEntity>> createdEntities) {
+        final var simulation = new CloudSim();
+        createdEntities.add(createScenario(simulation));
+        return simulation;
+    }
+}
@@ -0,0 +1,304 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.network.topologies.BriteNetworkTopology;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class SimulationPartitionTest {
+    private static final int PING = 1000;
+    private static final int TICK = 1001;
+    private static final double PROCESSING_DELAY = 0.3;
+    private static final double TICK_INTERVAL = 0.7;
+    private static final double LAST_PING_TIME = 20;
+
+    /**
+     * An entity that replies every ping received from a peer entity (which is subject to the network delay)
+     * and also schedules local ticks to itself, recording the time and data of each received event.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private final List<String> received = new ArrayList<>();
+        private final int partition;
+        private final boolean initiator;
+        private PingEntity peer;
+        private int ticks;
+
+        PingEntity(final Simulation simulation, final int partition, final boolean initiator) {
+            super(simulation);
+            this.partition = partition;
+            this.initiator = initiator;
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(this, TICK_INTERVAL, TICK);
+            if (initiator) {
+                send(peer, PROCESSING_DELAY, PING, 1);
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            final double clock = getSimulation().clock();
+            if (evt.getTag() == TICK) {
+                ticks++;
+                if (clock < LAST_PING_TIME) {
+                    schedule(this, TICK_INTERVAL, TICK);
+                }
+                return;
+            }
+
+            if (evt.getTag() != PING) {
+                return;
+            }
+
+            final int count = (Integer) evt.getData();
+            received.add(String.format("%.4f:%d:%d:%s", clock, count, ticks, evt.getSource().getName()));
+            if (clock < LAST_PING_TIME) {
+                send(peer, PROCESSING_DELAY, PING, count + 1);
+            }
+        }
+    }
+
+    /**
+     * Creates two pairs of ping entities, each pair split between partitions 0 and 1.
+     */
+    private static List<PingEntity> createScenario(final CloudSim simulation, final double latency1, final double latency2) {
+        final var entity1 = new PingEntity(simulation, 0, true);
+        final var entity2 = new PingEntity(simulation, 1, false);
+        final var entity3 = new PingEntity(simulation, 0, false);
+        final var entity4 = new PingEntity(simulation, 1, true);
+        entity1.peer = entity2;
+        entity2.peer = entity1;
+        entity3.peer = entity4;
+        entity4.peer = entity3;
+
+        final var topology = new BriteNetworkTopology();
+        topology.addLink(entity1, entity2, 1000, latency1);
+        topology.addLink(entity2, entity1, 1000, latency1);
+        topology.addLink(entity3, entity4, 1000, latency2);
+        topology.addLink(entity4, entity3, 1000, latency2);
+        simulation.setNetworkTopology(topology);
+        return List.of(entity1, entity2, entity3, entity4);
+    }
+
+    /**
+     * Creates a Datacenter and a broker running some Cloudlets,
+     * followed by the ping entities which are split between partitions by the default partitioner.
+     */
+    private static DatacenterBroker createBrokerScenario(final CloudSim simulation) {
+        final var hosts = new ArrayList<Host>();
+        for (int i = 0; i < 2; i++) {
+            hosts.add(new HostSimple(10_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000))));
+        }
+
+        new DatacenterSimple(simulation, hosts);
+        final var broker = new DatacenterBrokerSimple(simulation);
+        for (int i = 0; i < 3; i++) {
+            broker.submitVm(new VmSimple(1000, 1));
+        }
+
+        for (int i = 0; i < 6; i++) {
+            broker.submitCloudlet(new CloudletSimple(10_000 * (i + 1), 1));
+        }
+
+        createScenario(simulation, 1.0, 2.5);
+        return broker;
+    }
+
+    /**
+     * Gets the VM, Host, start and finish time of each Cloudlet finished by a broker.
+     */
+    private static List<String> cloudletResults(final DatacenterBroker broker) {
+        return broker.getCloudletFinishedList().stream()
+                     .map(cl -> String.format(
+                         "%d:%d:%d:%.2f:%.2f", cl.getId(), cl.getVm().getId(), cl.getVm().getHost().getId(),
+                         cl.getExecStartTime(), cl.getFinishTime()))
+                     .sorted()
+                     .toList();
+    }
+
+    private static SimulationPartition enablePartitioning(final CloudSim simulation, final int index, final InetSocketAddress coordinator) {
+        return simulation
+                .enablePartitioning(index, 2, coordinator)
+                .setPartitioner(entity -> entity instanceof PingEntity ping ? ping.partition : 0);
+    }
+
+    @Test
+    void partitionedSimulationProcessesSameEventsAsSingleProcessOne() throws Exception {
+        final var simulation = new CloudSim();
+        final List<PingEntity> expected = createScenario(simulation, 1.0, 2.5);
+        simulation.start();
+
+        final var executor = Executors.newFixedThreadPool(3);
+        try (var coordinator = new PartitionCoordinator(2)) {
+            final Future<?> coordinatorFuture = executor.submit(coordinator);
+            final var partitionFutures = new ArrayList<Future<List<PingEntity>>>();
+            final var partitions = new SimulationPartition[2];
+            for (int i = 0; i < 2; i++) {
+                final int index = i;
+                partitionFutures.add(executor.submit(() -> {
+                    final var partitionSimulation = new CloudSim();
+                    final List<PingEntity> entities = createScenario(partitionSimulation, 1.0, 2.5);
+                    partitions[index] = enablePartitioning(partitionSimulation, index, coordinator.getAddress());
+                    partitionSimulation.start();
+                    return entities;
+                }));
+            }
+
+            final List<PingEntity> partition0 = partitionFutures.get(0).get(30, TimeUnit.SECONDS);
+            final List<PingEntity> partition1 = partitionFutures.get(1).get(30, TimeUnit.SECONDS);
+            coordinatorFuture.get(30, TimeUnit.SECONDS);
+
+            assertFalse(expected.get(0).received.isEmpty());
+            assertEquals(expected.get(0).received, partition0.get(0).received);
+            assertEquals(expected.get(1).received, partition1.get(1).received);
+            assertEquals(expected.get(2).received, partition0.get(2).received);
+            assertEquals(expected.get(3).received, partition1.get(3).received);
+
+            //Entities owned by other partitions don't process events
+            assertTrue(partition0.get(1).received.isEmpty());
+            assertTrue(partition1.get(0).received.isEmpty());
+
+            assertEquals(1.0, coordinator.getLookahead());
+            assertEquals(1.0, partitions[0].getLookahead());
+            assertTrue(coordinator.getRounds() > 0);
+            final long exported = partitions[0].getExportedEvents() + partitions[1].getExportedEvents();
+            assertEquals(coordinator.getRoutedEvents(), exported);
+            assertEquals(exported, partitions[0].getImportedEvents() + partitions[1].getImportedEvents());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void brokerScenarioAcrossPartitionsHasSameResultsAsSingleProcessRun() throws Exception {
+        final var simulation = new CloudSim();
+        final DatacenterBroker singleProcessBroker = createBrokerScenario(simulation);
+        simulation.start();
+        final List<String> expected = cloudletResults(singleProcessBroker);
+
+        final var executor = Executors.newFixedThreadPool(3);
+        try (var coordinator = new PartitionCoordinator(2)) {
+            final Future<?> coordinatorFuture = executor.submit(coordinator);
+            final var brokerFutures = new ArrayList<Future<DatacenterBroker>>();
+            for (int i = 0; i < 2; i++) {
+                final int index = i;
+                brokerFutures.add(executor.submit(() -> {
+                    final var partitionSimulation = new CloudSim();
+                    final DatacenterBroker broker = createBrokerScenario(partitionSimulation);
+                    partitionSimulation.enablePartitioning(index, 2, coordinator.getAddress());
+                    partitionSimulation.start();
+                    return broker;
+                }));
+            }
+
+            final DatacenterBroker broker0 = brokerFutures.get(0).get(30, TimeUnit.SECONDS);
+            final DatacenterBroker broker1 = brokerFutures.get(1).get(30, TimeUnit.SECONDS);
+            coordinatorFuture.get(30, TimeUnit.SECONDS);
+
+            assertEquals(6, expected.size());
+            assertEquals(expected, cloudletResults(broker0));
+
+            //The broker is not run by the second partition
+            assertTrue(broker1.getCloudletFinishedList().isEmpty());
+            assertTrue(coordinator.getRoutedEvents() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void defaultPartitionerKeepsBrokerWithDatacenters() {
+        final var simulation = new CloudSim();
+        final DatacenterBroker broker = createBrokerScenario(simulation);
+        final var partition = simulation.enablePartitioning(1, 2, new InetSocketAddress(InetAddress.getLoopbackAddress(), 1));
+        final Datacenter datacenter = (Datacenter) simulation.getEntityList().get(1);
+
+        assertEquals(0, partition.getOwner(datacenter));
+        assertEquals(0, partition.getOwner(broker));
+        assertFalse(partition.isLocal(broker));
+
+        //Other entities are distributed among partitions
+        assertTrue(simulation.getEntityList().stream().filter(partition::isLocal).count() > 1);
+    }
+
+    @Test
+    void partitioningIsEnabledFromSystemPropertiesJustWhenRequested() {
+        System.setProperty(SimulationPartition.INDEX_PROPERTY, "1");
+        System.setProperty(SimulationPartition.COUNT_PROPERTY, "2");
+        System.setProperty(SimulationPartition.COORDINATOR_PROPERTY, "localhost:1");
+        try {
+            final var simulation = new CloudSim();
+            createBrokerScenario(simulation);
+            simulation.start();
+            assertTrue(simulation.getPartition().isEmpty());
+
+            final var partitioned = new CloudSim();
+            final SimulationPartition partition = partitioned.enablePartitioningFromSystemProperties().orElseThrow();
+            assertEquals(1, partition.getIndex());
+            assertEquals(2, partition.getCount());
+            assertSame(partition, partitioned.getPartition().orElseThrow());
+        } finally {
+            System.clearProperty(SimulationPartition.INDEX_PROPERTY);
+            System.clearProperty(SimulationPartition.COUNT_PROPERTY);
+            System.clearProperty(SimulationPartition.COORDINATOR_PROPERTY);
+        }
+    }
+
+    @Test
+    void partitioningIsNotEnabledWithoutSystemProperties() {
+        final var simulation = new CloudSim();
+        assertTrue(simulation.enablePartitioningFromSystemProperties().isEmpty());
+        assertTrue(simulation.getPartition().isEmpty());
+    }
+
+    @Test
+    void cloudInformationServiceIsReplicated() {
+        final var simulation = new CloudSim();
+        final List<PingEntity> entities = createScenario(simulation, 1.0, 2.5);
+        final var partition = enablePartitioning(simulation, 1, new InetSocketAddress(InetAddress.getLoopbackAddress(), 1));
+
+        assertEquals(SimulationPartition.REPLICATED, partition.getOwner(simulation.getCloudInfoService()));
+        assertEquals(0, partition.getOwner(entities.get(0)));
+        assertFalse(partition.isLocal(entities.get(0)));
+        assertTrue(partition.isLocal(entities.get(1)));
+        assertTrue(partition.isLocal(simulation.getCloudInfoService()));
+    }
+
+    @Test
+    void startFailsWithoutNetworkDelayBetweenPartitions() {
+        final var simulation = new CloudSim();
+        createScenario(simulation, 0, 0);
+        enablePartitioning(simulation, 0, new InetSocketAddress(InetAddress.getLoopbackAddress(), 1));
+
+        assertThrows(IllegalStateException.class, simulation::start);
+    }
+
+    @Test
+    void invalidPartitionIndex() {
+        final var simulation = new CloudSim();
+        final var coordinator = new InetSocketAddress(InetAddress.getLoopbackAddress(), 1);
+        assertThrows(IllegalArgumentException.class, () -> simulation.enablePartitioning(2, 2, coordinator));
+        assertThrows(IllegalArgumentException.class, () -> simulation.enablePartitioning(0, 0, coordinator));
+    }
+}
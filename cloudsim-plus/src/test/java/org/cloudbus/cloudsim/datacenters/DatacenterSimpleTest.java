@@ -0,0 +1,94 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class DatacenterSimpleTest {
+    private static final int CLOUDLETS = 100;
+
+    private static DatacenterSimple createDatacenter(final CloudSim simulation) {
+        final List<Pe> peList = new ArrayList<>();
+        IntStream.range(0, 4).forEach(i -> peList.add(new PeSimple(1000)));
+        return new DatacenterSimple(simulation, List.of(new HostSimple(100_000, 100_000, 100_000, peList)));
+    }
+
+    @Test
+    void cloudletsSubmittedTogetherShareProcessingUpdateEvents() {
+        final var simulation = new CloudSim();
+        final var dc = createDatacenter(simulation);
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 4));
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        IntStream.range(0, CLOUDLETS).forEach(i -> cloudlets.add(new CloudletSimple(10_000, 1)));
+        broker.submitCloudletList(cloudlets);
+
+        final int[] updateEvents = {0};
+        simulation.addOnEventProcessingListener(evt -> {
+            if (evt.getTag() == CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING && evt.getDestination() == dc) {
+                updateEvents[0]++;
+            }
+        });
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+        assertTrue(updateEvents[0] < CLOUDLETS / 10, "Processing update events: " + updateEvents[0]);
+    }
+
+    @Test
+    void keepsSingleProcessingUpdateEventWhenCloudletsFinishAtDifferentTimes() {
+        final var simulation = new CloudSim();
+        final var dc = createDatacenter(simulation);
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 4));
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        IntStream.range(0, CLOUDLETS).forEach(i -> cloudlets.add(new CloudletSimple(1000L * (CLOUDLETS - i), 1)));
+        broker.submitCloudletList(cloudlets);
+
+        final long[] maxPendingUpdates = {0};
+        simulation.addOnEventProcessingListener(evt -> {
+            final long pending = simulation.getNumberOfFutureEvents(
+                e -> e.getTag() == CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING && e.getDestination() == dc);
+            maxPendingUpdates[0] = Math.max(maxPendingUpdates[0], pending);
+        });
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+        assertEquals(1, maxPendingUpdates[0]);
+    }
+
+    @Test
+    void earlierProcessingUpdateReplacesPendingOne() {
+        final var simulation = new CloudSim();
+        createDatacenter(simulation);
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 4));
+        final var longCloudlet = new CloudletSimple(100_000, 1);
+        final var shortCloudlet = new CloudletSimple(10_000, 1);
+        shortCloudlet.setSubmissionDelay(10);
+        broker.submitCloudletList(List.of(longCloudlet, shortCloudlet));
+        simulation.start();
+
+        assertEquals(2, broker.getCloudletFinishedList().size());
+        assertTrue(shortCloudlet.getFinishTime() < 21, "Short Cloudlet finish time: " + shortCloudlet.getFinishTime());
+        assertTrue(longCloudlet.getFinishTime() < 101, "Long Cloudlet finish time: " + longCloudlet.getFinishTime());
+    }
+}
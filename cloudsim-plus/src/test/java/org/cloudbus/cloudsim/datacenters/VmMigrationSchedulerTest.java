@@ -0,0 +1,161 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyFirstFit;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class VmMigrationSchedulerTest {
+    /** Host bandwidth (in Mb/s) which enables transferring 1000 MB/s. */
+    private static final long HOST_BW = 8000;
+    private static final long VM_RAM = 1000;
+    private static final double DELTA = 0.001;
+
+    /**
+     * Migrates 2 VMs from the first to the second Host of a Datacenter.
+     * The target Host has enough PEs to allocate the VMs again when the migration finishes.
+     * @param scheduler the migration scheduler to use or null to use the default migration model
+     * @return the time each migration took to finish
+     */
+    private static List<Double> migrateVms(final VmMigrationScheduler scheduler) {
+        final var simulation = new CloudSim();
+        final var hostList = new ArrayList<Host>();
+        for (int pes = 2; pes <= 4; pes += 2) {
+            final var peList = new ArrayList<Pe>();
+            for (int i = 0; i < pes; i++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(10_000, HOST_BW, 100_000, peList));
+        }
+
+        final var dc = new DatacenterSimple(simulation, hostList, new VmAllocationPolicyFirstFit());
+        dc.setBandwidthPercentForMigration(1);
+        dc.setSchedulingInterval(1);
+        if (scheduler != null) {
+            dc.setMigrationScheduler(scheduler);
+        }
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var migrationTimes = new ArrayList<Double>();
+        final double[] requestTime = {-1};
+        final List<Vm> vmList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final Vm vm = new VmSimple(1000, 1).setRam(VM_RAM).setBw(1000).setSize(1000);
+            vm.addOnMigrationFinishListener(info -> migrationTimes.add(info.getTime() - requestTime[0]));
+            vmList.add(vm);
+        }
+
+        broker.setVmDestructionDelay(1);
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(List.of(new CloudletSimple(10_000, 1), new CloudletSimple(10_000, 1)));
+
+        simulation.addOnClockTickListener(info -> {
+            if (info.getTime() >= 1 && requestTime[0] < 0) {
+                requestTime[0] = simulation.clock();
+                vmList.forEach(vm -> dc.requestVmMigration(vm, hostList.get(1)));
+            }
+        });
+        simulation.terminateAt(20);
+        simulation.start();
+        return migrationTimes;
+    }
+
+    @Test
+    void migrationsShareTheHostBandwidth() {
+        assertEquals(List.of(1.0, 1.0), migrateVms(null));
+
+        final var scheduler = new VmMigrationScheduler();
+        final List<Double> times = migrateVms(scheduler);
+        assertEquals(2, times.size());
+        times.forEach(time -> assertEquals(2, time, DELTA));
+        assertEquals(2, scheduler.getFinishedMigrationsNumber());
+        assertEquals(2, scheduler.getMaxConcurrentMigrations());
+        assertEquals(0, scheduler.getTotalWaitingTime(), DELTA);
+        assertEquals(2 * VM_RAM, scheduler.getTransferredData(), DELTA);
+    }
+
+    @Test
+    void migrationsExceedingHostLimitWait() {
+        final var scheduler = new VmMigrationScheduler().setMaxMigrationsPerHost(1);
+        final List<Double> times = migrateVms(scheduler);
+
+        assertEquals(1, times.get(0), DELTA);
+        assertEquals(2, times.get(1), DELTA);
+        assertEquals(1, scheduler.getMaxConcurrentMigrations());
+        assertEquals(1, scheduler.getTotalWaitingTime(), DELTA);
+        assertEquals(1.5, scheduler.getMeanMigrationTime(), DELTA);
+        assertEquals(0, scheduler.getWaitingMigrationsNumber());
+        assertEquals(0, scheduler.getRunningMigrationsNumber());
+    }
+
+    @Test
+    void preCopyRoundsTransferDirtiedMemory() {
+        final var scheduler = new VmMigrationScheduler()
+            .setMaxMigrationsPerDatacenter(1)
+            .setDirtyPageRateFunction(vm -> 100)
+            .setStopCopyThreshold(50);
+        final List<Double> times = migrateVms(scheduler);
+
+        //1000 MB in 1s, 100 MB dirtied in 0.1s and a stop-and-copy round of 10 MB in 0.01s
+        assertEquals(1.11, times.get(0), DELTA);
+        assertEquals(2.22, times.get(1), DELTA);
+        assertEquals(0.02, scheduler.getTotalDowntime(), DELTA);
+        assertEquals(2 * 1110, scheduler.getTransferredData(), DELTA);
+    }
+
+    /**
+     * Checks that a migration finishes at a large simulation time,
+     * where the remaining data after the expected round finish time
+     * may not be close to zero due to the precision of the time.
+     */
+    @Test
+    void migrationFinishesAtLargeSimulationTime() {
+        //Host bandwidth (in Mb/s) which enables transferring 3 MB/s
+        final long bw = 24;
+        final var hostList = new ArrayList<Host>();
+        for (int i = 0; i < 2; i++) {
+            hostList.add(new HostSimple(10_000, bw, 100_000, List.of(new PeSimple(1000))));
+        }
+
+        final var dc = new DatacenterSimple(new CloudSim(), hostList);
+        dc.setBandwidthPercentForMigration(1);
+        final var scheduler = new VmMigrationScheduler();
+        scheduler.setDatacenter(dc);
+
+        double time = 1e11;
+        scheduler.submit(new VmSimple(1000, 1), hostList.get(0), hostList.get(1), VM_RAM, time);
+        int updates = 0;
+        for (; time < Double.MAX_VALUE && updates < 10; time = scheduler.nextUpdateTimeToSchedule()) {
+            scheduler.update(time);
+            updates++;
+        }
+
+        assertEquals(1, scheduler.getFinishedMigrationsNumber());
+        assertEquals(2, updates);
+    }
+
+    @Test
+    void invalidParameters() {
+        final var scheduler = new VmMigrationScheduler();
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxMigrationsPerHost(0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxMigrationsPerDatacenter(0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxPreCopyRounds(0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setStopCopyThreshold(-1));
+    }
+}
@@ -0,0 +1,67 @@
+package org.cloudbus.cloudsim.distributions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class JDKSplittableRandomGeneratorTest {
+    private static final long SEED = 1234;
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void sameSeedGeneratesSameSequence() {
+        final var gen1 = new JDKSplittableRandomGenerator(SEED);
+        final var gen2 = new JDKSplittableRandomGenerator(SEED);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(gen1.nextLong(), gen2.nextLong());
+        }
+    }
+
+    @Test
+    void setSeedRestartsSequence() {
+        final var gen = new JDKSplittableRandomGenerator(SEED);
+        final double first = gen.nextDouble();
+        gen.nextDouble();
+        gen.setSeed(SEED);
+        assertEquals(first, gen.nextDouble());
+    }
+
+    @Test
+    void nthSplitIsReproducible() {
+        final var root1 = new JDKSplittableRandomGenerator(SEED);
+        final var root2 = new JDKSplittableRandomGenerator(SEED);
+        root1.split();
+        root2.split();
+        final var split1 = root1.split();
+        final var split2 = root2.split();
+
+        assertEquals(split1.nextLong(), split2.nextLong());
+        assertNotEquals(root1.nextLong(), split1.nextLong());
+    }
+
+    @Test
+    void nonSplittableAlgorithmIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new JDKSplittableRandomGenerator("Random", SEED));
+    }
+
+    @Test
+    void exponentialDistrUsesGeneratorSamples() {
+        final double mean = 5;
+        final var distr = new ExponentialDistr(mean, SEED, new JDKSplittableRandomGenerator(SEED));
+        final double sampleMean = DoubleStream.generate(distr::sample).limit(SAMPLES).average().orElse(0);
+        assertEquals(mean, sampleMean, mean * 0.02);
+    }
+
+    @Test
+    void normalDistrUsesGeneratorSamples() {
+        final double mean = 10;
+        final var distr = new NormalDistr(mean, 2, SEED, new JDKSplittableRandomGenerator(SEED));
+        final double sampleMean = DoubleStream.generate(distr::sample).limit(SAMPLES).average().orElse(0);
+        assertEquals(mean, sampleMean, mean * 0.01);
+    }
+}
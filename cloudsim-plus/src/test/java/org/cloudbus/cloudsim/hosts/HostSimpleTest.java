@@ -224,6 +224,14 @@ public class HostSimpleTest {
         assertTrue(vm.isInMigration());
     }
 
+    @Test
+    public void testVmsMigratingInIsMutableBeforeAnyMigration() {
+        final Vm vm = createVm(PES, MIPS, STORAGE);
+        host.getVmsMigratingIn().add(vm);
+        assertTrue(host.getVmsMigratingIn().contains(vm));
+        assertTrue(host.hasMigratingVms());
+    }
+
     @Test
     public void testAddMigratingInVmAndCheckAvailableMipsAndStorage() {
         final int numberOfPes = 1;
@@ -513,6 +521,76 @@ public class HostSimpleTest {
         assertEquals(0, host.getFreePesNumber());
     }
 
+    @Test
+    public void testPeStatusListsKeepPeListOrder() {
+        final HostSimple host = createHostSimple(0, 4);
+        final List<Pe> peList = host.getPeList();
+        host.setPeStatus(List.of(peList.get(2), peList.get(0)), Pe.Status.BUSY);
+        host.setPeStatus(peList.subList(3, 4), Pe.Status.FAILED);
+
+        assertAll(
+            () -> assertEquals(List.of(peList.get(1)), host.getFreePeList()),
+            () -> assertEquals(List.of(peList.get(0), peList.get(2)), host.getBusyPeList()),
+            () -> assertEquals(peList.subList(0, 3), host.getWorkingPeList())
+        );
+    }
+
+    @Test
+    public void testSetStatusOfFirstPesFromStatusView() {
+        final HostSimple host = createHostSimple(0, 4);
+        final List<Pe> peList = host.getPeList();
+        final List<Pe> freePeList = host.getFreePeList();
+
+        host.setPeStatus(freePeList, 3, Pe.Status.BUSY);
+        assertAll(
+            () -> assertEquals(List.of(peList.get(3)), freePeList),
+            () -> assertEquals(3, host.getBusyPesNumber()),
+            () -> assertEquals(1, host.getFreePesNumber())
+        );
+
+        host.setPeStatus(host.getBusyPeList(), 2, Pe.Status.FREE);
+        assertAll(
+            () -> assertEquals(List.of(peList.get(2)), host.getBusyPeList()),
+            () -> assertEquals(3, host.getFreePesNumber())
+        );
+    }
+
+    @Test
+    public void testPeStatusListsIndexedAccessReflectsStatusChanges() {
+        final HostSimple host = createHostSimple(0, 4);
+        final List<Pe> peList = host.getPeList();
+        final List<Pe> freePeList = host.getFreePeList();
+        assertEquals(peList.get(1), freePeList.get(1));
+
+        host.setPeStatus(List.of(peList.get(1)), Pe.Status.BUSY);
+        assertAll(
+            () -> assertEquals(3, freePeList.size()),
+            () -> assertEquals(peList.get(2), freePeList.get(1)),
+            () -> assertEquals(peList.get(3), freePeList.get(2)),
+            () -> assertThrows(IndexOutOfBoundsException.class, () -> freePeList.get(3))
+        );
+    }
+
+    @Test
+    public void testPeStatusListsWhenPeIdsDontMatchIndexes() {
+        final List<Pe> peList = new ArrayList<>(List.of(new PeSimple(MIPS), new PeSimple(MIPS)));
+        peList.get(0).setId(10);
+        peList.get(1).setId(5);
+        final HostSimple host = new HostSimple(RAM, BW, STORAGE, peList);
+
+        host.setPeStatus(List.of(peList.get(1)), Pe.Status.BUSY);
+        assertAll(
+            () -> assertEquals(List.of(peList.get(0)), host.getFreePeList()),
+            () -> assertEquals(List.of(peList.get(1)), host.getBusyPeList())
+        );
+    }
+
+    @Test
+    public void testPeStatusListsAreReadOnly() {
+        final HostSimple host = createHostSimple(0, 2);
+        assertThrows(UnsupportedOperationException.class, () -> host.getFreePeList().remove(0));
+    }
+
     @Test
     public void testVmCreateWhenUnavailableRam() {
         final Host host = createHostSimple(0, 1);
@@ -0,0 +1,70 @@
+package org.cloudbus.cloudsim.power.models;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class PowerModelHostTest {
+    private static final List<Double> POWER_SPEC = List.of(100.0, 120.0, 140.0, 160.0, 180.0, 200.0);
+
+    @Test
+    void specModelLooksUpPowerForUtilization() {
+        final var model = new PowerModelHostSpec(POWER_SPEC);
+        assertEquals(100, model.getPower(0));
+        assertEquals(120, model.getPower(0.1));
+        assertEquals(160, model.getPower(0.5));
+        assertEquals(200, model.getPower(0.9));
+    }
+
+    @Test
+    void specModelDoesNotChangeWhenSpecListChanges() {
+        final var spec = new ArrayList<>(POWER_SPEC);
+        final var model = new PowerModelHostSpec(spec);
+        spec.set(0, 0.0);
+        assertEquals(100, model.getPower(0));
+    }
+
+    @Test
+    void simpleModelIsLinear() {
+        final var model = new PowerModelHostSimple(200, 100);
+        assertEquals(100, model.getPower(0));
+        assertEquals(150, model.getPower(0.5));
+        assertEquals(200, model.getPower(1));
+        assertThrows(IllegalArgumentException.class, () -> model.getPower(1.1));
+    }
+
+    @Test
+    void powerOfHostListMatchesPowerOfEachHost() {
+        final List<Host> hostList = List.of(newHost(new PowerModelHostSimple(200, 100)), newHost(new PowerModelHostSpec(POWER_SPEC)));
+        final double[] utilizations = {0.5, 0.1};
+        final double[] powers = new double[hostList.size()];
+        PowerModelHost.getPower(hostList, utilizations, powers);
+
+        for (int i = 0; i < powers.length; i++) {
+            assertEquals(hostList.get(i).getPowerModel().getPower(utilizations[i]), powers[i]);
+        }
+    }
+
+    @Test
+    void powerOfHostListWithInvalidArguments() {
+        final List<Host> hostList = List.of(newHost(new PowerModelHostSimple(200, 100)));
+        assertThrows(IllegalArgumentException.class, () -> PowerModelHost.getPower(hostList, new double[]{1.1}, new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> PowerModelHost.getPower(hostList, new double[]{0.5}, new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> PowerModelHost.getPower(hostList, new double[2], new double[1]));
+    }
+
+    private static Host newHost(final PowerModelHost powerModel) {
+        final var host = new HostSimple(1000, 1000, 1000, List.of(new PeSimple(1000)));
+        host.setPowerModel(powerModel);
+        return host;
+    }
+}
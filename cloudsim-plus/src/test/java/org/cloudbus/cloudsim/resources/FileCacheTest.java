@@ -0,0 +1,113 @@
+package org.cloudbus.cloudsim.resources;
+
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class FileCacheTest {
+    private static final int CAPACITY = 30;
+    private static final int FILE_SIZE = 10;
+
+    private static void access(final FileCache cache, final String... fileNames) {
+        for (final String fileName : fileNames) {
+            cache.access(new File(fileName, FILE_SIZE));
+        }
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsedFile() {
+        final var cache = new FileCacheLru(CAPACITY);
+        access(cache, "a", "b", "c", "a", "d");
+
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("d"));
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(0.2, cache.getHitRatio());
+        assertEquals(CAPACITY, cache.getUsedCapacity());
+    }
+
+    @Test
+    void lfuEvictsLeastFrequentlyUsedFile() {
+        final var cache = new FileCacheLfu(CAPACITY);
+        access(cache, "a", "b", "c", "b", "a", "d");
+
+        assertTrue(cache.contains("a"));
+        assertTrue(cache.contains("b"));
+        assertFalse(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    void arcKeepsFrequentlyUsedFilesDuringScan() {
+        final var arc = new FileCacheArc(CAPACITY);
+        final var lru = new FileCacheLru(CAPACITY);
+        for (final FileCache cache : List.of(arc, lru)) {
+            access(cache, "a", "a", "b", "b", "x1", "x2", "x3", "x4");
+        }
+
+        assertTrue(arc.contains("a"));
+        assertTrue(arc.contains("b"));
+        assertFalse(lru.contains("a"));
+        assertFalse(lru.contains("b"));
+        assertEquals(CAPACITY, arc.getUsedCapacity());
+    }
+
+    @Test
+    void arcIncreasesRecencyTargetOnGhostHit() {
+        final var cache = new FileCacheArc(CAPACITY);
+        access(cache, "a", "a", "b", "b", "x1", "x2");
+        assertEquals(0, cache.getRecencyTargetSize());
+
+        access(cache, "x1");
+        assertEquals(FILE_SIZE, cache.getRecencyTargetSize());
+        assertTrue(cache.contains("x1"));
+        assertEquals(CAPACITY, cache.getUsedCapacity());
+    }
+
+    @Test
+    void evictsAsManyFilesAsRequiredAndSkipsFilesLargerThanCapacity() {
+        final List<LongFunction<FileCache>> factories = List.of(FileCacheLru::new, FileCacheLfu::new, FileCacheArc::new);
+        for (final LongFunction<FileCache> factory : factories) {
+            final FileCache cache = factory.apply(CAPACITY);
+            access(cache, "a", "b", "c");
+            assertFalse(cache.access(new File("big", CAPACITY + 1)));
+            assertEquals(3, cache.getFilesNumber());
+
+            assertFalse(cache.access(new File("large", 2 * FILE_SIZE)));
+            assertTrue(cache.contains("large"));
+            assertEquals(2, cache.getFilesNumber());
+            assertEquals(CAPACITY, cache.getUsedCapacity());
+            assertEquals(2 * FILE_SIZE + FILE_SIZE, cache.getCachedSize(List.of("large", "c", "a")), cache.toString());
+        }
+    }
+
+    @Test
+    void cachedFilesAreReadFromHostStorage() {
+        final var san = new SanStorage(100_000, 10, 0.5);
+        san.addFile(new File("input", 1000));
+        final var storage = new DatacenterStorage(List.of(san));
+        final var host = new HostSimple(1000, 1000, 100_000, List.of(new PeSimple(1000)));
+        final List<String> requiredFiles = List.of("input", "missing");
+
+        final double sanTime = storage.predictFileTransferTime(requiredFiles);
+        assertEquals(sanTime, storage.predictFileTransferTime(requiredFiles, host));
+
+        host.setFileCache(new FileCacheLru(10_000));
+        assertEquals(sanTime, storage.predictFileTransferTime(requiredFiles, host));
+        final double cachedTime = storage.predictFileTransferTime(requiredFiles, host);
+        assertEquals(host.getStorage().getTransferTime(1000), cachedTime);
+        assertTrue(cachedTime < sanTime);
+        assertEquals(0.5, host.getFileCache().getHitRatio());
+    }
+}
@@ -0,0 +1,68 @@
+package org.cloudbus.cloudsim.resources;
+
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class LazyPeListTest {
+    private static final int PES = 8;
+    private static final double MIPS = 1000;
+
+    @Test
+    void peIsJustCreatedWhenAccessed() {
+        final var list = new LazyPeList(PES, MIPS);
+        assertEquals(PES, list.size());
+        assertEquals(0, list.getMaterializedPesNumber());
+
+        final Pe pe = list.get(3);
+        assertAll(
+            () -> assertEquals(3, pe.getId()),
+            () -> assertEquals(MIPS, pe.getCapacity()),
+            () -> assertTrue(pe.isFree()),
+            () -> assertSame(pe, list.get(3)),
+            () -> assertTrue(list.isMaterialized(3)),
+            () -> assertFalse(list.isMaterialized(0)),
+            () -> assertEquals(1, list.getMaterializedPesNumber())
+        );
+    }
+
+    @Test
+    void invalidIndex() {
+        final var list = new LazyPeList(PES, MIPS);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(PES));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void hostDoesNotMaterializePesOnCreation() {
+        final var list = new LazyPeList(PES, MIPS);
+        final var host = new HostSimple(10_000, 10_000, 1_000_000, list);
+
+        assertAll(
+            () -> assertEquals(PES, host.getFreePesNumber()),
+            () -> assertEquals(PES * MIPS, host.getTotalMipsCapacity()),
+            () -> assertEquals(0, list.getMaterializedPesNumber())
+        );
+    }
+
+    @Test
+    void hostJustMaterializesAllocatedPes() {
+        final var list = new LazyPeList(PES, MIPS);
+        final var host = new HostSimple(10_000, 10_000, 1_000_000, list);
+        final var vm = VmTestUtil.createVm(0, MIPS, 2, 1000, 1000, 1000, new CloudletSchedulerTimeShared());
+
+        assertTrue(host.createVm(vm).fully());
+        assertAll(
+            () -> assertEquals(2, host.getBusyPesNumber()),
+            () -> assertEquals(PES - 2, host.getFreePesNumber()),
+            () -> assertEquals(PES * MIPS, host.getTotalMipsCapacity()),
+            () -> assertEquals(2, list.getMaterializedPesNumber())
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.cloudbus.cloudsim.schedulers.MipsShare;
+import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class CloudletSchedulerCompletelyFairTest {
+    @Test
+    void waitingListSortedByVirtualRuntime() {
+        final var instance = newScheduler(1);
+        submit(instance, 0, 0);
+        submit(instance, 3, 0);
+        submit(instance, 2, 5);
+        submit(instance, 1, 0);
+
+        //Cloudlets that have never run are sorted by their IDs (the initial virtual runtime is based on them)
+        assertEquals(List.of(0L), cloudletIds(instance.getCloudletExecList()));
+        assertEquals(List.of(1L, 2L, 3L), cloudletIds(instance.getCloudletWaitingList()));
+    }
+
+    /**
+     * Checks the run queue keeps the order defined by the comparator used when it was a list,
+     * even for Cloudlets whose virtual runtimes differ by less than 1
+     * (large IDs make their initial virtual runtimes close).
+     */
+    @Test
+    void waitingListKeepsPreviousOrder() {
+        final var instance = newScheduler(1);
+        final var random = new Random(1);
+        final var ids = new ArrayList<>(IntStream.range(100_000, 100_050).boxed().toList());
+        Collections.shuffle(ids, random);
+        ids.forEach(id -> submit(instance, id, random.nextInt(40) - 20));
+
+        final var expected = new ArrayList<>(instance.getCloudletWaitingList());
+        expected.sort((c1, c2) -> {
+            final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
+            if (vRuntimeDiff != 0) {
+                return MathUtil.doubleToInt(vRuntimeDiff);
+            }
+
+            final long priorityDiff = c1.getCloudlet().getPriority() - c2.getCloudlet().getPriority();
+            return Long.signum(priorityDiff == 0 ? c1.getCloudletId() - c2.getCloudletId() : priorityDiff);
+        });
+
+        assertEquals(cloudletIds(expected), cloudletIds(instance.getCloudletWaitingList()));
+    }
+
+    @Test
+    void findSuitableWaitingCloudletIsTheRunQueueHead() {
+        final var instance = newScheduler(1);
+        submit(instance, 0, 0);
+        submit(instance, 1, 0);
+        submit(instance, 2, 0);
+
+        assertTrue(instance.findSuitableWaitingCloudlet().isEmpty());
+        final Cloudlet running = instance.getCloudletExecList().get(0).getCloudlet();
+        instance.cloudletPause(running);
+        assertEquals(1, instance.findSuitableWaitingCloudlet().orElseThrow().getCloudletId());
+    }
+
+    @Test
+    void waitingListIsReadOnlyLiveView() {
+        final var instance = newScheduler(1);
+        submit(instance, 0, 0);
+        final List<CloudletExecution> waitingList = instance.getCloudletWaitingList();
+        assertTrue(waitingList.isEmpty());
+
+        submit(instance, 2, 0);
+        submit(instance, 1, 0);
+        assertAll(
+            () -> assertSame(waitingList, instance.getCloudletWaitingList()),
+            () -> assertEquals(List.of(1L, 2L), cloudletIds(waitingList)),
+            () -> assertEquals(2, waitingList.get(1).getCloudletId()),
+            () -> assertEquals(1, waitingList.get(0).getCloudletId()),
+            () -> assertThrows(UnsupportedOperationException.class, () -> waitingList.remove(0))
+        );
+    }
+
+    @Test
+    void waitingListIndexedAccessReflectsChanges() {
+        final var instance = newScheduler(1);
+        submit(instance, 0, 0);
+        submit(instance, 2, 0);
+        final List<CloudletExecution> waitingList = instance.getCloudletWaitingList();
+        assertEquals(2, waitingList.get(0).getCloudletId());
+
+        submit(instance, 1, 0);
+        assertEquals(1, waitingList.get(0).getCloudletId());
+        assertEquals(2, waitingList.get(1).getCloudletId());
+    }
+
+    @Test
+    void clearRemovesAllCloudlets() {
+        final var instance = newScheduler(1);
+        submit(instance, 0, 0);
+        submit(instance, 1, 0);
+        instance.clear();
+
+        assertTrue(instance.getCloudletWaitingList().isEmpty());
+        assertTrue(instance.findSuitableWaitingCloudlet().isEmpty());
+    }
+
+    private static CloudletSchedulerCompletelyFair newScheduler(final int pes) {
+        final var vm = new VmSimple(1000, pes);
+        final var instance = new CloudletSchedulerCompletelyFair();
+        instance.setVm(vm);
+        instance.setCurrentMipsShare(new MipsShare(pes, vm.getMips()));
+        return instance;
+    }
+
+    private static void submit(final CloudletSchedulerCompletelyFair instance, final int id, final int priority) {
+        final Cloudlet cloudlet = CloudletTestUtil.createCloudlet(id, 10000, 1);
+        cloudlet.setPriority(priority);
+        instance.cloudletSubmit(cloudlet);
+    }
+
+    private static List<Long> cloudletIds(final List<CloudletExecution> list) {
+        return list.stream().map(CloudletExecution::getCloudletId).toList();
+    }
+}
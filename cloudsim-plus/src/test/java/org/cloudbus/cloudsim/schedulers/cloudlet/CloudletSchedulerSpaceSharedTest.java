@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceSharedTestUtil.newSchedulerWithRunningCloudlets;
 import static org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceSharedTestUtil.newSchedulerWithSingleCoreRunningCloudlets;
 import static org.junit.jupiter.api.Assertions.*;
@@ -413,4 +415,79 @@ public class CloudletSchedulerSpaceSharedTest {
         final double expected = 0.666;
         assertEquals(expected, instance.getRequestedCpuPercent(0), 0.001);
     }
+
+    @Test
+    public void testFindSuitableWaitingCloudletFirstFit() {
+        final var instance = newSchedulerWithBlockedWaitingCloudlets();
+        assertEquals(2, instance.findSuitableWaitingCloudlet().orElseThrow().getCloudletId());
+    }
+
+    /**
+     * With EASY backfilling, a waiting Cloudlet which would delay the first waiting one
+     * (that needs all VM PEs) is not allowed to start, but a short one is.
+     */
+    @Test
+    public void testFindSuitableWaitingCloudletEasyBackfilling() {
+        final var instance = newSchedulerWithBlockedWaitingCloudlets().setEasyBackfilling(true);
+        assertEquals(3, instance.findSuitableWaitingCloudlet().orElseThrow().getCloudletId());
+    }
+
+    /**
+     * Enables EASY backfilling before Cloudlets are submitted,
+     * so that running Cloudlets are kept sorted by their expected finish time while they start.
+     */
+    @Test
+    public void testFindSuitableWaitingCloudletEasyBackfillingEnabledBeforeSubmission() {
+        final var instance = newSchedulerWithBlockedWaitingCloudlets(true);
+        assertEquals(3, instance.findSuitableWaitingCloudlet().orElseThrow().getCloudletId());
+    }
+
+    @Test
+    public void testWaitingListRemovalKeepsOrder() {
+        final var instance = newSchedulerWithBlockedWaitingCloudlets();
+        final Cloudlet cloudlet2 = instance.getCloudletWaitingList().get(1).getCloudlet();
+        instance.cloudletCancel(cloudlet2);
+
+        final List<Long> ids = instance.getCloudletWaitingList().stream().map(CloudletExecution::getCloudletId).toList();
+        assertEquals(List.of(1L, 3L), ids);
+    }
+
+    @Test
+    public void testFindSuitableWaitingCloudletAfterWaitingCloudletPaused() {
+        final var instance = newSchedulerWithBlockedWaitingCloudlets();
+        final Cloudlet cloudlet2 = instance.getCloudletWaitingList().get(1).getCloudlet();
+        instance.cloudletPause(cloudlet2);
+        assertEquals(3, instance.findSuitableWaitingCloudlet().orElseThrow().getCloudletId());
+    }
+
+    /**
+     * Creates a scheduler for a 4-PE VM running a 3-PE Cloudlet expected to finish in 10 seconds,
+     * having 1 free PE and the following waiting Cloudlets:
+     * Cloudlet 1 requiring 4 PEs; Cloudlet 2 requiring 1 PE for 100 seconds;
+     * Cloudlet 3 requiring 1 PE for 1 second.
+     */
+    private static CloudletSchedulerSpaceShared newSchedulerWithBlockedWaitingCloudlets() {
+        return newSchedulerWithBlockedWaitingCloudlets(false);
+    }
+
+    /**
+     * @param easyBackfilling true to enable EASY backfilling before submitting Cloudlets
+     * @see #newSchedulerWithBlockedWaitingCloudlets()
+     */
+    private static CloudletSchedulerSpaceShared newSchedulerWithBlockedWaitingCloudlets(final boolean easyBackfilling) {
+        final int mips = 1000;
+        final var instance = CloudletSchedulerSpaceSharedTestUtil.createScheduler(new VmSimple(mips, 4));
+        instance.setEasyBackfilling(easyBackfilling);
+        instance.cloudletSubmit(CloudletTestUtil.createCloudlet(0, 10*mips, 3));
+        final Cloudlet cloudletToPause = CloudletTestUtil.createCloudlet(4, mips, 1);
+        instance.cloudletSubmit(cloudletToPause);
+        instance.cloudletSubmit(CloudletTestUtil.createCloudlet(1, mips, 4));
+        instance.cloudletSubmit(CloudletTestUtil.createCloudlet(2, 100*mips, 1));
+        instance.cloudletSubmit(CloudletTestUtil.createCloudlet(3, mips, 1));
+
+        instance.getCloudletExecList().forEach(cle -> cle.setLastAllocatedMips(mips));
+        instance.cloudletPause(cloudletToPause);
+        assertEquals(3, instance.getCloudletWaitingList().size());
+        return instance;
+    }
 }
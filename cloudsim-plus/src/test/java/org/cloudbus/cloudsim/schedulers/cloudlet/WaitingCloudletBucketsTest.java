@@ -0,0 +1,86 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecution;
+import org.cloudbus.cloudsim.cloudlets.CloudletTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class WaitingCloudletBucketsTest {
+    @Test
+    void findFirstFittingCloudletInAdditionOrder() {
+        final var buckets = new WaitingCloudletBuckets();
+        final var cle0 = newCloudletExecution(0, 4);
+        final var cle1 = newCloudletExecution(1, 2);
+        final var cle2 = newCloudletExecution(2, 1);
+        final var cle3 = newCloudletExecution(3, 2);
+        List.of(cle0, cle1, cle2, cle3).forEach(buckets::add);
+
+        assertSame(cle1, buckets.findFirst(3, cle -> true).orElseThrow());
+        assertSame(cle2, buckets.findFirst(1, cle -> true).orElseThrow());
+        assertSame(cle0, buckets.findFirst(cle -> true).orElseThrow());
+        assertSame(cle3, buckets.findFirst(3, cle -> cle != cle1 && cle != cle2).orElseThrow());
+        assertTrue(buckets.findFirst(0, cle -> true).isEmpty());
+    }
+
+    @Test
+    void removeAndClear() {
+        final var buckets = new WaitingCloudletBuckets();
+        final var cle0 = newCloudletExecution(0, 1);
+        final var cle1 = newCloudletExecution(1, 1);
+        buckets.add(cle0);
+        buckets.add(cle1);
+        buckets.add(cle1);
+        assertEquals(2, buckets.size());
+
+        assertTrue(buckets.remove(cle0));
+        assertFalse(buckets.remove(cle0));
+        assertSame(cle1, buckets.findFirst(1, cle -> true).orElseThrow());
+
+        buckets.clear();
+        assertTrue(buckets.isEmpty());
+        assertTrue(buckets.findFirst(cle -> true).isEmpty());
+    }
+
+    /**
+     * Compares the index against a linear scan of a list (as the scheduler used to do).
+     */
+    @Test
+    void matchesLinearScan() {
+        final var random = new Random(7);
+        final var buckets = new WaitingCloudletBuckets();
+        final var list = new ArrayList<CloudletExecution>();
+        for (int i = 0; i < 2000; i++) {
+            if (list.isEmpty() || random.nextInt(3) > 0) {
+                final var cle = newCloudletExecution(i, 1 + random.nextInt(8));
+                list.add(cle);
+                buckets.add(cle);
+                continue;
+            }
+
+            final long freePes = random.nextInt(9);
+            final Optional<CloudletExecution> expected =
+                list.stream().filter(cle -> cle.getNumberOfPes() <= freePes).findFirst();
+            final Optional<CloudletExecution> actual = buckets.findFirst(freePes, cle -> true);
+            assertEquals(expected, actual);
+            expected.ifPresent(cle -> {
+                list.remove(cle);
+                buckets.remove(cle);
+            });
+        }
+
+        assertEquals(list.size(), buckets.size());
+    }
+
+    private static CloudletExecution newCloudletExecution(final int id, final int pes) {
+        return new CloudletExecution(CloudletTestUtil.createCloudlet(id, 1000, pes));
+    }
+}
@@ -0,0 +1,54 @@
+package org.cloudbus.cloudsim.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    @Test
+    void exactValues() {
+        final var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(20, histogram.getCount());
+        assertEquals(210, histogram.getTotal());
+        assertEquals(10.5, histogram.getMean());
+        assertEquals(1, histogram.getMin());
+        assertEquals(20, histogram.getMax());
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void percentileRelativeErrorForLargeValues() {
+        final var histogram = new LatencyHistogram();
+        for (long value = 1_000; value <= 100_000; value += 1_000) {
+            histogram.record(value);
+        }
+
+        final long p90 = histogram.getValueAtPercentile(90);
+        assertEquals(90_000, p90, 90_000 * 0.0625);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void bucketsCoverAllValues() {
+        for (final long value : new long[]{0, 31, 32, 33, 63, 64, 1_000_000, Long.MAX_VALUE}) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.highestValueInBucket(index) >= value, "value " + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValueInBucket(index - 1) < value, "value " + value);
+            }
+        }
+    }
+
+    @Test
+    void emptyHistogram() {
+        final var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMin());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+}
@@ -0,0 +1,38 @@
+package org.cloudbus.cloudsim.utilizationmodels;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class StochasticUtilizationHistoryTest {
+    @Test
+    void getReturnsNaNForUnknownTime() {
+        final var history = new StochasticUtilizationHistory();
+        history.put(1, 0.5);
+        assertTrue(Double.isNaN(history.get(2)));
+    }
+
+    @Test
+    void putKeepsTimeOrderAndReplacesValues() {
+        final var history = new StochasticUtilizationHistory();
+        for (int time = 0; time < 40; time += 2) {
+            history.put(time, time / 100.0);
+        }
+
+        history.put(5, 0.55);
+        history.put(4, 0.44);
+        history.put(-1, 0.01);
+
+        assertAll(
+            () -> assertEquals(22, history.size()),
+            () -> assertEquals(0.55, history.get(5)),
+            () -> assertEquals(0.44, history.get(4)),
+            () -> assertEquals(0.01, history.get(-1)),
+            () -> assertEquals(0.06, history.get(6)),
+            () -> assertEquals(0.38, history.get(38))
+        );
+    }
+}
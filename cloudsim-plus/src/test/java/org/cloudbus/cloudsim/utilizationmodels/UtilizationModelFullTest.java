@@ -1,8 +1,10 @@
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.Simulation;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  *
@@ -23,4 +25,17 @@ public class UtilizationModelFullTest {
         }
     }
 
+    @Test
+    public void testSharedInstanceCannotBeChanged() {
+        final UtilizationModelFull shared = UtilizationModelFull.SHARED;
+        final var simulation = new CloudSim();
+
+        assertAll(
+            () -> assertThrows(UnsupportedOperationException.class, () -> shared.setSimulation(simulation)),
+            () -> assertThrows(UnsupportedOperationException.class, () -> shared.setOverCapacityRequestAllowed(true)),
+            () -> assertSame(Simulation.NULL, shared.getSimulation()),
+            () -> assertFalse(shared.isOverCapacityRequestAllowed()),
+            () -> assertEquals(EXPECTED_UTILIZATION, shared.getUtilization())
+        );
+    }
 }
@@ -11,7 +11,14 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -88,6 +95,34 @@ public class UtilizationModelStochasticTest {
         }
     }
 
+    @Test
+    public void testSaveAndLoadHistory(@TempDir final Path dir) {
+        final int MAX_TIME = 100;
+        IntStream.range(0, MAX_TIME).forEach(time -> utilizationModel.getUtilization(time));
+        final String filename = dir.resolve("history.bin").toString();
+        utilizationModel.saveHistory(filename);
+
+        final var loadedModel = new UtilizationModelStochastic();
+        loadedModel.loadHistory(filename);
+        IntStream.range(0, MAX_TIME).forEach(time ->
+            assertEquals(utilizationModel.getUtilizationHistory(time), loadedModel.getUtilizationHistory(time)));
+        assertNull(loadedModel.getUtilizationHistory(MAX_TIME));
+    }
+
+    @Test
+    public void testLoadJavaSerializedHistory(@TempDir final Path dir) throws IOException {
+        final String filename = dir.resolve("history.ser").toString();
+        try (var oos = new ObjectOutputStream(new FileOutputStream(filename))) {
+            oos.writeObject(new HashMap<>(Map.of(2.0, 0.2, 1.0, 0.1)));
+        }
+
+        utilizationModel.loadHistory(filename);
+        assertAll(
+            () -> assertEquals(0.1, utilizationModel.getUtilizationHistory(1)),
+            () -> assertEquals(0.2, utilizationModel.getUtilizationHistory(2))
+        );
+    }
+
     /**
      * A Pseudo Random Number Generator (PRNG) that always returns -1.
      */
@@ -22,6 +22,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -230,6 +233,72 @@ public class VmSimpleTest {
         assertTrue(vm.removeOnUpdateProcessingListener(listener));
     }
 
+    @Test
+    public void testOnUpdateProcessingListenersReceiveReusedEventInfo() {
+        final int clock = 10;
+        final Simulation simulation = CloudSimMocker.createMock(mock -> mock.clock(clock));
+        final DatacenterBroker broker = MocksHelper.createMockBroker(simulation, b -> {});
+        final VmSimple vm = new VmSimple(this.vm);
+        vm.setBroker(broker);
+
+        final List<VmHostEventInfo> infos = new ArrayList<>();
+        final List<EventListener<VmHostEventInfo>> listeners = new ArrayList<>();
+        final EventListener<VmHostEventInfo> listener1 = info -> {
+            infos.add(info);
+            listeners.add(info.getListener());
+        };
+        final EventListener<VmHostEventInfo> listener2 = info -> {
+            infos.add(info);
+            listeners.add(info.getListener());
+        };
+        vm.addOnUpdateProcessingListener(listener1).addOnUpdateProcessingListener(listener2);
+
+        vm.notifyOnUpdateProcessingListeners();
+        vm.notifyOnUpdateProcessingListeners();
+
+        assertAll(
+            () -> assertEquals(List.of(listener1, listener2, listener1, listener2), listeners),
+            () -> assertEquals(1, infos.stream().distinct().count()),
+            () -> assertSame(vm, infos.get(0).getVm()),
+            () -> assertEquals(clock, infos.get(0).getTime())
+        );
+    }
+
+    @Test
+    public void testNestedOnUpdateProcessingNotificationDoesNotOverwriteEventInfo() {
+        final Simulation simulation = CloudSimMocker.createMock(mock -> mock.clock(10));
+        final DatacenterBroker broker = MocksHelper.createMockBroker(simulation, b -> {});
+        final VmSimple vm = new VmSimple(this.vm);
+        vm.setBroker(broker);
+
+        final List<VmHostEventInfo> nestedInfos = new ArrayList<>();
+        final List<EventListener<VmHostEventInfo>> outerListeners = new ArrayList<>();
+        final EventListener<VmHostEventInfo> listener = new EventListener<>() {
+            private boolean nested;
+
+            @Override
+            public void update(final VmHostEventInfo info) {
+                if (nested) {
+                    nestedInfos.add(info);
+                    return;
+                }
+
+                nested = true;
+                vm.notifyOnUpdateProcessingListeners();
+                nested = false;
+                outerListeners.add(info.getListener());
+                assertNotSame(info, nestedInfos.get(nestedInfos.size() - 1));
+            }
+        };
+        final EventListener<VmHostEventInfo> other = info -> {};
+        vm.addOnUpdateProcessingListener(listener).addOnUpdateProcessingListener(other);
+
+        vm.notifyOnUpdateProcessingListeners();
+        vm.notifyOnUpdateProcessingListeners();
+
+        assertEquals(List.of(listener, listener), outerListeners);
+    }
+
     @Test
     public void testGetNumberOfPes() {
         assertEquals(VmTestUtil.PES_NUMBER, vm.getNumberOfPes());
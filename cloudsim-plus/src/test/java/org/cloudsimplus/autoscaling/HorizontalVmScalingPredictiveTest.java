@@ -0,0 +1,104 @@
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class HorizontalVmScalingPredictiveTest {
+    /** Time the synthetic VM load reaches the overload threshold, dropping to zero afterwards. */
+    private static final double PEAK_TIME = 40;
+    private static final double FORECAST_HORIZON = 10;
+
+    @Test
+    void requestsVmBeforeOverloadAndDestroysItWhenIdle() {
+        final var simulation = new CloudSim();
+        final var peList = new ArrayList<Pe>();
+        for (int i = 0; i < 4; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final var host = new HostSimple(10_000, 100_000, 100_000, peList);
+        new DatacenterSimple(simulation, List.of(host), new VmAllocationPolicySimple()).setSchedulingInterval(1);
+        final var broker = new DatacenterBrokerSimple(simulation);
+
+        final var requestTimes = new ArrayList<Double>();
+        final var scaling = new HorizontalVmScalingPredictive();
+        scaling
+            .setForecastHorizon(FORECAST_HORIZON)
+            .setLoadFunction(vm -> simulation.clock() < PEAK_TIME ? simulation.clock() / (PEAK_TIME / 0.8) : 0.0)
+            .setVmSupplier(() -> {
+                requestTimes.add(simulation.clock());
+                return new VmSimple(1000, 1);
+            });
+
+        final Vm vm = new VmSimple(1000, 1).setHorizontalScaling(scaling);
+        final var metrics = new HorizontalVmScalingMetrics(broker, 0.3, 0.8);
+        broker.submitVm(vm);
+        broker.submitCloudlet(new CloudletSimple(100_000, 1));
+        simulation.start();
+
+        assertEquals(1, scaling.getUpScalingRequests());
+        assertEquals(1, scaling.getDownScalingRequests());
+        assertTrue(requestTimes.get(0) >= PEAK_TIME - FORECAST_HORIZON - 1 && requestTimes.get(0) < PEAK_TIME);
+        assertEquals(2, metrics.getMaxVmsNumber());
+        assertTrue(metrics.getVmSeconds() > 0);
+        assertEquals(100, metrics.getMeanResponseTime(), 0.5);
+    }
+
+    @Test
+    void scalesWithoutSchedulingInterval() {
+        final var simulation = new CloudSim();
+        final var host = new HostSimple(10_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host), new VmAllocationPolicySimple());
+        final var broker = new DatacenterBrokerSimple(simulation);
+
+        final var requestTimes = new ArrayList<Double>();
+        final var scaling = new HorizontalVmScalingPredictive();
+        scaling
+            .setForecastHorizon(FORECAST_HORIZON)
+            .setLoadFunction(vm -> simulation.clock() < FORECAST_HORIZON ? 1.0 : 0.0)
+            .setVmSupplier(() -> {
+                requestTimes.add(simulation.clock());
+                return new VmSimple(1000, 1);
+            });
+
+        final Vm vm = new VmSimple(1000, 1).setHorizontalScaling(scaling);
+        //Cloudlets finishing at different times fire processing updates while the VM is running
+        final var shortCloudlet = new CloudletSimple(2_000, 1);
+        final var longCloudlet = new CloudletSimple(20_000, 1);
+        broker.submitVm(vm);
+        broker.submitCloudletList(List.of(shortCloudlet, longCloudlet));
+        simulation.start();
+
+        assertEquals(1, scaling.getForecastSteps());
+        assertEquals(1, scaling.getUpScalingRequests());
+        assertEquals(1, scaling.getDownScalingRequests());
+        assertTrue(requestTimes.get(0) < FORECAST_HORIZON);
+        assertEquals(2, broker.getVmCreatedList().size());
+    }
+
+    @Test
+    void invalidThresholds() {
+        final var scaling = new HorizontalVmScalingPredictive();
+        assertThrows(IllegalArgumentException.class, () -> scaling.setOverloadThreshold(scaling.getUnderloadThreshold()));
+        assertThrows(IllegalArgumentException.class, () -> scaling.setUnderloadThreshold(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> scaling.setForecastHorizon(-1));
+        assertThrows(IllegalArgumentException.class, () -> new HorizontalVmScalingMetrics(new DatacenterBrokerSimple(new CloudSim()), 0.8, 0.3));
+    }
+}
@@ -0,0 +1,66 @@
+package org.cloudsimplus.autoscaling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class LoadForecasterTest {
+    private static final double DELTA = 0.01;
+
+    @Test
+    void holtForecastsLinearTrend() {
+        final var forecaster = new HoltWintersForecaster(0.5, 0.3);
+        for (int i = 1; i <= 50; i++) {
+            forecaster.addValue(i);
+        }
+
+        assertEquals(50, forecaster.getValuesNumber());
+        assertEquals(51, forecaster.forecast(1), DELTA);
+        assertEquals(55, forecaster.forecast(5), DELTA);
+    }
+
+    @Test
+    void holtWintersForecastsSeasonalPattern() {
+        final double[] season = {0.2, 0.4, 0.9, 0.5};
+        final var forecaster = new HoltWintersForecaster(0.3, 0.1, 0.3, season.length);
+        for (int i = 0; i < 20 * season.length; i++) {
+            forecaster.addValue(season[i % season.length]);
+        }
+
+        for (int steps = 1; steps <= season.length; steps++) {
+            assertEquals(season[(steps - 1) % season.length], forecaster.forecast(steps), DELTA);
+        }
+    }
+
+    @Test
+    void holtWintersForecastsLastValueDuringFirstSeason() {
+        final var forecaster = new HoltWintersForecaster(0.3, 0.1, 0.3, 4);
+        assertEquals(0, forecaster.forecast(1));
+        forecaster.addValue(0.7);
+        assertEquals(0.7, forecaster.forecast(3));
+    }
+
+    @Test
+    void loessForecastsLinearTrendInsideWindow() {
+        final var forecaster = new LoessForecaster(10);
+        for (int i = 1; i <= 30; i++) {
+            forecaster.addValue(i < 20 ? 0 : 2 * i);
+        }
+
+        assertEquals(30, forecaster.getValuesNumber());
+        assertEquals(62, forecaster.forecast(1), DELTA);
+        assertEquals(66, forecaster.forecast(3), DELTA);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HoltWintersForecaster(1.1, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new HoltWintersForecaster(0.5, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new HoltWintersForecaster(0.5, 0.5, 0.5, -1));
+        assertThrows(IllegalArgumentException.class, () -> new LoessForecaster(2));
+        assertThrows(IllegalArgumentException.class, () -> new LoessForecaster(5).forecast(0));
+    }
+}
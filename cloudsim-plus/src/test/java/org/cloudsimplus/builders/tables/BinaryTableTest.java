@@ -0,0 +1,114 @@
+package org.cloudsimplus.builders.tables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class BinaryTableTest {
+    @Test
+    void printWritesRawColumnValues() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var table = new BinaryTable("Results", bytes);
+        table.addColumn("Id").setFormat("%5d");
+        table.addColumn("Time", "Seconds").setFormat("%.2f");
+        table.addColumnList("Finished", "Status");
+        table.print(List.of(1, 2), (id, row) -> row.addAll(List.of(id, id * 1.5, id == 1, "SUCCESS")));
+
+        final var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(BinaryTable.MAGIC, in.readInt());
+        assertEquals(BinaryTable.VERSION, in.readByte());
+        assertEquals("Results", readString(in));
+        assertEquals(4, in.readInt());
+        assertEquals("Id", readString(in));
+        assertEquals("", readString(in));
+        assertEquals("Time", readString(in));
+        assertEquals("Seconds", readString(in));
+        assertEquals("Finished", readString(in));
+        assertEquals("", readString(in));
+        assertEquals("Status", readString(in));
+        assertEquals("", readString(in));
+
+        for (int id = 1; id <= 2; id++) {
+            assertEquals(BinaryTable.ROW, in.readByte());
+            assertEquals(BinaryTable.LONG, in.readByte());
+            assertEquals(id, in.readLong());
+            assertEquals(BinaryTable.DOUBLE, in.readByte());
+            assertEquals(id * 1.5, in.readDouble());
+            assertEquals(BinaryTable.BOOLEAN, in.readByte());
+            assertEquals(id == 1, in.readBoolean());
+            assertEquals(BinaryTable.STRING, in.readByte());
+            assertEquals("SUCCESS", readString(in));
+        }
+
+        assertEquals(BinaryTable.END, in.readByte());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void printWritesStringsLongerThan64KB() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var table = new BinaryTable(bytes);
+        table.addColumn("Log");
+        final String log = "\u00e9".repeat(70_000);
+        table.print(List.of(log), (str, row) -> row.add(str));
+
+        final var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        in.readInt();
+        in.readByte();
+        assertEquals("", readString(in));
+        assertEquals(1, in.readInt());
+        assertEquals("Log", readString(in));
+        assertEquals("", readString(in));
+        assertEquals(BinaryTable.ROW, in.readByte());
+        assertEquals(BinaryTable.STRING, in.readByte());
+        assertEquals(log, readString(in));
+        assertEquals(BinaryTable.END, in.readByte());
+    }
+
+    @Test
+    void printStreamCannotBeSet() {
+        final var table = new BinaryTable(new ByteArrayOutputStream());
+        assertThrows(UnsupportedOperationException.class, () -> table.setPrintStream(System.out));
+    }
+
+    @Test
+    void streamedTextTableMatchesBufferedOne() {
+        final var buffered = new ByteArrayOutputStream();
+        final var bufferedTable = newTextTable(buffered);
+        for (int i = 0; i < 1000; i++) {
+            bufferedTable.newRow().addAll(List.of(i, i / 3.0));
+        }
+        bufferedTable.print();
+
+        final var streamed = new ByteArrayOutputStream();
+        final List<Integer> ids = IntStream.range(0, 1000).boxed().toList();
+        newTextTable(streamed).print(ids, (i, row) -> row.addAll(List.of(i, i / 3.0)));
+
+        assertEquals(buffered.toString(), streamed.toString());
+    }
+
+    private static Table newTextTable(final ByteArrayOutputStream bytes) {
+        final var table = new TextTable("Results");
+        table.setPrintStream(new PrintStream(bytes));
+        table.addColumn("Id");
+        table.addColumn("Value", "Unit").setFormat("%.3f");
+        return table;
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+    }
+}
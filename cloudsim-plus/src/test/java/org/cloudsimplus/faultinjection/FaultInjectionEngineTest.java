@@ -0,0 +1,170 @@
+package org.cloudsimplus.faultinjection;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.distributions.StatisticalDistribution;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class FaultInjectionEngineTest {
+    private static final long SEED = 7;
+
+    /**
+     * A distribution that always returns the same value,
+     * making failure and repair times predictable.
+     */
+    private record Constant(double value) implements StatisticalDistribution {
+        @Override public double originalSample() { return value; }
+        @Override public long getSeed() { return SEED; }
+        @Override public boolean isApplyAntitheticVariates() { return false; }
+        @Override public StatisticalDistribution setApplyAntitheticVariates(final boolean applyAntitheticVariates) { return this; }
+    }
+
+    private static List<Host> createHosts(final int hostsNumber) {
+        final var hosts = new ArrayList<Host>(hostsNumber);
+        for (int i = 0; i < hostsNumber; i++) {
+            final List<Pe> peList = IntStream.range(0, 4).mapToObj(pe -> (Pe)new PeSimple(1000)).toList();
+            hosts.add(new HostSimple(10_000, 100_000, 100_000, peList));
+        }
+
+        return hosts;
+    }
+
+    @Test
+    void hostFailuresAreRepairedAndReliabilityMetricsAreComputedOnline() {
+        final var simulation = new CloudSim();
+        final List<Host> hosts = createHosts(4);
+        new DatacenterSimple(simulation, hosts);
+        final var engine = new FaultInjectionEngine(simulation, SEED)
+            .addHostFailures(hosts, new Constant(1), new Constant(0.5))
+            .setMaxTimeToFailInHours(5);
+        simulation.start();
+
+        //Each Host fails at hours 1, 2.5 and 4 and is repaired 30 minutes later
+        assertEquals(4.5 * 3600, simulation.clock());
+        assertEquals(12, engine.getFailuresNumber());
+        assertEquals(12, engine.getRepairsNumber());
+        assertEquals(0, engine.getFailedHostsNumber());
+        assertEquals(60, engine.meanTimeBetweenFailuresInMinutes(), 1e-9);
+        assertEquals(30, engine.meanTimeToRepairInMinutes(), 1e-9);
+        assertEquals(2/3.0, engine.availability(), 1e-9);
+        assertEquals(2/3.0, engine.hostAvailability(), 1e-9);
+        hosts.forEach(host -> assertFalse(host.isFailed()));
+        hosts.forEach(host -> assertTrue(host.isActive()));
+    }
+
+    @Test
+    void datacenterFailuresJustSelectWorkingHosts() {
+        final var simulation = new CloudSim();
+        final List<Host> hosts = createHosts(100);
+        final Datacenter datacenter = new DatacenterSimple(simulation, hosts);
+        final var engine = new FaultInjectionEngine(simulation, SEED)
+            .addDatacenterFailures(datacenter, new Constant(0.1), new Constant(1))
+            .setMaxTimeToFailInHours(3);
+        simulation.start();
+
+        assertEquals(100, engine.getHostsNumber());
+        assertEquals(30, engine.getFailuresNumber());
+        assertEquals(30, engine.getRepairsNumber());
+        assertEquals(0, engine.getFailedHostsNumber());
+        //Selecting an already failed Host would reduce the total downtime
+        assertEquals(1 - 30 / (100 * 4.0), engine.hostAvailability(), 1e-9);
+    }
+
+    @Test
+    void groupAndPeFailures() {
+        final var simulation = new CloudSim();
+        final List<Host> hosts = createHosts(4);
+        new DatacenterSimple(simulation, hosts);
+        final List<Host> rack = hosts.subList(0, 3);
+        final Host host = hosts.get(3);
+        final var engine = new FaultInjectionEngine(simulation, SEED)
+            .addGroupFailures(rack, new Constant(1), new Constant(0.5))
+            .addPeFailures(List.of(host), new Constant(1), new Constant(0.5))
+            .setMaxTimeToFailInHours(1.2);
+
+        simulation.startSync();
+        runUntil(simulation, 3601);
+        assertEquals(3, engine.getFailedHostsNumber());
+        rack.forEach(rackHost -> assertTrue(rackHost.isFailed()));
+        assertFalse(host.isFailed());
+        assertTrue(host.getFailedPesNumber() > 0);
+
+        runUntil(simulation, 2 * 3600);
+        assertEquals(2, engine.getFailuresNumber());
+        assertEquals(2, engine.getRepairsNumber());
+        assertEquals(0, engine.getFailedHostsNumber());
+        rack.forEach(rackHost -> assertFalse(rackHost.isFailed()));
+        assertEquals(0, host.getFailedPesNumber());
+    }
+
+    @Test
+    void hostRepairKeepsPesFailedByPeProcessFailed() {
+        final var simulation = new CloudSim();
+        final List<Host> hosts = createHosts(1);
+        new DatacenterSimple(simulation, hosts);
+        final Host host = hosts.get(0);
+        new FaultInjectionEngine(simulation, SEED)
+            .addPeFailures(hosts, new Constant(1), new Constant(2))
+            .addHostFailures(hosts, new Constant(1.5), new Constant(0.5))
+            .setMaxTimeToFailInHours(1.6);
+
+        simulation.startSync();
+        runUntil(simulation, 1.2 * 3600);
+        final int failedPes = host.getFailedPesNumber();
+        assertTrue(failedPes > 0);
+
+        //The Host fails at hour 1.5 and is repaired at hour 2, before the PEs are repaired at hour 3
+        runUntil(simulation, 2.5 * 3600);
+        assertFalse(host.isFailed());
+        assertEquals(failedPes, host.getFailedPesNumber());
+        assertEquals(host.getPeList().size() - failedPes, host.getWorkingPesNumber());
+
+        runUntil(simulation, 3.5 * 3600);
+        assertEquals(0, host.getFailedPesNumber());
+    }
+
+    @Test
+    void failuresStopWhenThereAreNoOtherEventsAndNoMaxTimeToFail() {
+        final var simulation = new CloudSim();
+        final List<Host> hosts = createHosts(2);
+        new DatacenterSimple(simulation, hosts);
+        final var engine = new FaultInjectionEngine(simulation, SEED)
+            .addHostFailures(hosts, new Constant(1), new Constant(0.5));
+        assertTimeoutPreemptively(Duration.ofSeconds(30), simulation::start);
+
+        //Just the first failures happen, since no other entity has events to process after that
+        assertEquals(3600, simulation.clock());
+        assertEquals(hosts.size(), engine.getFailuresNumber());
+    }
+
+    private static void runUntil(final CloudSim simulation, final double time) {
+        while (simulation.clock() < time) {
+            simulation.runFor(time - simulation.clock());
+        }
+    }
+
+    @Test
+    void hostCannotBeSelectedByMultipleDatacenterProcesses() {
+        final var simulation = new CloudSim();
+        final Datacenter datacenter = new DatacenterSimple(simulation, createHosts(2));
+        final var engine = new FaultInjectionEngine(simulation, SEED)
+            .addDatacenterFailures(datacenter, new Constant(1), new Constant(1));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.addDatacenterFailures(datacenter, new Constant(1), new Constant(1)));
+    }
+}
@@ -0,0 +1,123 @@
+package org.cloudsimplus.testbeds;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class ExperimentRunnerSequentialStoppingTest {
+    private static final int WAVE_SIZE = 4;
+    private static final String CONSTANT_METRIC = "Constant";
+    private static final String RANDOM_METRIC = "Random";
+
+    @Test
+    void stopsAfterFirstWaveWhenTargetPrecisionIsReached() {
+        final var runner = new SampleRunner();
+        runner.enableSequentialStopping(0.05, 40, CONSTANT_METRIC);
+        runner.run();
+
+        assertEquals(WAVE_SIZE, runner.getExecutedRuns());
+    }
+
+    @Test
+    void stopsWhenMaxRunsIsReached() {
+        final var runner = new SampleRunner();
+        runner.enableSequentialStopping(1e-9, 3 * WAVE_SIZE + 1, RANDOM_METRIC);
+        runner.run();
+
+        assertEquals(3 * WAVE_SIZE, runner.getExecutedRuns());
+        assertEquals(3 * WAVE_SIZE, runner.getMetricValues(RANDOM_METRIC).size());
+    }
+
+    @Test
+    void fixedNumberOfRunsWhenSequentialStoppingIsDisabled() {
+        final var runner = new SampleRunner();
+        runner.run();
+
+        assertFalse(runner.isSequentialStopping());
+        assertEquals(WAVE_SIZE, runner.getExecutedRuns());
+    }
+
+    @Test
+    void invalidSequentialStoppingParameters() {
+        final var runner = new SampleRunner();
+        assertThrows(IllegalArgumentException.class, () -> runner.enableSequentialStopping(0, 40));
+        assertThrows(IllegalArgumentException.class, () -> runner.enableSequentialStopping(0.05, WAVE_SIZE - 1));
+        assertThrows(IllegalArgumentException.class, () -> runner.setTimeBudgetSecs(-1));
+    }
+
+    private static final class SampleRunner extends ExperimentRunner<SampleExperiment> {
+        SampleRunner() {
+            super(1, WAVE_SIZE, true);
+            setVerbose(false);
+            setShowProgress(false);
+        }
+
+        @Override
+        protected SampleExperiment createExperimentInternal(final int index) {
+            final var exp = new SampleExperiment(index, this);
+            exp.setAfterExperimentFinish(this::collectMetrics);
+            return exp;
+        }
+
+        private void collectMetrics(final SampleExperiment exp) {
+            addMetricValue(CONSTANT_METRIC, 10.0);
+            addMetricValue(RANDOM_METRIC, new Random(exp.getSeed()).nextDouble());
+        }
+
+        @Override
+        protected void printSimulationParameters() {/**/}
+    }
+
+    private static final class SampleExperiment extends Experiment {
+        SampleExperiment(final int index, final ExperimentRunner<SampleExperiment> runner) {
+            super(index, runner);
+            setHostsNumber(1);
+            setVmsByBrokerFunction(broker -> 1);
+        }
+
+        @Override
+        public void printResults() {/**/}
+
+        @Override
+        protected DatacenterBroker createBroker() {
+            return new DatacenterBrokerSimple(getSimulation());
+        }
+
+        @Override
+        protected List<Cloudlet> createCloudlets(final DatacenterBroker broker) {
+            return List.of(createCloudlet(broker));
+        }
+
+        @Override
+        protected Cloudlet createCloudlet(final DatacenterBroker broker) {
+            return new CloudletSimple(nextCloudletId(), 1000, 1);
+        }
+
+        @Override
+        protected Vm createVm(final DatacenterBroker broker, final int id) {
+            return new VmSimple(id, 1000, 1);
+        }
+
+        @Override
+        protected Host createHost(final int id) {
+            final List<Pe> peList = List.of(new PeSimple(1000));
+            return new HostSimple(10_000, 100_000, 100_000, peList);
+        }
+    }
+}